@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Base class for benchmarks running against a Spring Data JDBC setup backed by an embedded database, populated with
+ * {@value #CUSTOMERS} {@link Customer}s and {@value #PURCHASE_ORDERS} {@link PurchaseOrder}s of
+ * {@value #LINE_ITEMS} {@link LineItem}s with {@value #ALLOCATIONS} {@link Allocation}s each. Every benchmark gets
+ * measured for throughput and sampled for latency percentiles, run with {@code -prof gc} to report allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public abstract class AbstractRepositoryBenchmark {
+
+	static final int CUSTOMERS = 1000;
+	static final int LAST_NAMES = 100;
+	static final int PURCHASE_ORDERS = 100;
+	static final int LINE_ITEMS = 5;
+	static final int ALLOCATIONS = 3;
+
+	@Param({ "H2", "HSQL" }) public EmbeddedDatabaseType database;
+
+	EmbeddedDatabase dataSource;
+	AnnotationConfigApplicationContext context;
+	JdbcAggregateTemplate template;
+	CustomerRepository customers;
+	PurchaseOrderRepository purchaseOrders;
+
+	List<Long> customerIds;
+	List<Long> purchaseOrderIds;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void startContext() {
+
+		dataSource = new EmbeddedDatabaseBuilder() //
+				.generateUniqueName(true) //
+				.setType(database) //
+				.addScript("org/springframework/data/jdbc/benchmark/schema-"
+						+ database.name().toLowerCase(Locale.ROOT) + ".sql") //
+				.build();
+
+		context = new AnnotationConfigApplicationContext();
+		context.registerBean(DataSource.class, () -> dataSource);
+		context.register(BenchmarkConfiguration.class);
+		context.refresh();
+
+		template = context.getBean(JdbcAggregateTemplate.class);
+		customers = context.getBean(CustomerRepository.class);
+		purchaseOrders = context.getBean(PurchaseOrderRepository.class);
+
+		populate();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopContext() {
+
+		context.close();
+		dataSource.shutdown();
+	}
+
+	/**
+	 * Replaces the content of the database with the initial data set.
+	 */
+	void populate() {
+
+		purchaseOrders.deleteAll();
+		customers.deleteAll();
+
+		List<Customer> newCustomers = new ArrayList<>(CUSTOMERS);
+		for (int i = 0; i < CUSTOMERS; i++) {
+			newCustomers.add(createCustomer(i));
+		}
+
+		customerIds = new ArrayList<>(CUSTOMERS);
+		customers.saveAll(newCustomers).forEach(customer -> customerIds.add(customer.id));
+
+		purchaseOrderIds = new ArrayList<>(PURCHASE_ORDERS);
+		for (int i = 0; i < PURCHASE_ORDERS; i++) {
+			purchaseOrderIds.add(purchaseOrders.save(createPurchaseOrder(i)).id);
+		}
+	}
+
+	/**
+	 * Returns the next index, cycling through the initial data set so consecutive invocations don't hit the same rows.
+	 */
+	int next(int size) {
+
+		next = (next + 1) % size;
+		return next;
+	}
+
+	static Customer createCustomer(int i) {
+		return new Customer("Firstname" + i, lastName(i), 18 + i % 80);
+	}
+
+	static String lastName(int i) {
+		return "Lastname" + i % LAST_NAMES;
+	}
+
+	static PurchaseOrder createPurchaseOrder(int i) {
+
+		PurchaseOrder purchaseOrder = new PurchaseOrder(customerName(i));
+
+		for (int item = 0; item < LINE_ITEMS; item++) {
+
+			LineItem lineItem = new LineItem("Product" + item, ALLOCATIONS);
+			for (int allocation = 0; allocation < ALLOCATIONS; allocation++) {
+				lineItem.addAllocation(new Allocation("Warehouse" + allocation, 1));
+			}
+
+			purchaseOrder.addLineItem(lineItem);
+		}
+
+		return purchaseOrder;
+	}
+
+	static String customerName(int i) {
+		return "Customer" + i % (PURCHASE_ORDERS / 10);
+	}
+}
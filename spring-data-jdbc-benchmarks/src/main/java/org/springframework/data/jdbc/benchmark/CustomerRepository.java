@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.jdbc.repository.query.FetchSize;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Repository for the flat {@link Customer} aggregate.
+ */
+interface CustomerRepository extends CrudRepository<Customer, Long> {
+
+	List<Customer> findByLastName(String lastName);
+
+	@Query("SELECT * FROM customer WHERE last_name = :lastName")
+	List<Customer> findByLastNameAnnotated(@Param("lastName") String lastName);
+
+	@FetchSize(100)
+	Stream<Customer> streamByAgeGreaterThan(int age);
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks for loading flat and three level aggregates by id and in full.
+ */
+public class FindBenchmarks extends AbstractRepositoryBenchmark {
+
+	@Benchmark
+	public Optional<Customer> findFlatAggregateById() {
+		return customers.findById(customerIds.get(next(CUSTOMERS)));
+	}
+
+	@Benchmark
+	public Optional<PurchaseOrder> findNestedAggregateById() {
+		return purchaseOrders.findById(purchaseOrderIds.get(next(PURCHASE_ORDERS)));
+	}
+
+	@Benchmark
+	public Iterable<Customer> findAllFlatAggregates() {
+		return customers.findAll();
+	}
+
+	@Benchmark
+	public Iterable<PurchaseOrder> findAllNestedAggregates() {
+		return purchaseOrders.findAll();
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Second level of the {@link PurchaseOrder} aggregate.
+ */
+class LineItem {
+
+	String product;
+	int quantity;
+	List<Allocation> allocations = new ArrayList<>();
+
+	LineItem() {}
+
+	LineItem(String product, int quantity) {
+
+		this.product = product;
+		this.quantity = quantity;
+	}
+
+	LineItem addAllocation(Allocation allocation) {
+
+		allocations.add(allocation);
+		return this;
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for derived queries, {@link org.springframework.data.jdbc.repository.query.Query} methods and streaming
+ * reads.
+ */
+public class QueryBenchmarks extends AbstractRepositoryBenchmark {
+
+	@Benchmark
+	public List<Customer> derivedQuery() {
+		return customers.findByLastName(lastName(next(LAST_NAMES)));
+	}
+
+	@Benchmark
+	public List<Customer> annotatedQuery() {
+		return customers.findByLastNameAnnotated(lastName(next(LAST_NAMES)));
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> derivedQueryForNestedAggregates() {
+		return purchaseOrders.findByCustomerName(customerName(next(PURCHASE_ORDERS)));
+	}
+
+	@Benchmark
+	public void streamingQuery(Blackhole blackhole) {
+
+		try (Stream<Customer> stream = customers.streamByAgeGreaterThan(0)) {
+			stream.forEach(blackhole::consume);
+		}
+	}
+}
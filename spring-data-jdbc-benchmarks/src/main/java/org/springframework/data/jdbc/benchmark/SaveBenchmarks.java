@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmarks for inserting and updating aggregates. The database gets reset before every iteration so the inserted
+ * rows don't pile up.
+ */
+public class SaveBenchmarks extends AbstractRepositoryBenchmark {
+
+	static final int BATCH_SIZE = 10;
+
+	private PurchaseOrder existing;
+
+	@Setup(Level.Iteration)
+	public void reset() {
+
+		populate();
+		existing = purchaseOrders.findById(purchaseOrderIds.get(0)).orElseThrow(IllegalStateException::new);
+	}
+
+	@Benchmark
+	public Customer saveNewFlatAggregate() {
+		return customers.save(createCustomer(next(CUSTOMERS)));
+	}
+
+	@Benchmark
+	public PurchaseOrder saveNewNestedAggregate() {
+		return purchaseOrders.save(createPurchaseOrder(next(PURCHASE_ORDERS)));
+	}
+
+	@Benchmark
+	public PurchaseOrder saveExistingNestedAggregate() {
+
+		existing.customerName = customerName(next(PURCHASE_ORDERS));
+		return purchaseOrders.save(existing);
+	}
+
+	@Benchmark
+	public Iterable<Customer> saveAllFlatAggregates() {
+
+		List<Customer> batch = new ArrayList<>(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			batch.add(createCustomer(next(CUSTOMERS)));
+		}
+
+		return customers.saveAll(batch);
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.relational.core.dialect.Db2Dialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+
+/**
+ * Benchmarks for building statements with the {@link StatementBuilder}, including their validation, and rendering them
+ * with the {@link SqlRenderer} of each {@link Dialect}. Each statement gets benchmarked for building plus rendering and
+ * for rendering a prebuilt statement only, so the cost of the renderer can be told apart. Run with {@code -prof gc} to
+ * report allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class SqlRendererBenchmarks {
+
+	static final int JOINED_TABLES = 4;
+	static final int COLUMNS_PER_TABLE = 12;
+	static final int NESTING_DEPTH = 3;
+	static final int CONDITIONS = 64;
+
+	@Param({ "H2", "HSQL", "POSTGRES", "MYSQL", "SQL_SERVER", "DB2" }) public String dialect;
+
+	private SqlRenderer renderer;
+
+	private Select wideSelectWithJoins;
+	private Delete nestedSubselectDelete;
+	private Select largeConditionTree;
+	private Select limitAndLock;
+
+	@Setup
+	public void setUp() {
+
+		renderer = SqlRenderer.create(new RenderContextFactory(getDialect()).createRenderContext());
+
+		wideSelectWithJoins = buildWideSelectWithJoins();
+		nestedSubselectDelete = buildNestedSubselectDelete();
+		largeConditionTree = buildLargeConditionTree();
+		limitAndLock = buildLimitAndLock();
+	}
+
+	@Benchmark
+	public String wideSelectWithJoins() {
+		return renderer.render(buildWideSelectWithJoins());
+	}
+
+	@Benchmark
+	public String renderWideSelectWithJoins() {
+		return renderer.render(wideSelectWithJoins);
+	}
+
+	@Benchmark
+	public String nestedSubselectDelete() {
+		return renderer.render(buildNestedSubselectDelete());
+	}
+
+	@Benchmark
+	public String renderNestedSubselectDelete() {
+		return renderer.render(nestedSubselectDelete);
+	}
+
+	@Benchmark
+	public String largeConditionTree() {
+		return renderer.render(buildLargeConditionTree());
+	}
+
+	@Benchmark
+	public String renderLargeConditionTree() {
+		return renderer.render(largeConditionTree);
+	}
+
+	@Benchmark
+	public String limitAndLock() {
+		return renderer.render(buildLimitAndLock());
+	}
+
+	@Benchmark
+	public String renderLimitAndLock() {
+		return renderer.render(limitAndLock);
+	}
+
+	/**
+	 * A select of all columns of a root table and the tables of its one-to-one relationships, as used for loading an
+	 * aggregate by id.
+	 */
+	static Select buildWideSelectWithJoins() {
+
+		Table root = Table.create("root");
+		Column id = root.column("id");
+
+		List<Expression> columns = new ArrayList<>(columns(root, ""));
+		List<Table> joined = new ArrayList<>(JOINED_TABLES);
+		for (int i = 0; i < JOINED_TABLES; i++) {
+
+			Table table = Table.aliased("child" + i, "c" + i);
+			columns.addAll(columns(table, "c" + i + "_"));
+			joined.add(table);
+		}
+
+		return StatementBuilder.select(columns) //
+				.from(root) //
+				.leftOuterJoin(joined.get(0)).on(joined.get(0).column("root")).equals(id) //
+				.leftOuterJoin(joined.get(1)).on(joined.get(1).column("root")).equals(id) //
+				.leftOuterJoin(joined.get(2)).on(joined.get(2).column("root")).equals(id) //
+				.leftOuterJoin(joined.get(3)).on(joined.get(3).column("root")).equals(id) //
+				.where(id.isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+	}
+
+	/**
+	 * A delete of the entities at the end of a path of one-to-many relationships, filtering the intermediate tables with
+	 * nested {@code IN} subselects the way {@code SqlGenerator.getSubselectCondition} does.
+	 */
+	static Delete buildNestedSubselectDelete() {
+
+		Table parent = Table.create("level0");
+		Condition condition = parent.column("root").isEqualTo(SQL.bindMarker(":rootId"));
+
+		for (int level = 1; level < NESTING_DEPTH; level++) {
+
+			Select subselect = StatementBuilder.select(parent.column("id")) //
+					.from(parent) //
+					.where(condition) //
+					.build();
+
+			Table child = Table.create("level" + level);
+			condition = child.column("level" + (level - 1)).in(subselect);
+			parent = child;
+		}
+
+		Table leaf = Table.create("level" + NESTING_DEPTH);
+		Select subselect = StatementBuilder.select(parent.column("id")) //
+				.from(parent) //
+				.where(condition) //
+				.build();
+
+		return StatementBuilder.delete(leaf) //
+				.where(leaf.column("level" + (NESTING_DEPTH - 1)).in(subselect)) //
+				.build();
+	}
+
+	/**
+	 * A select filtered by a disjunction of nested conjunctions, as derived from query methods or query by example with
+	 * many criteria.
+	 */
+	static Select buildLargeConditionTree() {
+
+		Table table = Table.create("root");
+
+		Condition condition = null;
+		for (int i = 0; i < CONDITIONS; i += 2) {
+
+			Condition conjunction = table.column("a" + i).isEqualTo(SQL.bindMarker(":a" + i)) //
+					.and(table.column("a" + (i + 1)).isGreater(SQL.bindMarker(":a" + (i + 1))));
+
+			condition = condition == null ? Conditions.nest(conjunction)
+					: condition.or(Conditions.nest(conjunction));
+		}
+
+		return StatementBuilder.select(columns(table, "")) //
+				.from(table) //
+				.where(condition) //
+				.build();
+	}
+
+	/**
+	 * A paged select acquiring a pessimistic lock, rendered differently by every dialect.
+	 */
+	static Select buildLimitAndLock() {
+
+		Table table = Table.create("root");
+
+		return StatementBuilder.select(columns(table, "")) //
+				.from(table) //
+				.limitOffset(20, 40) //
+				.where(table.column("a0").isEqualTo(SQL.bindMarker(":a0"))) //
+				.orderBy(table.column("id")) //
+				.lock(LockMode.PESSIMISTIC_WRITE) //
+				.build();
+	}
+
+	private static List<Column> columns(Table table, String aliasPrefix) {
+
+		List<Column> columns = new ArrayList<>(COLUMNS_PER_TABLE);
+		columns.add(aliasPrefix.isEmpty() ? table.column("id") : table.column("id").as(aliasPrefix + "id"));
+		for (int i = 1; i < COLUMNS_PER_TABLE; i++) {
+
+			Column column = table.column("a" + i);
+			columns.add(aliasPrefix.isEmpty() ? column : column.as(aliasPrefix + "a" + i));
+		}
+
+		return columns;
+	}
+
+	private Dialect getDialect() {
+
+		switch (dialect) {
+			case "H2":
+				return H2Dialect.INSTANCE;
+			case "HSQL":
+				return HsqlDbDialect.INSTANCE;
+			case "POSTGRES":
+				return PostgresDialect.INSTANCE;
+			case "MYSQL":
+				return MySqlDialect.INSTANCE;
+			case "SQL_SERVER":
+				return SqlServerDialect.INSTANCE;
+			case "DB2":
+				return Db2Dialect.INSTANCE;
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported dialect %s", dialect));
+		}
+	}
+}
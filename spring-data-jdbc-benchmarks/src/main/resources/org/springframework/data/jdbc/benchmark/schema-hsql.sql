@@ -0,0 +1,36 @@
+CREATE TABLE CUSTOMER
+(
+    ID         BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    FIRST_NAME VARCHAR(100),
+    LAST_NAME  VARCHAR(100),
+    AGE        INTEGER
+);
+
+CREATE INDEX CUSTOMER_LAST_NAME ON CUSTOMER (LAST_NAME);
+
+CREATE TABLE PURCHASE_ORDER
+(
+    ID            BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
+    CUSTOMER_NAME VARCHAR(100)
+);
+
+CREATE TABLE LINE_ITEM
+(
+    PURCHASE_ORDER     BIGINT,
+    PURCHASE_ORDER_KEY INTEGER,
+    PRODUCT            VARCHAR(100),
+    QUANTITY           INTEGER,
+    PRIMARY KEY (PURCHASE_ORDER, PURCHASE_ORDER_KEY),
+    FOREIGN KEY (PURCHASE_ORDER) REFERENCES PURCHASE_ORDER (ID)
+);
+
+CREATE TABLE ALLOCATION
+(
+    PURCHASE_ORDER     BIGINT,
+    PURCHASE_ORDER_KEY INTEGER,
+    LINE_ITEM_KEY      INTEGER,
+    WAREHOUSE          VARCHAR(100),
+    QUANTITY           INTEGER,
+    PRIMARY KEY (PURCHASE_ORDER, PURCHASE_ORDER_KEY, LINE_ITEM_KEY),
+    FOREIGN KEY (PURCHASE_ORDER, PURCHASE_ORDER_KEY) REFERENCES LINE_ITEM (PURCHASE_ORDER, PURCHASE_ORDER_KEY)
+);
@@ -15,16 +15,37 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.metrics.Measurement;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 
 /**
- * Executes an {@link MutableAggregateChange}.
+ * Executes an {@link MutableAggregateChange}. Consecutive inserts of entities for the same property path get passed to
+ * the {@link DataAccessStrategy} as a batch.
  *
  * @author Jens Schauder
  * @author Myeonghyeon Lee
@@ -34,6 +55,9 @@ class AggregateChangeExecutor {
 
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	@Nullable private SnapshotRegistry snapshotRegistry;
+	@Nullable private QueryResultCache queryResultCache;
+	@Nullable private MetricsRecorder metricsRecorder;
 
 	AggregateChangeExecutor(JdbcConverter converter, DataAccessStrategy accessStrategy) {
 
@@ -41,13 +65,226 @@ class AggregateChangeExecutor {
 		this.accessStrategy = accessStrategy;
 	}
 
+	/**
+	 * @param snapshotRegistry used to restrict updates of aggregate roots to changed columns. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+		this.snapshotRegistry = snapshotRegistry;
+	}
+
+	/**
+	 * @param queryResultCache invalidated for the tables written by each executed change. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @param metricsRecorder records a measurement for every action executed for a measured operation. May be
+	 *          {@literal null}.
+	 * @since 2.1
+	 */
+	void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
+
 	@Nullable
 	<T> T execute(AggregateChange<T> aggregateChange) {
+		return execute(aggregateChange, null);
+	}
+
+	/**
+	 * Executes the {@link AggregateChange}, measuring each executed action as part of the given operation. The
+	 * statements of the actions get counted by the {@link StatementCounter} of the operation as well.
+	 *
+	 * @param aggregateChange the change to execute. Must not be {@literal null}.
+	 * @param operation the measurement of the operation executing the change. May be {@literal null} to not measure
+	 *          the actions.
+	 * @return the aggregate root after execution.
+	 * @since 2.1
+	 */
+	@Nullable
+	<T> T execute(AggregateChange<T> aggregateChange, @Nullable Measurement.Sample operation) {
 
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
-				accessStrategy);
+				accessStrategy, snapshotRegistry);
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		aggregateChange.forEachAction(actions::add);
+
+		try {
+
+			for (int i = 0; i < actions.size();) {
+
+				int batchEnd = findEndOfInsertBatch(actions, i);
+
+				if (batchEnd - i > 1) {
+
+					List<DeferredInsert> batch = new ArrayList<>(batchEnd - i);
+					for (DbAction<?> action : actions.subList(i, batchEnd)) {
+						batch.add(new DeferredInsert(action, executionContext));
+					}
+
+					executeInsertBatch(batch, operation);
+				} else {
+					execute(actions.get(i), executionContext, operation);
+				}
+
+				i = batchEnd;
+			}
+		} finally {
+			invalidateQueryResults(actions);
+		}
+
+		return populate(aggregateChange, executionContext);
+	}
+
+	/**
+	 * Executes multiple {@link AggregateChange}s, combining their inserts into batches. Inserts of aggregate roots get
+	 * grouped by type, inserts of other entities by property path, and each group is passed to
+	 * {@link DataAccessStrategy#insert(List, Class)} at once. Groups get executed after all other actions, parents
+	 * before the entities referencing them.
+	 * <p>
+	 * Changes that perform other actions after an insert get executed as they are, without batching their inserts. A
+	 * change for an aggregate already written by a previous change of the same call causes the groups collected so far
+	 * to get executed first, so that the children it deletes are the ones inserted for the previous change.
+	 *
+	 * @param aggregateChanges the changes to execute. Must not be {@literal null}.
+	 * @return the aggregate roots after execution, in the order of the changes.
+	 * @since 2.1
+	 */
+	<T> List<T> executeAll(List<? extends AggregateChange<T>> aggregateChanges) {
+		return executeAll(aggregateChanges, null);
+	}
+
+	/**
+	 * Executes multiple {@link AggregateChange}s like {@link #executeAll(List)}, measuring each executed action and
+	 * batch as part of the given operation. The statements of the actions get counted by the {@link StatementCounter} of
+	 * the operation as well.
+	 *
+	 * @param aggregateChanges the changes to execute. Must not be {@literal null}.
+	 * @param operation the measurement of the operation executing the changes. May be {@literal null} to not measure
+	 *          the actions.
+	 * @return the aggregate roots after execution, in the order of the changes.
+	 * @since 2.1
+	 */
+	<T> List<T> executeAll(List<? extends AggregateChange<T>> aggregateChanges,
+			@Nullable Measurement.Sample operation) {
+
+		List<JdbcAggregateChangeExecutionContext> executionContexts = new ArrayList<>(aggregateChanges.size());
+		Map<Object, List<DeferredInsert>> insertBatches = new LinkedHashMap<>();
+		List<DbAction<?>> allActions = new ArrayList<>();
+		Set<List<Object>> writtenAggregates = new HashSet<>();
+
+		try {
+
+			for (AggregateChange<T> aggregateChange : aggregateChanges) {
+
+				List<Object> aggregateKey = getAggregateKey(aggregateChange);
+				if (aggregateKey != null && !writtenAggregates.add(aggregateKey)) {
+					executeInsertBatches(insertBatches, operation);
+				}
+
+				JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
+						accessStrategy, snapshotRegistry);
+				executionContexts.add(executionContext);
+
+				List<DbAction<?>> actions = new ArrayList<>();
+				aggregateChange.forEachAction(actions::add);
+				allActions.addAll(actions);
+
+				boolean insertsDeferrable = insertsComeLast(actions);
+				for (DbAction<?> action : actions) {
+
+					if (insertsDeferrable && isInsert(action)) {
+						insertBatches.computeIfAbsent(getBatchKey(action), key -> new ArrayList<>())
+								.add(new DeferredInsert(action, executionContext));
+					} else {
+						execute(action, executionContext, operation);
+					}
+				}
+			}
+
+			executeInsertBatches(insertBatches, operation);
+		} finally {
+			invalidateQueryResults(allActions);
+		}
+
+		List<T> roots = new ArrayList<>(aggregateChanges.size());
+		for (int i = 0; i < aggregateChanges.size(); i++) {
+			roots.add(populate(aggregateChanges.get(i), executionContexts.get(i)));
+		}
+
+		return roots;
+	}
+
+	/**
+	 * Executes the collected insert batches, parents before the entities referencing them, and clears them.
+	 */
+	private void executeInsertBatches(Map<Object, List<DeferredInsert>> insertBatches,
+			@Nullable Measurement.Sample operation) {
+
+		List<List<DeferredInsert>> batches = new ArrayList<>(insertBatches.values());
+		batches.sort(Comparator.comparingInt(batch -> getDepth(batch.get(0).action)));
+		insertBatches.clear();
+
+		batches.forEach(batch -> executeInsertBatch(batch, operation));
+	}
+
+	/**
+	 * @return type and id of the aggregate root of the change, {@literal null} if the root has no id yet.
+	 */
+	@Nullable
+	private List<Object> getAggregateKey(AggregateChange<?> aggregateChange) {
+
+		Object entity = aggregateChange.getEntity();
+		if (entity == null) {
+			return null;
+		}
+
+		Object id = converter.getMappingContext().getRequiredPersistentEntity(aggregateChange.getEntityType())
+				.getIdentifierAccessor(entity).getIdentifier();
+
+		return id == null ? null : Arrays.asList(aggregateChange.getEntityType(), id);
+	}
+
+	/**
+	 * Invalidates the cached results of queries reading any of the tables written by the given actions. Happens even if
+	 * an action failed, since the actions executed before might have written already.
+	 */
+	private void invalidateQueryResults(List<DbAction<?>> actions) {
+
+		if (queryResultCache == null) {
+			return;
+		}
+
+		Set<SqlIdentifier> tables = new HashSet<>();
+		for (DbAction<?> action : actions) {
+
+			if (action instanceof DbAction.AcquireLockRoot || action instanceof DbAction.AcquireLockAllRoot) {
+				continue;
+			}
+
+			if (action instanceof DbAction.WithPropertyPath) {
+				tables.add(getTableName(((DbAction.WithPropertyPath<?>) action).getPropertyPath()));
+			} else if (action instanceof DbAction.Update) {
+				tables.add(getTableName(((DbAction.Update<?>) action).getPropertyPath()));
+			} else {
+				tables.add(converter.getMappingContext().getRequiredPersistentEntity(action.getEntityType()).getTableName());
+			}
+		}
+
+		queryResultCache.invalidate(tables);
+	}
+
+	private SqlIdentifier getTableName(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return new PersistentPropertyPathExtension(converter.getMappingContext(), path).getTableName();
+	}
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+	@Nullable
+	private <T> T populate(AggregateChange<T> aggregateChange, JdbcAggregateChangeExecutionContext executionContext) {
 
 		T root = executionContext.populateIdsIfNecessary();
 		root = root == null ? aggregateChange.getEntity() : root;
@@ -59,7 +296,105 @@ class AggregateChangeExecutor {
 		return root;
 	}
 
-	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void executeInsertBatch(List<DeferredInsert> batch, @Nullable Measurement.Sample operation) {
+
+		DbAction.WithEntity<?> firstAction = (DbAction.WithEntity<?>) batch.get(0).action;
+		Measurement.Sample sample = startMeasurement(firstAction, operation);
+		StatementCounter counter = sample.isEnabled() ? StatementCounter.start() : null;
+
+		try {
+
+			List<InsertSubject<Object>> insertSubjects = new ArrayList<>(batch.size());
+			for (DeferredInsert deferredInsert : batch) {
+
+				JdbcAggregateChangeExecutionContext executionContext = deferredInsert.executionContext;
+				insertSubjects.add(deferredInsert.action instanceof DbAction.InsertRoot //
+						? InsertSubject.describedBy(executionContext.prepareInsertRoot((DbAction.InsertRoot) deferredInsert.action),
+								Identifier.empty()) //
+						: executionContext.prepareInsert((DbAction.Insert) deferredInsert.action));
+			}
+
+			Object[] ids = accessStrategy.insert(insertSubjects, (Class<Object>) firstAction.getEntityType());
+
+			for (int i = 0; i < batch.size(); i++) {
+
+				DeferredInsert deferredInsert = batch.get(i);
+				deferredInsert.executionContext.addGeneratedId(deferredInsert.action, ids[i]);
+			}
+		} catch (Exception e) {
+
+			DbActionExecutionException exception = new DbActionExecutionException(firstAction, e);
+			stopMeasurement(sample, counter, exception);
+			throw exception;
+		}
+
+		stopMeasurement(sample, counter, null);
+	}
+
+	/**
+	 * Consecutive inserts for the same property path don't depend on each other, since they all reference parents
+	 * inserted before. They can be executed as a single batch.
+	 *
+	 * @return the index after the last insert that can be executed in one batch with the action at {@code start}.
+	 */
+	private static int findEndOfInsertBatch(List<DbAction<?>> actions, int start) {
+
+		DbAction<?> first = actions.get(start);
+		if (!(first instanceof DbAction.Insert)) {
+			return start + 1;
+		}
+
+		PersistentPropertyPath<?> path = ((DbAction.Insert<?>) first).getPropertyPath();
+
+		int end = start + 1;
+		while (end < actions.size() && actions.get(end) instanceof DbAction.Insert
+				&& path.equals(((DbAction.Insert<?>) actions.get(end)).getPropertyPath())) {
+			end++;
+		}
+
+		return end;
+	}
+
+	private static boolean insertsComeLast(List<DbAction<?>> actions) {
+
+		boolean insertSeen = false;
+		for (DbAction<?> action : actions) {
+
+			if (isInsert(action)) {
+				insertSeen = true;
+			} else if (insertSeen) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isInsert(DbAction<?> action) {
+		return action instanceof DbAction.InsertRoot || action instanceof DbAction.Insert;
+	}
+
+	/**
+	 * Inserts of aggregate roots can be batched when they are of the same type, inserts of other entities when they are
+	 * for the same property path, which implies the same type and the same kind of parent.
+	 */
+	private static Object getBatchKey(DbAction<?> action) {
+
+		return action instanceof DbAction.InsertRoot //
+				? ((DbAction.InsertRoot<?>) action).getEntityType() //
+				: ((DbAction.Insert<?>) action).getPropertyPath();
+	}
+
+	private static int getDepth(DbAction<?> action) {
+		return action instanceof DbAction.InsertRoot ? 0 : ((DbAction.Insert<?>) action).getPropertyPath().getLength();
+	}
+
+	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext,
+			@Nullable Measurement.Sample operation) {
+
+		Measurement.Sample sample = startMeasurement(action, operation);
+		StatementCounter counter = sample.isEnabled() ? StatementCounter.start() : null;
 
 		try {
 			if (action instanceof DbAction.InsertRoot) {
@@ -72,6 +407,8 @@ class AggregateChangeExecutor {
 				executionContext.executeUpdate((DbAction.Update<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
+			} else if (action instanceof DbAction.DeleteById) {
+				executionContext.executeDeleteById((DbAction.DeleteById<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
 				executionContext.executeDeleteAll((DbAction.DeleteAll<?>) action);
 			} else if (action instanceof DbAction.DeleteRoot) {
@@ -86,7 +423,67 @@ class AggregateChangeExecutor {
 				throw new RuntimeException("unexpected action");
 			}
 		} catch (Exception e) {
-			throw new DbActionExecutionException(action, e);
+
+			DbActionExecutionException exception = new DbActionExecutionException(action, e);
+			stopMeasurement(sample, counter, exception);
+			throw exception;
+		}
+
+		stopMeasurement(sample, counter, null);
+	}
+
+	private Measurement.Sample startMeasurement(DbAction<?> action, @Nullable Measurement.Sample operation) {
+
+		if (operation == null || !operation.isEnabled()) {
+			return Measurement.start(null, Measurement.Type.ACTION, action.getEntityType(), "");
+		}
+
+		return Measurement.start(metricsRecorder, Measurement.Type.ACTION, getAggregateType(action),
+				operation.getOperation()).action(action.getClass().getSimpleName());
+	}
+
+	/**
+	 * Records the statements reported by the {@link DataAccessStrategy} while executing the action or batch, and the
+	 * rows they affected. Nothing gets recorded for statements that weren't reported.
+	 */
+	private static void stopMeasurement(Measurement.Sample sample, @Nullable StatementCounter counter,
+			@Nullable Throwable exception) {
+
+		if (counter != null) {
+
+			counter.stop();
+			sample.addStatements(counter.getStatements());
+			sample.addRowsAffected(counter.getRowsAffected());
+		}
+
+		sample.stop(exception);
+	}
+
+	private static Class<?> getAggregateType(DbAction<?> action) {
+
+		if (action instanceof DbAction.WithPropertyPath) {
+			return ((DbAction.WithPropertyPath<?>) action).getPropertyPath().getBaseProperty().getOwner().getType();
+		}
+
+		if (action instanceof DbAction.Update) {
+			return ((DbAction.Update<?>) action).getPropertyPath().getBaseProperty().getOwner().getType();
+		}
+
+		return action.getEntityType();
+	}
+
+	/**
+	 * An insert action deferred for batch execution together with the context of the change it belongs to.
+	 */
+	private static class DeferredInsert {
+
+		private final DbAction<?> action;
+		private final JdbcAggregateChangeExecutionContext executionContext;
+
+		DeferredInsert(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
+
+			this.action = action;
+			this.executionContext = executionContext;
 		}
 	}
 }
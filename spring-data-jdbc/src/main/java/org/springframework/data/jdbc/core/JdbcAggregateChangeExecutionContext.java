@@ -30,8 +30,10 @@ import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
@@ -43,6 +45,7 @@ import org.springframework.data.relational.core.mapping.PersistentPropertyPathEx
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -60,47 +63,86 @@ class JdbcAggregateChangeExecutionContext {
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
 	private final JdbcConverter converter;
 	private final DataAccessStrategy accessStrategy;
+	@Nullable private final SnapshotRegistry snapshotRegistry;
 
 	private final Map<DbAction<?>, DbActionExecutionResult> results = new LinkedHashMap<>();
 	@Nullable private Long version;
 
 	JdbcAggregateChangeExecutionContext(JdbcConverter converter, DataAccessStrategy accessStrategy) {
+		this(converter, accessStrategy, null);
+	}
+
+	/**
+	 * @param snapshotRegistry used to restrict updates of aggregate roots to the columns that changed since they got
+	 *          loaded. May be {@literal null}.
+	 * @since 2.1
+	 */
+	JdbcAggregateChangeExecutionContext(JdbcConverter converter, DataAccessStrategy accessStrategy,
+			@Nullable SnapshotRegistry snapshotRegistry) {
 
 		this.converter = converter;
 		this.context = converter.getMappingContext();
 		this.accessStrategy = accessStrategy;
+		this.snapshotRegistry = snapshotRegistry;
 	}
 
 	<T> void executeInsertRoot(DbAction.InsertRoot<T> insert) {
-		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(insert.getEntityType());
 
-		Object id;
-		if (persistentEntity.hasVersionProperty()) {
+		T rootEntity = prepareInsertRoot(insert);
+		Object id = accessStrategy.insert(rootEntity, insert.getEntityType(), Identifier.empty());
 
-			RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+		addGeneratedId(insert, id);
+	}
 
-			Assert.state(versionProperty != null, "Version property must not be null at this stage.");
+	<T> void executeInsert(DbAction.Insert<T> insert) {
 
-			long initialVersion = versionProperty.getActualType().isPrimitive() ? 1L : 0;
+		InsertSubject<T> insertSubject = prepareInsert(insert);
+		Object id = accessStrategy.insert(insertSubject.getInstance(), insert.getEntityType(),
+				insertSubject.getIdentifier());
+
+		addGeneratedId(insert, id);
+	}
 
-			T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity( //
-					insert.getEntity(), initialVersion, persistentEntity, converter);
+	/**
+	 * Prepares the insert of an aggregate root without executing it, which allows executing it as part of a batch. Once
+	 * executed, the generated id has to be registered using {@link #addGeneratedId(DbAction, Object)}.
+	 *
+	 * @return the entity to be inserted, with the initial version set if the entity is versioned.
+	 */
+	<T> T prepareInsertRoot(DbAction.InsertRoot<T> insert) {
 
-			id = accessStrategy.insert(rootEntity, insert.getEntityType(), Identifier.empty());
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(insert.getEntityType());
 
-			setNewVersion(initialVersion);
-		} else {
-			id = accessStrategy.insert(insert.getEntity(), insert.getEntityType(), Identifier.empty());
+		if (!persistentEntity.hasVersionProperty()) {
+			return insert.getEntity();
 		}
 
-		add(new DbActionExecutionResult(insert, id));
+		RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+
+		Assert.state(versionProperty != null, "Version property must not be null at this stage.");
+
+		long initialVersion = versionProperty.getActualType().isPrimitive() ? 1L : 0;
+
+		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity( //
+				insert.getEntity(), initialVersion, persistentEntity, converter);
+
+		setNewVersion(initialVersion);
+
+		return rootEntity;
 	}
 
-	<T> void executeInsert(DbAction.Insert<T> insert) {
+	/**
+	 * Prepares the insert of a non root entity without executing it, which allows executing it as part of a batch. Once
+	 * executed, the generated id has to be registered using {@link #addGeneratedId(DbAction, Object)}.
+	 *
+	 * @return the entity to be inserted together with the keys referencing its parent.
+	 */
+	<T> InsertSubject<T> prepareInsert(DbAction.Insert<T> insert) {
+		return InsertSubject.describedBy(insert.getEntity(), getParentKeys(insert, converter));
+	}
 
-		Identifier parentKeys = getParentKeys(insert, converter);
-		Object id = accessStrategy.insert(insert.getEntity(), insert.getEntityType(), parentKeys);
-		add(new DbActionExecutionResult(insert, id));
+	void addGeneratedId(DbAction<?> action, @Nullable Object id) {
+		add(new DbActionExecutionResult(action, id));
 	}
 
 	<T> void executeUpdateRoot(DbAction.UpdateRoot<T> update) {
@@ -115,6 +157,14 @@ class JdbcAggregateChangeExecutionContext {
 		}
 	}
 
+	/**
+	 * @return the columns changed since the entity got loaded, or {@literal null} if that is unknown.
+	 */
+	@Nullable
+	private Set<SqlIdentifier> getDirtyColumns(Object rootEntity) {
+		return snapshotRegistry == null ? null : snapshotRegistry.getDirtyColumns(rootEntity);
+	}
+
 	<T> void executeUpdate(DbAction.Update<T> update) {
 
 		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
@@ -144,6 +194,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteById(DbAction.DeleteById<T> delete) {
+
+		accessStrategy.delete(delete.getRootId(), delete.getId(), delete.getPropertyPath());
+	}
+
 	<T> void executeDeleteAllRoot(DbAction.DeleteAllRoot<T> deleteAllRoot) {
 
 		accessStrategy.deleteAll(deleteAllRoot.getEntityType());
@@ -183,11 +238,11 @@ class JdbcAggregateChangeExecutionContext {
 		Object id = getParentId(action);
 
 		JdbcIdentifierBuilder identifier = JdbcIdentifierBuilder //
-				.forBackReferences(converter, new PersistentPropertyPathExtension(context, action.getPropertyPath()), id);
+				.forBackReferences(converter, PersistentPropertyPathExtension.of(context, action.getPropertyPath()), id);
 
 		for (Map.Entry<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifier : action.getQualifiers()
 				.entrySet()) {
-			identifier = identifier.withQualifier(new PersistentPropertyPathExtension(context, qualifier.getKey()),
+			identifier = identifier.withQualifier(PersistentPropertyPathExtension.of(context, qualifier.getKey()),
 					qualifier.getValue());
 		}
 
@@ -196,7 +251,7 @@ class JdbcAggregateChangeExecutionContext {
 
 	private Object getParentId(DbAction.WithDependingOn<?> action) {
 
-		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, action.getPropertyPath());
+		PersistentPropertyPathExtension path = PersistentPropertyPathExtension.of(context, action.getPropertyPath());
 		PersistentPropertyPathExtension idPath = path.getIdDefiningParentPath();
 
 		DbAction.WithEntity<?> idOwningAction = getIdOwningAction(action, idPath);
@@ -363,7 +418,20 @@ class JdbcAggregateChangeExecutionContext {
 
 	private <T> void updateWithoutVersion(DbAction.UpdateRoot<T> update) {
 
-		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
+		Set<SqlIdentifier> dirtyColumns = getDirtyColumns(update.getEntity());
+
+		boolean updated;
+		if (dirtyColumns == null) {
+			updated = accessStrategy.update(update.getEntity(), update.getEntityType());
+		} else if (dirtyColumns.isEmpty()) {
+
+			// nothing to write, but saving a root that got deleted in the meantime still has to fail
+			updated = accessStrategy.existsById(getIdFrom(update), update.getEntityType());
+		} else {
+			updated = accessStrategy.update(update.getEntity(), update.getEntityType(), dirtyColumns);
+		}
+
+		if (!updated) {
 
 			throw new IncorrectUpdateSemanticsDataAccessException(
 					String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
@@ -383,7 +451,14 @@ class JdbcAggregateChangeExecutionContext {
 		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity(update.getEntity(), getNewVersion(),
 				persistentEntity, converter);
 
-		if (!accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion)) {
+		// the version always changes, so versioned aggregate roots get updated even if nothing else changed
+		Set<SqlIdentifier> dirtyColumns = getDirtyColumns(rootEntity);
+
+		boolean updated = dirtyColumns == null || dirtyColumns.isEmpty() //
+				? accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion) //
+				: accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion, dirtyColumns);
+
+		if (!updated) {
 
 			throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
 		}
@@ -15,10 +15,17 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Specifies a operations one can perform on a database, based on an <em>Domain Type</em>.
@@ -50,6 +57,47 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T insert(T instance);
 
+	/**
+	 * Saves multiple instances of aggregates, including all the members of the aggregates. Implementations may execute
+	 * inserts of entities of the same type as JDBC batches, the default implementation calls {@link #save(Object)} for
+	 * each instance.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances, in the order of {@code instances}.
+	 * @since 2.1
+	 */
+	default <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<T> saved = new ArrayList<>();
+		instances.forEach(instance -> saved.add(save(instance)));
+
+		return saved;
+	}
+
+	/**
+	 * Dedicated insert function for multiple aggregates. This skips the test if the aggregate roots are new and makes
+	 * inserts. Implementations may execute inserts of entities of the same type as JDBC batches, the default
+	 * implementation calls {@link #insert(Object)} for each instance.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances, in the order of {@code instances}.
+	 * @since 2.1
+	 * @see #insert(Object)
+	 */
+	default <T> Iterable<T> insertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		List<T> inserted = new ArrayList<>();
+		instances.forEach(instance -> inserted.add(insert(instance)));
+
+		return inserted;
+	}
+
 	/**
 	 * Dedicated update function. This skips the test if the aggregate root is new or not and always performs an update
 	 * operation.
@@ -123,6 +171,21 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Load all aggregates of a given type as a {@link Stream}. Aggregates get loaded while the {@link Stream} is
+	 * consumed, so the {@link Stream} holds on to database resources and must be closed after use, e.g. by using
+	 * try-with-resources. The default implementation streams the result of {@link #findAll(Class)} and therefore loads
+	 * all aggregates up front.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Checks if an aggregate identified by type and id exists in the database.
 	 *
@@ -145,7 +208,8 @@ public interface JdbcAggregateOperations {
 	<T> Iterable<T> findAll(Class<T> domainType, Sort sort);
 
 	/**
-	 * Load a page of (potentially sorted) aggregates of a given type.
+	 * Load a page of (potentially sorted) aggregates of a given type. The total number of aggregates is only counted if
+	 * it can't be derived from the page, i.e. when the page is full or empty, unless it is the first page.
 	 *
 	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
 	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
@@ -154,4 +218,22 @@ public interface JdbcAggregateOperations {
 	 * @since 2.0
 	 */
 	<T> Page<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Load a window of aggregates of a given type using keyset pagination. The window contains the aggregates following
+	 * the keys of the {@link KeysetRequest}, ordered by its {@link KeysetRequest#getSort() Sort} and the id. Unlike
+	 * {@link #findAll(Class, Pageable)}, the cost of loading a window doesn't grow with the number of preceding
+	 * aggregates, as long as there is an index matching the order. The sort properties must not be nullable, see
+	 * {@link KeysetRequest}. The default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param request the keyset pagination information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support keyset pagination", getClass().getName()));
+	}
 }
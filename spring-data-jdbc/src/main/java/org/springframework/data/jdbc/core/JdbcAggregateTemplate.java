@@ -16,19 +16,31 @@
 package org.springframework.data.jdbc.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
+import org.springframework.data.jdbc.core.metrics.Measurement;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.AggregateChange;
@@ -39,8 +51,11 @@ import org.springframework.data.relational.core.conversion.RelationalEntityUpdat
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.query.KeysetRequest;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link JdbcAggregateOperations} implementation, storing aggregates in and obtaining them from a JDBC data store.
@@ -62,8 +77,13 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 	private final DataAccessStrategy accessStrategy;
 	private final AggregateChangeExecutor executor;
+	private final JdbcConverter converter;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean collectionDiffingEnabled = false;
+	@Nullable private SnapshotRegistry snapshotRegistry;
+	@Nullable private AggregateCache aggregateCache;
+	@Nullable private MetricsRecorder metricsRecorder;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -85,6 +105,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.publisher = publisher;
 		this.context = context;
 		this.accessStrategy = dataAccessStrategy;
+		this.converter = converter;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
@@ -114,6 +135,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.publisher = publisher;
 		this.context = context;
 		this.accessStrategy = dataAccessStrategy;
+		this.converter = converter;
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
@@ -132,6 +154,85 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Configures how updates of existing aggregates write referenced entities. By default all referenced entities get
+	 * deleted and reinserted. When enabled, the aggregate as currently stored gets loaded before the update and
+	 * collections of entities with an id, that are directly referenced by the aggregate root and don't reference further
+	 * entities, are written by comparing them with the loaded state: only removed entities get deleted, only new ones
+	 * inserted and only changed ones updated.
+	 * <p>
+	 * This trades an additional read per update for far fewer writes when large collections change only slightly.
+	 *
+	 * @param collectionDiffingEnabled whether to update collections by comparing them with their stored state.
+	 * @since 2.1
+	 * @see RelationalEntityUpdateWriter#write(Object, Object, MutableAggregateChange)
+	 */
+	public void setCollectionDiffingEnabled(boolean collectionDiffingEnabled) {
+		this.collectionDiffingEnabled = collectionDiffingEnabled;
+	}
+
+	/**
+	 * Configures the {@link SnapshotRegistry} used to detect which columns of an aggregate root changed since it was
+	 * loaded or saved through this template within the current transaction. Only those columns get updated on save. An
+	 * unchanged aggregate root doesn't get updated at all but only checked for existence, so that saving an aggregate
+	 * deleted in the meantime fails as usual. Aggregate roots with a version property always get updated, since their
+	 * version gets incremented on every save. Referenced entities get written as usual.
+	 *
+	 * @param snapshotRegistry the registry to use. May be {@literal null} to always update aggregate roots, which is the
+	 *          default.
+	 * @since 2.1
+	 */
+	public void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+
+		this.snapshotRegistry = snapshotRegistry;
+		this.executor.setSnapshotRegistry(snapshotRegistry);
+	}
+
+	/**
+	 * Configures the {@link AggregateCache} used by {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)}. Aggregates written or deleted through this template get evicted from the
+	 * cache. Modifying query methods of repositories using the same cache evict all aggregates of their aggregate type.
+	 * Other writes bypassing the template, e.g. by other applications, are not detected, so only aggregates that change
+	 * rarely should be cached, with an appropriate time to live.
+	 * <p>
+	 * {@link AfterLoadEvent}s get published and {@link AfterLoadCallback}s invoked for cached aggregates as well, with the
+	 * copy handed out by the cache.
+	 *
+	 * @param aggregateCache the cache to use. May be {@literal null} to always load aggregates from the database, which is
+	 *          the default.
+	 * @since 2.1
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * Configures the {@link QueryResultCache} holding the results of repository query methods annotated with
+	 * {@link org.springframework.data.jdbc.repository.query.CachedResult}. Cached results reading any of the tables
+	 * written by a save or delete of this template get invalidated. The same cache must be configured on the repository
+	 * factory.
+	 *
+	 * @param queryResultCache the cache to invalidate. May be {@literal null}, which is the default.
+	 * @since 2.1
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.executor.setQueryResultCache(queryResultCache);
+	}
+
+	/**
+	 * Configures the {@link MetricsRecorder} receiving a {@link Measurement} for every operation of this template and for
+	 * every action executed by a save or delete. Aggregates returned by {@link #streamAll(Class)} get measured once the
+	 * {@link Stream} is closed.
+	 *
+	 * @param metricsRecorder the recorder to use. May be {@literal null} to not measure anything, which is the default.
+	 * @since 2.1
+	 */
+	public void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+
+		this.metricsRecorder = metricsRecorder;
+		this.executor.setMetricsRecorder(metricsRecorder);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#save(java.lang.Object)
@@ -146,7 +247,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Function<T, MutableAggregateChange<T>> changeCreator = persistentEntity.isNew(instance) ? this::createInsertChange
 				: this::createUpdateChange;
 
-		return store(instance, changeCreator, persistentEntity);
+		return measure(instance.getClass(), "save", sample -> store(instance, changeCreator, persistentEntity, sample));
 	}
 
 	/**
@@ -163,7 +264,36 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
 
-		return store(instance, this::createInsertChange, persistentEntity);
+		return measure(instance.getClass(), "insert",
+				sample -> store(instance, this::createInsertChange, persistentEntity, sample));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#saveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return storeAll(instances, "saveAll", instance -> {
+
+			RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+			return persistentEntity.isNew(instance) ? createInsertChange(instance) : createUpdateChange(instance);
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#insertAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> insertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return storeAll(instances, "insertAll", this::createInsertChange);
 	}
 
 	/**
@@ -180,7 +310,8 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
 
-		return store(instance, this::createUpdateChange, persistentEntity);
+		return measure(instance.getClass(), "update",
+				sample -> store(instance, this::createUpdateChange, persistentEntity, sample));
 	}
 
 	/*
@@ -192,7 +323,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null");
 
-		return accessStrategy.count(domainType);
+		return measure(domainType, "count", sample -> accessStrategy.count(domainType));
 	}
 
 	/*
@@ -205,11 +336,27 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		T entity = accessStrategy.findById(id, domainType);
-		if (entity != null) {
-			return triggerAfterLoad(entity);
-		}
-		return entity;
+		return measure(domainType, "findById", sample -> {
+
+			Supplier<T> loader = () -> {
+
+				T loaded = accessStrategy.findById(id, domainType);
+				if (loaded != null) {
+					registerSnapshot(loaded);
+				}
+				return loaded;
+			};
+
+			T entity = aggregateCache == null //
+					? loader.get() //
+					: aggregateCache.get(getCacheKey(id, domainType), domainType, loader);
+			if (entity != null) {
+
+				sample.addRowsMapped(1);
+				return triggerAfterLoad(entity);
+			}
+			return entity;
+		});
 	}
 
 	/*
@@ -222,7 +369,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		return accessStrategy.existsById(id, domainType);
+		return measure(domainType, "existsById", sample -> accessStrategy.existsById(id, domainType));
 	}
 
 	/*
@@ -234,8 +381,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> all = accessStrategy.findAll(domainType, sort);
-		return triggerAfterLoad(all);
+		return measure(domainType, "findAll", sample -> {
+
+			Iterable<T> all = registerSnapshots(accessStrategy.findAll(domainType, sort));
+			return triggerAfterLoad(mapped(all, sample));
+		});
 	}
 
 	/*
@@ -247,11 +397,32 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
-		long totalCount = accessStrategy.count(domainType);
+		return measure(domainType, "findAll", sample -> {
+
+			Iterable<T> items = triggerAfterLoad(
+					mapped(registerSnapshots(accessStrategy.findAll(domainType, pageable)), sample));
 
-		return new PageImpl<>(StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
-				totalCount);
+			return PageableExecutionUtils.getPage(
+					StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
+					() -> accessStrategy.count(domainType));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.relational.core.query.KeysetRequest)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(request, "KeysetRequest must not be null!");
+
+		return measure(domainType, "findAll", sample -> {
+
+			Iterable<T> page = registerSnapshots(accessStrategy.findAll(domainType, request));
+			return triggerAfterLoad(mapped(page, sample));
+		});
 	}
 
 	/*
@@ -263,8 +434,47 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> all = accessStrategy.findAll(domainType);
-		return triggerAfterLoad(all);
+		return measure(domainType, "findAll", sample -> {
+
+			Iterable<T> all = registerSnapshots(accessStrategy.findAll(domainType));
+			return triggerAfterLoad(mapped(all, sample));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		Measurement.Sample sample = Measurement.start(metricsRecorder, Measurement.Type.OPERATION, domainType, "streamAll");
+
+		if (!sample.isEnabled()) {
+			return accessStrategy.streamAll(domainType).peek(this::registerSnapshot).map(this::triggerAfterLoad);
+		}
+
+		StatementCounter counter = StatementCounter.start();
+
+		Stream<T> stream;
+		try {
+
+			stream = accessStrategy.streamAll(domainType);
+		} catch (RuntimeException e) {
+
+			addStatements(sample, counter);
+			sample.stop(e);
+			throw e;
+		}
+
+		addStatements(sample, counter);
+
+		return stream.peek(entity -> sample.addRowsMapped(1)) //
+				.peek(this::registerSnapshot) //
+				.map(this::triggerAfterLoad) //
+				.onClose(() -> sample.stop(null));
 	}
 
 	/*
@@ -277,8 +487,49 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(ids, "Ids must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		Iterable<T> allById = accessStrategy.findAllById(ids, domainType);
-		return triggerAfterLoad(allById);
+		return measure(domainType, "findAllById", sample -> {
+
+			if (aggregateCache == null) {
+
+				Iterable<T> allById = registerSnapshots(accessStrategy.findAllById(ids, domainType));
+				return triggerAfterLoad(mapped(allById, sample));
+			}
+
+			List<Object> cacheKeys = new ArrayList<>();
+			ids.forEach(id -> cacheKeys.add(getCacheKey(id, domainType)));
+
+			Iterable<T> allById = aggregateCache.getAll(cacheKeys, domainType, missing -> loadById(missing, domainType));
+			return triggerAfterLoad(mapped(allById, sample));
+		});
+	}
+
+	private <T> Map<Object, T> loadById(Collection<Object> ids, Class<T> domainType) {
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(domainType);
+
+		Map<Object, T> byId = new LinkedHashMap<>();
+		for (T entity : registerSnapshots(accessStrategy.findAllById(ids, domainType))) {
+			byId.put(getCacheKey(persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier(), domainType), entity);
+		}
+
+		return byId;
+	}
+
+	/**
+	 * Converts the id to the type of the id property, so ids passed in as e.g. {@link Integer} and the {@link Long} ids
+	 * of the stored aggregates result in the same cache key.
+	 */
+	private Object getCacheKey(Object id, Class<?> domainType) {
+
+		Class<?> idType = ClassUtils.resolvePrimitiveIfNecessary(
+				context.getRequiredPersistentEntity(domainType).getRequiredIdProperty().getType());
+
+		if (idType.isInstance(id) || !converter.getConversionService().canConvert(id.getClass(), idType)) {
+			return id;
+		}
+
+		Object cacheKey = converter.getConversionService().convert(id, idType);
+		return cacheKey == null ? id : cacheKey;
 	}
 
 	/*
@@ -294,7 +545,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		IdentifierAccessor identifierAccessor = context.getRequiredPersistentEntity(domainType)
 				.getIdentifierAccessor(aggregateRoot);
 
-		deleteTree(identifierAccessor.getRequiredIdentifier(), aggregateRoot, domainType);
+		measure(domainType, "delete", sample -> {
+
+			deleteTree(identifierAccessor.getRequiredIdentifier(), aggregateRoot, domainType, sample);
+			return null;
+		});
 	}
 
 	/*
@@ -307,7 +562,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(id, "Id must not be null!");
 		Assert.notNull(domainType, "Domain type must not be null!");
 
-		deleteTree(id, null, domainType);
+		measure(domainType, "deleteById", sample -> {
+
+			deleteTree(id, null, domainType, sample);
+			return null;
+		});
 	}
 
 	/*
@@ -320,11 +579,19 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		MutableAggregateChange<?> change = createDeletingChange(domainType);
-		executor.execute(change);
+		measure(domainType, "deleteAll", sample -> executor.execute(change, sample));
+
+		if (snapshotRegistry != null) {
+			snapshotRegistry.removeAll(domainType);
+		}
+
+		if (aggregateCache != null) {
+			aggregateCache.evictAll(domainType);
+		}
 	}
 
 	private <T> T store(T aggregateRoot, Function<T, MutableAggregateChange<T>> changeCreator,
-			RelationalPersistentEntity<?> persistentEntity) {
+			RelationalPersistentEntity<?> persistentEntity, Measurement.Sample sample) {
 
 		Assert.notNull(aggregateRoot, "Aggregate instance must not be null!");
 
@@ -336,55 +603,222 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		change.setEntity(aggregateRoot);
 
-		T entityAfterExecution = executor.execute(change);
+		T entityAfterExecution = executor.execute(change, sample);
 
 		Object identifier = persistentEntity.getIdentifierAccessor(entityAfterExecution).getIdentifier();
 
 		Assert.notNull(identifier, "After saving the identifier must not be null!");
 
+		registerSnapshot(entityAfterExecution);
+		evictFromCache(identifier, entityAfterExecution.getClass());
+
 		return triggerAfterSave(entityAfterExecution, change);
 	}
 
-	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType) {
+	private <T> List<T> storeAll(Iterable<T> aggregateRoots, String operation,
+			Function<T, MutableAggregateChange<T>> changeCreator) {
+
+		List<MutableAggregateChange<T>> changes = new ArrayList<>();
+		for (T aggregateRoot : aggregateRoots) {
+
+			Assert.notNull(aggregateRoot, "Aggregate instance must not be null!");
+
+			aggregateRoot = triggerBeforeConvert(aggregateRoot);
+
+			MutableAggregateChange<T> change = changeCreator.apply(aggregateRoot);
+
+			aggregateRoot = triggerBeforeSave(aggregateRoot, change);
+
+			change.setEntity(aggregateRoot);
+			changes.add(change);
+		}
+
+		if (changes.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		List<T> entitiesAfterExecution = measure(changes.get(0).getEntityType(), operation,
+				sample -> executor.executeAll(changes, sample));
+
+		List<T> result = new ArrayList<>(changes.size());
+		for (int i = 0; i < changes.size(); i++) {
+
+			T entityAfterExecution = entitiesAfterExecution.get(i);
+
+			Object identifier = context.getRequiredPersistentEntity(entityAfterExecution.getClass())
+					.getIdentifierAccessor(entityAfterExecution).getIdentifier();
+
+			Assert.notNull(identifier, "After saving the identifier must not be null!");
+
+			registerSnapshot(entityAfterExecution);
+			evictFromCache(identifier, entityAfterExecution.getClass());
+
+			result.add(triggerAfterSave(entityAfterExecution, changes.get(i)));
+		}
+
+		return result;
+	}
+
+	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType, Measurement.Sample sample) {
 
 		MutableAggregateChange<T> change = createDeletingChange(id, entity, domainType);
 
 		entity = triggerBeforeDelete(entity, id, change);
 		change.setEntity(entity);
 
-		executor.execute(change);
+		executor.execute(change, sample);
+
+		if (snapshotRegistry != null) {
+			snapshotRegistry.remove(id, domainType);
+		}
+
+		evictFromCache(id, domainType);
 
 		triggerAfterDelete(entity, id, change);
 	}
 
+	/**
+	 * Executes the given work as an operation measured with the configured {@link MetricsRecorder}, if any.
+	 */
+	private <R> R measure(Class<?> domainType, String operation, Function<Measurement.Sample, R> work) {
+
+		Measurement.Sample sample = Measurement.start(metricsRecorder, Measurement.Type.OPERATION, domainType, operation);
+		StatementCounter counter = sample.isEnabled() ? StatementCounter.start() : null;
+
+		R result;
+		try {
+			result = work.apply(sample);
+		} catch (RuntimeException | Error e) {
+
+			addStatements(sample, counter);
+			sample.stop(e);
+			throw e;
+		}
+
+		addStatements(sample, counter);
+		sample.stop(null);
+		return result;
+	}
+
+	/**
+	 * Stops the counter and records the statements the {@link DataAccessStrategy} reported for the operation, along with
+	 * the rows they affected.
+	 */
+	private static void addStatements(Measurement.Sample sample, @Nullable StatementCounter counter) {
+
+		if (counter != null) {
+
+			counter.stop();
+			sample.addStatements(counter.getStatements());
+			sample.addRowsAffected(counter.getRowsAffected());
+		}
+	}
+
+	private static <T> Iterable<T> mapped(Iterable<T> entities, Measurement.Sample sample) {
+
+		if (sample.isEnabled()) {
+
+			if (entities instanceof Collection) {
+				sample.addRowsMapped(((Collection<?>) entities).size());
+			} else {
+				entities.forEach(entity -> sample.addRowsMapped(1));
+			}
+		}
+
+		return entities;
+	}
+
+	private void registerSnapshot(Object aggregateRoot) {
+
+		if (snapshotRegistry != null) {
+			snapshotRegistry.register(aggregateRoot);
+		}
+	}
+
+	private <T> Iterable<T> registerSnapshots(Iterable<T> aggregateRoots) {
+
+		if (snapshotRegistry != null) {
+			aggregateRoots.forEach(snapshotRegistry::register);
+		}
+
+		return aggregateRoots;
+	}
+
+	private void evictFromCache(Object id, Class<?> domainType) {
+
+		if (aggregateCache != null) {
+			aggregateCache.evict(getCacheKey(id, domainType), domainType);
+		}
+	}
+
 	private <T> MutableAggregateChange<T> createInsertChange(T instance) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+
+		Recording recording = JdbcFlightRecorder.writePlanning(instance.getClass(), "insert");
 		jdbcEntityInsertWriter.write(instance, aggregateChange);
+		commitWritePlanning(recording, aggregateChange);
+
 		return aggregateChange;
 	}
 
 	private <T> MutableAggregateChange<T> createUpdateChange(T instance) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
-		jdbcEntityUpdateWriter.write(instance, aggregateChange);
+
+		T previousState = collectionDiffingEnabled ? loadPreviousState(instance) : null;
+
+		Recording recording = JdbcFlightRecorder.writePlanning(instance.getClass(), "update");
+		if (collectionDiffingEnabled) {
+			jdbcEntityUpdateWriter.write(instance, previousState, aggregateChange);
+		} else {
+			jdbcEntityUpdateWriter.write(instance, aggregateChange);
+		}
+		commitWritePlanning(recording, aggregateChange);
+
 		return aggregateChange;
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T loadPreviousState(T instance) {
+
+		Class<T> domainType = (Class<T>) instance.getClass();
+		Object id = context.getRequiredPersistentEntity(domainType).getIdentifierAccessor(instance).getIdentifier();
+
+		return id == null ? null : accessStrategy.findById(id, domainType);
+	}
+
 	private <T> MutableAggregateChange<T> createDeletingChange(Object id, @Nullable T entity, Class<T> domainType) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forDelete(domainType, entity);
+
+		Recording recording = JdbcFlightRecorder.writePlanning(domainType, "delete");
 		jdbcEntityDeleteWriter.write(id, aggregateChange);
+		commitWritePlanning(recording, aggregateChange);
+
 		return aggregateChange;
 	}
 
 	private MutableAggregateChange<?> createDeletingChange(Class<?> domainType) {
 
 		MutableAggregateChange<?> aggregateChange = MutableAggregateChange.forDelete(domainType, null);
+
+		Recording recording = JdbcFlightRecorder.writePlanning(domainType, "deleteAll");
 		jdbcEntityDeleteWriter.write(null, aggregateChange);
+		commitWritePlanning(recording, aggregateChange);
+
 		return aggregateChange;
 	}
 
+	private static void commitWritePlanning(Recording recording, AggregateChange<?> aggregateChange) {
+
+		if (recording.isEnabled()) {
+			aggregateChange.forEachAction(action -> recording.count(1));
+		}
+		recording.commit();
+	}
+
 	private <T> Iterable<T> triggerAfterLoad(Iterable<T> all) {
 
 		List<T> result = new ArrayList<>();
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * SPI for a second level cache of aggregates, used by {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}
+ * to look up aggregates by id. Aggregates are only loaded through the cache, so implementations are able to track which
+ * loads may race with concurrent writes and must not get cached.
+ * <p>
+ * Implementations must not hand out aggregates written by a transaction that isn't committed yet, neither to other
+ * transactions nor after a rollback. Callers are free to modify the aggregates they get, so implementations must not
+ * hand out the cached instances themselves, nor cache the instances passed in by a loader, but copies of them.
+ *
+ * @since 2.1
+ * @see InMemoryAggregateCache
+ */
+public interface AggregateCache {
+
+	/**
+	 * Returns the aggregate with the given id, loading and caching it if it isn't cached yet.
+	 *
+	 * @param id the id of the aggregate root, converted to the type of the id property. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param loader loads the aggregate from the database. Returns {@literal null} if there is no such aggregate. Must
+	 *          not be {@literal null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the aggregate or {@literal null} if there is no aggregate with the given id.
+	 */
+	@Nullable
+	<T> T get(Object id, Class<T> domainType, Supplier<T> loader);
+
+	/**
+	 * Returns the aggregates with the given ids, loading and caching those that aren't cached yet.
+	 *
+	 * @param ids the ids of the aggregate roots, converted to the type of the id property. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param loader loads the aggregates with the given ids from the database, by id. Must not be {@literal null}.
+	 * @param <T> the type of the aggregate root.
+	 * @return the aggregates found, in no particular order. Guaranteed to be not {@literal null}.
+	 */
+	<T> Collection<T> getAll(Collection<?> ids, Class<T> domainType,
+			Function<Collection<Object>, Map<Object, T>> loader);
+
+	/**
+	 * Invalidates the aggregate with the given id because it got written. If a transaction is active, the aggregate must
+	 * not get cached until the transaction completes.
+	 *
+	 * @param id the id of the aggregate root, converted to the type of the id property. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 */
+	void evict(Object id, Class<?> domainType);
+
+	/**
+	 * Invalidates all aggregates of the given type. If a transaction is active, no aggregates of the type must get cached
+	 * until the transaction completes.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 */
+	void evictAll(Class<?> domainType);
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Creates deep copies of aggregates based on their mapping metadata, so cached aggregates are never shared with
+ * callers. Entities get instantiated through the {@link RelationalConverter} like when they are read, collections and
+ * maps of the aggregate get copied along with their elements. Values of simple types are shared, except for arrays and
+ * {@link Date}s, which get copied.
+ *
+ * @since 2.1
+ */
+class AggregateCopier {
+
+	private final RelationalConverter converter;
+	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
+
+	AggregateCopier(RelationalConverter converter) {
+
+		Assert.notNull(converter, "RelationalConverter must not be null");
+
+		this.converter = converter;
+		this.context = converter.getMappingContext();
+	}
+
+	/**
+	 * Copies the given aggregate root and all entities referenced by it.
+	 *
+	 * @param aggregateRoot must not be {@literal null}.
+	 * @return the copy. Values of simple types are returned as they are.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T copy(T aggregateRoot) {
+
+		Assert.notNull(aggregateRoot, "Aggregate root must not be null");
+
+		RelationalPersistentEntity<?> entity = context.getPersistentEntity(aggregateRoot.getClass());
+
+		return entity == null ? aggregateRoot : (T) copyEntity(aggregateRoot, entity);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Object copyEntity(Object source, RelationalPersistentEntity<?> persistentEntity) {
+
+		RelationalPersistentEntity<Object> entity = (RelationalPersistentEntity<Object>) persistentEntity;
+		PersistentPropertyAccessor<Object> sourceAccessor = entity.getPropertyAccessor(source);
+		PreferredConstructor<Object, RelationalPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		Object instance = converter.createInstance(entity, parameter -> {
+
+			RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameter.getName());
+			return copyValue(sourceAccessor.getProperty(property), property);
+		});
+
+		PersistentPropertyAccessor<Object> accessor = converter.getPropertyAccessor(entity, instance);
+
+		entity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+			if (constructor != null && constructor.isConstructorParameter(property)) {
+				return;
+			}
+
+			accessor.setProperty(property, copyValue(sourceAccessor.getProperty(property), property));
+		});
+
+		return accessor.getBean();
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Object copyValue(@Nullable Object value, RelationalPersistentProperty property) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+			return copyPrimitiveArray(value);
+		}
+
+		if (value.getClass().isArray()) {
+
+			Object[] source = (Object[]) value;
+			Object[] copy = (Object[]) Array.newInstance(value.getClass().getComponentType(), source.length);
+			for (int i = 0; i < source.length; i++) {
+				copy[i] = copyElement(source[i], property);
+			}
+
+			return copy;
+		}
+
+		if (value instanceof Collection) {
+
+			Collection<Object> source = (Collection<Object>) value;
+			Collection<Object> copy = CollectionFactory.createCollection(getTargetType(value, property), source.size());
+			source.forEach(element -> copy.add(copyElement(element, property)));
+
+			return copy;
+		}
+
+		if (value instanceof Map) {
+
+			Map<Object, Object> source = (Map<Object, Object>) value;
+			Map<Object, Object> copy = CollectionFactory.createMap(getTargetType(value, property), source.size());
+			source.forEach((key, element) -> copy.put(key, copyElement(element, property)));
+
+			return copy;
+		}
+
+		return copyElement(value, property);
+	}
+
+	@Nullable
+	private Object copyElement(@Nullable Object value, RelationalPersistentProperty property) {
+
+		if (value == null) {
+			return null;
+		}
+
+		RelationalPersistentEntity<?> entity = property.isEntity() ? context.getPersistentEntity(value.getClass()) : null;
+		if (entity != null) {
+			return copyEntity(value, entity);
+		}
+
+		if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+
+		if (value.getClass().isArray() && value.getClass().getComponentType().isPrimitive()) {
+			return copyPrimitiveArray(value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the declared type of the property, unless it can't hold the given value, e.g. because it is
+	 * {@link Object}.
+	 */
+	private static Class<?> getTargetType(Object value, RelationalPersistentProperty property) {
+
+		Class<?> type = property.getType();
+
+		if (value instanceof Collection && Collection.class.isAssignableFrom(type)) {
+			return type;
+		}
+
+		if (value instanceof Map && Map.class.isAssignableFrom(type)) {
+			return type;
+		}
+
+		return value instanceof Collection ? Collection.class : Map.class;
+	}
+
+	private static Object copyPrimitiveArray(Object array) {
+
+		int length = Array.getLength(array);
+		Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+		System.arraycopy(array, 0, copy, 0, length);
+
+		return copy;
+	}
+}
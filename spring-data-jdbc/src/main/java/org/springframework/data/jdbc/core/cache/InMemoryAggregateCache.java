@@ -0,0 +1,376 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AggregateCache} keeping aggregates in memory. Only aggregate types registered via
+ * {@link #register(Class, int, Duration)} get cached, each in a region of its own with a maximum number of aggregates,
+ * evicting the least recently used ones, and a time to live.
+ * <p>
+ * Aggregates evicted within a transaction with active synchronization are locked until the transaction completes: they
+ * are neither served from nor put into the cache, neither by the writing transaction nor by others, and get evicted
+ * once more after completion. Loads that were running while an aggregate of the same type got evicted don't get cached
+ * either, as they might have read the state before the write.
+ * <p>
+ * Aggregates are copied when they get cached and every time they are served from the cache, so each caller gets an
+ * instance of its own, including all entities and collections of the aggregate. Copies get created through the
+ * {@link RelationalConverter}.
+ *
+ * @since 2.1
+ */
+public class InMemoryAggregateCache implements AggregateCache {
+
+	private final Map<Class<?>, Region> regions = new ConcurrentHashMap<>();
+	private final AggregateCopier copier;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new {@link InMemoryAggregateCache}.
+	 *
+	 * @param converter used to copy aggregates. Must not be {@literal null}.
+	 */
+	public InMemoryAggregateCache(RelationalConverter converter) {
+		this.copier = new AggregateCopier(converter);
+	}
+
+	/**
+	 * Enables caching of aggregates of the given type.
+	 *
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param maximumSize the maximum number of cached aggregates of the type. Must be greater than {@literal 0}.
+	 * @param timeToLive the duration after which a cached aggregate expires. Must not be {@literal null} and must be
+	 *          positive.
+	 */
+	public void register(Class<?> domainType, int maximumSize, Duration timeToLive) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+		regions.put(domainType, new Region(maximumSize, timeToLive.toMillis()));
+	}
+
+	/**
+	 * Configures the {@link Clock} used to expire cached aggregates. Defaults to {@link Clock#systemUTC()}.
+	 *
+	 * @param clock must not be {@literal null}.
+	 */
+	public void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#get(java.lang.Object, java.lang.Class, java.util.function.Supplier)
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object id, Class<T> domainType, Supplier<T> loader) {
+
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		Region region = getRegion(domainType);
+
+		if (region == null) {
+			return loader.get();
+		}
+
+		Object cached = region.get(id, clock.millis());
+		if (cached != null) {
+			return (T) copier.copy(cached);
+		}
+
+		long generation = region.getGeneration();
+		T loaded = loader.get();
+
+		if (loaded != null) {
+			region.put(id, copier.copy(loaded), generation, clock.millis());
+		}
+
+		return loaded;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#getAll(java.util.Collection, java.lang.Class, java.util.function.Function)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Collection<T> getAll(Collection<?> ids, Class<T> domainType,
+			Function<Collection<Object>, Map<Object, T>> loader) {
+
+		Assert.notNull(ids, "Ids must not be null");
+		Assert.notNull(loader, "Loader must not be null");
+
+		Region region = getRegion(domainType);
+
+		if (region == null) {
+			return loader.apply(new ArrayList<>(ids)).values();
+		}
+
+		List<T> result = new ArrayList<>(ids.size());
+		Set<Object> missing = new LinkedHashSet<>();
+
+		long now = clock.millis();
+		for (Object id : new LinkedHashSet<>(ids)) {
+
+			Object cached = region.get(id, now);
+			if (cached != null) {
+				result.add((T) copier.copy(cached));
+			} else {
+				missing.add(id);
+			}
+		}
+
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		long generation = region.getGeneration();
+		Map<Object, T> loaded = loader.apply(missing);
+
+		now = clock.millis();
+		for (Map.Entry<Object, T> entry : loaded.entrySet()) {
+
+			region.put(entry.getKey(), copier.copy(entry.getValue()), generation, now);
+			result.add(entry.getValue());
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evict(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public void evict(Object id, Class<?> domainType) {
+
+		Assert.notNull(id, "Id must not be null");
+
+		Region region = getRegion(domainType);
+
+		if (region == null) {
+			return;
+		}
+
+		Set<Object> lockedIds = getTransactionalLocks(region);
+
+		if (lockedIds == null) {
+			region.evict(id);
+		} else if (lockedIds.add(id)) {
+			region.lock(id);
+		} else {
+			region.evict(id);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.cache.AggregateCache#evictAll(java.lang.Class)
+	 */
+	@Override
+	public void evictAll(Class<?> domainType) {
+
+		Region region = getRegion(domainType);
+
+		if (region == null) {
+			return;
+		}
+
+		Set<Object> lockedIds = getTransactionalLocks(region);
+
+		if (lockedIds == null) {
+			region.evictAll();
+		} else if (lockedIds.add(Region.ALL)) {
+			region.lock(Region.ALL);
+		} else {
+			region.evictAll();
+		}
+	}
+
+	@Nullable
+	private Region getRegion(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		return regions.get(domainType);
+	}
+
+	/**
+	 * Returns the ids locked by the current transaction in the given region, registering a synchronization releasing the
+	 * locks once the transaction completes.
+	 *
+	 * @return {@literal null} if there is no transaction with active synchronization.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Set<Object> getTransactionalLocks(Region region) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<Region, Set<Object>> locks = (Map<Region, Set<Object>>) TransactionSynchronizationManager.getResource(this);
+
+		if (locks == null) {
+
+			Map<Region, Set<Object>> newLocks = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(this, newLocks);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryAggregateCache.this);
+					newLocks.forEach((lockedRegion, ids) -> ids.forEach(lockedRegion::unlock));
+				}
+			});
+
+			locks = newLocks;
+		}
+
+		return locks.computeIfAbsent(region, it -> new HashSet<>());
+	}
+
+	/**
+	 * The cached aggregates of a single type. Every eviction increments the generation of the region, which gets compared
+	 * before caching a loaded aggregate, so aggregates loaded concurrently to a write don't get cached.
+	 */
+	private static class Region {
+
+		/**
+		 * Lock key for evictions of all aggregates of a region.
+		 */
+		static final Object ALL = new Object();
+
+		private final Map<Object, Entry> entries;
+		private final Map<Object, Integer> locks = new HashMap<>();
+		private final long timeToLive;
+
+		private long generation;
+
+		Region(int maximumSize, long timeToLive) {
+
+			this.entries = new LinkedHashMap<Object, Entry>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+					return size() > maximumSize;
+				}
+			};
+			this.timeToLive = timeToLive;
+		}
+
+		@Nullable
+		synchronized Object get(Object id, long now) {
+
+			Entry entry = entries.get(id);
+
+			if (entry == null) {
+				return null;
+			}
+
+			if (entry.expiresAt <= now) {
+
+				entries.remove(id);
+				return null;
+			}
+
+			return entry.value;
+		}
+
+		synchronized long getGeneration() {
+			return generation;
+		}
+
+		synchronized void put(Object id, Object value, long loadedInGeneration, long now) {
+
+			if (loadedInGeneration != generation || locks.containsKey(id) || locks.containsKey(ALL)) {
+				return;
+			}
+
+			entries.put(id, new Entry(value, now + timeToLive));
+		}
+
+		synchronized void evict(Object id) {
+
+			generation++;
+
+			if (id == ALL) {
+				entries.clear();
+			} else {
+				entries.remove(id);
+			}
+		}
+
+		void evictAll() {
+			evict(ALL);
+		}
+
+		synchronized void lock(Object id) {
+
+			evict(id);
+			locks.merge(id, 1, Integer::sum);
+		}
+
+		synchronized void unlock(Object id) {
+
+			evict(id);
+			locks.computeIfPresent(id, (key, count) -> count == 1 ? null : count - 1);
+		}
+	}
+
+	private static class Entry {
+
+		private final Object value;
+		private final long expiresAt;
+
+		Entry(Object value, long expiresAt) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the results of repository query methods annotated with
+ * {@link org.springframework.data.jdbc.repository.query.CachedResult} in memory, up to a maximum number of results,
+ * evicting the least recently used ones, and for a time to live. Each result is associated with the tables read by its
+ * query and gets invalidated as soon as one of these tables gets written by an aggregate change.
+ * <p>
+ * Tables invalidated within a transaction with active synchronization are locked until the transaction completes: no
+ * results reading them are served from or put into the cache, neither for the writing transaction nor for others, and
+ * they get invalidated once more after completion. Results of queries that were running while one of their tables got
+ * invalidated don't get cached either, as they might have read the state before the write.
+ * <p>
+ * Results are indexed by the tables they read, so an invalidation only touches the results of the tables written.
+ * Lookups and invalidations of different tables don't block each other.
+ *
+ * @since 2.1
+ */
+public class QueryResultCache {
+
+	private static final Object NULL = new Object();
+
+	private final int maximumSize;
+	private final long timeToLive;
+
+	private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Table> tables = new ConcurrentHashMap<>();
+
+	/**
+	 * State of invalidations of all tables, e.g. by {@link #invalidateAll()}.
+	 */
+	private final Table all = new Table();
+
+	/**
+	 * Keys of the cached results, least recently used first.
+	 */
+	private final ConcurrentLinkedDeque<Object> accessOrder = new ConcurrentLinkedDeque<>();
+	private final ReadWriteLock accessOrderLock = new ReentrantReadWriteLock();
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Creates a new {@link QueryResultCache}.
+	 *
+	 * @param maximumSize the maximum number of cached results. Must be greater than {@literal 0}.
+	 * @param timeToLive the duration after which a cached result expires. Must not be {@literal null} and must be
+	 *          positive.
+	 */
+	public QueryResultCache(int maximumSize, Duration timeToLive) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than 0");
+		Assert.notNull(timeToLive, "Time to live must not be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "Time to live must be positive");
+
+		this.maximumSize = maximumSize;
+		this.timeToLive = timeToLive.toMillis();
+	}
+
+	/**
+	 * Configures the {@link Clock} used to expire cached results. Defaults to {@link Clock#systemUTC()}.
+	 *
+	 * @param clock must not be {@literal null}.
+	 */
+	public void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the result cached for the given key, executing the query and caching its result if there is none.
+	 *
+	 * @param key identifies the query and its arguments. Must not be {@literal null}.
+	 * @param tables the tables read by the query. Must not be {@literal null}.
+	 * @param query executes the query. Must not be {@literal null}.
+	 * @return the result of the query. May be {@literal null}.
+	 */
+	@Nullable
+	public Object get(Object key, Collection<SqlIdentifier> tables, Supplier<?> query) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(tables, "Tables must not be null");
+		Assert.notNull(query, "Query must not be null");
+
+		Object cached = getCached(key, clock.millis());
+		if (cached != null) {
+			return cached == NULL ? null : cached;
+		}
+
+		List<Table> tablesRead = getTables(normalize(tables));
+		long loadedInGeneration = getGeneration(tablesRead);
+		Object result = query.get();
+
+		put(key, tablesRead, result, loadedInGeneration, clock.millis());
+
+		return result;
+	}
+
+	/**
+	 * Invalidates all results read from any of the given tables because they got written. If a transaction is active,
+	 * no results reading these tables get cached until the transaction completes.
+	 *
+	 * @param tables the tables written. Must not be {@literal null}.
+	 */
+	public void invalidate(Collection<SqlIdentifier> tables) {
+
+		Assert.notNull(tables, "Tables must not be null");
+
+		Set<String> names = normalize(tables);
+
+		if (!names.isEmpty()) {
+			invalidateOrLock(getTables(names));
+		}
+	}
+
+	/**
+	 * Invalidates all results, e.g. because tables unknown to the cache got written. If a transaction is active, no
+	 * results get cached until the transaction completes.
+	 */
+	public void invalidateAll() {
+		invalidateOrLock(Collections.singletonList(all));
+	}
+
+	private void invalidateOrLock(List<Table> tables) {
+
+		Set<Table> lockedTables = getTransactionalLocks();
+
+		for (Table table : tables) {
+
+			if (lockedTables != null && lockedTables.add(table)) {
+				lock(table);
+			} else {
+				evict(table);
+			}
+		}
+	}
+
+	/**
+	 * Returns the tables locked by the current transaction, registering a synchronization releasing the locks once the
+	 * transaction completes.
+	 *
+	 * @return {@literal null} if there is no transaction with active synchronization.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Set<Table> getTransactionalLocks() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Set<Table> lockedTables = (Set<Table>) TransactionSynchronizationManager.getResource(this);
+
+		if (lockedTables == null) {
+
+			Set<Table> newLockedTables = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, newLockedTables);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					TransactionSynchronizationManager.unbindResourceIfPossible(QueryResultCache.this);
+					newLockedTables.forEach(QueryResultCache.this::unlock);
+				}
+			});
+
+			lockedTables = newLockedTables;
+		}
+
+		return lockedTables;
+	}
+
+	private List<Table> getTables(Set<String> names) {
+
+		List<Table> result = new ArrayList<>(names.size());
+		for (String name : names) {
+			result.add(tables.computeIfAbsent(name, it -> new Table()));
+		}
+
+		return result;
+	}
+
+	@Nullable
+	private Object getCached(Object key, long now) {
+
+		Entry entry = entries.get(key);
+
+		if (entry == null) {
+			return null;
+		}
+
+		if (entry.expiresAt <= now || isLocked(entry.tables)) {
+
+			remove(key, entry);
+			return null;
+		}
+
+		accessOrderLock.readLock().lock();
+		try {
+			if (accessOrder.removeLastOccurrence(key)) {
+				accessOrder.offer(key);
+			}
+		} finally {
+			accessOrderLock.readLock().unlock();
+		}
+
+		return entry.value;
+	}
+
+	/**
+	 * Sums up the generations of the given tables and of all tables. Generations only ever increase, so the sum changes
+	 * with every invalidation of any of these tables.
+	 */
+	private long getGeneration(List<Table> tables) {
+
+		long generation = all.generation.get();
+		for (Table table : tables) {
+			generation += table.generation.get();
+		}
+
+		return generation;
+	}
+
+	private void put(Object key, List<Table> tables, @Nullable Object result, long loadedInGeneration, long now) {
+
+		if (isLocked(tables) || getGeneration(tables) != loadedInGeneration) {
+			return;
+		}
+
+		Entry entry = new Entry(result == null ? NULL : result, tables, now + timeToLive);
+
+		accessOrderLock.writeLock().lock();
+		try {
+
+			Entry previous = entries.put(key, entry);
+			if (previous != null) {
+
+				previous.tables.forEach(table -> table.keys.remove(key));
+				accessOrder.removeLastOccurrence(key);
+			}
+			tables.forEach(table -> table.keys.add(key));
+			accessOrder.offer(key);
+
+			while (entries.size() > maximumSize) {
+
+				Object eldest = accessOrder.poll();
+				if (eldest == null) {
+					break;
+				}
+				removeIndexed(eldest);
+			}
+		} finally {
+			accessOrderLock.writeLock().unlock();
+		}
+
+		// the entry is indexed by now, so an invalidation racing with this put either removed it or incremented the
+		// generation of one of the tables.
+		if (isLocked(tables) || getGeneration(tables) != loadedInGeneration) {
+			remove(key, entry);
+		}
+	}
+
+	private boolean isLocked(List<Table> tables) {
+
+		if (all.locks.get() > 0) {
+			return true;
+		}
+
+		for (Table table : tables) {
+			if (table.locks.get() > 0) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void evict(Table table) {
+
+		table.generation.incrementAndGet();
+
+		accessOrderLock.writeLock().lock();
+		try {
+
+			if (table == all) {
+
+				entries.clear();
+				accessOrder.clear();
+				tables.values().forEach(it -> it.keys.clear());
+				return;
+			}
+
+			for (Object key : table.keys) {
+
+				removeIndexed(key);
+				accessOrder.remove(key);
+			}
+		} finally {
+			accessOrderLock.writeLock().unlock();
+		}
+	}
+
+	private void lock(Table table) {
+
+		table.locks.incrementAndGet();
+		evict(table);
+	}
+
+	private void unlock(Table table) {
+
+		evict(table);
+		table.locks.decrementAndGet();
+	}
+
+	private void remove(Object key, Entry entry) {
+
+		accessOrderLock.writeLock().lock();
+		try {
+
+			if (entries.remove(key, entry)) {
+
+				entry.tables.forEach(table -> table.keys.remove(key));
+				accessOrder.remove(key);
+			}
+		} finally {
+			accessOrderLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes the entry of the given key and its index entries, but not its position in {@link #accessOrder}.
+	 */
+	private void removeIndexed(Object key) {
+
+		Entry entry = entries.remove(key);
+
+		if (entry != null) {
+			entry.tables.forEach(table -> table.keys.remove(key));
+		}
+	}
+
+	/**
+	 * Tables get compared by name, ignoring case and quoting, which might invalidate more results than necessary but
+	 * never too few.
+	 */
+	private static Set<String> normalize(Collection<SqlIdentifier> tables) {
+
+		Set<String> names = new HashSet<>(tables.size());
+		for (SqlIdentifier table : tables) {
+			names.add(table.toSql(IdentifierProcessing.NONE).toLowerCase(Locale.ROOT));
+		}
+
+		return names;
+	}
+
+	/**
+	 * Invalidation state of a table: the keys of the results reading it, the number of transactions holding a lock on it
+	 * and a generation incremented by every invalidation.
+	 */
+	private static class Table {
+
+		private final Set<Object> keys = ConcurrentHashMap.newKeySet();
+		private final AtomicInteger locks = new AtomicInteger();
+		private final AtomicLong generation = new AtomicLong();
+	}
+
+	private static class Entry {
+
+		private final Object value;
+		private final List<Table> tables;
+		private final long expiresAt;
+
+		Entry(Object value, List<Table> tables, long expiresAt) {
+
+			this.value = value;
+			this.tables = tables;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Folds the rows of a {@link ResultSet} containing complete aggregates into aggregate roots. The {@link ResultSet} is
+ * expected to be the result of a statement as created by {@link SqlGenerator#getFindAllAggregate()}: all tables of the
+ * aggregate are joined to the table of the aggregate root, so a single aggregate spans multiple rows and an element of
+ * a collection appears in multiple rows when sibling collections multiply each other.
+ * <p>
+ * Aggregate roots get identified by their id, elements of collections and maps by their id or, for lists and maps, by
+ * their index or key within the entity owning them. Each of them gets mapped once, on its first occurrence. Collections
+ * and maps get set on the entities owning them after the complete {@link ResultSet} is consumed.
+ *
+ * @since 2.1
+ * @see SqlGenerator#isAggregateSelectSupported()
+ */
+class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	private final JdbcConverter converter;
+	private final IdentifierProcessing identifierProcessing;
+
+	private final PersistentPropertyPathExtension rootPath;
+	private final String rootIdLabel;
+	private final List<CollectionPath> collectionPaths = new ArrayList<>();
+	private final Map<String, CollectionPath> collectionPathsByDotPath = new HashMap<>();
+
+	/**
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param entity the aggregate root. Must not be {@literal null} and must have an id.
+	 * @param converter the converter used for mapping rows. Must not be {@literal null}.
+	 * @param identifierProcessing used for converting aliases to column labels. Must not be {@literal null}.
+	 */
+	AggregateResultSetExtractor(RelationalMappingContext context, RelationalPersistentEntity<T> entity,
+			JdbcConverter converter, IdentifierProcessing identifierProcessing) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(identifierProcessing, "IdentifierProcessing must not be null");
+
+		this.converter = converter;
+		this.identifierProcessing = identifierProcessing;
+
+		this.rootPath = context.getPersistentPropertyPathExtension(entity);
+		this.rootIdLabel = getLabel(rootPath.extendBy(entity.getRequiredIdProperty()).getColumnAlias());
+
+		List<PersistentPropertyPathExtension> paths = new ArrayList<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = context.getPersistentPropertyPathExtension(path);
+
+			if (extPath.isEntity() && !extPath.isEmbedded() && (extPath.isCollectionLike() || extPath.isQualified())) {
+				paths.add(extPath);
+			}
+		}
+
+		// owners get created, and later processed, before the collections they own
+		paths.sort(Comparator.comparingInt(PersistentPropertyPathExtension::getLength));
+		for (PersistentPropertyPathExtension path : paths) {
+
+			CollectionPath collectionPath = new CollectionPath(path);
+			collectionPaths.add(collectionPath);
+			collectionPathsByDotPath.put(path.getRequiredPersistentPropertyPath().toDotPath(), collectionPath);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		Map<Object, Node> roots = new LinkedHashMap<>();
+		Map<CollectionPath, Node> nodesOfRow = new HashMap<>();
+		RowSource rowSource = new RowSource(resultSet);
+
+		int rowNumber = 0;
+		while (resultSet.next()) {
+
+			Object rootId = resultSet.getObject(rootIdLabel);
+
+			Node root = roots.get(rootId);
+			if (root == null) {
+
+				root = new Node(null, rootPath, rowSource, rowNumber);
+				roots.put(rootId, root);
+			}
+
+			nodesOfRow.clear();
+			for (CollectionPath collectionPath : collectionPaths) {
+
+				Node owner = collectionPath.owner == null ? root : nodesOfRow.get(collectionPath.owner);
+				if (owner == null) {
+					continue;
+				}
+
+				// null when the outer join didn't find an element
+				Object identity = resultSet.getObject(collectionPath.identityLabel);
+				if (identity == null) {
+					continue;
+				}
+
+				nodesOfRow.put(collectionPath, owner.getOrCreateChild(collectionPath, identity, rowSource));
+			}
+
+			rowNumber++;
+		}
+
+		List<T> result = new ArrayList<>(roots.size());
+		for (Node root : roots.values()) {
+			result.add((T) root.resolve());
+		}
+
+		return result;
+	}
+
+	private String getLabel(SqlIdentifier alias) {
+		return alias.getReference(identifierProcessing);
+	}
+
+	/**
+	 * A property path to a collection or map of entities, i.e. to a table that contributes multiple rows per entity
+	 * owning it.
+	 */
+	private class CollectionPath {
+
+		private final PersistentPropertyPathExtension path;
+
+		/**
+		 * The closest collection path the elements of this path are nested in, {@literal null} if the elements belong to
+		 * the aggregate root.
+		 */
+		@Nullable private final CollectionPath owner;
+
+		/**
+		 * The properties leading from the element of the owner, or the aggregate root, to the collection or map.
+		 */
+		private final List<RelationalPersistentProperty> relativeProperties = new ArrayList<>();
+
+		/**
+		 * The label of the column telling elements of the same owner apart: the list index or map key if present, the id
+		 * otherwise.
+		 */
+		private final String identityLabel;
+
+		private CollectionPath(PersistentPropertyPathExtension path) {
+
+			this.path = path;
+			this.owner = findOwner(path);
+
+			int ownerLength = owner == null ? 0 : owner.path.getLength();
+			int index = 0;
+			for (RelationalPersistentProperty property : path.getRequiredPersistentPropertyPath()) {
+				if (index++ >= ownerLength) {
+					relativeProperties.add(property);
+				}
+			}
+
+			RelationalPersistentEntity<?> elementEntity = path.getLeafEntity();
+
+			Assert.state(elementEntity != null, "The path must point to an entity");
+
+			SqlIdentifier identityAlias = path.isQualified() //
+					? path.getQualifierColumnAlias() //
+					: path.extendBy(elementEntity.getRequiredIdProperty()).getColumnAlias();
+
+			Assert.state(identityAlias != null, "Elements of a collection must be identifiable");
+
+			this.identityLabel = getLabel(identityAlias);
+		}
+
+		@Nullable
+		private CollectionPath findOwner(PersistentPropertyPathExtension path) {
+
+			for (PersistentPropertyPathExtension parentPath = path.getParentPath(); parentPath.getLength() > 0; parentPath = parentPath
+					.getParentPath()) {
+
+				CollectionPath candidate = collectionPathsByDotPath
+						.get(parentPath.getRequiredPersistentPropertyPath().toDotPath());
+				if (candidate != null) {
+					return candidate;
+				}
+			}
+
+			return null;
+		}
+	}
+
+	/**
+	 * The {@link ResultSet} being extracted. Mapping with a {@link BasicJdbcConverter} reuses a single
+	 * {@link ResultSetAccessor}, so the columns get indexed once for all rows.
+	 */
+	private class RowSource {
+
+		private final ResultSet resultSet;
+		@Nullable private final ResultSetAccessor accessor;
+
+		private RowSource(ResultSet resultSet) {
+
+			this.resultSet = resultSet;
+			this.accessor = converter instanceof BasicJdbcConverter ? new ResultSetAccessor(resultSet) : null;
+		}
+
+		private Object mapAggregateRow(PersistentPropertyPathExtension path, Object key,
+				RelationResolver relationResolver) {
+
+			return accessor != null //
+					? ((BasicJdbcConverter) converter).mapAggregateRow(path, accessor, key, relationResolver) //
+					: converter.mapAggregateRow(path, resultSet, key, relationResolver);
+		}
+	}
+
+	/**
+	 * An aggregate root or an element of a collection or map, together with the elements of collections and maps it
+	 * owns.
+	 */
+	private class Node {
+
+		@Nullable private final CollectionPath collectionPath;
+		private final Object key;
+		private final Object instance;
+
+		/**
+		 * Dot paths of the collections and maps the converter requested while mapping the instance.
+		 */
+		private final Set<String> requestedPaths = new LinkedHashSet<>();
+		private final Map<CollectionPath, Map<Object, Node>> children = new HashMap<>();
+
+		private Node(@Nullable CollectionPath collectionPath, PersistentPropertyPathExtension path, RowSource rowSource,
+				Object key) {
+
+			this.collectionPath = collectionPath;
+			this.key = key;
+			this.instance = rowSource.mapAggregateRow(path, key, (identifier, propertyPath) -> {
+
+				requestedPaths.add(propertyPath.toDotPath());
+				return Collections.emptyList();
+			});
+		}
+
+		private Node getOrCreateChild(CollectionPath collectionPath, Object identity, RowSource rowSource) {
+
+			Map<Object, Node> nodes = children.computeIfAbsent(collectionPath, p -> new LinkedHashMap<>());
+
+			Node child = nodes.get(identity);
+			if (child == null) {
+
+				child = new Node(collectionPath, collectionPath.path, rowSource, identity);
+				nodes.put(identity, child);
+			}
+
+			return child;
+		}
+
+		/**
+		 * Sets the collections and maps on the instance, resolving the elements recursively.
+		 *
+		 * @return the instance or, if it can't be modified, a new instance.
+		 */
+		private Object resolve() {
+
+			Object bean = instance;
+
+			for (String requestedPath : requestedPaths) {
+
+				CollectionPath childPath = collectionPathsByDotPath.get(requestedPath);
+				if (childPath == null || childPath.owner != collectionPath) {
+					continue;
+				}
+
+				List<Object> values = new ArrayList<>();
+				for (Node child : getChildren(childPath)) {
+
+					Object value = child.resolve();
+					values.add(childPath.path.isMap() ? new SimpleEntry<>(child.key, value) : value);
+				}
+
+				bean = DeferredRelationResolver.setRelation(converter, bean, childPath.relativeProperties, values);
+			}
+
+			return bean;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private Collection<Node> getChildren(CollectionPath childPath) {
+
+			Map<Object, Node> nodes = children.getOrDefault(childPath, Collections.emptyMap());
+
+			if (!childPath.path.isOrdered()) {
+				return nodes.values();
+			}
+
+			List<Node> ordered = new ArrayList<>(nodes.values());
+			ordered.sort(Comparator.comparing(node -> (Comparable) node.key));
+
+			return ordered;
+		}
+	}
+}
@@ -21,17 +21,23 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.jdbc.core.convert.EntityReadPlan.Kind;
+import org.springframework.data.jdbc.core.convert.EntityReadPlan.PropertyPlan;
+import org.springframework.data.jdbc.core.convert.ResultSetAccessor.ColumnIndex;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
-import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
@@ -70,6 +76,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private final RelationResolver relationResolver;
 
+	private final Map<RelationalPersistentEntity<?>, EntityReadPlan<?>> entityReadPlans = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPathExtension, EntityReadPlan<?>> pathReadPlans = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPathExtension, EntityReadPlan<?>> aggregateReadPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext} and a
 	 * {@link JdbcTypeFactory#unsupported() no-op type factory} throwing {@link UnsupportedOperationException} on type
@@ -152,6 +162,24 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		return JdbcUtil.sqlTypeFor(getColumnType(property));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#isAggregateRowMappingSupported()
+	 */
+	@Override
+	public boolean isAggregateRowMappingSupported() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#isArrayCreationSupported()
+	 */
+	@Override
+	public boolean isArrayCreationSupported() {
+		return typeFactory.isArrayCreationSupported();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#getColumnType(org.springframework.data.relational.core.mapping.RelationalPersistentProperty)
@@ -324,178 +352,269 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
-		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+		return mapRow(entity, resultSet, key, relationResolver);
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return mapRow(path, resultSet, identifier, key, relationResolver);
 	}
 
-	private class ReadingContext<T> {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.RelationalPersistentEntity, java.sql.ResultSet, java.lang.Object, org.springframework.data.jdbc.core.convert.RelationResolver)
+	 */
+	@Override
+	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
 
-		private final RelationalPersistentEntity<T> entity;
+		return mapRow(entity, new ResultSetAccessor(resultSet), key, relationResolver);
+	}
 
-		private final PersistentPropertyPathExtension rootPath;
-		private final PersistentPropertyPathExtension path;
-		private final Identifier identifier;
-		private final Object key;
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, org.springframework.data.jdbc.core.convert.Identifier, java.lang.Object, org.springframework.data.jdbc.core.convert.RelationResolver)
+	 */
+	@Override
+	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+
+		return mapRow(path, new ResultSetAccessor(resultSet), identifier, key, relationResolver);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapAggregateRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, java.lang.Object, org.springframework.data.jdbc.core.convert.RelationResolver)
+	 */
+	@Override
+	public <T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapAggregateRow(path, new ResultSetAccessor(resultSet), key, relationResolver);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)} reading from a
+	 * {@link ResultSetAccessor}, which may be reused for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key) {
+		return mapRow(entity, accessor, key, relationResolver);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)} reading from a
+	 * {@link ResultSetAccessor}, which may be reused for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Identifier identifier, Object key) {
+		return mapRow(path, accessor, identifier, key, relationResolver);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object, RelationResolver)} reading from a
+	 * {@link ResultSetAccessor}, which may be reused for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		EntityReadPlan<T> plan = getReadPlan(entityReadPlans, entity, it -> {
+
+			PersistentPropertyPathExtension path = PersistentPropertyPathExtension.of(getMappingContext(), it);
+			return new EntityReadPlan<>(identifierProcessing, path, path);
+		});
+
+		return new ReadingContext(accessor, Identifier.empty(), key, relationResolver).mapRow(plan);
+	}
 
-		private final JdbcPropertyValueProvider propertyValueProvider;
-		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
+	/**
+	 * Variant of {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object, RelationResolver)}
+	 * reading from a {@link ResultSetAccessor}, which may be reused for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
 
-		@SuppressWarnings("unchecked")
-		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
-				Object key) {
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		EntityReadPlan<T> plan = getReadPlan(pathReadPlans, path, it -> {
 
-			RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) rootPath.getLeafEntity();
+			RelationalPersistentEntity<?> entity = it.getLeafEntity();
 
 			Assert.notNull(entity, "The rootPath must point to an entity.");
 
-			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = new PersistentPropertyPathExtension(getMappingContext(), this.entity);
-			this.identifier = identifier;
-			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(identifierProcessing, path, accessor);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
-					accessor);
-		}
-
-		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
-				PersistentPropertyPathExtension path, Identifier identifier, Object key,
-				JdbcPropertyValueProvider propertyValueProvider,
-				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider) {
-			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = path;
-			this.identifier = identifier;
-			this.key = key;
-			this.propertyValueProvider = propertyValueProvider;
-			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
+			return new EntityReadPlan<>(identifierProcessing, it,
+					PersistentPropertyPathExtension.of(getMappingContext(), entity));
+		});
+
+		return new ReadingContext(accessor, identifier, key, relationResolver).mapRow(plan);
+	}
+
+	/**
+	 * Variant of {@link #mapAggregateRow(PersistentPropertyPathExtension, ResultSet, Object, RelationResolver)} reading
+	 * from a {@link ResultSetAccessor}, which may be reused for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Object key,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		EntityReadPlan<T> plan = getReadPlan(aggregateReadPlans, path,
+				it -> new EntityReadPlan<>(identifierProcessing, it, it));
+
+		return new ReadingContext(accessor, Identifier.empty(), key, relationResolver).mapRow(plan);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <K, T> EntityReadPlan<T> getReadPlan(Map<K, EntityReadPlan<?>> plans, K key,
+			Function<K, EntityReadPlan<?>> planFactory) {
+
+		EntityReadPlan<?> plan = plans.get(key);
+
+		if (plan == null) {
+			plan = plans.computeIfAbsent(key, planFactory);
 		}
 
-		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
-			return new ReadingContext<>(
-					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					rootPath.extendBy(property), path.extendBy(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property));
+		return (EntityReadPlan<T>) plan;
+	}
+
+	/**
+	 * Reads a single row by walking the {@link EntityReadPlan} of the entity to map and of the entities it embeds or
+	 * references.
+	 */
+	private class ReadingContext {
+
+		private final ResultSetAccessor accessor;
+		private final Identifier identifier;
+		private final Object key;
+		private final RelationResolver relationResolver;
+
+		private ReadingContext(ResultSetAccessor accessor, Identifier identifier, Object key,
+				RelationResolver relationResolver) {
+
+			this.accessor = accessor;
+			this.identifier = identifier;
+			this.key = key;
+			this.relationResolver = relationResolver;
 		}
 
-		T mapRow() {
+		<T> T mapRow(EntityReadPlan<T> plan) {
 
-			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			ColumnIndex columns = accessor.getColumnIndex(plan);
+			PropertyPlan idProperty = plan.getIdProperty();
 
-			Object idValue = idProperty == null ? null : readFrom(idProperty);
+			Object idValue = idProperty == null ? null : readFrom(plan, columns, idProperty);
 
-			return createInstanceInternal(idValue);
+			return createInstanceInternal(plan, columns, idValue);
 		}
 
-		private T populateProperties(T instance, @Nullable Object idValue) {
+		private <T> T populateProperties(EntityReadPlan<T> plan, ColumnIndex columns, T instance,
+				@Nullable Object idValue) {
 
-			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(entity, instance);
-			PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(plan.getEntity(), instance);
 
-			for (RelationalPersistentProperty property : entity) {
+			for (PropertyPlan property : plan.getProperties()) {
 
-				if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
+				if (property.isConstructorParameter()) {
 					continue;
 				}
 
 				// skip absent simple properties
-				if (isSimpleProperty(property)) {
-
-					if (!propertyValueProvider.hasProperty(property)) {
-						continue;
-					}
+				if (property.isSkipIfAbsent() && !columns.hasValue(property)) {
+					continue;
 				}
 
-				Object value = readOrLoadProperty(idValue, property);
-				propertyAccessor.setProperty(property, value);
+				Object value = readOrLoadProperty(plan, columns, idValue, property);
+				propertyAccessor.setProperty(property.getProperty(), value);
 			}
 
 			return propertyAccessor.getBean();
 		}
 
 		@Nullable
-		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
+		private Object readOrLoadProperty(EntityReadPlan<?> plan, ColumnIndex columns, @Nullable Object id,
+				PropertyPlan property) {
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+			switch (property.getKind()) {
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+				case RELATION:
 
-				return property.isMap() //
-						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
-						: allByPath;
+					Iterable<Object> allByPath = resolveRelation(plan, id, property);
 
-			} else if (property.isEmbedded()) {
-				return readEmbeddedEntityFrom(id, property);
-			} else {
-				return readFrom(property);
+					return property.getProperty().isMap() //
+							? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
+							: allByPath;
+
+				case EMBEDDED:
+					return readEmbeddedEntityFrom(plan, columns, id, property);
+
+				default:
+					return readFrom(plan, columns, property);
 			}
 		}
 
-		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
+		private Iterable<Object> resolveRelation(EntityReadPlan<?> plan, @Nullable Object id, PropertyPlan property) {
 
 			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+					? this.identifier.withPart(plan.getQualifierColumn(), key, Object.class) //
+					: Identifier.of(property.getReverseColumnName(), id, Object.class);
+
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path = property.getRelationPath();
+
+			// deferred relations get loaded for all entities at once and get recorded by the resolver
+			if (relationResolver instanceof DeferredRelationResolver) {
+				return relationResolver.findAllByPath(identifier, path);
+			}
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
-					.getRequiredPersistentPropertyPath();
+			Recording recording = JdbcFlightRecorder.relationResolution(path.getRequiredLeafProperty().getActualType())
+					.path(path);
+			Iterable<Object> result = relationResolver.findAllByPath(identifier, path);
+			recording.count(result).commit();
 
-			return relationResolver.findAllByPath(identifier, propertyPath);
+			return result;
 		}
 
 		/**
 		 * Read a single value or a complete Entity from the {@link ResultSet} passed as an argument.
 		 *
-		 * @param property the {@link RelationalPersistentProperty} for which the value is intended. Must not be
+		 * @param property the {@link PropertyPlan} of the property for which the value is intended. Must not be
 		 *          {@code null}.
 		 * @return the value read from the {@link ResultSet}. May be {@code null}.
 		 */
 		@Nullable
-		private Object readFrom(RelationalPersistentProperty property) {
+		private Object readFrom(EntityReadPlan<?> plan, ColumnIndex columns, PropertyPlan property) {
 
-			if (property.isEntity()) {
-				return readEntityFrom(property);
+			if (property.getKind() == Kind.ENTITY) {
+				return readEntityFrom(plan, columns, property);
 			}
 
-			Object value = propertyValueProvider.getPropertyValue(property);
+			Object value = columns.getObject(property);
 			return value != null ? readValue(value, property.getTypeInformation()) : null;
 		}
 
 		@Nullable
-		private Object readEmbeddedEntityFrom(@Nullable Object idValue, RelationalPersistentProperty property) {
+		private Object readEmbeddedEntityFrom(EntityReadPlan<?> plan, ColumnIndex columns, @Nullable Object idValue,
+				PropertyPlan property) {
 
-			ReadingContext<?> newContext = extendBy(property);
+			EntityReadPlan<?> embeddedPlan = plan.getNestedPlan(property);
+			ColumnIndex embeddedColumns = columns.extendBy(property);
 
-			if (shouldCreateEmptyEmbeddedInstance(property) || newContext.hasInstanceValues(idValue)) {
-				return newContext.createInstanceInternal(idValue);
+			if (property.getProperty().shouldCreateEmptyEmbedded()
+					|| hasInstanceValues(embeddedPlan, embeddedColumns, idValue)) {
+				return createInstanceInternal(embeddedPlan, embeddedColumns, idValue);
 			}
 
 			return null;
 		}
 
-		private boolean shouldCreateEmptyEmbeddedInstance(RelationalPersistentProperty property) {
-			return property.shouldCreateEmptyEmbedded();
-		}
-
-		private boolean hasInstanceValues(@Nullable Object idValue) {
-
-			RelationalPersistentEntity<?> persistentEntity = path.getLeafEntity();
+		private boolean hasInstanceValues(EntityReadPlan<?> plan, ColumnIndex columns, @Nullable Object idValue) {
 
-			Assert.state(persistentEntity != null, "Entity must not be null");
-
-			for (RelationalPersistentProperty embeddedProperty : persistentEntity) {
+			for (PropertyPlan embeddedProperty : plan.getProperties()) {
 
 				// if the embedded contains Lists, Sets or Maps we consider it non-empty
-				if (embeddedProperty.isQualified() || embeddedProperty.isReference()) {
+				if (embeddedProperty.containsReferences()) {
 					return true;
 				}
 
-				Object value = readOrLoadProperty(idValue, embeddedProperty);
+				Object value = readOrLoadProperty(plan, columns, idValue, embeddedProperty);
 				if (value != null) {
 					return true;
 				}
@@ -505,29 +624,30 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		}
 
 		@Nullable
-		@SuppressWarnings("unchecked")
-		private Object readEntityFrom(RelationalPersistentProperty property) {
+		private Object readEntityFrom(EntityReadPlan<?> plan, ColumnIndex columns, PropertyPlan property) {
 
-			ReadingContext<?> newContext = extendBy(property);
-			RelationalPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(property.getActualType());
-			RelationalPersistentProperty idProperty = entity.getIdProperty();
+			EntityReadPlan<?> entityPlan = plan.getNestedPlan(property);
+			ColumnIndex entityColumns = columns.extendBy(property);
+			PropertyPlan idProperty = entityPlan.getIdProperty();
 
 			Object idValue;
 
 			if (idProperty != null) {
-				idValue = newContext.readFrom(idProperty);
+				idValue = readFrom(entityPlan, entityColumns, idProperty);
 			} else {
-				idValue = backReferencePropertyValueProvider.getPropertyValue(property);
+				idValue = columns.getReverseColumnObject(property);
 			}
 
 			if (idValue == null) {
 				return null;
 			}
 
-			return newContext.createInstanceInternal(idValue);
+			return createInstanceInternal(entityPlan, entityColumns, idValue);
 		}
 
-		private T createInstanceInternal(@Nullable Object idValue) {
+		private <T> T createInstanceInternal(EntityReadPlan<T> plan, ColumnIndex columns, @Nullable Object idValue) {
+
+			RelationalPersistentEntity<T> entity = plan.getEntity();
 
 			T instance = createInstance(entity, parameter -> {
 
@@ -535,17 +655,10 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 				Assert.notNull(parameterName, "A constructor parameter name must not be null to be used with Spring Data JDBC");
 
-				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(parameterName);
-				return readOrLoadProperty(idValue, property);
+				return readOrLoadProperty(plan, columns, idValue, plan.getRequiredProperty(parameterName));
 			});
 
-			return entity.requiresPropertyPopulation() ? populateProperties(instance, idValue) : instance;
+			return entity.requiresPropertyPopulation() ? populateProperties(plan, columns, instance, idValue) : instance;
 		}
-
 	}
-
-	private boolean isSimpleProperty(RelationalPersistentProperty property) {
-		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
-	}
-
 }
@@ -16,15 +16,21 @@
 package org.springframework.data.jdbc.core.convert;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
  * Delegates each methods to the {@link DataAccessStrategy}s passed to the constructor in turn until the first that does
@@ -54,6 +60,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.insert(instance, domainType, identifier));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insert(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+		return collect(das -> das.insert(insertSubjects, domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -72,6 +87,25 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Set<SqlIdentifier> columns) {
+		return collect(das -> das.update(instance, domainType, columns));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return collect(das -> das.updateWithVersion(instance, domainType, previousVersion, columns));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -99,6 +133,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		collectVoid(das -> das.delete(rootId, propertyPath));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void delete(Object rootId, Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		collectVoid(das -> das.delete(rootId, id, propertyPath));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -162,6 +205,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return collect(das -> das.streamAll(domainType));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
@@ -181,6 +233,16 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAllByPath(identifier, path));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(java.util.Collection, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPath(Collection<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return collect(das -> das.findAllByPath(identifiers, path));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -208,6 +270,15 @@ public class CascadingDataAccessStrategy implements DataAccessStrategy {
 		return collect(das -> das.findAll(domainType, pageable));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.KeysetRequest)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+		return collect(das -> das.findAll(domainType, request));
+	}
+
 	private <T> T collect(Function<DataAccessStrategy, T> function) {
 
 		// Keep <T> as Eclipse fails to compile if <> is used.
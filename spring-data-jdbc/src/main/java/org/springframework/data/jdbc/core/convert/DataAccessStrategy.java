@@ -15,7 +15,11 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -23,13 +27,19 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
 
 /**
  * Abstraction for accesses to the database that should be implementable with a single SQL statement per method and
  * relates to a single entity as opposed to {@link JdbcAggregateOperations} which provides interactions related to
  * complete aggregates.
+ * <p>
+ * Implementations should report the statements they execute to the
+ * {@link org.springframework.data.jdbc.core.metrics.StatementCounter}, so they show up in the
+ * {@link org.springframework.data.jdbc.core.metrics.Measurement}s of the operations executing them.
  *
  * @author Jens Schauder
  * @author Tyler Van Gorder
@@ -53,6 +63,31 @@ public interface DataAccessStrategy extends RelationResolver {
 	@Nullable
 	<T> Object insert(T instance, Class<T> domainType, Identifier identifier);
 
+	/**
+	 * Inserts the data of multiple entities of the same type. Referenced entities don't get handled. Implementations may
+	 * execute the inserts as a JDBC batch, the default implementation inserts the entities one by one.
+	 *
+	 * @param insertSubjects the subjects to be inserted, each consisting of an instance and the {@link Identifier} to be
+	 *          considered for its insert. Must not be {@code null}.
+	 * @param domainType the type of the instances. Must not be {@code null}.
+	 * @param <T> the type of the instances.
+	 * @return the ids generated by the database, in the order of the subjects. Elements are {@code null} if no id got
+	 *         generated for the respective subject. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 * @see #insert(Object, Class, Identifier)
+	 */
+	default <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Object[] ids = new Object[insertSubjects.size()];
+		for (int i = 0; i < ids.length; i++) {
+
+			InsertSubject<T> insertSubject = insertSubjects.get(i);
+			ids[i] = insert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier());
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
 	 *
@@ -81,6 +116,43 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the given columns of a single entity in the database, leaving all other columns untouched. Referenced
+	 * entities don't get handled. The default implementation updates all columns.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param columns the names of the columns to update. Must contain at least one updateable column.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @since 2.1
+	 * @see #update(Object, Class)
+	 */
+	default <T> boolean update(T instance, Class<T> domainType, Set<SqlIdentifier> columns) {
+		return update(instance, domainType);
+	}
+
+	/**
+	 * Updates the given columns of a single entity in the database, leaving all other columns untouched, and enforces
+	 * optimistic record locking using the {@code previousVersion} property. Referenced entities don't get handled. The
+	 * default implementation updates all columns.
+	 *
+	 * @param instance the instance to save. Must not be {@code null}.
+	 * @param domainType the type of the instance to save. Must not be {@code null}.
+	 * @param previousVersion The previous version assigned to the instance being saved.
+	 * @param columns the names of the columns to update. Must contain at least one updateable column.
+	 * @param <T> the type of the instance to save.
+	 * @return whether the update actually updated a row.
+	 * @throws OptimisticLockingFailureException if the update fails to update at least one row assuming the the
+	 *           optimistic locking version check failed.
+	 * @since 2.1
+	 * @see #updateWithVersion(Object, Class, Number)
+	 */
+	default <T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return updateWithVersion(instance, domainType, previousVersion);
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -116,6 +188,21 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes the single entity identified by {@literal id} that is reachable via {@literal propertyPath} from the
+	 * instance identified by {@literal rootId}. Restricting the delete to the entities of that instance keeps entities
+	 * of other aggregates untouched, even if the id is only unique per aggregate. Does not handle cascading deletes. The
+	 * default implementation deletes by {@literal id} only, using {@link #delete(Object, Class)}.
+	 *
+	 * @param rootId Id of the root object on which the {@literal propertyPath} is based. Must not be {@code null}.
+	 * @param id the id of the entity to be deleted. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entity to be deleted. Must not be {@code null}.
+	 * @since 2.1
+	 */
+	default void delete(Object rootId, Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delete(id, propertyPath.getRequiredLeafProperty().getActualType());
+	}
+
 	/**
 	 * Deletes all entities of the given domain type.
 	 *
@@ -176,6 +263,20 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType);
 
+	/**
+	 * Loads all entities of the given type as a {@link Stream}. Implementations may map rows lazily while iterating the
+	 * {@link Stream}, keeping the underlying {@link java.sql.ResultSet} open until the {@link Stream} gets closed, so it
+	 * must be closed after use. The default implementation loads all entities using {@link #findAll(Class)}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
 	/**
 	 * Loads all entities that match one of the ids passed as an argument. It is not guaranteed that the number of ids
 	 * passed in matches the number of entities returned.
@@ -226,4 +327,20 @@ public interface DataAccessStrategy extends RelationResolver {
 	 * @since 2.0
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Loads the window of entities of the given type following the keys of the {@link KeysetRequest}, ordered by the
+	 * {@link KeysetRequest#getSort() Sort} of the request and the id. The default implementation throws an
+	 * {@link UnsupportedOperationException}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param request the keyset pagination information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support keyset pagination", getClass().getName()));
+	}
 }
@@ -18,35 +18,63 @@ package org.springframework.data.jdbc.core.convert;
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
 import org.springframework.data.jdbc.support.JdbcUtil;
-import org.springframework.data.mapping.PersistentProperty;
-import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
-import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.render.ParameterizedSql;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.JdbcUtils;
@@ -74,6 +102,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	private final Map<RelationalPersistentEntity<?>, EntityWritePlan<?>> writePlans = new ConcurrentHashMap<>();
+
+	private int relationBatchSize = 0;
+	private boolean singleQueryLoadingEnabled = false;
+	private int streamFetchSize = 0;
+	private boolean positionalBindMarkersEnabled = false;
+	private int inListChunkSize = 256;
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -98,6 +133,97 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures batch loading of the collections and maps referenced by aggregates. With a batch size greater than
+	 * {@literal 0}, the referenced entities of multiple parents are loaded with a single
+	 * {@code SELECT … WHERE back_reference IN (…)} statement per property path, binding at most {@literal batchSize}
+	 * parent ids per statement. Otherwise they are loaded with one statement per parent, which is the default.
+	 * <p>
+	 * Batch loading applies whenever multiple aggregates get loaded at once, i.e. to {@link #findAll(Class)},
+	 * {@link #findAllById(Iterable, Class)} and collection query methods.
+	 *
+	 * @param relationBatchSize the maximum number of parent ids bound to a single statement. {@literal 0} disables batch
+	 *          loading.
+	 * @since 2.1
+	 */
+	public void setRelationBatchSize(int relationBatchSize) {
+
+		Assert.isTrue(relationBatchSize >= 0, "Relation batch size must not be negative");
+
+		this.relationBatchSize = relationBatchSize;
+	}
+
+	/**
+	 * Configures loading complete aggregates with a single statement. When enabled, {@link #findById(Object, Class)},
+	 * {@link #findAll(Class)} and {@link #findAllById(Iterable, Class)} join all tables of an aggregate, including those
+	 * of referenced collections and maps, and fold the resulting rows into aggregates instead of issuing additional
+	 * statements per referenced collection. Disabled by default.
+	 * <p>
+	 * Since every row contains one combination of elements, aggregates with multiple large sibling collections result in
+	 * many rows. Aggregates that can't be selected with a single statement, e.g. because they contain a {@link java.util.Set} of
+	 * entities without id, get loaded as usual, and so do all aggregates if the {@link JdbcConverter} doesn't support
+	 * {@link JdbcConverter#isAggregateRowMappingSupported() mapping aggregate rows}.
+	 *
+	 * @param singleQueryLoadingEnabled whether to load aggregates with a single statement.
+	 * @since 2.1
+	 */
+	public void setSingleQueryLoadingEnabled(boolean singleQueryLoadingEnabled) {
+		this.singleQueryLoadingEnabled = singleQueryLoadingEnabled;
+	}
+
+	/**
+	 * Configures the fetch size used by {@link #streamAll(Class)}, i.e. the number of rows the JDBC driver should fetch
+	 * from the database at once while the returned {@link Stream} gets consumed. Referenced collections and maps get
+	 * loaded per aggregate while the {@link ResultSet} is still open, which some drivers don't support in combination
+	 * with streaming result sets. Defaults to {@literal 0}, which leaves the driver's default in place.
+	 *
+	 * @param streamFetchSize the fetch size. Must not be negative.
+	 * @since 2.1
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize >= 0, "Stream fetch size must not be negative");
+
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Configures executing the most frequently used statements with positional {@code ?} bind markers directly on
+	 * {@link NamedParameterJdbcOperations#getJdbcOperations() JdbcOperations}. This applies to inserting and updating
+	 * single entities, {@link #findById(Object, Class)}, {@link #existsById(Object, Class)}, deleting by id and loading
+	 * referenced collections and maps per parent. Their statements get rendered with positional bind markers once, so
+	 * they don't need to be parsed by {@link NamedParameterJdbcOperations} on every execution, which caches parsed
+	 * statements only up to a limited number. All other statements keep using named parameters. Disabled by default.
+	 *
+	 * @param positionalBindMarkersEnabled whether to execute statements with positional bind markers.
+	 * @since 2.1
+	 */
+	public void setPositionalBindMarkersEnabled(boolean positionalBindMarkersEnabled) {
+		this.positionalBindMarkersEnabled = positionalBindMarkersEnabled;
+	}
+
+	/**
+	 * Configures the maximum number of ids bound to a single {@code IN (…)} list by {@link #findAllById(Iterable, Class)}.
+	 * Larger numbers of ids get selected with multiple statements. Since every number of ids results in a distinct
+	 * statement, ids are bound in chunks of only a few sizes, growing by a factor of {@literal 4} from {@literal 16} up to
+	 * the maximum. The same applies to batch loading of referenced collections and maps, using the
+	 * {@link #setRelationBatchSize(int) relation batch size} as the maximum. Defaults to {@literal 256}.
+	 * <p>
+	 * Dialects {@link org.springframework.data.relational.core.dialect.ArrayColumns#isAnyComparisonSupported()
+	 * supporting} {@code = ANY(…)} comparisons against arrays bind all ids as a single array instead, provided the JDBC
+	 * type of the ids is known and the {@link JdbcConverter} is able to create arrays.
+	 *
+	 * @param inListChunkSize the maximum number of ids per statement. Must be greater than {@literal 0}.
+	 * @since 2.1
+	 */
+	public void setInListChunkSize(int inListChunkSize) {
+
+		Assert.isTrue(inListChunkSize > 0, "IN list chunk size must be greater than 0");
+
+		this.inListChunkSize = inListChunkSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#insert(java.lang.Object, java.lang.Class, java.util.Map)
@@ -105,30 +231,99 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> Object insert(T instance, Class<T> domainType, Identifier identifier) {
 
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+		SqlIdentifierParameterSource parameterSource = getInsertParameterSource(instance, persistentEntity, identifier);
+
+		return insert(sql(domainType), persistentEntity, parameterSource);
+	}
+
+	/**
+	 * Inserts the subjects using a JDBC batch per distinct {@code INSERT} statement. Subjects differing in the columns to
+	 * be inserted, e.g. because only some of them have an id, are part of different batches.
+	 * <p>
+	 * Generated ids can only be obtained for batches if the {@link org.springframework.data.relational.core.dialect.Dialect}
+	 * {@link org.springframework.data.relational.core.dialect.Dialect#supportsBatchGeneratedKeys() supports it}. Otherwise
+	 * subjects without an id are inserted one by one.
+	 *
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insert(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Assert.notNull(insertSubjects, "Insert subjects must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
 		SqlGenerator sqlGenerator = sql(domainType);
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				PersistentProperty::isIdProperty, getIdentifierProcessing());
+		SqlIdentifierParameterSource[] parameterSources = new SqlIdentifierParameterSource[insertSubjects.size()];
+		Map<Set<SqlIdentifier>, List<Integer>> batches = new LinkedHashMap<>();
 
-		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+		for (int i = 0; i < parameterSources.length; i++) {
 
-		Object idValue = getIdValueOrNull(instance, persistentEntity);
-		if (idValue != null) {
+			InsertSubject<T> insertSubject = insertSubjects.get(i);
+			parameterSources[i] = getInsertParameterSource(insertSubject.getInstance(), persistentEntity,
+					insertSubject.getIdentifier());
 
-			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+			batches.computeIfAbsent(new HashSet<>(parameterSources[i].getIdentifiers()), columns -> new ArrayList<>()).add(i);
 		}
 
-		KeyHolder holder = new GeneratedKeyHolder();
+		Object[] ids = new Object[parameterSources.length];
 
-		operations.update( //
-				sqlGenerator.getInsert(new HashSet<>(parameterSource.getIdentifiers())), //
-				parameterSource, //
-				holder //
-		);
+		batches.forEach((columns, indexes) -> {
 
-		return getIdFromHolder(holder, persistentEntity);
+			if (indexes.size() == 1) {
+
+				int index = indexes.get(0);
+				ids[index] = insert(sqlGenerator, persistentEntity, parameterSources[index]);
+				return;
+			}
+
+			String insertSql = sqlGenerator.getInsert(columns);
+			SqlParameterSource[] batch = indexes.stream().map(index -> parameterSources[index])
+					.toArray(SqlParameterSource[]::new);
+
+			boolean idGenerated = persistentEntity.hasIdProperty()
+					&& getIdValueOrNull(insertSubjects.get(indexes.get(0)).getInstance(), persistentEntity) == null;
+
+			if (!idGenerated) {
+
+				executeUpdate(domainType, "insert", insertSql, () -> operations.batchUpdate(insertSql, batch),
+						DefaultDataAccessStrategy::sumUpdateCounts);
+				return;
+			}
+
+			if (!sqlGeneratorSource.getDialect().supportsBatchGeneratedKeys()) {
+
+				for (Integer index : indexes) {
+					ids[index] = insert(sqlGenerator, persistentEntity, parameterSources[index]);
+				}
+				return;
+			}
+
+			BatchInsertResult result = executeUpdate(domainType, "insert", insertSql,
+					() -> batchUpdateReturningKeys(insertSql, batch), it -> sumUpdateCounts(it.updateCounts));
+			List<Map<String, Object>> keys = result.keys;
+
+			// no keys at all if the table doesn't generate any
+			if (keys.isEmpty()) {
+				return;
+			}
+
+			if (keys.size() != batch.length) {
+				throw new IncorrectResultSizeDataAccessException(
+						String.format("Expected one generated key per inserted row but got %d for %d rows", keys.size(),
+								batch.length),
+						batch.length, keys.size());
+			}
+
+			for (int i = 0; i < batch.length; i++) {
+				ids[indexes.get(i)] = getIdFromHolder(new GeneratedKeyHolder(Collections.singletonList(keys.get(i))),
+						persistentEntity);
+			}
+		});
+
+		return ids;
 	}
 
 	/*
@@ -138,9 +333,13 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <S> boolean update(S instance, Class<S> domainType) {
 
-		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
-		return operations.update(sql(domainType).getUpdate(),
-				getParameterSource(instance, persistentEntity, "", Predicates.includeAll(), getIdentifierProcessing())) != 0;
+		SqlGenerator sql = sql(domainType);
+		SqlIdentifierParameterSource parameterSource = getUpdateParameterSource(instance,
+				getRequiredPersistentEntity(domainType));
+
+		return (positionalBindMarkersEnabled //
+				? update(domainType, "update", sql.getUpdatePositional(), parameterSource) //
+				: update(domainType, "update", sql.getUpdate(), parameterSource)) != 0;
 	}
 
 	/*
@@ -149,15 +348,53 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion) {
+		return doUpdateWithVersion(instance, domainType, previousVersion, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Set<SqlIdentifier> columns) {
+
+		SqlGenerator sql = sql(domainType);
+		SqlIdentifierParameterSource parameterSource = getUpdateParameterSource(instance,
+				getRequiredPersistentEntity(domainType));
 
+		return (positionalBindMarkersEnabled //
+				? update(domainType, "update", sql.getUpdatePositional(columns), parameterSource) //
+				: update(domainType, "update", sql.getUpdate(columns), parameterSource)) != 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return doUpdateWithVersion(instance, domainType, previousVersion, columns);
+	}
+
+	private <S> boolean doUpdateWithVersion(S instance, Class<S> domainType, Number previousVersion,
+			@Nullable Set<SqlIdentifier> columns) {
+
+		SqlGenerator sql = sql(domainType);
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
 
 		// Adjust update statement to set the new version and use the old version in where clause.
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				Predicates.includeAll(), getIdentifierProcessing());
+		SqlIdentifierParameterSource parameterSource = getUpdateParameterSource(instance, persistentEntity);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		int affectedRows;
+		if (positionalBindMarkersEnabled) {
+			affectedRows = update(domainType, "updateWithVersion", columns == null ? sql.getUpdateWithVersionPositional()
+					: sql.getUpdateWithVersionPositional(columns), parameterSource);
+		} else {
+			affectedRows = update(domainType, "updateWithVersion",
+					columns == null ? sql.getUpdateWithVersion() : sql.getUpdateWithVersion(columns), parameterSource);
+		}
 
 		if (affectedRows == 0) {
 
@@ -175,10 +412,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public void delete(Object id, Class<?> domainType) {
 
-		String deleteByIdSql = sql(domainType).getDeleteById();
+		SqlGenerator sql = sql(domainType);
 		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.update(deleteByIdSql, parameter);
+		if (positionalBindMarkersEnabled) {
+			update(domainType, "delete", sql.getDeleteByIdPositional(), parameter);
+		} else {
+			update(domainType, "delete", sql.getDeleteById(), parameter);
+		}
 	}
 
 	/*
@@ -192,9 +433,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
+		SqlGenerator sql = sql(domainType);
 		SqlIdentifierParameterSource parameterSource = createIdParameterSource(id, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		int affectedRows = positionalBindMarkersEnabled //
+				? update(domainType, "deleteWithVersion", sql.getDeleteByIdAndVersionPositional(), parameterSource) //
+				: update(domainType, "deleteWithVersion", sql.getDeleteByIdAndVersion(), parameterSource);
 
 		if (affectedRows == 0) {
 			throw new OptimisticLockingFailureException(
@@ -219,7 +463,25 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(getIdentifierProcessing());
 		parameters.addValue(ROOT_ID_PARAMETER, rootId);
-		operations.update(delete, parameters);
+		update(referencingProperty.getActualType(), "delete", delete, parameters);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void delete(Object rootId, Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		RelationalPersistentEntity<?> rootEntity = context
+				.getRequiredPersistentEntity(propertyPath.getBaseProperty().getOwner().getType());
+		Class<?> domainType = propertyPath.getRequiredLeafProperty().getActualType();
+
+		String delete = sql(rootEntity.getType()).createDeleteByIdAndPath(propertyPath);
+
+		SqlIdentifierParameterSource parameters = createIdParameterSource(id, domainType);
+		parameters.addValue(ROOT_ID_PARAMETER, rootId);
+		update(domainType, "delete", delete, parameters);
 	}
 
 	/*
@@ -228,7 +490,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public <T> void deleteAll(Class<T> domainType) {
-		operations.getJdbcOperations().update(sql(domainType).createDeleteAllSql(null));
+
+		String deleteAll = sql(domainType).createDeleteAllSql(null);
+		executeUpdate(domainType, "deleteAll", deleteAll, () -> operations.getJdbcOperations().update(deleteAll),
+				Integer::longValue);
 	}
 
 	/*
@@ -237,8 +502,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	@Override
 	public void deleteAll(PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
-		operations.getJdbcOperations()
-				.update(sql(propertyPath.getBaseProperty().getOwner().getType()).createDeleteAllSql(propertyPath));
+
+		String deleteAll = sql(propertyPath.getBaseProperty().getOwner().getType()).createDeleteAllSql(propertyPath);
+		executeUpdate(propertyPath.getRequiredLeafProperty().getActualType(), "deleteAll", deleteAll,
+				() -> operations.getJdbcOperations().update(deleteAll), Integer::longValue);
 	}
 
 	/*
@@ -251,7 +518,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		String acquireLockByIdSql = sql(domainType).getAcquireLockById(lockMode);
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
-		operations.query(acquireLockByIdSql, parameter, ResultSet::next);
+		execute(domainType, "acquireLockById", acquireLockByIdSql,
+				() -> operations.query(acquireLockByIdSql, parameter, ResultSet::next), found -> found ? 1 : 0);
 	}
 
 	/*
@@ -262,7 +530,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <T> void acquireLockAll(LockMode lockMode, Class<T> domainType) {
 
 		String acquireLockAllSql = sql(domainType).getAcquireLockAll(lockMode);
-		operations.getJdbcOperations().query(acquireLockAllSql, ResultSet::next);
+		execute(domainType, "acquireLockAll", acquireLockAllSql,
+				() -> operations.getJdbcOperations().query(acquireLockAllSql, ResultSet::next), found -> found ? 1 : 0);
 	}
 
 	/*
@@ -272,7 +541,9 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public long count(Class<?> domainType) {
 
-		Long result = operations.getJdbcOperations().queryForObject(sql(domainType).getCount(), Long.class);
+		String count = sql(domainType).getCount();
+		Long result = execute(domainType, "count", count,
+				() -> operations.getJdbcOperations().queryForObject(count, Long.class), it -> 1);
 
 		Assert.notNull(result, "The result of a count query must not be null.");
 
@@ -287,14 +558,34 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@SuppressWarnings("unchecked")
 	public <T> T findById(Object id, Class<T> domainType) {
 
-		String findOneSql = sql(domainType).getFindOne();
+		SqlGenerator sql = sql(domainType);
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
-		try {
-			return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
-		} catch (EmptyResultDataAccessException e) {
-			return null;
+		if (isSingleQueryLoading(sql)) {
+
+			String findOneAggregate = sql.getFindOneAggregate();
+			List<T> result = execute(domainType, "findById", findOneAggregate,
+					() -> operations.query(findOneAggregate, parameter, getAggregateResultSetExtractor(domainType)),
+					List::size);
+			return result == null || result.isEmpty() ? null : result.get(0);
+		}
+
+		EntityRowMapper<T> rowMapper = (EntityRowMapper<T>) getEntityRowMapper(domainType);
+
+		if (positionalBindMarkersEnabled) {
+			return DataAccessUtils.singleResult(
+					query(domainType, "findById", sql.getFindOnePositional(), parameter, rowMapper.forSingleResultSet()));
 		}
+
+		String findOne = sql.getFindOne();
+		return execute(domainType, "findById", findOne, () -> {
+
+			try {
+				return operations.queryForObject(findOne, parameter, rowMapper);
+			} catch (EmptyResultDataAccessException e) {
+				return null;
+			}
+		}, it -> 1);
 	}
 
 	/*
@@ -302,17 +593,43 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAll(java.lang.Class)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType) {
-		return operations.query(sql(domainType).getFindAll(), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		SqlGenerator sql = sql(domainType);
+
+		if (isSingleQueryLoading(sql)) {
+
+			String findAllAggregate = sql.getFindAllAggregate();
+			return execute(domainType, "findAll", findAllAggregate,
+					() -> operations.query(findAllAggregate, getAggregateResultSetExtractor(domainType)), List::size);
+		}
+
+		String findAll = sql.getFindAll();
+		return execute(domainType, "findAll", findAll,
+				() -> operations.query(findAll, getEntityResultSetExtractor(domainType)), List::size);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		RowMapper<T> rowMapper = ((EntityRowMapper<T>) getEntityRowMapper(domainType)).forSingleResultSet();
+		Stream<T> stream = JdbcUtil.queryForStream(operations, sql(domainType).getFindAll(),
+				EmptySqlParameterSource.INSTANCE, rowMapper, streamFetchSize);
+		StatementCounter.queryExecuted();
+
+		return stream;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
 		if (!ids.iterator().hasNext()) {
@@ -320,13 +637,46 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 
 		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
-		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		Class<?> columnType = converter.getColumnType(idProperty);
+		int sqlType = converter.getSqlType(idProperty);
+
+		// duplicate ids don't select additional rows, but would require additional bind markers.
+		Set<Object> convertedIds = new LinkedHashSet<>();
+		for (Object id : ids) {
+			convertedIds.add(converter.writeJdbcValue(id, columnType, sqlType).getValue());
+		}
+
+		SqlGenerator sql = sql(domainType);
+		boolean singleQueryLoading = isSingleQueryLoading(sql);
+		ResultSetExtractor<List<T>> extractor = singleQueryLoading //
+				? getAggregateResultSetExtractor(domainType) //
+				: getEntityResultSetExtractor(domainType);
+
+		SqlParameterSource arrayParameterSource = createArrayParameterSource(IDS_SQL_PARAMETER, convertedIds);
+		if (arrayParameterSource != null) {
+
+			String findAllInArray = singleQueryLoading ? sql.getFindAllAggregateInArray() : sql.getFindAllInArray();
+			return execute(domainType, "findAllById", findAllInArray,
+					() -> operations.query(findAllInArray, arrayParameterSource, extractor), List::size);
+		}
+
+		String findAllInList = singleQueryLoading ? sql.getFindAllAggregateInList() : sql.getFindAllInList();
 
-		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
+		// chunks get appended to the result as they are read, so only a single chunk is held by the extractor at a time.
+		List<T> result = new ArrayList<>(convertedIds.size());
+		for (List<Object> chunk : InListChunks.split(new ArrayList<>(convertedIds), inListChunkSize)) {
 
-		String findAllInListSql = sql(domainType).getFindAllInList();
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			parameterSource.addValue(IDS_SQL_PARAMETER, chunk, sqlType);
 
-		return operations.query(findAllInListSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+			List<T> entities = execute(domainType, "findAllById", findAllInList,
+					() -> operations.query(findAllInList, parameterSource, extractor), List::size);
+			if (entities != null) {
+				result.addAll(entities);
+			}
+		}
+
+		return result;
 	}
 
 	/*
@@ -341,17 +691,144 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		Assert.notNull(identifier, "identifier must not be null.");
 		Assert.notNull(propertyPath, "propertyPath must not be null.");
 
-		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+		PersistentPropertyPathExtension path = context.getPersistentPropertyPathExtension(propertyPath);
+
+		SqlGenerator sql = sql(path.getActualType());
+		SqlParameterSource parameterSource = createParameterSource(identifier, getIdentifierProcessing());
+
+		// the row mapper reuses the column index of the first row, so it must be used for this query only.
+		RowMapper<Object> rowMapper = (RowMapper<Object>) (path.isMap()
+				? this.getMapEntityRowMapper(path, identifier).forSingleResultSet()
+				: this.getEntityRowMapper(path, identifier).forSingleResultSet());
+
+		if (positionalBindMarkersEnabled) {
+			ParameterizedSql findAllByProperty = sql.getFindAllByPropertyPositional(identifier, path.getQualifierColumn(),
+					path.isOrdered());
+			return query(path.getActualType(), "findAllByPath", findAllByProperty, parameterSource, rowMapper);
+		}
+
+		String findAllByProperty = sql.getFindAllByProperty(identifier, path.getQualifierColumn(), path.isOrdered());
+		return execute(path.getActualType(), "findAllByPath", findAllByProperty,
+				() -> operations.query(findAllByProperty, parameterSource, rowMapper), List::size);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(java.util.Collection, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPath(Collection<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath) {
+
+		Assert.notNull(identifiers, "identifiers must not be null.");
+		Assert.notNull(propertyPath, "propertyPath must not be null.");
+
+		SqlIdentifier backReferenceColumn = getCommonBackReferenceColumn(identifiers);
+
+		// identifiers consisting of multiple parts (entities without id inside a List or Map) are loaded one by one.
+		if (relationBatchSize == 0 || backReferenceColumn == null) {
+			return DataAccessStrategy.super.findAllByPath(identifiers, propertyPath);
+		}
+
+		PersistentPropertyPathExtension path = context.getPersistentPropertyPathExtension(propertyPath);
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+
+		SqlGenerator sql = sql(path.getActualType());
+
+		Map<Object, Identifier> identifiersByValue = new LinkedHashMap<>();
+		identifiers.forEach(identifier -> identifiersByValue.put(identifier.toMap().get(backReferenceColumn), identifier));
+
+		BatchLoadingResultSetExtractor resultSetExtractor = new BatchLoadingResultSetExtractor(path, backReferenceColumn,
+				keyColumn, identifiersByValue);
+
+		List<Object> values = new ArrayList<>(identifiersByValue.keySet());
+		for (int start = 0; start < values.size(); start += relationBatchSize) {
+
+			List<Object> batch = values.subList(start, Math.min(start + relationBatchSize, values.size()));
+
+			SqlParameterSource arrayParameterSource = createArrayParameterSource(backReferenceColumn, batch);
+			if (arrayParameterSource != null) {
+
+				query(path.getActualType(), sql.getFindAllByPropertyInArray(backReferenceColumn, keyColumn, path.isOrdered()),
+						arrayParameterSource, resultSetExtractor);
+				continue;
+			}
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			parameterSource.addValue(backReferenceColumn, InListChunks.split(batch, relationBatchSize).get(0));
+
+			query(path.getActualType(), sql.getFindAllByPropertyIn(backReferenceColumn, keyColumn, path.isOrdered()),
+					parameterSource, resultSetExtractor);
+		}
+
+		return resultSetExtractor.getResult(identifiers);
+	}
+
+	/**
+	 * Creates a {@link SqlParameterSource} binding the values as a single {@link java.sql.Array} to be used with
+	 * {@code = ANY(…)}, if the dialect supports it, the {@link JdbcConverter} can create arrays, i.e. it got configured
+	 * with a {@link JdbcTypeFactory} supporting them, and all values are of the same type with a known JDBC type.
+	 *
+	 * @return the parameter source or {@literal null} if the values have to be bound as an {@code IN (…)} list.
+	 */
+	@Nullable
+	private SqlParameterSource createArrayParameterSource(SqlIdentifier name, Collection<?> values) {
+
+		if (values.isEmpty() || !converter.isArrayCreationSupported()
+				|| !sqlGeneratorSource.getDialect().getArraySupport().isAnyComparisonSupported()) {
+			return null;
+		}
+
+		Object first = values.iterator().next();
+		if (first == null || JdbcUtil.sqlTypeFor(first.getClass()) == JdbcUtils.TYPE_UNKNOWN) {
+			return null;
+		}
+
+		Class<?> elementType = first.getClass();
+		Object[] array = (Object[]) java.lang.reflect.Array.newInstance(elementType, values.size());
+
+		int index = 0;
+		for (Object value : values) {
+
+			if (value == null || value.getClass() != elementType) {
+				return null;
+			}
+
+			array[index++] = value;
+		}
+
+		JdbcValue jdbcValue = converter.writeJdbcValue(array, array.getClass(), Types.ARRAY);
+		if (jdbcValue.getJdbcType() != JDBCType.ARRAY) {
+			return null;
+		}
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		parameterSource.addValue(name, jdbcValue.getValue(), Types.ARRAY);
+
+		return parameterSource;
+	}
+
+	@Nullable
+	private static SqlIdentifier getCommonBackReferenceColumn(Collection<Identifier> identifiers) {
+
+		SqlIdentifier backReferenceColumn = null;
 
-		Class<?> actualType = path.getActualType();
-		String findAllByProperty = sql(actualType) //
-				.getFindAllByProperty(identifier, path.getQualifierColumn(), path.isOrdered());
+		for (Identifier identifier : identifiers) {
 
-		RowMapper<?> rowMapper = path.isMap() ? this.getMapEntityRowMapper(path, identifier)
-				: this.getEntityRowMapper(path, identifier);
+			if (identifier.size() != 1) {
+				return null;
+			}
+
+			SqlIdentifier column = identifier.toMap().keySet().iterator().next();
+
+			if (backReferenceColumn == null) {
+				backReferenceColumn = column;
+			} else if (!backReferenceColumn.equals(column)) {
+				return null;
+			}
+		}
 
-		return operations.query(findAllByProperty, createParameterSource(identifier, getIdentifierProcessing()),
-				(RowMapper<Object>) rowMapper);
+		return backReferenceColumn;
 	}
 
 	private SqlParameterSource createParameterSource(Identifier identifier, IdentifierProcessing identifierProcessing) {
@@ -370,10 +847,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
-		String existsSql = sql(domainType).getExists();
+		SqlGenerator sql = sql(domainType);
 		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		Boolean result = operations.queryForObject(existsSql, parameter, Boolean.class);
+		Boolean result = positionalBindMarkersEnabled //
+				? DataAccessUtils.nullableSingleResult(query(domainType, "existsById", sql.getExistsPositional(),
+						parameter, SingleColumnRowMapper.newInstance(Boolean.class))) //
+				: execute(domainType, "existsById", sql.getExists(),
+						() -> operations.queryForObject(sql.getExists(), parameter, Boolean.class), it -> 1);
 		Assert.state(result != null, "The result of an exists query must not be null");
 
 		return result;
@@ -384,9 +865,11 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Sort)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		String findAll = sql(domainType).getFindAll(sort);
+		return execute(domainType, "findAll", findAll,
+				() -> operations.query(findAll, getEntityResultSetExtractor(domainType)), List::size);
 	}
 
 	/*
@@ -394,47 +877,267 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Pageable)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+
+		// only used if the dialect supports bind markers for limit and offset
+		if (pageable.isPaged()) {
+			parameterSource.addValue(LIMIT_SQL_PARAMETER, pageable.getPageSize());
+			parameterSource.addValue(OFFSET_SQL_PARAMETER, pageable.getOffset());
+		}
+
+		String findAll = sql(domainType).getFindAll(pageable);
+		return execute(domainType, "findAll", findAll,
+				() -> operations.query(findAll, parameterSource, getEntityResultSetExtractor(domainType)), List::size);
 	}
 
-	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
-			RelationalPersistentEntity<S> persistentEntity, String prefix,
-			Predicate<RelationalPersistentProperty> skipProperty, IdentifierProcessing identifierProcessing) {
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.KeysetRequest)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+
+		Assert.notNull(request, "KeysetRequest must not be null");
 
-		SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(identifierProcessing);
+		SqlGenerator sql = sql(domainType);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
 
-		PersistentPropertyAccessor<S> propertyAccessor = instance != null ? persistentEntity.getPropertyAccessor(instance)
-				: NoValuePropertyAccessor.instance();
+		if (!request.isFirst()) {
 
-		persistentEntity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+			RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+			for (Sort.Order order : sql.getKeysetSort(request.getSort())) {
 
-			if (skipProperty.test(property) || !property.isWritable()) {
-				return;
-			}
-			if (property.isEntity() && !property.isEmbedded()) {
-				return;
+				RelationalPersistentProperty property = entity.getRequiredPersistentProperty(order.getProperty());
+				addConvertedPropertyValue(parameterSource, property, request.getRequiredKey(property.getName()),
+						property.getColumnName());
 			}
+		}
+
+		String findAll = sql.getFindAll(request);
+		return execute(domainType, "findAll", findAll,
+				() -> operations.query(findAll, parameterSource, getEntityResultSetExtractor(domainType)), List::size);
+	}
 
-			if (property.isEmbedded()) {
+	private <T> SqlIdentifierParameterSource getInsertParameterSource(T instance,
+			RelationalPersistentEntity<T> persistentEntity, Identifier identifier) {
 
-				Object value = propertyAccessor.getProperty(property);
-				RelationalPersistentEntity<?> embeddedEntity = context.getPersistentEntity(property.getType());
-				SqlIdentifierParameterSource additionalParameters = getParameterSource((T) value,
-						(RelationalPersistentEntity<T>) embeddedEntity, prefix + property.getEmbeddedPrefix(), skipProperty,
-						identifierProcessing);
-				parameters.addAll(additionalParameters);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		getWritePlan(persistentEntity).addValues(parameterSource, instance, false, converter);
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		Object idValue = getIdValueOrNull(instance, persistentEntity);
+		if (idValue != null) {
+
+			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+		}
+
+		return parameterSource;
+	}
+
+	@Nullable
+	private <T> Object insert(SqlGenerator sqlGenerator, RelationalPersistentEntity<T> persistentEntity,
+			SqlIdentifierParameterSource parameterSource) {
+
+		KeyHolder holder = new GeneratedKeyHolder();
+		Set<SqlIdentifier> columns = new HashSet<>(parameterSource.getIdentifiers());
+
+		if (positionalBindMarkersEnabled) {
+
+			ParameterizedSql insertSql = sqlGenerator.getInsertPositional(columns);
+			PositionalParameterSetter parameterSetter = new PositionalParameterSetter(insertSql, parameterSource);
+
+			executeUpdate(persistentEntity.getType(), "insert", insertSql.getSql(),
+					() -> operations.getJdbcOperations().update(connection -> {
+
+						PreparedStatement statement = connection.prepareStatement(insertSql.getSql(),
+								Statement.RETURN_GENERATED_KEYS);
+						try {
+							parameterSetter.setValues(statement);
+						} catch (SQLException | RuntimeException e) {
+							JdbcUtils.closeStatement(statement);
+							throw e;
+						}
+						return statement;
+					}, holder), Integer::longValue);
+		} else {
+
+			String insertSql = sqlGenerator.getInsert(columns);
+			executeUpdate(persistentEntity.getType(), "insert", insertSql,
+					() -> operations.update(insertSql, parameterSource, holder), Integer::longValue);
+		}
+
+		return getIdFromHolder(holder, persistentEntity);
+	}
+
+	private int update(Class<?> domainType, String operation, String sql, SqlParameterSource parameterSource) {
+		return executeUpdate(domainType, operation, sql, () -> operations.update(sql, parameterSource),
+				Integer::longValue);
+	}
+
+	private int update(Class<?> domainType, String operation, ParameterizedSql sql,
+			SqlParameterSource parameterSource) {
+
+		return executeUpdate(domainType, operation, sql.getSql(), () -> operations.getJdbcOperations()
+				.update(sql.getSql(), new PositionalParameterSetter(sql, parameterSource)), Integer::longValue);
+	}
+
+	private <T> List<T> query(Class<?> domainType, String operation, ParameterizedSql sql,
+			SqlParameterSource parameterSource, RowMapper<T> rowMapper) {
+
+		return execute(domainType, operation, sql.getSql(), () -> operations.getJdbcOperations().query(sql.getSql(),
+				new PositionalParameterSetter(sql, parameterSource), rowMapper), List::size);
+	}
+
+	private void query(Class<?> domainType, String sql, SqlParameterSource parameterSource,
+			BatchLoadingResultSetExtractor resultSetExtractor) {
+
+		execute(domainType, "findAllByPath", sql, () -> operations.query(sql, parameterSource, resultSetExtractor),
+				Integer::longValue);
+	}
+
+	/**
+	 * Executes a statement reading rows, recording it as a Java Flight Recorder event and reporting it to the running
+	 * {@link StatementCounter}.
+	 *
+	 * @param domainType the type of the entities the statement is for.
+	 * @param operation the name of the operation executing the statement.
+	 * @param sql the SQL of the statement.
+	 * @param statement executes the statement.
+	 * @param rows determines the number of rows selected from the result, if not {@literal null}.
+	 * @return the result of the statement. May be {@literal null}.
+	 */
+	private static <R> R execute(Class<?> domainType, String operation, String sql, Supplier<R> statement,
+			ToLongFunction<? super R> rows) {
+		return execute(domainType, operation, sql, statement, rows, false);
+	}
+
+	/**
+	 * Executes a statement or a batch modifying rows, recording it as a Java Flight Recorder event and reporting it
+	 * along with the rows it affected to the running {@link StatementCounter}.
+	 *
+	 * @param rowsAffected determines the update count reported by the driver from the result, if not {@literal null}.
+	 *          Negative if there is none.
+	 * @see #execute(Class, String, String, Supplier, ToLongFunction)
+	 */
+	private static <R> R executeUpdate(Class<?> domainType, String operation, String sql, Supplier<R> statement,
+			ToLongFunction<? super R> rowsAffected) {
+		return execute(domainType, operation, sql, statement, rowsAffected, true);
+	}
+
+	private static <R> R execute(Class<?> domainType, String operation, String sql, Supplier<R> statement,
+			ToLongFunction<? super R> rows, boolean update) {
+
+		Recording recording = JdbcFlightRecorder.statementExecution(domainType, operation).sql(sql);
+		try {
+
+			R result = statement.get();
+			long count = result != null && (update || recording.isEnabled()) ? rows.applyAsLong(result) : -1;
+
+			if (recording.isEnabled() && count >= 0) {
+				recording.count(count);
+			}
+
+			if (update) {
+				StatementCounter.updateExecuted(count);
 			} else {
+				StatementCounter.queryExecuted();
+			}
 
-				Object value = propertyAccessor.getProperty(property);
-				SqlIdentifier paramName = property.getColumnName().transform(prefix::concat);
+			return result;
+		} finally {
+			recording.commit();
+		}
+	}
+
+	/**
+	 * Sums up the update counts of a batch, leaving out the statements the driver didn't report a count for.
+	 *
+	 * @return the sum, or {@literal -1} if no update count was reported at all.
+	 */
+	private static long sumUpdateCounts(int[] updateCounts) {
 
-				addConvertedPropertyValue(parameters, property, value, paramName);
+		long sum = 0;
+		boolean reported = false;
+		for (int updateCount : updateCounts) {
+
+			if (updateCount >= 0) {
+				sum += updateCount;
+				reported = true;
 			}
-		});
+		}
 
-		return parameters;
+		return reported ? sum : -1;
+	}
+
+	/**
+	 * Executes the {@code INSERT} statement as a JDBC batch, binding the parameters the same way
+	 * {@link NamedParameterJdbcOperations} does, and returns the update counts along with the keys generated for each
+	 * row.
+	 */
+	private BatchInsertResult batchUpdateReturningKeys(String sql, SqlParameterSource[] batch) {
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batch[0]);
+		PreparedStatementCreatorFactory statementFactory = new PreparedStatementCreatorFactory(sqlToUse,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, batch[0]));
+
+		PreparedStatementCreator statementCreator = connection -> connection.prepareStatement(sqlToUse,
+				Statement.RETURN_GENERATED_KEYS);
+		PreparedStatementCallback<BatchInsertResult> batchCallback = statement -> {
+
+			for (SqlParameterSource parameterSource : batch) {
+
+				Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+				statementFactory.newPreparedStatementSetter(values).setValues(statement);
+				statement.addBatch();
+			}
+
+			int[] updateCounts = statement.executeBatch();
+
+			ResultSet keys = statement.getGeneratedKeys();
+			if (keys == null) {
+				return new BatchInsertResult(updateCounts, Collections.emptyList());
+			}
+
+			try {
+				return new BatchInsertResult(updateCounts,
+						new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()).extractData(keys));
+			} finally {
+				JdbcUtils.closeResultSet(keys);
+			}
+		};
+
+		BatchInsertResult result = operations.getJdbcOperations().execute(statementCreator, batchCallback);
+
+		Assert.state(result != null, "The result of a batch insert must not be null");
+
+		return result;
+	}
+
+	private <S> SqlIdentifierParameterSource getUpdateParameterSource(S instance,
+			RelationalPersistentEntity<S> persistentEntity) {
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		getWritePlan(persistentEntity).addValues(parameterSource, instance, true, converter);
+
+		return parameterSource;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <S> EntityWritePlan<S> getWritePlan(RelationalPersistentEntity<S> persistentEntity) {
+
+		EntityWritePlan<?> writePlan = writePlans.get(persistentEntity);
+
+		if (writePlan == null) {
+			writePlan = writePlans.computeIfAbsent(persistentEntity,
+					entity -> new EntityWritePlan<>(entity, context, converter, getIdentifierProcessing()));
+		}
+
+		return (EntityWritePlan<S>) writePlan;
 	}
 
 	@Nullable
@@ -480,11 +1183,26 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
 	}
 
+	private <T> EntityResultSetExtractor<T> getEntityResultSetExtractor(Class<T> domainType) {
+		return new EntityResultSetExtractor<>(getRequiredPersistentEntity(domainType), converter, this);
+	}
+
+	private boolean isSingleQueryLoading(SqlGenerator sql) {
+		return singleQueryLoadingEnabled && converter.isAggregateRowMappingSupported()
+				&& sql.isAggregateSelectSupported();
+	}
+
+	private <T> ResultSetExtractor<List<T>> getAggregateResultSetExtractor(Class<T> domainType) {
+
+		return new AggregateResultSetExtractor<>(context, getRequiredPersistentEntity(domainType), converter,
+				getIdentifierProcessing());
+	}
+
 	private EntityRowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
 		return new EntityRowMapper<>(path, converter, identifier);
 	}
 
-	private RowMapper<?> getMapEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
+	private MapEntityRowMapper<?> getMapEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
 
 		SqlIdentifier keyColumn = path.getQualifierColumn();
 		Assert.notNull(keyColumn, () -> "KeyColumn must not be null for " + path);
@@ -536,28 +1254,6 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
 	}
 
-	private void addConvertedPropertyValuesAsList(SqlIdentifierParameterSource parameterSource,
-			RelationalPersistentProperty property, Iterable<?> values, SqlIdentifier paramName) {
-
-		List<Object> convertedIds = new ArrayList<>();
-		JdbcValue jdbcValue = null;
-		for (Object id : values) {
-
-			Class<?> columnType = converter.getColumnType(property);
-			int sqlType = converter.getSqlType(property);
-
-			jdbcValue = converter.writeJdbcValue(id, columnType, sqlType);
-			convertedIds.add(jdbcValue.getValue());
-		}
-
-		Assert.state(jdbcValue != null, "JdbcValue must be not null at this point. Please report this as a bug.");
-
-		JDBCType jdbcType = jdbcValue.getJdbcType();
-		int typeNumber = jdbcType == null ? JdbcUtils.TYPE_UNKNOWN : jdbcType.getVendorTypeNumber();
-
-		parameterSource.addValue(paramName, convertedIds, typeNumber);
-	}
-
 	@SuppressWarnings("unchecked")
 	private <S> RelationalPersistentEntity<S> getRequiredPersistentEntity(Class<S> domainType) {
 		return (RelationalPersistentEntity<S>) context.getRequiredPersistentEntity(domainType);
@@ -568,46 +1264,120 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	}
 
 	/**
-	 * Utility to create {@link Predicate}s.
+	 * {@link ResultSetExtractor} mapping the rows of the statements issued for loading a property path for multiple
+	 * parents. Rows are assigned to their parent using the back reference column. Relations of the mapped entities are
+	 * deferred and loaded in batches as well. The results of all statements get collected until
+	 * {@link #getResult(Collection)} is called.
 	 */
-	static class Predicates {
+	private class BatchLoadingResultSetExtractor implements ResultSetExtractor<Integer> {
+
+		private final PersistentPropertyPathExtension path;
+		private final String backReferenceColumn;
+		@Nullable private final String keyColumn;
+		private final Map<Object, Identifier> identifiersByValue;
+		private final TypeInformation<?> valueType;
+
+		private final DeferredRelationResolver relationResolver = new DeferredRelationResolver(converter,
+				DefaultDataAccessStrategy.this);
+		private final List<Identifier> rowIdentifiers = new ArrayList<>();
+		private final List<Object> rowKeys = new ArrayList<>();
+		private final Map<Identifier, Integer> rowCounts = new HashMap<>();
+
+		BatchLoadingResultSetExtractor(PersistentPropertyPathExtension path, SqlIdentifier backReferenceColumn,
+				@Nullable SqlIdentifier keyColumn, Map<Object, Identifier> identifiersByValue) {
+
+			this.path = path;
+			this.backReferenceColumn = backReferenceColumn.getReference(getIdentifierProcessing());
+			this.keyColumn = keyColumn == null ? null : keyColumn.getReference(getIdentifierProcessing());
+			this.identifiersByValue = identifiersByValue;
+			this.valueType = ClassTypeInformation.from(identifiersByValue.keySet().iterator().next().getClass());
+		}
 
 		/**
-		 * Include all {@link Predicate} returning {@literal false} to never skip a property.
+		 * Maps all rows of the {@link ResultSet}, indexing its columns once.
 		 *
-		 * @return the include all {@link Predicate}.
+		 * @return the number of rows mapped.
+		 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
 		 */
-		static Predicate<RelationalPersistentProperty> includeAll() {
-			return it -> false;
+		@Override
+		public Integer extractData(ResultSet rs) throws SQLException {
+
+			ResultSetAccessor accessor = converter instanceof BasicJdbcConverter ? new ResultSetAccessor(rs) : null;
+
+			int rowCount = 0;
+			while (rs.next()) {
+
+				Identifier identifier = getIdentifier(rs.getObject(backReferenceColumn));
+
+				if (identifier == null) {
+					continue;
+				}
+
+				int rowNumber = rowCounts.merge(identifier, 1, Integer::sum) - 1;
+				Object key = path.isMap() ? rs.getObject(keyColumn) : rowNumber;
+
+				relationResolver.add(mapRow(rs, accessor, identifier, key));
+				rowIdentifiers.add(identifier);
+				rowKeys.add(key);
+				rowCount++;
+			}
+
+			return rowCount;
 		}
-	}
 
-	/**
-	 * A {@link PersistentPropertyAccessor} implementation always returning null
-	 *
-	 * @param <T>
-	 */
-	static class NoValuePropertyAccessor<T> implements PersistentPropertyAccessor<T> {
+		private Object mapRow(ResultSet rs, @Nullable ResultSetAccessor accessor, Identifier identifier, Object key) {
 
-		private static final NoValuePropertyAccessor INSTANCE = new NoValuePropertyAccessor();
+			if (accessor != null) {
+				return ((BasicJdbcConverter) converter).mapRow(path, accessor, identifier, key, relationResolver);
+			}
 
-		static <T> NoValuePropertyAccessor<T> instance() {
-			return INSTANCE;
+			return converter.mapRow(path, rs, identifier, key, relationResolver);
 		}
 
-		@Override
-		public void setProperty(PersistentProperty<?> property, @Nullable Object value) {
-			throw new UnsupportedOperationException("Cannot set value on 'null' target object.");
+		@Nullable
+		private Identifier getIdentifier(@Nullable Object value) {
+
+			if (value == null) {
+				return null;
+			}
+
+			Identifier identifier = identifiersByValue.get(value);
+
+			return identifier != null ? identifier : identifiersByValue.get(converter.readValue(value, valueType));
 		}
 
-		@Override
-		public Object getProperty(PersistentProperty<?> property) {
-			return null;
+		@SuppressWarnings("unchecked")
+		Map<Identifier, Iterable<Object>> getResult(Collection<Identifier> identifiers) {
+
+			Map<Identifier, Iterable<Object>> result = new LinkedHashMap<>();
+			identifiers.forEach(identifier -> result.put(identifier, new ArrayList<>()));
+
+			List<Object> entities = relationResolver.resolve();
+			for (int i = 0; i < entities.size(); i++) {
+
+				Object entity = path.isMap() //
+						? new HashMap.SimpleEntry<>(rowKeys.get(i), entities.get(i)) //
+						: entities.get(i);
+
+				((List<Object>) result.get(rowIdentifiers.get(i))).add(entity);
+			}
+
+			return result;
 		}
+	}
 
-		@Override
-		public T getBean() {
-			return null;
+	/**
+	 * The update counts and the generated keys of a batch of inserts.
+	 */
+	private static class BatchInsertResult {
+
+		private final int[] updateCounts;
+		private final List<Map<String, Object>> keys;
+
+		BatchInsertResult(int[] updateCounts, List<Map<String, Object>> keys) {
+
+			this.updateCounts = updateCounts;
+			this.keys = keys;
 		}
 	}
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RelationResolver} that doesn't load relations when they are requested while mapping an entity, but records
+ * the request and returns an empty collection instead. Once all entities are mapped, {@link #resolve()} loads the
+ * relations of all entities with one call to {@link RelationResolver#findAllByPath(Collection, PersistentPropertyPath)}
+ * per property path and sets them on the entities.
+ * <p>
+ * Instances are stateful and must only be used for a single result.
+ *
+ * @since 2.1
+ */
+class DeferredRelationResolver implements RelationResolver {
+
+	private static final Converter<Iterable<?>, Map<?, ?>> ITERABLE_OF_ENTRY_TO_MAP_CONVERTER = new IterableOfEntryToMapConverter();
+
+	private final JdbcConverter converter;
+	private final RelationResolver delegate;
+
+	private final List<Object> entities = new ArrayList<>();
+	private final List<Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Identifier>> requests = new ArrayList<>();
+	private Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Identifier> pending = new LinkedHashMap<>();
+
+	/**
+	 * @param converter used to set the loaded relations on the entities. Must not be {@literal null}.
+	 * @param delegate used to load the relations. Must not be {@literal null}.
+	 */
+	DeferredRelationResolver(JdbcConverter converter, RelationResolver delegate) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(delegate, "RelationResolver must not be null");
+
+		this.converter = converter;
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(org.springframework.data.jdbc.core.convert.Identifier, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Iterable<Object> findAllByPath(Identifier identifier,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		pending.put(path, identifier);
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Registers an entity that was just mapped using this {@link RelationResolver}. All relations requested since the
+	 * previous call of this method get set on that entity by {@link #resolve()}.
+	 *
+	 * @param entity the mapped entity. Must not be {@literal null}.
+	 */
+	void add(Object entity) {
+
+		entities.add(entity);
+		requests.add(pending);
+		pending = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Loads all recorded relations and sets them on the entities they belong to.
+	 *
+	 * @return the entities in the order they were {@link #add(Object) added}. Entities that can't be modified are
+	 *         replaced by a new instance. Guaranteed to be not {@literal null}.
+	 */
+	List<Object> resolve() {
+
+		Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Collection<Identifier>> identifiersByPath = new LinkedHashMap<>();
+		for (Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Identifier> entityRequests : requests) {
+			entityRequests.forEach((path, identifier) -> identifiersByPath //
+					.computeIfAbsent(path, p -> new LinkedHashSet<>()) //
+					.add(identifier));
+		}
+
+		Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, Map<Identifier, Iterable<Object>>> loaded = new HashMap<>();
+		identifiersByPath.forEach((path, identifiers) -> loaded.put(path, load(identifiers, path)));
+
+		List<Object> result = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); i++) {
+
+			Object entity = entities.get(i);
+
+			for (Map.Entry<PersistentPropertyPath<? extends RelationalPersistentProperty>, Identifier> request : requests
+					.get(i).entrySet()) {
+
+				PersistentPropertyPath<? extends RelationalPersistentProperty> path = request.getKey();
+				Iterable<Object> values = loaded.get(path).get(request.getValue());
+
+				entity = setProperty(entity, path, values == null ? Collections.emptyList() : values);
+			}
+
+			result.add(entity);
+		}
+
+		return result;
+	}
+
+	private Map<Identifier, Iterable<Object>> load(Collection<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Recording recording = JdbcFlightRecorder.relationResolution(path.getRequiredLeafProperty().getActualType())
+				.path(path);
+		Map<Identifier, Iterable<Object>> result = delegate.findAllByPath(identifiers, path);
+
+		if (recording.isEnabled()) {
+			result.values().forEach(recording::count);
+		}
+		recording.commit();
+
+		return result;
+	}
+
+	private Object setProperty(Object bean, PersistentPropertyPath<? extends RelationalPersistentProperty> path,
+			Iterable<Object> values) {
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+		path.forEach(properties::add);
+
+		return setRelation(converter, bean, properties, values);
+	}
+
+	/**
+	 * Sets the loaded values of a collection or map on the bean by traversing the properties. Each level uses an
+	 * accessor obtained from the {@link JdbcConverter}, so immutable intermediate entities get recreated and set on
+	 * their parent.
+	 *
+	 * @param converter provides the property accessors. Must not be {@literal null}.
+	 * @param bean the entity owning the first property. Must not be {@literal null}.
+	 * @param properties the properties leading from the bean to the collection or map property. Must not be empty.
+	 * @param values the elements or, in case of a map, the {@link Map.Entry entries} to set.
+	 * @return the bean or, if it can't be modified, a new instance with the values set.
+	 */
+	static Object setRelation(JdbcConverter converter, Object bean, List<RelationalPersistentProperty> properties,
+			Iterable<Object> values) {
+
+		RelationalPersistentProperty leafProperty = properties.get(properties.size() - 1);
+		Object value = leafProperty.isMap() ? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(values) : values;
+
+		return setProperty(converter, bean, properties, 0, value);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object setProperty(JdbcConverter converter, Object bean, List<RelationalPersistentProperty> properties,
+			int index, @Nullable Object value) {
+
+		RelationalPersistentProperty property = properties.get(index);
+		PersistentPropertyAccessor<Object> accessor = converter
+				.getPropertyAccessor((PersistentEntity<Object, ?>) property.getOwner(), bean);
+
+		if (index == properties.size() - 1) {
+
+			accessor.setProperty(property, value);
+			return accessor.getBean();
+		}
+
+		Object nested = accessor.getProperty(property);
+		if (nested == null) {
+			return bean;
+		}
+
+		accessor.setProperty(property, setProperty(converter, nested, properties, index + 1, value));
+
+		return accessor.getBean();
+	}
+}
@@ -15,11 +15,19 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 
 /**
@@ -45,6 +53,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.insert(instance, domainType, identifier);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insert(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+		return delegate.insert(insertSubjects, domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -64,6 +81,25 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.lang.Object, java.lang.Class, java.util.Set)
+	 */
+	@Override
+	public <S> boolean update(S instance, Class<S> domainType, Set<SqlIdentifier> columns) {
+		return delegate.update(instance, domainType, columns);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.lang.Object, java.lang.Class, java.lang.Number, java.util.Set)
+	 */
+	@Override
+	public <S> boolean updateWithVersion(S instance, Class<S> domainType, Number previousVersion,
+			Set<SqlIdentifier> columns) {
+		return delegate.updateWithVersion(instance, domainType, previousVersion, columns);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
@@ -73,6 +109,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		delegate.delete(rootId, propertyPath);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.lang.Object, java.lang.Object, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void delete(Object rootId, Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		delegate.delete(rootId, id, propertyPath);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -157,6 +202,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return delegate.streamAll(domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
@@ -176,6 +230,16 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAllByPath(identifier, path);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.RelationResolver#findAllByPath(java.util.Collection, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Map<Identifier, Iterable<Object>> findAllByPath(Collection<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+		return delegate.findAllByPath(identifiers, path);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#existsById(java.lang.Object, java.lang.Class)
@@ -203,6 +267,15 @@ public class DelegatingDataAccessStrategy implements DataAccessStrategy {
 		return delegate.findAll(domainType, pageable);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.KeysetRequest)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+		return delegate.findAll(domainType, request);
+	}
+
 	/**
 	 * Must be called exactly once before calling any of the other methods.
 	 *
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Everything {@link BasicJdbcConverter} needs to know for reading an entity at a certain path from a
+ * {@link java.sql.ResultSet}, resolved once: how to read each property, the labels of the columns to read them from
+ * and the identifiers and paths used to load referenced collections and maps. Plans for embedded and referenced
+ * entities get created on first use and are kept by the plan of their parent, so mapping a row doesn't extend any
+ * {@link PersistentPropertyPathExtension} or render any column alias.
+ * <p>
+ * Instances are immutable apart from the lazily created nested plans and may be shared between threads.
+ *
+ * @since 2.1
+ */
+class EntityReadPlan<T> {
+
+	private final IdentifierProcessing identifierProcessing;
+	private final RelationalPersistentEntity<T> entity;
+	private final PersistentPropertyPathExtension rootPath;
+	private final PersistentPropertyPathExtension path;
+
+	private final PropertyPlan[] properties;
+	private final Map<String, PropertyPlan> propertiesByName;
+	@Nullable private final PropertyPlan idProperty;
+	@Nullable private final SqlIdentifier qualifierColumn;
+
+	/**
+	 * @param identifierProcessing used to render column aliases to column labels. Must not be {@literal null}.
+	 * @param rootPath path from the aggregate root to the entity, used to determine back references. Must not be
+	 *          {@literal null}.
+	 * @param path path relative to which columns and referenced collections get resolved. Must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	EntityReadPlan(IdentifierProcessing identifierProcessing, PersistentPropertyPathExtension rootPath,
+			PersistentPropertyPathExtension path) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
+
+		Assert.notNull(entity, "The path must point to an entity.");
+
+		this.identifierProcessing = identifierProcessing;
+		this.entity = entity;
+		this.rootPath = rootPath;
+		this.path = path;
+
+		PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+
+		List<PropertyPlan> properties = new ArrayList<>();
+		for (RelationalPersistentProperty property : entity) {
+			properties.add(new PropertyPlan(properties.size(), property,
+					persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property), rootPath, path,
+					identifierProcessing));
+		}
+
+		this.properties = properties.toArray(new PropertyPlan[0]);
+		this.propertiesByName = new HashMap<>(properties.size());
+
+		PropertyPlan idProperty = null;
+		for (PropertyPlan property : this.properties) {
+
+			propertiesByName.put(property.property.getName(), property);
+			if (property.property.isIdProperty()) {
+				idProperty = property;
+			}
+		}
+
+		this.idProperty = idProperty;
+		this.qualifierColumn = rootPath.getQualifierColumn();
+	}
+
+	RelationalPersistentEntity<T> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the plans of all properties of the entity in iteration order. Guaranteed to be not {@literal null}.
+	 */
+	PropertyPlan[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * @param name the name of a property.
+	 * @return the plan of the property. Guaranteed to be not {@literal null}.
+	 */
+	PropertyPlan getRequiredProperty(String name) {
+
+		PropertyPlan property = propertiesByName.get(name);
+
+		Assert.state(property != null,
+				() -> String.format("Required property %s not found for %s!", name, entity.getType()));
+
+		return property;
+	}
+
+	@Nullable
+	PropertyPlan getIdProperty() {
+		return idProperty;
+	}
+
+	/**
+	 * @return the column holding the list index or map key of the entity, used to identify its referenced collections
+	 *         if it doesn't have an id.
+	 */
+	@Nullable
+	SqlIdentifier getQualifierColumn() {
+		return qualifierColumn;
+	}
+
+	/**
+	 * Returns the plan for the embedded or referenced entity held by the given property, creating it on first access.
+	 *
+	 * @param property a plan of this {@link EntityReadPlan} for an embedded entity or a one-to-one relationship.
+	 * @return Guaranteed to be not {@literal null}.
+	 */
+	EntityReadPlan<?> getNestedPlan(PropertyPlan property) {
+
+		EntityReadPlan<?> nested = property.nested;
+
+		if (nested == null) {
+
+			// concurrent creation is harmless, all threads end up with equivalent plans
+			nested = new EntityReadPlan<>(identifierProcessing, rootPath.extendBy(property.property),
+					path.extendBy(property.property));
+			property.nested = nested;
+		}
+
+		return nested;
+	}
+
+	/**
+	 * How a property gets read.
+	 */
+	enum Kind {
+
+		/**
+		 * Read from a single column.
+		 */
+		COLUMN,
+
+		/**
+		 * A one-to-one relationship, read from the columns of the referenced entity.
+		 */
+		ENTITY,
+
+		/**
+		 * An embedded entity, read from the columns of the embedded properties.
+		 */
+		EMBEDDED,
+
+		/**
+		 * A collection or map of entities, loaded through a {@link RelationResolver}.
+		 */
+		RELATION
+	}
+
+	/**
+	 * The resolved information about a single property.
+	 */
+	static class PropertyPlan {
+
+		private final int index;
+		private final RelationalPersistentProperty property;
+		private final Kind kind;
+		private final boolean constructorParameter;
+		private final boolean skipIfAbsent;
+		private final boolean containsReferences;
+
+		@Nullable private final String columnLabel;
+		@Nullable private final String reverseColumnLabel;
+		@Nullable private final SqlIdentifier reverseColumnName;
+		@Nullable private final PersistentPropertyPath<? extends RelationalPersistentProperty> relationPath;
+
+		@Nullable private volatile EntityReadPlan<?> nested;
+
+		private PropertyPlan(int index, RelationalPersistentProperty property, boolean constructorParameter,
+				PersistentPropertyPathExtension rootPath, PersistentPropertyPathExtension path,
+				IdentifierProcessing identifierProcessing) {
+
+			this.index = index;
+			this.property = property;
+			this.kind = determineKind(property);
+			this.constructorParameter = constructorParameter;
+			this.skipIfAbsent = !property.isCollectionLike() && !property.isEntity() && !property.isMap()
+					&& !property.isEmbedded();
+			this.containsReferences = property.isQualified() || property.isReference();
+
+			this.columnLabel = kind == Kind.COLUMN //
+					? path.extendBy(property).getColumnAlias().getReference(identifierProcessing) //
+					: null;
+			this.reverseColumnLabel = kind == Kind.ENTITY //
+					? path.extendBy(property).getReverseColumnNameAlias().getReference(identifierProcessing) //
+					: null;
+			this.reverseColumnName = kind == Kind.RELATION ? rootPath.extendBy(property).getReverseColumnName() : null;
+			this.relationPath = kind == Kind.RELATION ? path.extendBy(property).getRequiredPersistentPropertyPath() : null;
+		}
+
+		private Kind determineKind(RelationalPersistentProperty property) {
+
+			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+				return Kind.RELATION;
+			}
+
+			if (property.isEmbedded()) {
+				return Kind.EMBEDDED;
+			}
+
+			return property.isEntity() ? Kind.ENTITY : Kind.COLUMN;
+		}
+
+		/**
+		 * @return the position of the property within {@link EntityReadPlan#getProperties()}.
+		 */
+		int getIndex() {
+			return index;
+		}
+
+		RelationalPersistentProperty getProperty() {
+			return property;
+		}
+
+		TypeInformation<?> getTypeInformation() {
+			return property.getTypeInformation();
+		}
+
+		Kind getKind() {
+			return kind;
+		}
+
+		/**
+		 * @return whether the property gets set through the persistence constructor.
+		 */
+		boolean isConstructorParameter() {
+			return constructorParameter;
+		}
+
+		/**
+		 * @return whether the property doesn't get set at all if the {@link java.sql.ResultSet} lacks its column.
+		 */
+		boolean isSkipIfAbsent() {
+			return skipIfAbsent;
+		}
+
+		/**
+		 * @return whether the property holds a list, map or reference, which makes an embedded entity non-empty.
+		 */
+		boolean containsReferences() {
+			return containsReferences;
+		}
+
+		/**
+		 * @return the label of the column of a {@link Kind#COLUMN} property.
+		 */
+		@Nullable
+		String getColumnLabel() {
+			return columnLabel;
+		}
+
+		/**
+		 * @return the label of the column referencing the parent entity of an {@link Kind#ENTITY} property.
+		 */
+		@Nullable
+		String getReverseColumnLabel() {
+			return reverseColumnLabel;
+		}
+
+		/**
+		 * @return the name of the column referencing the parent entity of a {@link Kind#RELATION} property.
+		 */
+		@Nullable
+		SqlIdentifier getReverseColumnName() {
+			return reverseColumnName;
+		}
+
+		/**
+		 * @return the path of a {@link Kind#RELATION} property, as passed to the {@link RelationResolver}.
+		 */
+		@Nullable
+		PersistentPropertyPath<? extends RelationalPersistentProperty> getRelationPath() {
+			return relationPath;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+/**
+ * Maps all rows of a {@link ResultSet} to entities of type {@code T}, including entities referenced. In contrast to
+ * {@link EntityRowMapper} collections and maps referenced by the entities are not loaded per row, but after all rows
+ * are mapped, using a single call to {@link RelationResolver#findAllByPath(Collection, PersistentPropertyPath)} per
+ * property path. Depending on the {@link RelationResolver} this allows loading the referenced entities of all rows with
+ * a few statements instead of one per row and property.
+ *
+ * @since 2.1
+ * @see DefaultDataAccessStrategy#setRelationBatchSize(int)
+ */
+public class EntityResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final JdbcConverter converter;
+	private final RelationResolver relationResolver;
+
+	/**
+	 * @param entity the entity to map the rows to. Must not be {@literal null}.
+	 * @param converter the converter used for mapping rows. Must not be {@literal null}.
+	 * @param relationResolver used to load referenced collections and maps. Must not be {@literal null}.
+	 */
+	public EntityResultSetExtractor(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			RelationResolver relationResolver) {
+
+		Assert.notNull(entity, "RelationalPersistentEntity must not be null");
+		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
+
+		this.entity = entity;
+		this.converter = converter;
+		this.relationResolver = relationResolver;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		DeferredRelationResolver deferredRelationResolver = new DeferredRelationResolver(converter, relationResolver);
+		RowMapper<T> rowMapper = new EntityRowMapper<>(entity, converter, deferredRelationResolver).forSingleResultSet();
+
+		int rowNumber = 0;
+		while (resultSet.next()) {
+			deferredRelationResolver.add(rowMapper.mapRow(resultSet, rowNumber++));
+		}
+
+		return (List<T>) deferredRelationResolver.resolve();
+	}
+}
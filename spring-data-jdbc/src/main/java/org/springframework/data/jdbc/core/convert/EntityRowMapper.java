@@ -17,9 +17,12 @@ package org.springframework.data.jdbc.core.convert;
 
 import java.sql.ResultSet;
 
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -38,6 +41,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	@Nullable private final RelationResolver relationResolver;
 
 	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
@@ -46,14 +50,27 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.relationResolver = null;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
+		this(entity, converter, null);
+	}
+
+	/**
+	 * Creates an {@link EntityRowMapper} resolving referenced collections and maps through the given
+	 * {@link RelationResolver} instead of the one the converter was configured with.
+	 *
+	 * @since 2.1
+	 */
+	EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter,
+			@Nullable RelationResolver relationResolver) {
 
 		this.entity = entity;
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.relationResolver = relationResolver;
 	}
 
 	/*
@@ -62,10 +79,66 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	 */
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
+		return mapRow(resultSet, null, rowNumber);
+	}
+
+	/**
+	 * Maps the current row, reading it through the given {@link ResultSetAccessor} shared by all rows of the
+	 * {@link ResultSet}.
+	 *
+	 * @since 2.1
+	 */
+	T mapRow(ResultSetAccessor accessor, int rowNumber) {
+		return mapRow(accessor.getResultSet(), accessor, rowNumber);
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for a single query execution, which indexes the columns of its {@link ResultSet} only
+	 * once for all rows.
+	 *
+	 * @since 2.1
+	 */
+	RowMapper<T> forSingleResultSet() {
+		return new SingleResultSetRowMapper<>(this::mapRow);
+	}
+
+	private T mapRow(ResultSet resultSet, @Nullable ResultSetAccessor accessor, int rowNumber) {
 
-		return path == null //
+		Recording recording = JdbcFlightRecorder.rowMapping(entity.getType());
+		if (recording.isEnabled() && path != null) {
+			recording.path(path.getRequiredPersistentPropertyPath());
+		}
+
+		T result = doMapRow(resultSet, accessor, rowNumber);
+		recording.count(1).commit();
+
+		return result;
+	}
+
+	private T doMapRow(ResultSet resultSet, @Nullable ResultSetAccessor accessor, int rowNumber) {
+
+		if (converter instanceof BasicJdbcConverter) {
+			return mapRow((BasicJdbcConverter) converter,
+					accessor != null ? accessor : new ResultSetAccessor(resultSet), rowNumber);
+		}
+
+		if (path != null) {
+			return converter.mapRow(path, resultSet, identifier, rowNumber);
+		}
+
+		return relationResolver == null //
 				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+				: converter.mapRow(entity, resultSet, rowNumber, relationResolver);
 	}
 
+	private T mapRow(BasicJdbcConverter converter, ResultSetAccessor accessor, int rowNumber) {
+
+		if (path != null) {
+			return converter.mapRow(path, accessor, identifier, rowNumber);
+		}
+
+		return relationResolver == null //
+				? converter.mapRow(entity, accessor, rowNumber) //
+				: converter.mapRow(entity, accessor, rowNumber, relationResolver);
+	}
 }
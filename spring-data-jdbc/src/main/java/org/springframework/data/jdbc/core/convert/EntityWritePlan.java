@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+
+/**
+ * The columns an entity gets written to, resolved once: for each column the property providing its value, its name,
+ * the name of its bind parameter and the Java and SQL type its value gets converted to. Embedded entities are
+ * represented by nested plans using the prefixed column names. Binding the values of an instance therefore only
+ * involves reading and converting property values.
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ *
+ * @since 2.1
+ * @see DefaultDataAccessStrategy
+ */
+class EntityWritePlan<T> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final WriteProperty[] properties;
+
+	/**
+	 * @param entity the entity to write. Must not be {@literal null}.
+	 * @param context used to look up embedded entities. Must not be {@literal null}.
+	 * @param converter used to determine the column types. Must not be {@literal null}.
+	 * @param identifierProcessing used to render column names to parameter names. Must not be {@literal null}.
+	 */
+	EntityWritePlan(RelationalPersistentEntity<T> entity,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			JdbcConverter converter, IdentifierProcessing identifierProcessing) {
+		this(entity, "", context, converter, identifierProcessing);
+	}
+
+	private EntityWritePlan(RelationalPersistentEntity<T> entity, String prefix,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			JdbcConverter converter, IdentifierProcessing identifierProcessing) {
+
+		this.entity = entity;
+
+		List<WriteProperty> properties = new ArrayList<>();
+		entity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+			if (!property.isWritable() || (property.isEntity() && !property.isEmbedded())) {
+				return;
+			}
+
+			if (property.isEmbedded()) {
+
+				RelationalPersistentEntity<?> embeddedEntity = context.getRequiredPersistentEntity(property.getType());
+				properties.add(new WriteProperty(property, new EntityWritePlan<>(embeddedEntity,
+						prefix + property.getEmbeddedPrefix(), context, converter, identifierProcessing)));
+				return;
+			}
+
+			SqlIdentifier columnName = property.getColumnName().transform(prefix::concat);
+			properties.add(new WriteProperty(property, columnName, columnName.getReference(identifierProcessing),
+					converter.getColumnType(property), converter.getSqlType(property)));
+		});
+
+		this.properties = properties.toArray(new WriteProperty[0]);
+	}
+
+	/**
+	 * Adds the converted values of all columns of the given instance to the {@link SqlIdentifierParameterSource}.
+	 *
+	 * @param parameterSource the parameter source to add the values to. Must not be {@literal null}.
+	 * @param instance the instance to write. May be {@literal null} in which case all values are {@literal null}.
+	 * @param includeIdProperties whether to add the columns of id properties.
+	 * @param converter used to convert the property values to JDBC values. Must not be {@literal null}.
+	 */
+	void addValues(SqlIdentifierParameterSource parameterSource, @Nullable T instance, boolean includeIdProperties,
+			JdbcConverter converter) {
+
+		PersistentPropertyAccessor<T> propertyAccessor = instance == null ? null : entity.getPropertyAccessor(instance);
+
+		for (WriteProperty property : properties) {
+
+			if (!includeIdProperties && property.property.isIdProperty()) {
+				continue;
+			}
+
+			Object value = propertyAccessor == null ? null : propertyAccessor.getProperty(property.property);
+
+			if (property.embedded != null) {
+
+				addEmbeddedValues(property.embedded, parameterSource, value, includeIdProperties, converter);
+				continue;
+			}
+
+			JdbcValue jdbcValue = converter.writeJdbcValue(value, property.columnType, property.sqlType);
+			parameterSource.addValue(property.columnName, property.parameterName, jdbcValue.getValue(),
+					JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <S> void addEmbeddedValues(EntityWritePlan<S> plan, SqlIdentifierParameterSource parameterSource,
+			@Nullable Object instance, boolean includeIdProperties, JdbcConverter converter) {
+		plan.addValues(parameterSource, (S) instance, includeIdProperties, converter);
+	}
+
+	/**
+	 * A property written either to a single column or, if embedded, to the columns of a nested plan.
+	 */
+	private static class WriteProperty {
+
+		private final RelationalPersistentProperty property;
+		@Nullable private final EntityWritePlan<?> embedded;
+
+		@Nullable private final SqlIdentifier columnName;
+		@Nullable private final String parameterName;
+		@Nullable private final Class<?> columnType;
+		private final int sqlType;
+
+		private WriteProperty(RelationalPersistentProperty property, SqlIdentifier columnName, String parameterName,
+				Class<?> columnType, int sqlType) {
+
+			this.property = property;
+			this.embedded = null;
+			this.columnName = columnName;
+			this.parameterName = parameterName;
+			this.columnType = columnType;
+			this.sqlType = sqlType;
+		}
+
+		private WriteProperty(RelationalPersistentProperty property, EntityWritePlan<?> embedded) {
+
+			this.property = property;
+			this.embedded = embedded;
+			this.columnName = null;
+			this.parameterName = null;
+			this.columnType = null;
+			this.sqlType = 0;
+		}
+	}
+}
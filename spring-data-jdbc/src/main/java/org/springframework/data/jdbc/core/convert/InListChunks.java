@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Splits the values bound to an {@code IN (…)} list into chunks of a few fixed sizes. Since the values of a collection
+ * get expanded to one bind marker each, every distinct number of values results in a distinct statement. Chunks are
+ * therefore padded to the next size by repeating their last value, which doesn't change the result of the
+ * {@code IN (…)} condition. This way only a handful of distinct statements reach the statement caches of driver and
+ * database, and the number of bind markers per statement stays below the limits of the database.
+ * <p>
+ * Chunk sizes start at {@literal 16} and grow by a factor of {@literal 4}, up to the maximum chunk size, i.e. a maximum
+ * of {@literal 256} results in chunks of {@literal 16}, {@literal 64} and {@literal 256} values.
+ *
+ * @since 2.1
+ */
+final class InListChunks {
+
+	private static final int SMALLEST_CHUNK_SIZE = 16;
+	private static final int GROWTH_FACTOR = 4;
+
+	private InListChunks() {}
+
+	/**
+	 * Splits the values into padded chunks.
+	 *
+	 * @param values the values to split. Must not be {@literal null}.
+	 * @param maxChunkSize the maximum number of values per chunk. Must be greater than {@literal 0}.
+	 * @return the chunks in the order of the values. Guaranteed to be not {@literal null}.
+	 */
+	static List<List<Object>> split(List<?> values, int maxChunkSize) {
+
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(maxChunkSize > 0, "Maximum chunk size must be greater than 0");
+
+		List<List<Object>> chunks = new ArrayList<>(values.size() / maxChunkSize + 1);
+
+		for (int start = 0; start < values.size(); start += maxChunkSize) {
+
+			int end = Math.min(start + maxChunkSize, values.size());
+			int size = chunkSize(end - start, maxChunkSize);
+
+			List<Object> chunk = new ArrayList<>(size);
+			chunk.addAll(values.subList(start, end));
+
+			Object last = values.get(end - 1);
+			while (chunk.size() < size) {
+				chunk.add(last);
+			}
+
+			chunks.add(chunk);
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * @param count the number of values to bind, not exceeding {@code maxChunkSize}.
+	 * @param maxChunkSize the maximum number of values per chunk.
+	 * @return the smallest chunk size that can take {@code count} values.
+	 */
+	static int chunkSize(int count, int maxChunkSize) {
+
+		int size = SMALLEST_CHUNK_SIZE;
+		while (size < count) {
+			size *= GROWTH_FACTOR;
+		}
+
+		return Math.min(size, maxChunkSize);
+	}
+}
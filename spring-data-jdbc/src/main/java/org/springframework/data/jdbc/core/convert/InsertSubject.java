@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * The subject of an insert, described by the entity instance and its {@link Identifier}, where identifier contains
+ * information about data that needs to be considered for the insert but which is not part of the entity. Namely
+ * references back to a parent entity and key/index columns for entities that are stored in a {@link java.util.Map} or
+ * {@link java.util.List}.
+ *
+ * @since 2.1
+ * @see DataAccessStrategy#insert(java.util.List, Class)
+ */
+public final class InsertSubject<T> {
+
+	private final T instance;
+	private final Identifier identifier;
+
+	private InsertSubject(T instance, Identifier identifier) {
+
+		this.instance = instance;
+		this.identifier = identifier;
+	}
+
+	/**
+	 * Creates a new {@link InsertSubject}.
+	 *
+	 * @param instance the instance to be stored. Must not be {@literal null}.
+	 * @param identifier the additional values to be stored with the instance. Must not be {@literal null}.
+	 * @return the {@link InsertSubject}. Guaranteed to be not {@literal null}.
+	 */
+	public static <T> InsertSubject<T> describedBy(T instance, Identifier identifier) {
+
+		Assert.notNull(instance, "Instance must not be null");
+		Assert.notNull(identifier, "Identifier must not be null");
+
+		return new InsertSubject<>(instance, identifier);
+	}
+
+	public T getInstance() {
+		return instance;
+	}
+
+	public Identifier getIdentifier() {
+		return identifier;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		InsertSubject<?> that = (InsertSubject<?>) o;
+		return Objects.equals(instance, that.instance) && Objects.equals(identifier, that.identifier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(instance, identifier);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "InsertSubject{" + "instance=" + instance + ", identifier=" + identifier + '}';
+	}
+}
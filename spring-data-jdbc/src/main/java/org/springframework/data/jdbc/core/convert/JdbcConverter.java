@@ -67,6 +67,82 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link RelationalPersistentEntity#getType() entity}, resolving
+	 * referenced collections and maps through the given {@link RelationResolver} instead of the one this converter was
+	 * configured with. The default implementation ignores the given {@link RelationResolver} and delegates to
+	 * {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)}, so relations get resolved by the converter itself.
+	 *
+	 * @param entity the persistent entity type.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key primary key.
+	 * @param relationResolver used to fetch additional relations. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(entity, resultSet, key);
+	}
+
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity},
+	 * resolving referenced collections and maps through the given {@link RelationResolver} instead of the one this
+	 * converter was configured with. The default implementation ignores the given {@link RelationResolver} and
+	 * delegates to {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}, so relations get
+	 * resolved by the converter itself.
+	 *
+	 * @param path path to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param relationResolver used to fetch additional relations. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			RelationResolver relationResolver) {
+		return mapRow(path, resultSet, identifier, key);
+	}
+
+	/**
+	 * Read the current row from a {@link ResultSet} containing complete aggregates to the
+	 * {@link PersistentPropertyPathExtension#getActualType() entity} at the given path. In contrast to
+	 * {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object, RelationResolver)} the columns are
+	 * expected to be aliased relative to the aggregate root, as they are when all tables of the aggregate get joined in
+	 * a single select (see {@link PersistentPropertyPathExtension#getColumnAlias()}). The paths passed to the
+	 * {@link RelationResolver} are relative to the aggregate root as well.
+	 * <p>
+	 * Only supported if {@link #isAggregateRowMappingSupported()} returns {@literal true}, the default implementation
+	 * throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param path path from the aggregate root to the entity to read. Use an empty path to read the aggregate root.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key the list index or map key of the entity or, if there is none, any key of the row.
+	 * @param relationResolver used to fetch additional relations. Must not be {@literal null}.
+	 * @param <T>
+	 * @return
+	 * @since 2.1
+	 */
+	default <T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSet resultSet, Object key,
+			RelationResolver relationResolver) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support mapping aggregate rows", getClass().getName()));
+	}
+
+	/**
+	 * Returns whether {@link #mapAggregateRow(PersistentPropertyPathExtension, ResultSet, Object, RelationResolver)} is
+	 * supported, which is required for loading aggregates with a single statement.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 2.1
+	 */
+	default boolean isAggregateRowMappingSupported() {
+		return false;
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -85,4 +161,15 @@ public interface JdbcConverter extends RelationalConverter {
 	 * @since 2.0
 	 */
 	int getSqlType(RelationalPersistentProperty property);
+
+	/**
+	 * Returns whether {@link #writeJdbcValue(Object, Class, int)} can convert arrays into {@link java.sql.Array}
+	 * instances, e.g. because a {@link JdbcTypeFactory} creating them is configured.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 2.1
+	 */
+	default boolean isArrayCreationSupported() {
+		return false;
+	}
 }
@@ -32,8 +32,17 @@ public interface JdbcTypeFactory {
 	 */
 	static JdbcTypeFactory unsupported() {
 
-		return value -> {
-			throw new UnsupportedOperationException("This JdbcTypeFactory does not support Array creation");
+		return new JdbcTypeFactory() {
+
+			@Override
+			public Array createArray(Object[] value) {
+				throw new UnsupportedOperationException("This JdbcTypeFactory does not support Array creation");
+			}
+
+			@Override
+			public boolean isArrayCreationSupported() {
+				return false;
+			}
 		};
 	}
 
@@ -44,4 +53,14 @@ public interface JdbcTypeFactory {
 	 * @return an {@link Array}. Guaranteed to be not {@literal null}.
 	 */
 	Array createArray(Object[] value);
+
+	/**
+	 * Returns whether {@link #createArray(Object[])} can be used to create {@link Array} instances.
+	 *
+	 * @return {@literal true} by default.
+	 * @since 2.1
+	 */
+	default boolean isArrayCreationSupported() {
+		return true;
+	}
 }
@@ -20,10 +20,13 @@ import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * A {@link RowMapper} that maps a row to a {@link Map.Entry} so an {@link Iterable} of those can be converted to a
@@ -52,12 +55,50 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
+		return mapRow(rs, null);
+	}
+
+	/**
+	 * Maps the current row, reading it through the given {@link ResultSetAccessor} shared by all rows of the
+	 * {@link ResultSet}.
+	 *
+	 * @since 2.1
+	 */
+	Map.Entry<Object, T> mapRow(ResultSetAccessor accessor, int rowNum) throws SQLException {
+		return mapRow(accessor.getResultSet(), accessor);
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for a single query execution, which indexes the columns of its {@link ResultSet} only
+	 * once for all rows.
+	 *
+	 * @since 2.1
+	 */
+	RowMapper<Map.Entry<Object, T>> forSingleResultSet() {
+		return new SingleResultSetRowMapper<>(this::mapRow);
+	}
+
+	private Map.Entry<Object, T> mapRow(ResultSet rs, @Nullable ResultSetAccessor accessor) throws SQLException {
+
+		Recording recording = JdbcFlightRecorder.rowMapping(path.getActualType());
+		if (recording.isEnabled()) {
+			recording.path(path.getRequiredPersistentPropertyPath());
+		}
 
 		Object key = rs.getObject(keyColumn.getReference(identifierProcessing));
-		return new HashMap.SimpleEntry<>(key, mapEntity(rs, key));
+		Map.Entry<Object, T> entry = new HashMap.SimpleEntry<>(key, mapEntity(rs, accessor, key));
+		recording.count(1).commit();
+
+		return entry;
 	}
 
-	private T mapEntity(ResultSet resultSet, Object key) {
+	private T mapEntity(ResultSet resultSet, @Nullable ResultSetAccessor accessor, Object key) {
+
+		if (converter instanceof BasicJdbcConverter) {
+			return ((BasicJdbcConverter) converter).mapRow(path,
+					accessor != null ? accessor : new ResultSetAccessor(resultSet), identifier, key);
+		}
+
 		return converter.mapRow(path, resultSet, identifier, key);
 	}
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.relational.core.sql.render.ParameterizedSql;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+/**
+ * {@link PreparedStatementSetter} binding the values of a {@link SqlParameterSource} to the positional parameters of a
+ * {@link ParameterizedSql}, the same way {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations}
+ * binds them to named parameters, but without parsing the statement. Values must not be collections, since positional
+ * statements can't be expanded to the number of elements.
+ *
+ * @since 2.1
+ */
+class PositionalParameterSetter implements PreparedStatementSetter {
+
+	private final ParameterizedSql sql;
+	private final SqlParameterSource parameterSource;
+
+	PositionalParameterSetter(ParameterizedSql sql, SqlParameterSource parameterSource) {
+
+		this.sql = sql;
+		this.parameterSource = parameterSource;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.PreparedStatementSetter#setValues(java.sql.PreparedStatement)
+	 */
+	@Override
+	public void setValues(PreparedStatement statement) throws SQLException {
+
+		List<String> parameterNames = sql.getParameterNames();
+
+		for (int i = 0; i < parameterNames.size(); i++) {
+
+			String name = parameterNames.get(i);
+
+			if (!parameterSource.hasValue(name)) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("No value supplied for the SQL parameter '%s' of %s", name, sql.getSql()));
+			}
+
+			Object value = parameterSource.getValue(name);
+
+			if (value instanceof SqlParameterValue) {
+
+				SqlParameterValue parameterValue = (SqlParameterValue) value;
+				StatementCreatorUtils.setParameterValue(statement, i + 1, parameterValue, parameterValue.getValue());
+			} else {
+				StatementCreatorUtils.setParameterValue(statement, i + 1, parameterSource.getSqlType(name),
+						parameterSource.getTypeName(name), value);
+			}
+		}
+	}
+}
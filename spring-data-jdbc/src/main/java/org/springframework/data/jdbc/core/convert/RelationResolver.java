@@ -15,6 +15,10 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 
@@ -36,4 +40,27 @@ public interface RelationResolver {
 	 */
 	Iterable<Object> findAllByPath(Identifier identifier,
 			PersistentPropertyPath<? extends RelationalPersistentProperty> path);
+
+	/**
+	 * Finds all entities reachable via {@literal path} for each of the given {@link Identifier}s. Implementations may
+	 * load the entities for multiple parents with a single statement. The default implementation calls
+	 * {@link #findAllByPath(Identifier, PersistentPropertyPath)} for each {@link Identifier}.
+	 *
+	 * @param identifiers the identifiers of the parents of the entities to be loaded. Must not be {@literal null}.
+	 * @param path the path from the aggregate root to the entities to be resolved. Must not be {@literal null}.
+	 * @return the entities reachable via {@literal path} by {@link Identifier} of their parent. Contains an entry for
+	 *         every element of {@literal identifiers}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	default Map<Identifier, Iterable<Object>> findAllByPath(Collection<Identifier> identifiers,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Map<Identifier, Iterable<Object>> result = new LinkedHashMap<>();
+
+		for (Identifier identifier : identifiers) {
+			result.put(identifier, findAllByPath(identifier, path));
+		}
+
+		return result;
+	}
 }
@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -30,6 +31,11 @@ import org.springframework.util.LinkedCaseInsensitiveMap;
  * Wrapper value object for a {@link java.sql.ResultSet} to be able to access raw values by
  * {@link org.springframework.data.relational.core.mapping.RelationalPersistentProperty} references. Provides fast
  * lookup of columns by name, including for absent columns.
+ * <p>
+ * An instance is meant to be used for all rows of a {@link ResultSet}: the column labels get indexed once on
+ * construction and the columns of each {@link EntityReadPlan} get resolved to column indexes once per
+ * {@link ColumnIndex}. Instances are scoped to the extraction of a single {@link ResultSet} and are not thread-safe,
+ * just as the {@link ResultSet} they wrap. They must not be kept by long-lived objects like {@link EntityRowMapper}.
  *
  * @author Jens Schauder
  * @author Mark Paluch
@@ -43,12 +49,21 @@ class ResultSetAccessor {
 
 	private final Map<String, Integer> indexLookUp;
 
+	private final Map<EntityReadPlan<?>, ColumnIndex> columnIndexes = new IdentityHashMap<>();
+
 	ResultSetAccessor(ResultSet resultSet) {
 
 		this.resultSet = resultSet;
 		this.indexLookUp = indexColumns(resultSet);
 	}
 
+	/**
+	 * @return the {@link ResultSet} this accessor reads from. Guaranteed to be not {@literal null}.
+	 */
+	ResultSet getResultSet() {
+		return resultSet;
+	}
+
 	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
 
 		try {
@@ -76,6 +91,25 @@ class ResultSetAccessor {
 		}
 	}
 
+	/**
+	 * Returns the {@link ColumnIndex} resolving the properties of the given {@link EntityReadPlan}.
+	 *
+	 * @param plan the plan of the entity to read. Must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 */
+	ColumnIndex getColumnIndex(EntityReadPlan<?> plan) {
+
+		ColumnIndex columnIndex = columnIndexes.get(plan);
+
+		if (columnIndex == null) {
+
+			columnIndex = new ColumnIndex(plan);
+			columnIndexes.put(plan, columnIndex);
+		}
+
+		return columnIndex;
+	}
+
 	/**
 	 * Returns the value if the result set contains the {@code columnName}.
 	 *
@@ -85,13 +119,16 @@ class ResultSetAccessor {
 	 */
 	@Nullable
 	public Object getObject(String columnName) {
+		return getObject(findColumnIndex(columnName), columnName);
+	}
 
-		try {
+	@Nullable
+	private Object getObject(int index, Object column) {
 
-			int index = findColumnIndex(columnName);
+		try {
 			return index > 0 ? resultSet.getObject(index) : null;
 		} catch (SQLException o_O) {
-			throw new MappingException(String.format("Could not read value %s from result set!", columnName), o_O);
+			throw new MappingException(String.format("Could not read value %s from result set!", column), o_O);
 		}
 	}
 
@@ -108,4 +145,89 @@ class ResultSetAccessor {
 	public boolean hasValue(String columnName) {
 		return indexLookUp.containsKey(columnName);
 	}
+
+	/**
+	 * Resolves the column labels of an {@link EntityReadPlan} to column indexes of the {@link ResultSet}, so reading rows
+	 * doesn't involve any label lookups. Properties are identified by their {@link EntityReadPlan.PropertyPlan#getIndex()
+	 * index}.
+	 */
+	class ColumnIndex {
+
+		private final EntityReadPlan<?> plan;
+
+		private final int[] columns;
+		private final int[] reverseColumns;
+		private final ColumnIndex[] nested;
+
+		private ColumnIndex(EntityReadPlan<?> plan) {
+
+			this.plan = plan;
+
+			EntityReadPlan.PropertyPlan[] properties = plan.getProperties();
+
+			this.columns = new int[properties.length];
+			this.reverseColumns = new int[properties.length];
+			this.nested = new ColumnIndex[properties.length];
+
+			for (EntityReadPlan.PropertyPlan property : properties) {
+
+				columns[property.getIndex()] = findColumnIndex(property.getColumnLabel());
+				reverseColumns[property.getIndex()] = findColumnIndex(property.getReverseColumnLabel());
+			}
+		}
+
+		/**
+		 * Returns the value of the column of the property in the current row.
+		 *
+		 * @param property a property of the plan of this index.
+		 * @return May be {@literal null}.
+		 */
+		@Nullable
+		Object getObject(EntityReadPlan.PropertyPlan property) {
+			return ResultSetAccessor.this.getObject(columns[property.getIndex()], property.getProperty());
+		}
+
+		/**
+		 * Returns {@literal true} if the result set contains the column of the property.
+		 *
+		 * @param property a property of the plan of this index.
+		 */
+		boolean hasValue(EntityReadPlan.PropertyPlan property) {
+			return columns[property.getIndex()] > 0;
+		}
+
+		/**
+		 * Returns the value of the back reference column of the property in the current row.
+		 *
+		 * @param property a property of the plan of this index referencing another entity.
+		 * @return May be {@literal null}.
+		 */
+		@Nullable
+		Object getReverseColumnObject(EntityReadPlan.PropertyPlan property) {
+			return ResultSetAccessor.this.getObject(reverseColumns[property.getIndex()], property.getProperty());
+		}
+
+		/**
+		 * Returns the {@link ColumnIndex} for the properties of the entity embedded or referenced by the property.
+		 *
+		 * @param property a property of the plan of this index.
+		 * @return Guaranteed to be not {@literal null}.
+		 */
+		ColumnIndex extendBy(EntityReadPlan.PropertyPlan property) {
+
+			ColumnIndex columnIndex = nested[property.getIndex()];
+
+			if (columnIndex == null) {
+
+				columnIndex = new ColumnIndex(plan.getNestedPlan(property));
+				nested[property.getIndex()] = columnIndex;
+			}
+
+			return columnIndex;
+		}
+
+		private int findColumnIndex(@Nullable String label) {
+			return label == null ? -1 : ResultSetAccessor.this.findColumnIndex(label);
+		}
+	}
 }
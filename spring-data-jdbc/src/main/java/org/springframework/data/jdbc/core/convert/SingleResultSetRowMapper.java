@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RowMapper} for the rows of a single {@link ResultSet}. All rows are read through one
+ * {@link ResultSetAccessor}, so the columns get indexed only once. An instance has to be created for each query
+ * execution and must not be shared.
+ *
+ * @since 2.1
+ */
+class SingleResultSetRowMapper<T> implements RowMapper<T> {
+
+	private final AccessorRowMapper<T> delegate;
+
+	@Nullable private ResultSetAccessor accessor;
+
+	SingleResultSetRowMapper(AccessorRowMapper<T> delegate) {
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.RowMapper#mapRow(java.sql.ResultSet, int)
+	 */
+	@Override
+	public T mapRow(ResultSet resultSet, int rowNumber) throws SQLException {
+
+		if (accessor == null) {
+			accessor = new ResultSetAccessor(resultSet);
+		}
+
+		return delegate.mapRow(accessor, rowNumber);
+	}
+
+	/**
+	 * Maps a row read through a {@link ResultSetAccessor}.
+	 */
+	@FunctionalInterface
+	interface AccessorRowMapper<T> {
+
+		T mapRow(ResultSetAccessor accessor, int rowNumber) throws SQLException;
+	}
+}
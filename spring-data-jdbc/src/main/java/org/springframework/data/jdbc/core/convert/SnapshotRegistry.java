@@ -0,0 +1,259 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Records the column values of aggregate roots as they were loaded, so that updates can determine which columns
+ * actually changed. Snapshots are bound to the current transaction and discarded once it completes. Outside of a
+ * transaction with active synchronization nothing gets recorded, since the database state might change between loading
+ * and saving an entity.
+ * <p>
+ * Only the columns of the table of the aggregate root, including those of embedded entities, are part of a snapshot.
+ * Values get compared after conversion to their JDBC representation, so changes to mutable values are only detected
+ * for arrays and {@link Date}s, which get copied.
+ *
+ * @since 2.1
+ * @see org.springframework.data.jdbc.core.JdbcAggregateTemplate#setSnapshotRegistry(SnapshotRegistry)
+ */
+public class SnapshotRegistry {
+
+	private final JdbcConverter converter;
+	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
+
+	/**
+	 * @param converter used to convert property values to the values stored in the database. Must not be
+	 *          {@literal null}.
+	 */
+	public SnapshotRegistry(JdbcConverter converter) {
+
+		Assert.notNull(converter, "JdbcConverter must not be null");
+
+		this.converter = converter;
+		this.context = converter.getMappingContext();
+	}
+
+	/**
+	 * Records the current column values of the given aggregate root, replacing any snapshot previously recorded for it.
+	 * Does nothing if no transaction is active or the entity has no id.
+	 *
+	 * @param entity the aggregate root as loaded or saved. Must not be {@literal null}.
+	 */
+	public void register(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entity.getClass());
+		Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+
+		if (id == null) {
+			return;
+		}
+
+		Map<Object, Map<SqlIdentifier, Object>> snapshots = getSnapshots(entity.getClass(), true);
+
+		if (snapshots != null) {
+			snapshots.put(id, takeSnapshot(entity, persistentEntity));
+		}
+	}
+
+	/**
+	 * Determines the columns of the given aggregate root which differ from the recorded snapshot.
+	 *
+	 * @param entity the aggregate root about to be updated. Must not be {@literal null}.
+	 * @return the names of the changed columns, an empty {@link Set} if nothing changed, or {@literal null} if no snapshot
+	 *         got recorded for the entity.
+	 */
+	@Nullable
+	public Set<SqlIdentifier> getDirtyColumns(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(entity.getClass());
+		Object id = persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+
+		Map<Object, Map<SqlIdentifier, Object>> snapshots = getSnapshots(entity.getClass(), false);
+		Map<SqlIdentifier, Object> snapshot = snapshots == null || id == null ? null : snapshots.get(id);
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		Set<SqlIdentifier> dirtyColumns = new LinkedHashSet<>();
+		takeSnapshot(entity, persistentEntity).forEach((column, value) -> {
+
+			if (!snapshot.containsKey(column) || !Objects.deepEquals(snapshot.get(column), value)) {
+				dirtyColumns.add(column);
+			}
+		});
+
+		return dirtyColumns;
+	}
+
+	/**
+	 * Discards the snapshot of the aggregate root identified by type and id.
+	 *
+	 * @param id the id of the aggregate root. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 */
+	public void remove(Object id, Class<?> domainType) {
+
+		Assert.notNull(id, "Id must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		Map<Object, Map<SqlIdentifier, Object>> snapshots = getSnapshots(domainType, false);
+
+		if (snapshots != null) {
+			snapshots.remove(id);
+		}
+	}
+
+	/**
+	 * Discards the snapshots of all aggregate roots of the given type.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@literal null}.
+	 */
+	public void removeAll(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null");
+
+		Map<Object, Map<SqlIdentifier, Object>> snapshots = getSnapshots(domainType, false);
+
+		if (snapshots != null) {
+			snapshots.clear();
+		}
+	}
+
+	/**
+	 * Discards all snapshots recorded within the current transaction, e.g. because a modifying query might have changed
+	 * any of the rows.
+	 */
+	public void clear() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(this);
+		}
+	}
+
+	private Map<SqlIdentifier, Object> takeSnapshot(Object entity, RelationalPersistentEntity<?> persistentEntity) {
+
+		Map<SqlIdentifier, Object> snapshot = new LinkedHashMap<>();
+		addColumnValues(snapshot, entity, persistentEntity, "");
+
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addColumnValues(Map<SqlIdentifier, Object> snapshot, @Nullable Object instance,
+			RelationalPersistentEntity<?> persistentEntity, String prefix) {
+
+		PersistentPropertyAccessor<Object> propertyAccessor = instance == null ? null
+				: ((RelationalPersistentEntity<Object>) persistentEntity).getPropertyAccessor(instance);
+
+		persistentEntity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+			if (!property.isWritable() || (property.isEntity() && !property.isEmbedded())) {
+				return;
+			}
+
+			Object value = propertyAccessor == null ? null : propertyAccessor.getProperty(property);
+
+			if (property.isEmbedded()) {
+
+				addColumnValues(snapshot, value, context.getRequiredPersistentEntity(property.getType()),
+						prefix + property.getEmbeddedPrefix());
+				return;
+			}
+
+			Object columnValue = converter.writeValue(value, ClassTypeInformation.from(converter.getColumnType(property)));
+			snapshot.put(property.getColumnName().transform(prefix::concat), copyIfMutable(columnValue));
+		});
+	}
+
+	@Nullable
+	private static Object copyIfMutable(@Nullable Object value) {
+
+		if (value instanceof Date) {
+			return ((Date) value).clone();
+		}
+
+		if (value != null && value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			for (int i = 0; i < length; i++) {
+				Array.set(copy, i, copyIfMutable(Array.get(value, i)));
+			}
+
+			return copy;
+		}
+
+		return value;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private Map<Object, Map<SqlIdentifier, Object>> getSnapshots(Class<?> domainType, boolean create) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Map<Class<?>, Map<Object, Map<SqlIdentifier, Object>>> snapshotsByType = (Map<Class<?>, Map<Object, Map<SqlIdentifier, Object>>>) TransactionSynchronizationManager
+				.getResource(this);
+
+		if (snapshotsByType == null) {
+
+			if (!create) {
+				return null;
+			}
+
+			snapshotsByType = new HashMap<>();
+			TransactionSynchronizationManager.bindResource(this, snapshotsByType);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(SnapshotRegistry.this);
+				}
+			});
+		}
+
+		return create ? snapshotsByType.computeIfAbsent(domainType, type -> new HashMap<>())
+				: snapshotsByType.get(domainType);
+	}
+}
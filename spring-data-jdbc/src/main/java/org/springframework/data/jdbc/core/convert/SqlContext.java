@@ -66,4 +66,8 @@ class SqlContext {
 	Column getReverseColumn(PersistentPropertyPathExtension path) {
 		return getTable(path).column(path.getReverseColumnName()).as(path.getReverseColumnNameAlias());
 	}
+
+	Column getQualifierColumn(PersistentPropertyPathExtension path) {
+		return getTable(path).column(path.getQualifierColumn()).as(path.getQualifierColumnAlias());
+	}
 }
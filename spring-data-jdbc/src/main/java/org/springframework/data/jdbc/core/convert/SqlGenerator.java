@@ -17,25 +17,33 @@ package org.springframework.data.jdbc.core.convert;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.*;
+import org.springframework.data.relational.core.sql.render.ParameterizedSql;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -58,29 +66,84 @@ class SqlGenerator {
 	static final SqlIdentifier ID_SQL_PARAMETER = SqlIdentifier.unquoted("id");
 	static final SqlIdentifier IDS_SQL_PARAMETER = SqlIdentifier.unquoted("ids");
 	static final SqlIdentifier ROOT_ID_PARAMETER = SqlIdentifier.unquoted("rootId");
+	static final SqlIdentifier LIMIT_SQL_PARAMETER = SqlIdentifier.unquoted("___limit");
+	static final SqlIdentifier OFFSET_SQL_PARAMETER = SqlIdentifier.unquoted("___offset");
 
 	private static final Pattern parameterPattern = Pattern.compile("\\W");
+
+	/**
+	 * Maximum number of statements cached per kind of statement that depends on arguments, e.g. the columns to update or
+	 * the {@link Sort} to apply.
+	 */
+	private static final int STATEMENT_CACHE_SIZE = 64;
+
 	private final RelationalPersistentEntity<?> entity;
-	private final MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
+	private final RelationalMappingContext mappingContext;
 	private final RenderContext renderContext;
 
 	private final SqlContext sqlContext;
 	private final SqlRenderer sqlRenderer;
 	private final Columns columns;
+	private final LimitClause limitClause;
 
-	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
+	private final Lazy<String> findOneSql = Lazy.of(() -> render(createFindOne()));
+	private final Lazy<ParameterizedSql> findOnePositionalSql = Lazy.of(() -> renderPositional(createFindOne()));
 	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
 	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
-
-	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
+	private final Lazy<String> findAllInArraySql = Lazy.of(this::createFindAllInArraySql);
+	private final ConcurrentLruCache<Sort, String> findAllSortedSql = new ConcurrentLruCache<>(STATEMENT_CACHE_SIZE,
+			this::createFindAllSortedSql);
+	private final ConcurrentLruCache<Sort, String> findAllPagedSql = new ConcurrentLruCache<>(STATEMENT_CACHE_SIZE,
+			this::createFindAllPagedSql);
+	private final ConcurrentLruCache<KeysetQuery, String> findAllKeysetSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, this::createFindAllKeysetSql);
+	private final ConcurrentLruCache<BackReferenceQuery, String> findAllByPropertySql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, query -> render(createFindAllByProperty(query)));
+	private final ConcurrentLruCache<BackReferenceQuery, ParameterizedSql> findAllByPropertyPositionalSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, query -> renderPositional(createFindAllByProperty(query)));
+	private final ConcurrentLruCache<BackReferenceQuery, String> findAllByPropertyInSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, query -> createFindAllByPropertyInSql(query, false));
+	private final ConcurrentLruCache<BackReferenceQuery, String> findAllByPropertyInArraySql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, query -> createFindAllByPropertyInSql(query, true));
+
+	private final Lazy<Boolean> aggregateSelectSupported = Lazy.of(this::createAggregateSelectSupported);
+	private final Lazy<String> findOneAggregateSql = Lazy.of(this::createFindOneAggregateSql);
+	private final Lazy<String> findAllAggregateSql = Lazy.of(this::createFindAllAggregateSql);
+	private final Lazy<String> findAllAggregateInListSql = Lazy.of(this::createFindAllAggregateInListSql);
+	private final Lazy<String> findAllAggregateInArraySql = Lazy.of(this::createFindAllAggregateInArraySql);
+
+	private final Lazy<String> existsSql = Lazy.of(() -> render(createExists()));
+	private final Lazy<ParameterizedSql> existsPositionalSql = Lazy.of(() -> renderPositional(createExists()));
 	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
 
-	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
-	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
-
-	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
-	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
+	private final Lazy<String> updateSql = Lazy.of(() -> render(createUpdate()));
+	private final Lazy<ParameterizedSql> updatePositionalSql = Lazy.of(() -> renderPositional(createUpdate()));
+	private final Lazy<String> updateWithVersionSql = Lazy.of(() -> render(createUpdateWithVersion()));
+	private final Lazy<ParameterizedSql> updateWithVersionPositionalSql = Lazy
+			.of(() -> renderPositional(createUpdateWithVersion()));
+	private final ConcurrentLruCache<BitSet, String> partialUpdateSql = new ConcurrentLruCache<>(STATEMENT_CACHE_SIZE,
+			columnMask -> render(createPartialUpdate(columnMask)));
+	private final ConcurrentLruCache<BitSet, ParameterizedSql> partialUpdatePositionalSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, columnMask -> renderPositional(createPartialUpdate(columnMask)));
+	private final ConcurrentLruCache<BitSet, String> partialUpdateWithVersionSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, columnMask -> render(createPartialUpdateWithVersion(columnMask)));
+	private final ConcurrentLruCache<BitSet, ParameterizedSql> partialUpdateWithVersionPositionalSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, columnMask -> renderPositional(createPartialUpdateWithVersion(columnMask)));
+	private final ConcurrentLruCache<Set<SqlIdentifier>, String> insertSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, additionalColumns -> render(createInsert(additionalColumns)));
+	private final ConcurrentLruCache<Set<SqlIdentifier>, ParameterizedSql> insertPositionalSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, additionalColumns -> renderPositional(createInsert(additionalColumns)));
+
+	private final Lazy<String> deleteByIdSql = Lazy.of(() -> render(createDeleteById()));
+	private final Lazy<ParameterizedSql> deleteByIdPositionalSql = Lazy.of(() -> renderPositional(createDeleteById()));
+	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(() -> render(createDeleteByIdAndVersion()));
+	private final Lazy<ParameterizedSql> deleteByIdAndVersionPositionalSql = Lazy
+			.of(() -> renderPositional(createDeleteByIdAndVersion()));
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final Lazy<String> deleteAllSql = Lazy.of(this::createDeleteAllSql);
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteAllByPathSql = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteByPathSql = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteByIdAndPathSql = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
@@ -99,6 +162,7 @@ class SqlGenerator {
 		this.sqlRenderer = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
+		this.limitClause = dialect.limit();
 	}
 
 	/**
@@ -160,6 +224,18 @@ class SqlGenerator {
 		return findAllInListSql.get();
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are filtered using {@code id = ANY(:ids)}, binding all ids as a single array. Requires the dialect to
+	 * {@link org.springframework.data.relational.core.dialect.ArrayColumns#isAnyComparisonSupported() support} it.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindAllInArray() {
+		return findAllInArraySql.get();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 *
@@ -176,17 +252,60 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return findAllSortedSql.get(sort);
 	}
 
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
 	 * paged and sorted by the given parameter.
+	 * <p>
+	 * If the {@link Dialect} supports it, limit and offset are rendered as bind markers named
+	 * {@link #LIMIT_SQL_PARAMETER} and {@link #OFFSET_SQL_PARAMETER}, so all pages share the same statement. Otherwise
+	 * they are rendered as literals.
 	 *
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+
+		if (pageable.isUnpaged()) {
+			return getFindAll(pageable.getSort());
+		}
+
+		if (!isBindableLimitOffsetSupported()) {
+			return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+		}
+
+		return findAllPagedSql.get(pageable.getSort());
+	}
+
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
+	 * limited to the window of rows following the keys of the {@link KeysetRequest}. Rows are ordered by the
+	 * {@link Sort} of the request followed by the id, which is compared as well, so the order is unique.
+	 * <p>
+	 * The keyset condition is rendered as {@code a > :a OR (a = :a AND id > :id)}, which, unlike a row value comparison
+	 * {@code (a, id) > (:a, :id)}, supports mixed sort directions and all databases. Keys are rendered as bind markers
+	 * named after the columns of their properties. The size of the window is rendered as literal. Rows with a
+	 * {@literal NULL} value in one of the sort columns never satisfy the condition, so sort columns must not be
+	 * nullable.
+	 *
+	 * @param request the keyset request. Must not be {@literal null}.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindAll(KeysetRequest request) {
+		return findAllKeysetSql.get(new KeysetQuery(request.getSort(), request.getSize(), request.isFirst()));
+	}
+
+	/**
+	 * Returns the {@link Sort} defining the keyset of a {@link KeysetRequest}, i.e. its {@link Sort} followed by the id.
+	 *
+	 * @param sort the {@link Sort} of the request. Must not be {@literal null}.
+	 * @return the {@link Sort} including the id property. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	Sort getKeysetSort(Sort sort) {
+		return KeysetRequest.withTiebreaker(sort, entity.getRequiredIdProperty().getName());
 	}
 
 	/**
@@ -206,6 +325,29 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
 
+		return findAllByPropertySql
+				.get(new BackReferenceQuery(parentIdentifier.toMap().keySet(), keyColumn, ordered));
+	}
+
+	/**
+	 * Renders {@link #getFindAllByProperty(Identifier, SqlIdentifier, boolean)} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getFindAllByPropertyPositional(Identifier parentIdentifier, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		return findAllByPropertyPositionalSql
+				.get(new BackReferenceQuery(parentIdentifier.toMap().keySet(), keyColumn, ordered));
+	}
+
+	private Select createFindAllByProperty(BackReferenceQuery query) {
+
+		SqlIdentifier keyColumn = query.keyColumn;
 		Table table = getTable();
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
@@ -214,20 +356,87 @@ class SqlGenerator {
 						: Collections.singleton(keyColumn) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(query.backReferenceColumns, table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
-		Select select = ordered //
+		Select select = query.ordered //
+				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return select;
+	}
+
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
+	 * for multiple referencing entities at once. Results are limited to those rows where the column specified by
+	 * {@literal backReferenceColumn} contains one of the values bound to the parameter of the same name. The
+	 * {@literal backReferenceColumn} is selected as well, so rows can be assigned to the referencing entity.
+	 *
+	 * @param backReferenceColumn name of the column of the FK back to the referencing entity.
+	 * @param keyColumn if the property is of type {@link Map} or {@link List} this column contains the map key or list
+	 *          index.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
+	 *          keyColumn must not be {@code null}.
+	 * @return a SQL String.
+	 * @since 2.1
+	 */
+	String getFindAllByPropertyIn(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		return findAllByPropertyInSql
+				.get(new BackReferenceQuery(Collections.singleton(backReferenceColumn), keyColumn, ordered));
+	}
+
+	/**
+	 * Returns a SQL String like {@link #getFindAllByPropertyIn(SqlIdentifier, SqlIdentifier, boolean)}, but filtering
+	 * using {@code back_reference = ANY(:back_reference)}, binding all parent ids as a single array.
+	 *
+	 * @param backReferenceColumn the column referencing the parent. Must not be {@literal null}.
+	 * @param keyColumn if the property is an {@link java.util.List} or {@link java.util.Map}, the column holding the key or
+	 *          index.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn.
+	 * @return a SQL String.
+	 * @since 2.1
+	 */
+	String getFindAllByPropertyInArray(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		return findAllByPropertyInArraySql
+				.get(new BackReferenceQuery(Collections.singleton(backReferenceColumn), keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertyInSql(BackReferenceQuery query, boolean array) {
+
+		SqlIdentifier backReferenceColumn = query.backReferenceColumns.iterator().next();
+		SqlIdentifier keyColumn = query.keyColumn;
+		Table table = getTable();
+
+		List<SqlIdentifier> additionalColumns = new ArrayList<>();
+		additionalColumns.add(backReferenceColumn);
+		if (keyColumn != null) {
+			additionalColumns.add(keyColumn);
+		}
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(additionalColumns) //
+				.where(inCondition(table.column(backReferenceColumn), getBindMarker(backReferenceColumn), array));
+
+		Select select = query.ordered //
 				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
 				: withWhereClause.build();
 
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	private Condition buildConditionForBackReference(Collection<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 
 			Condition newCondition = table.column(backReferenceColumn).isEqualTo(getBindMarker(backReferenceColumn));
 			condition = condition == null ? newCondition : condition.and(newCondition);
@@ -247,6 +456,16 @@ class SqlGenerator {
 		return existsSql.get();
 	}
 
+	/**
+	 * Renders {@link #getExists()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getExistsPositional() {
+		return existsPositionalSql.get();
+	}
+
 	/**
 	 * Create a {@code SELECT … FROM … WHERE :id = …} statement.
 	 *
@@ -256,6 +475,77 @@ class SqlGenerator {
 		return findOneSql.get();
 	}
 
+	/**
+	 * Renders {@link #getFindOne()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getFindOnePositional() {
+		return findOnePositionalSql.get();
+	}
+
+	/**
+	 * Whether complete aggregates of the entity, including referenced collections and maps, can be selected with a
+	 * single statement by {@link #getFindOneAggregate()}, {@link #getFindAllAggregate()} and
+	 * {@link #getFindAllAggregateInList()}. This requires the aggregate root to have an id, every referenced table to be
+	 * joinable by a single back reference column and every element of a collection or map to be identifiable by its id
+	 * or its list index or map key.
+	 *
+	 * @return {@literal true} if the aggregate can be selected with a single statement.
+	 * @since 2.1
+	 */
+	boolean isAggregateSelectSupported() {
+		return aggregateSelectSupported.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN … WHERE :id = …} statement, selecting the complete aggregate
+	 * including all referenced collections and maps. Each row contains one combination of elements of all referenced
+	 * collections, so the number of rows is the product of the sizes of sibling collections.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #isAggregateSelectSupported()
+	 * @since 2.1
+	 */
+	String getFindOneAggregate() {
+		return findOneAggregateSql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN …} statement, selecting all complete aggregates.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #getFindOneAggregate()
+	 * @since 2.1
+	 */
+	String getFindAllAggregate() {
+		return findAllAggregateSql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN … WHERE id IN (:ids)} statement, selecting complete aggregates.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #getFindOneAggregate()
+	 * @since 2.1
+	 */
+	String getFindAllAggregateInList() {
+		return findAllAggregateInListSql.get();
+	}
+
+	/**
+	 * Create a {@code SELECT … FROM … LEFT OUTER JOIN … WHERE id = ANY(:ids)} statement, selecting complete aggregates
+	 * and binding all ids as a single array.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @see #getFindAllInArray()
+	 * @since 2.1
+	 */
+	String getFindAllAggregateInArray() {
+		return findAllAggregateInArraySql.get();
+	}
+
 	/**
 	 * Create a {@code SELECT count(id) FROM … WHERE :id = … (LOCK CLAUSE)} statement.
 	 *
@@ -277,12 +567,23 @@ class SqlGenerator {
 	}
 
 	/**
-	 * Create a {@code INSERT INTO … (…) VALUES(…)} statement.
+	 * Create a {@code INSERT INTO … (…) VALUES(…)} statement. Statements get cached per set of additional columns, so the
+	 * set must not be modified afterwards.
 	 *
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return insertSql.get(additionalColumns);
+	}
+
+	/**
+	 * Renders {@link #getInsert(Set)} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getInsertPositional(Set<SqlIdentifier> additionalColumns) {
+		return insertPositionalSql.get(additionalColumns);
 	}
 
 	/**
@@ -294,6 +595,16 @@ class SqlGenerator {
 		return updateSql.get();
 	}
 
+	/**
+	 * Renders {@link #getUpdate()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getUpdatePositional() {
+		return updatePositionalSql.get();
+	}
+
 	/**
 	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement.
 	 *
@@ -303,6 +614,76 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Renders {@link #getUpdateWithVersion()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getUpdateWithVersionPositional() {
+		return updateWithVersionPositionalSql.get();
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET …} statement setting only the given columns. Column names that aren't updateable,
+	 * like the id column, are ignored. Statements get cached per set of columns.
+	 *
+	 * @param columnsToUpdate the names of the columns to set. Must contain at least one updateable column.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getUpdate(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet columnMask = columns.getUpdateableColumnMask(columnsToUpdate);
+
+		return columns.coversAllUpdateableColumns(columnMask) ? getUpdate() : partialUpdateSql.get(columnMask);
+	}
+
+	/**
+	 * Renders {@link #getUpdate(Set)} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getUpdatePositional(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet columnMask = columns.getUpdateableColumnMask(columnsToUpdate);
+
+		return columns.coversAllUpdateableColumns(columnMask) ? getUpdatePositional()
+				: partialUpdatePositionalSql.get(columnMask);
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement
+	 * setting only the given columns. Column names that aren't updateable, like the id column, are ignored. Statements
+	 * get cached per set of columns.
+	 *
+	 * @param columnsToUpdate the names of the columns to set. Must contain at least one updateable column.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getUpdateWithVersion(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet columnMask = columns.getUpdateableColumnMask(columnsToUpdate);
+
+		return columns.coversAllUpdateableColumns(columnMask) ? getUpdateWithVersion()
+				: partialUpdateWithVersionSql.get(columnMask);
+	}
+
+	/**
+	 * Renders {@link #getUpdateWithVersion(Set)} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getUpdateWithVersionPositional(Set<SqlIdentifier> columnsToUpdate) {
+
+		BitSet columnMask = columns.getUpdateableColumnMask(columnsToUpdate);
+
+		return columns.coversAllUpdateableColumns(columnMask) ? getUpdateWithVersionPositional()
+				: partialUpdateWithVersionPositionalSql.get(columnMask);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -321,6 +702,16 @@ class SqlGenerator {
 		return deleteByIdSql.get();
 	}
 
+	/**
+	 * Renders {@link #getDeleteById()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getDeleteByIdPositional() {
+		return deleteByIdPositionalSql.get();
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
 	 *
@@ -330,6 +721,16 @@ class SqlGenerator {
 		return deleteByIdAndVersionSql.get();
 	}
 
+	/**
+	 * Renders {@link #getDeleteByIdAndVersion()} with positional bind markers.
+	 *
+	 * @return the statement along with its parameter names. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	ParameterizedSql getDeleteByIdAndVersionPositional() {
+		return deleteByIdAndVersionPositionalSql.get();
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :ids in (…)} statement.
 	 *
@@ -347,15 +748,12 @@ class SqlGenerator {
 	 */
 	String createDeleteAllSql(@Nullable PersistentPropertyPath<RelationalPersistentProperty> path) {
 
-		Table table = getTable();
-
-		DeleteBuilder.DeleteWhere deleteAll = Delete.builder().from(table);
-
 		if (path == null) {
-			return render(deleteAll.build());
+			return deleteAllSql.get();
 		}
 
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path), Column::isNotNull);
+		return deleteAllByPathSql.computeIfAbsent(path, it -> createDeleteByPathAndCriteria(
+				mappingContext.getPersistentPropertyPathExtension(it), Column::isNotNull, null));
 	}
 
 	/**
@@ -365,16 +763,35 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
-		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
-				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
+
+		return deleteByPathSql.computeIfAbsent(path,
+				it -> createDeleteByPathAndCriteria(mappingContext.getPersistentPropertyPathExtension(it),
+						filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)), null));
 	}
 
-	private String createFindOneSql() {
+	/**
+	 * Create a {@code DELETE} query for a single entity identified by {@code :id}, which is restricted to the entities
+	 * reachable via the {@link PersistentPropertyPath} from the root identified by {@code :rootId}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String createDeleteByIdAndPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
-		Select select = selectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
-				.build();
+		return deleteByIdAndPathSql.computeIfAbsent(path, it -> {
 
-		return render(select);
+			PersistentPropertyPathExtension extension = mappingContext.getPersistentPropertyPathExtension(it);
+			Column idColumn = Table.create(extension.getTableName()).column(extension.getIdColumnName());
+
+			return createDeleteByPathAndCriteria(extension,
+					filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)),
+					idColumn.isEqualTo(getBindMarker(ID_SQL_PARAMETER)));
+		});
+	}
+
+	private Select createFindOne() {
+		return selectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))).build();
 	}
 
 	private String createAcquireLockById(LockMode lockMode) {
@@ -408,6 +825,72 @@ class SqlGenerator {
 		return render(selectBuilder().build());
 	}
 
+	private String createFindAllSortedSql(Sort sort) {
+		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+	}
+
+	/**
+	 * Renders the paged statement with bind markers for limit and offset, so it can be used for all pages.
+	 */
+	private String createFindAllPagedSql(Sort sort) {
+
+		Assert.state(isBindableLimitOffsetSupported(), "Dialect doesn't support bind markers for limit and offset");
+
+		SelectBuilder.SelectOrdered paged = applyLimitOffset(getBindMarker(LIMIT_SQL_PARAMETER),
+				getBindMarker(OFFSET_SQL_PARAMETER), selectBuilder(Collections.emptyList()));
+
+		return render(paged.orderBy(extractOrderByFields(sort)).build());
+	}
+
+	private String createFindAllKeysetSql(KeysetQuery query) {
+
+		Sort sort = getKeysetSort(query.sort);
+
+		SelectBuilder.SelectWhere select = selectBuilder();
+		SelectBuilder.SelectOrdered filtered = query.first ? select : select.where(createKeysetCondition(sort));
+
+		return render(applyLimit(query.size, filtered).orderBy(extractOrderByFields(sort)).build());
+	}
+
+	/**
+	 * Creates the condition selecting the rows following the keys bound to bind markers named after the sort columns,
+	 * e.g. {@code a > :a OR (a = :a AND b < :b) OR (a = :a AND b = :b AND id > :id)} for {@code a ASC, b DESC, id ASC}.
+	 */
+	private Condition createKeysetCondition(Sort sort) {
+
+		List<Column> columns = new ArrayList<>();
+		Condition condition = null;
+
+		for (Sort.Order order : sort) {
+
+			Column column = Column.create(entity.getRequiredPersistentProperty(order.getProperty()).getColumnName(),
+					getTable());
+			BindMarker bindMarker = getBindMarker(column.getName());
+
+			Condition seek = order.isAscending() ? column.isGreater(bindMarker) : column.isLess(bindMarker);
+			for (int i = columns.size() - 1; i >= 0; i--) {
+				seek = columns.get(i).isEqualTo(getBindMarker(columns.get(i).getName())).and(seek);
+			}
+
+			condition = condition == null ? seek : condition.or(Conditions.nest(seek));
+			columns.add(column);
+		}
+
+		Assert.state(condition != null, "Keyset must not be empty");
+
+		return condition;
+	}
+
+	private boolean isBindableLimitOffsetSupported() {
+
+		return limitClause.getLimitOffset(":" + renderReference(LIMIT_SQL_PARAMETER),
+				":" + renderReference(OFFSET_SQL_PARAMETER)) != null;
+	}
+
+	private String createDeleteAllSql() {
+		return render(Delete.builder().from(getTable()).build());
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
@@ -422,7 +905,7 @@ class SqlGenerator {
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
-			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
+			PersistentPropertyPathExtension extPath = mappingContext.getPersistentPropertyPathExtension(path);
 
 			// add a join if necessary
 			Join join = getJoin(extPath);
@@ -450,6 +933,106 @@ class SqlGenerator {
 		return (SelectBuilder.SelectWhere) baseSelect;
 	}
 
+	private String createFindOneAggregateSql() {
+
+		Select select = aggregateSelectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
+				.build();
+
+		return render(select);
+	}
+
+	private String createFindAllAggregateSql() {
+		return render(aggregateSelectBuilder().build());
+	}
+
+	private String createFindAllAggregateInListSql() {
+
+		Select select = aggregateSelectBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))).build();
+
+		return render(select);
+	}
+
+	private String createFindAllAggregateInArraySql() {
+
+		Select select = aggregateSelectBuilder()
+				.where(inCondition(getIdColumn(), getBindMarker(IDS_SQL_PARAMETER), true)).build();
+
+		return render(select);
+	}
+
+	private boolean createAggregateSelectSupported() {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = mappingContext.getPersistentPropertyPathExtension(path);
+
+			if (!extPath.isEntity() || extPath.isEmbedded()) {
+				continue;
+			}
+
+			// elements of a Set can only be told apart by their id
+			if (extPath.isCollectionLike() && !extPath.isQualified() && !extPath.hasIdProperty()) {
+				return false;
+			}
+
+			// tables referencing an element without id use a composite back reference, which doesn't fit a single join
+			// column
+			PersistentPropertyPathExtension idDefiningParentPath = extPath.getIdDefiningParentPath();
+			for (PersistentPropertyPathExtension parentPath = extPath.getParentPath(); parentPath
+					.getLength() > idDefiningParentPath.getLength(); parentPath = parentPath.getParentPath()) {
+
+				if (parentPath.isQualified() || parentPath.isCollectionLike()) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	private SelectBuilder.SelectWhere aggregateSelectBuilder() {
+
+		Table table = getTable();
+
+		List<Expression> columnExpressions = new ArrayList<>();
+
+		List<Join> joinTables = new ArrayList<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = mappingContext.getPersistentPropertyPathExtension(path);
+
+			// in contrast to selectBuilder() collections and maps get joined as well
+			if (extPath.isEntity() && !extPath.isEmbedded()) {
+
+				joinTables.add(createJoin(extPath));
+
+				if (extPath.isQualified()) {
+					columnExpressions.add(sqlContext.getQualifierColumn(extPath));
+				}
+			}
+
+			Column column = getSelectableColumn(extPath);
+			if (column != null) {
+				columnExpressions.add(column);
+			}
+		}
+
+		SelectBuilder.SelectAndFrom selectBuilder = StatementBuilder.select(columnExpressions);
+		SelectBuilder.SelectJoin baseSelect = selectBuilder.from(table);
+
+		for (Join join : joinTables) {
+			baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).equals(join.parentId);
+		}
+
+		return (SelectBuilder.SelectWhere) baseSelect;
+	}
+
 	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
 			Pageable pageable) {
 
@@ -465,11 +1048,39 @@ class SqlGenerator {
 			return select;
 		}
 
+		return applyLimitOffset(pageable.getPageSize(), pageable.getOffset(), select);
+	}
+
+	private SelectBuilder.SelectOrdered applyLimit(long limit, SelectBuilder.SelectOrdered select) {
+
+		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
+				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
+
+		SelectBuilder.SelectLimitOffset limitResult = ((SelectBuilder.SelectLimitOffset) select).limit(limit);
+
+		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
+				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s.",
+				select.getClass()));
+
+		return (SelectBuilder.SelectOrdered) limitResult;
+	}
+
+	private SelectBuilder.SelectOrdered applyLimitOffset(long limit, long offset, SelectBuilder.SelectOrdered select) {
+		return applyLimitOffset(select, limitable -> limitable.limitOffset(limit, offset));
+	}
+
+	private SelectBuilder.SelectOrdered applyLimitOffset(BindMarker limit, BindMarker offset,
+			SelectBuilder.SelectOrdered select) {
+		return applyLimitOffset(select, limitable -> limitable.limitOffset(limit, offset));
+	}
+
+	private SelectBuilder.SelectOrdered applyLimitOffset(SelectBuilder.SelectOrdered select,
+			Function<SelectBuilder.SelectLimitOffset, SelectBuilder.SelectLimitOffset> limitOffset) {
+
 		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
 				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
 
-		SelectBuilder.SelectLimitOffset limitable = (SelectBuilder.SelectLimitOffset) select;
-		SelectBuilder.SelectLimitOffset limitResult = limitable.limitOffset(pageable.getPageSize(), pageable.getOffset());
+		SelectBuilder.SelectLimitOffset limitResult = limitOffset.apply((SelectBuilder.SelectLimitOffset) select);
 
 		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
 				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s.",
@@ -491,7 +1102,18 @@ class SqlGenerator {
 		// if there is a collection or map on the path it won't get selected at all, but it will get loaded with a separate
 		// select
 		// only the parent path is considered in order to handle arrays that get stored as BINARY properly
-		if (path.isEmbedded() || path.getParentPath().isMultiValued()) {
+		if (path.getParentPath().isMultiValued()) {
+			return null;
+		}
+
+		return getSelectableColumn(path);
+	}
+
+	@Nullable
+	private Column getSelectableColumn(PersistentPropertyPathExtension path) {
+
+		// an embedded itself doesn't give an column, its members will though.
+		if (path.isEmbedded()) {
 			return null;
 		}
 
@@ -520,6 +1142,11 @@ class SqlGenerator {
 			return null;
 		}
 
+		return createJoin(path);
+	}
+
+	private Join createJoin(PersistentPropertyPathExtension path) {
+
 		Table currentTable = sqlContext.getTable(path);
 
 		PersistentPropertyPathExtension idDefiningParentPath = path.getIdDefiningParentPath();
@@ -539,17 +1166,34 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createExistsSql() {
+	private String createFindAllInArraySql() {
+
+		Select select = selectBuilder().where(inCondition(getIdColumn(), getBindMarker(IDS_SQL_PARAMETER), true))
+				.build();
+
+		return render(select);
+	}
+
+	/**
+	 * Creates a condition matching the values bound to {@code bindMarker}, either as {@code column IN (:values)} for a
+	 * collection of values or as {@code column = ANY(:values)} for values bound as a single array.
+	 */
+	private static Condition inCondition(Column column, Expression bindMarker, boolean array) {
+
+		return array //
+				? column.isEqualTo(SimpleFunction.create("ANY", Collections.singletonList(bindMarker))) //
+				: column.in(bindMarker);
+	}
+
+	private Select createExists() {
 
 		Table table = getTable();
 
-		Select select = StatementBuilder //
+		return StatementBuilder //
 				.select(Functions.count(getIdColumn())) //
 				.from(table) //
 				.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
 				.build();
-
-		return render(select);
 	}
 
 	private String createCountSql() {
@@ -564,7 +1208,7 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
+	private Insert createInsert(Set<SqlIdentifier> additionalColumns) {
 
 		Table table = getTable();
 
@@ -583,27 +1227,37 @@ class SqlGenerator {
 			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
 		}
 
-		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
+		return insertWithValues == null ? insert.build() : insertWithValues.build();
+	}
+
+	private Update createUpdate() {
+		return createBaseUpdate(columns.getUpdateableColumns()).build();
+	}
+
+	private Update createUpdateWithVersion() {
+		return withVersionCondition(createBaseUpdate(columns.getUpdateableColumns()));
 	}
 
-	private String createUpdateSql() {
-		return render(createBaseUpdate().build());
+	private Update createPartialUpdate(BitSet columnMask) {
+		return createBaseUpdate(columns.getUpdateableColumns(columnMask)).build();
 	}
 
-	private String createUpdateWithVersionSql() {
+	private Update createPartialUpdateWithVersion(BitSet columnMask) {
+		return withVersionCondition(createBaseUpdate(columns.getUpdateableColumns(columnMask)));
+	}
 
-		Update update = createBaseUpdate() //
+	private Update withVersionCondition(UpdateBuilder.UpdateWhereAndOr update) {
+
+		return update //
 				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
 				.build();
-
-		return render(update);
 	}
 
-	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Collection<SqlIdentifier> columnsToUpdate) {
 
 		Table table = getTable();
 
-		List<AssignValue> assignments = columns.getUpdateableColumns() //
+		List<AssignValue> assignments = columnsToUpdate //
 				.stream() //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
@@ -616,17 +1270,15 @@ class SqlGenerator {
 				.where(getIdColumn().isEqualTo(getBindMarker(entity.getIdColumn())));
 	}
 
-	private String createDeleteSql() {
-		return render(createBaseDeleteById(getTable()).build());
+	private Delete createDeleteById() {
+		return createBaseDeleteById(getTable()).build();
 	}
 
-	private String createDeleteByIdAndVersionSql() {
+	private Delete createDeleteByIdAndVersion() {
 
-		Delete delete = createBaseDeleteById(getTable()) //
+		return createBaseDeleteById(getTable()) //
 				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
 				.build();
-
-		return render(delete);
 	}
 
 	private DeleteBuilder.DeleteWhereAndOr createBaseDeleteById(Table table) {
@@ -635,28 +1287,24 @@ class SqlGenerator {
 	}
 
 	private String createDeleteByPathAndCriteria(PersistentPropertyPathExtension path,
-			Function<Column, Condition> rootCondition) {
+			Function<Column, Condition> rootCondition, @Nullable Condition entityCondition) {
 
 		Table table = Table.create(path.getTableName());
 
 		DeleteBuilder.DeleteWhere builder = Delete.builder() //
 				.from(table);
-		Delete delete;
 
 		Column filterColumn = table.column(path.getReverseColumnName());
 
-		if (path.getLength() == 1) {
-
-			delete = builder //
-					.where(rootCondition.apply(filterColumn)) //
-					.build();
-		} else {
+		Condition condition = path.getLength() == 1 //
+				? rootCondition.apply(filterColumn) //
+				: getSubselectCondition(path, rootCondition, filterColumn);
 
-			Condition condition = getSubselectCondition(path, rootCondition, filterColumn);
-			delete = builder.where(condition).build();
-		}
+		DeleteBuilder.DeleteWhereAndOr where = entityCondition == null //
+				? builder.where(condition) //
+				: builder.where(entityCondition).and(condition);
 
-		return render(delete);
+		return render(where.build());
 	}
 
 	private String createDeleteByListSql() {
@@ -672,19 +1320,53 @@ class SqlGenerator {
 	}
 
 	private String render(Select select) {
-		return this.sqlRenderer.render(select);
+		return render("SELECT", () -> this.sqlRenderer.render(select));
 	}
 
 	private String render(Insert insert) {
-		return this.sqlRenderer.render(insert);
+		return render("INSERT", () -> this.sqlRenderer.render(insert));
 	}
 
 	private String render(Update update) {
-		return this.sqlRenderer.render(update);
+		return render("UPDATE", () -> this.sqlRenderer.render(update));
 	}
 
 	private String render(Delete delete) {
-		return this.sqlRenderer.render(delete);
+		return render("DELETE", () -> this.sqlRenderer.render(delete));
+	}
+
+	private ParameterizedSql renderPositional(Select select) {
+		return renderPositional("SELECT", () -> this.sqlRenderer.renderPositional(select));
+	}
+
+	private ParameterizedSql renderPositional(Insert insert) {
+		return renderPositional("INSERT", () -> this.sqlRenderer.renderPositional(insert));
+	}
+
+	private ParameterizedSql renderPositional(Update update) {
+		return renderPositional("UPDATE", () -> this.sqlRenderer.renderPositional(update));
+	}
+
+	private ParameterizedSql renderPositional(Delete delete) {
+		return renderPositional("DELETE", () -> this.sqlRenderer.renderPositional(delete));
+	}
+
+	private String render(String statement, Supplier<String> renderer) {
+
+		Recording recording = JdbcFlightRecorder.sqlGeneration(entity.getType(), statement);
+		String sql = renderer.get();
+		recording.sql(sql).commit();
+
+		return sql;
+	}
+
+	private ParameterizedSql renderPositional(String statement, Supplier<ParameterizedSql> renderer) {
+
+		Recording recording = JdbcFlightRecorder.sqlGeneration(entity.getType(), statement);
+		ParameterizedSql sql = renderer.get();
+		recording.sql(sql.getSql()).commit();
+
+		return sql;
 	}
 
 	private Table getTable() {
@@ -776,6 +1458,90 @@ class SqlGenerator {
 		}
 	}
 
+	/**
+	 * Value object describing the shape of a keyset query, used as cache key. Keys themselves are bound as parameters.
+	 */
+	static final class KeysetQuery {
+
+		private final Sort sort;
+		private final int size;
+		private final boolean first;
+
+		KeysetQuery(Sort sort, int size, boolean first) {
+
+			this.sort = sort;
+			this.size = size;
+			this.first = first;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			KeysetQuery that = (KeysetQuery) o;
+			return size == that.size && first == that.first && sort.equals(that.sort);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(sort, size, first);
+		}
+
+		@Override
+		public String toString() {
+
+			return "KeysetQuery{" +
+					"sort=" + sort +
+					", size=" + size +
+					", first=" + first +
+					'}';
+		}
+	}
+
+	/**
+	 * Value object describing the shape of a query selecting entities by their back reference, used as cache key.
+	 */
+	static final class BackReferenceQuery {
+
+		private final Set<SqlIdentifier> backReferenceColumns;
+		@Nullable private final SqlIdentifier keyColumn;
+		private final boolean ordered;
+
+		BackReferenceQuery(Set<SqlIdentifier> backReferenceColumns, @Nullable SqlIdentifier keyColumn, boolean ordered) {
+
+			this.backReferenceColumns = new LinkedHashSet<>(backReferenceColumns);
+			this.keyColumn = keyColumn;
+			this.ordered = ordered;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			BackReferenceQuery that = (BackReferenceQuery) o;
+			return ordered == that.ordered &&
+					backReferenceColumns.equals(that.backReferenceColumns) &&
+					Objects.equals(keyColumn, that.keyColumn);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(backReferenceColumns, keyColumn, ordered);
+		}
+
+		@Override
+		public String toString() {
+
+			return "BackReferenceQuery{" +
+					"backReferenceColumns=" + backReferenceColumns +
+					", keyColumn=" + keyColumn +
+					", ordered=" + ordered +
+					'}';
+		}
+	}
+
 	/**
 	 * Value object encapsulating column name caches.
 	 *
@@ -793,6 +1559,8 @@ class SqlGenerator {
 		private final Set<SqlIdentifier> readOnlyColumnNames = new HashSet<>();
 		private final Set<SqlIdentifier> insertableColumns;
 		private final Set<SqlIdentifier> updateableColumns;
+		private final Map<SqlIdentifier, Integer> updateableColumnIndexes = new HashMap<>();
+		private final List<SqlIdentifier> updateableColumnsByIndex;
 
 		Columns(RelationalPersistentEntity<?> entity,
 				MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext,
@@ -814,6 +1582,11 @@ class SqlGenerator {
 			updateable.removeAll(readOnlyColumnNames);
 
 			this.updateableColumns = Collections.unmodifiableSet(updateable);
+			this.updateableColumnsByIndex = new ArrayList<>(updateable);
+
+			for (int i = 0; i < updateableColumnsByIndex.size(); i++) {
+				updateableColumnIndexes.put(updateableColumnsByIndex.get(i), i);
+			}
 		}
 
 		private void populateColumnNameCache(RelationalPersistentEntity<?> entity, String prefix) {
@@ -869,5 +1642,46 @@ class SqlGenerator {
 		Set<SqlIdentifier> getUpdateableColumns() {
 			return updateableColumns;
 		}
+
+		/**
+		 * @param columnNames the column names to include, non updateable ones get ignored.
+		 * @return a bitmask with a bit set for each of the given columns that can be used for {@code UPDATE}.
+		 */
+		BitSet getUpdateableColumnMask(Set<SqlIdentifier> columnNames) {
+
+			BitSet columnMask = new BitSet(updateableColumnsByIndex.size());
+
+			for (SqlIdentifier columnName : columnNames) {
+
+				Integer index = updateableColumnIndexes.get(columnName);
+				if (index != null) {
+					columnMask.set(index);
+				}
+			}
+
+			Assert.isTrue(!columnMask.isEmpty(),
+					() -> String.format("At least one updateable column is required but got %s", columnNames));
+
+			return columnMask;
+		}
+
+		boolean coversAllUpdateableColumns(BitSet columnMask) {
+			return columnMask.cardinality() == updateableColumnsByIndex.size();
+		}
+
+		/**
+		 * @param columnMask as obtained from {@link #getUpdateableColumnMask(Set)}.
+		 * @return the column names that can be used for {@code UPDATE} selected by the bitmask, in the order of
+		 *         {@link #getUpdateableColumns()}.
+		 */
+		List<SqlIdentifier> getUpdateableColumns(BitSet columnMask) {
+
+			List<SqlIdentifier> columnNames = new ArrayList<>(columnMask.cardinality());
+			for (int i = columnMask.nextSetBit(0); i >= 0; i = columnMask.nextSetBit(i + 1)) {
+				columnNames.add(updateableColumnsByIndex.get(i));
+			}
+
+			return columnNames;
+		}
 	}
 }
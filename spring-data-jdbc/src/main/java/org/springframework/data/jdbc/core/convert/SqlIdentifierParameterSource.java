@@ -24,6 +24,7 @@ import java.util.Set;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.jdbc.core.namedparam.AbstractSqlParameterSource;
+import org.springframework.lang.Nullable;
 
 /**
  * Implementation of the {@link org.springframework.jdbc.core.namedparam.SqlParameterSource} interface based on
@@ -66,9 +67,18 @@ class SqlIdentifierParameterSource extends AbstractSqlParameterSource {
 	}
 
 	void addValue(SqlIdentifier identifier, Object value, int sqlType) {
+		addValue(identifier, identifier.getReference(identifierProcessing), value, sqlType);
+	}
+
+	/**
+	 * Adds a value using a parameter name already rendered with the {@link IdentifierProcessing} of this parameter
+	 * source.
+	 *
+	 * @since 2.1
+	 */
+	void addValue(SqlIdentifier identifier, String name, @Nullable Object value, int sqlType) {
 
 		identifiers.add(identifier);
-		String name = identifier.getReference(identifierProcessing);
 		namesToValues.put(name, value);
 		registerSqlType(name, sqlType);
 	}
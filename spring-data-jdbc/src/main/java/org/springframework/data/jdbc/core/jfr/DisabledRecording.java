@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link Recording} used if no event gets recorded.
+ */
+enum DisabledRecording implements Recording {
+
+	INSTANCE;
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	@Override
+	public Recording path(@Nullable PersistentPropertyPath<?> path) {
+		return this;
+	}
+
+	@Override
+	public Recording sql(@Nullable String sql) {
+		return this;
+	}
+
+	@Override
+	public Recording count(long count) {
+		return this;
+	}
+
+	@Override
+	public Recording count(@Nullable Iterable<?> elements) {
+		return this;
+	}
+
+	@Override
+	public void commit() {}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import java.util.Collection;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+
+/**
+ * Base class of the Java Flight Recorder events of Spring Data JDBC. Only loaded if the {@code jdk.jfr} API is
+ * present.
+ */
+@Category({ "Spring Data", "JDBC" })
+@StackTrace(false)
+abstract class JdbcEvent extends Event implements Recording {
+
+	@Label("Entity Type") //
+	@Nullable Class<?> entityType;
+
+	@Label("Operation") //
+	@Nullable String operation;
+
+	@Label("Property Path") //
+	@Description("Path of the entity relative to the aggregate root, empty for aggregate roots") //
+	@Nullable String path;
+
+	@Label("SQL") //
+	@Description("SQL using bind markers instead of values, so it identifies all executions of the same statement") //
+	@Nullable String sql;
+
+	@Label("Count") //
+	long count;
+
+	/**
+	 * Starts the given event, unless it is disabled. Subclasses check whether their {@link jdk.jfr.EventType} is enabled
+	 * before creating the event, so no event gets allocated while no recording has it enabled.
+	 *
+	 * @return the event or a disabled {@link Recording}.
+	 */
+	static Recording start(JdbcEvent event, Class<?> entityType, @Nullable String operation) {
+
+		if (!event.isEnabled()) {
+			return DisabledRecording.INSTANCE;
+		}
+
+		event.entityType = entityType;
+		event.operation = operation;
+		event.begin();
+
+		return event;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.jfr.Recording#path(org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public Recording path(@Nullable PersistentPropertyPath<?> path) {
+
+		this.path = path == null ? null : path.toDotPath();
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.jfr.Recording#sql(java.lang.String)
+	 */
+	@Override
+	public Recording sql(@Nullable String sql) {
+
+		this.sql = sql;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.jfr.Recording#count(long)
+	 */
+	@Override
+	public Recording count(long count) {
+
+		this.count += count;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.jfr.Recording#count(java.lang.Iterable)
+	 */
+	@Override
+	public Recording count(@Nullable Iterable<?> elements) {
+		return elements instanceof Collection ? count(((Collection<?>) elements).size()) : this;
+	}
+}
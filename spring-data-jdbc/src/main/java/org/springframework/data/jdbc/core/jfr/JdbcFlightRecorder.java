@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Starts {@link Recording}s of Java Flight Recorder events. Returns a disabled {@link Recording} if the
+ * {@code jdk.jfr} API is not available or the event is not enabled by a running recording, which is cheap enough to
+ * leave the instrumentation in place in production.
+ *
+ * @since 2.1
+ */
+public final class JdbcFlightRecorder {
+
+	private static final boolean JFR_PRESENT = ClassUtils.isPresent("jdk.jfr.Event",
+			JdbcFlightRecorder.class.getClassLoader());
+
+	private JdbcFlightRecorder() {}
+
+	/**
+	 * Starts recording the rendering of a statement to SQL.
+	 *
+	 * @param entityType the type of the entity the statement is for. Must not be {@literal null}.
+	 * @param statement the kind of statement, e.g. {@code SELECT}. May be {@literal null}.
+	 * @return the recording. Guaranteed to be not {@literal null}.
+	 */
+	public static Recording sqlGeneration(Class<?> entityType, @Nullable String statement) {
+		return JFR_PRESENT ? SqlGenerationEvent.start(entityType, statement) : DisabledRecording.INSTANCE;
+	}
+
+	/**
+	 * Starts recording the execution of one or more statements, e.g. a batch.
+	 *
+	 * @param entityType the type of the entity the statement is for. Must not be {@literal null}.
+	 * @param operation the name of the {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy}
+	 *          operation, e.g. {@code findById}. May be {@literal null}.
+	 * @return the recording. Guaranteed to be not {@literal null}.
+	 */
+	public static Recording statementExecution(Class<?> entityType, @Nullable String operation) {
+		return JFR_PRESENT ? StatementExecutionEvent.start(entityType, operation) : DisabledRecording.INSTANCE;
+	}
+
+	/**
+	 * Starts recording the mapping of a single row.
+	 *
+	 * @param entityType the type of the entity created. Must not be {@literal null}.
+	 * @return the recording. Guaranteed to be not {@literal null}.
+	 */
+	public static Recording rowMapping(Class<?> entityType) {
+		return JFR_PRESENT ? RowMappingEvent.start(entityType, null) : DisabledRecording.INSTANCE;
+	}
+
+	/**
+	 * Starts recording the loading of referenced entities.
+	 *
+	 * @param entityType the type of the entities loaded. Must not be {@literal null}.
+	 * @return the recording. Guaranteed to be not {@literal null}.
+	 */
+	public static Recording relationResolution(Class<?> entityType) {
+		return JFR_PRESENT ? RelationResolutionEvent.start(entityType, null) : DisabledRecording.INSTANCE;
+	}
+
+	/**
+	 * Starts recording the planning of the actions required to write an aggregate.
+	 *
+	 * @param entityType the type of the aggregate root. Must not be {@literal null}.
+	 * @param operation the kind of write, e.g. {@code insert}. May be {@literal null}.
+	 * @return the recording. Guaranteed to be not {@literal null}.
+	 */
+	public static Recording writePlanning(Class<?> entityType, @Nullable String operation) {
+		return JFR_PRESENT ? WritePlanningEvent.start(entityType, operation) : DisabledRecording.INSTANCE;
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.lang.Nullable;
+
+/**
+ * A phase of work being recorded as a Java Flight Recorder event, started by one of the factory methods of
+ * {@link JdbcFlightRecorder}. Setting details of a recording that isn't {@link #isEnabled() enabled} does nothing, so
+ * callers only need to check {@link #isEnabled()} if computing a detail is expensive. Not thread safe.
+ *
+ * @since 2.1
+ */
+public interface Recording {
+
+	/**
+	 * @return whether the event gets recorded.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param path the property path of the entity the work is done for, relative to the aggregate root. May be
+	 *          {@literal null} for aggregate roots.
+	 * @return this recording.
+	 */
+	Recording path(@Nullable PersistentPropertyPath<?> path);
+
+	/**
+	 * @param sql the generated or executed SQL. May be {@literal null}.
+	 * @return this recording.
+	 */
+	Recording sql(@Nullable String sql);
+
+	/**
+	 * @param count the number of rows, entities or actions to add to the count of the recording.
+	 * @return this recording.
+	 */
+	Recording count(long count);
+
+	/**
+	 * @param elements the rows or entities to add to the count of the recording. Only {@link java.util.Collection}s get
+	 *          counted, other {@link Iterable}s are not iterated. May be {@literal null}.
+	 * @return this recording.
+	 */
+	Recording count(@Nullable Iterable<?> elements);
+
+	/**
+	 * Ends the recording and commits the event, if enabled.
+	 */
+	void commit();
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Event recorded for mapping a row to an entity, including loading the entities it references. Recorded per row, so
+ * only mappings exceeding a threshold of 1 ms get recorded by default.
+ */
+@Name("org.springframework.data.jdbc.RowMapping")
+@Label("Row Mapping")
+@Description("Mapping of a row to an entity, including loading the entities it references")
+@Threshold("1 ms")
+final class RowMappingEvent extends JdbcEvent {
+
+	private static final EventType TYPE = EventType.getEventType(RowMappingEvent.class);
+
+	static Recording start(Class<?> entityType, @Nullable String operation) {
+		return TYPE.isEnabled() ? start(new RowMappingEvent(), entityType, operation) : DisabledRecording.INSTANCE;
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Event recorded for determining the actions required to save or delete an aggregate, counting the actions.
+ */
+@Name("org.springframework.data.jdbc.WritePlanning")
+@Label("Write Planning")
+@Description("Determining the actions required to save or delete an aggregate, counting the actions")
+final class WritePlanningEvent extends JdbcEvent {
+
+	private static final EventType TYPE = EventType.getEventType(WritePlanningEvent.class);
+
+	static Recording start(Class<?> entityType, @Nullable String operation) {
+		return TYPE.isEnabled() ? start(new WritePlanningEvent(), entityType, operation) : DisabledRecording.INSTANCE;
+	}
+}
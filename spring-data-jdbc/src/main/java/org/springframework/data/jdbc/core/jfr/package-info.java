@@ -0,0 +1,12 @@
+/**
+ * Java Flight Recorder events for the phases of executing aggregate operations and repository queries: generating
+ * SQL, executing statements, mapping rows, resolving relations and planning the actions of writes.
+ * <p>
+ * Events are only created while a recording has them enabled and are not available on JVMs without the
+ * {@code jdk.jfr} API. All events are named {@code org.springframework.data.jdbc.*} and enabled by default, so they can
+ * be configured or disabled in the settings of a recording like the events of the JDK.
+ */
+@NonNullApi
+package org.springframework.data.jdbc.core.jfr;
+
+import org.springframework.lang.NonNullApi;
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.metrics;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The duration and the database work of a single aggregate operation, {@link Type#ACTION action} or repository query
+ * method execution.
+ * <p>
+ * Statements and affected rows are the ones the {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy}
+ * reported to the running {@link StatementCounter}, so the numbers of an operation include those of its actions.
+ * Statements a {@code DataAccessStrategy} doesn't report, like the ones of the MyBatis integration or the ones
+ * executed while consuming a {@link java.util.stream.Stream}, are not counted. Affected rows are the sum of the update
+ * counts reported by the JDBC driver and don't include statements it didn't report an update count for. Repository
+ * query methods report their statements the same way, including the count query of a
+ * {@link org.springframework.data.domain.Page}. Rows mapped are the aggregates or objects returned.
+ *
+ * @since 2.1
+ */
+public final class Measurement {
+
+	private final Type type;
+	private final Class<?> domainType;
+	private final String operation;
+	private final @Nullable String action;
+	private final @Nullable String method;
+	private final Duration duration;
+	private final long statements;
+	private final long rowsAffected;
+	private final long rowsMapped;
+	private final @Nullable Throwable exception;
+
+	private Measurement(Sample sample, Duration duration, @Nullable Throwable exception) {
+
+		this.type = sample.type;
+		this.domainType = sample.domainType;
+		this.operation = sample.operation;
+		this.action = sample.action;
+		this.method = sample.method;
+		this.duration = duration;
+		this.statements = sample.statements;
+		this.rowsAffected = sample.rowsAffected;
+		this.rowsMapped = sample.rowsMapped;
+		this.exception = exception;
+	}
+
+	/**
+	 * Starts measuring work that gets recorded with the given {@link MetricsRecorder} once
+	 * {@link Sample#stop(Throwable) stopped}.
+	 *
+	 * @param recorder the recorder to use. May be {@literal null}, which returns a {@link Sample} ignoring everything.
+	 * @param type the type of the measured work. Must not be {@literal null}.
+	 * @param domainType the type of the aggregate root. Must not be {@literal null}.
+	 * @param operation the name of the aggregate operation. Must not be {@literal null}.
+	 * @return the started sample. Guaranteed to be not {@literal null}.
+	 */
+	public static Sample start(@Nullable MetricsRecorder recorder, Type type, Class<?> domainType, String operation) {
+
+		if (recorder == null) {
+			return Sample.DISABLED;
+		}
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(domainType, "Domain type must not be null");
+		Assert.notNull(operation, "Operation must not be null");
+
+		return new Sample(recorder, type, domainType, operation);
+	}
+
+	/**
+	 * @return the type of the measured work.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * @return the type of the aggregate root.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * @return the name of the aggregate operation, e.g. {@code save}, {@code findById} or {@code query} for repository
+	 *         query methods.
+	 */
+	public String getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return the simple name of the {@link org.springframework.data.relational.core.conversion.DbAction} type, e.g.
+	 *         {@code InsertRoot}, for measurements of {@link Type#ACTION actions}, otherwise {@literal null}.
+	 */
+	@Nullable
+	public String getAction() {
+		return action;
+	}
+
+	/**
+	 * @return the name of the repository query method qualified by the simple name of its repository interface, e.g.
+	 *         {@code PersonRepository.findByName}, for measurements of {@link Type#QUERY queries}, otherwise
+	 *         {@literal null}.
+	 */
+	@Nullable
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the duration of the measured work.
+	 */
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the number of statements executed, a JDBC batch counting as one.
+	 */
+	public long getStatements() {
+		return statements;
+	}
+
+	/**
+	 * @return the number of rows inserted, updated or deleted, as far as reported by the JDBC driver.
+	 */
+	public long getRowsAffected() {
+		return rowsAffected;
+	}
+
+	/**
+	 * @return the number of aggregates or objects returned.
+	 */
+	public long getRowsMapped() {
+		return rowsMapped;
+	}
+
+	/**
+	 * @return the exception the measured work failed with, or {@literal null} if it succeeded.
+	 */
+	@Nullable
+	public Throwable getException() {
+		return exception;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		return "Measurement{" + "type=" + type + ", domainType=" + domainType.getName() + ", operation='" + operation
+				+ '\'' + ", action='" + action + '\'' + ", method='" + method + '\'' + ", duration=" + duration
+				+ ", statements=" + statements + ", rowsAffected=" + rowsAffected + ", rowsMapped=" + rowsMapped
+				+ ", exception=" + exception + '}';
+	}
+
+	/**
+	 * The type of the measured work.
+	 */
+	public enum Type {
+
+		/**
+		 * An operation of {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}.
+		 */
+		OPERATION,
+
+		/**
+		 * A {@link org.springframework.data.relational.core.conversion.DbAction} or a batch of inserts executed for an
+		 * operation.
+		 */
+		ACTION,
+
+		/**
+		 * An execution of a repository query method.
+		 */
+		QUERY
+	}
+
+	/**
+	 * A running measurement, collecting the work done until it gets stopped. Not thread safe.
+	 */
+	public static final class Sample {
+
+		private static final Sample DISABLED = new Sample(null, Type.OPERATION, Object.class, "");
+
+		private final @Nullable MetricsRecorder recorder;
+		private final Type type;
+		private final Class<?> domainType;
+		private final String operation;
+		private final long start;
+
+		private @Nullable String action;
+		private @Nullable String method;
+		private long statements;
+		private long rowsAffected;
+		private long rowsMapped;
+
+		private Sample(@Nullable MetricsRecorder recorder, Type type, Class<?> domainType, String operation) {
+
+			this.recorder = recorder;
+			this.type = type;
+			this.domainType = domainType;
+			this.operation = operation;
+			this.start = recorder == null ? 0 : System.nanoTime();
+		}
+
+		/**
+		 * @return whether the sample gets recorded, i.e. it was started with a {@link MetricsRecorder}.
+		 */
+		public boolean isEnabled() {
+			return recorder != null;
+		}
+
+		/**
+		 * @return the name of the aggregate operation.
+		 */
+		public String getOperation() {
+			return operation;
+		}
+
+		/**
+		 * @param action the simple name of the executed {@link org.springframework.data.relational.core.conversion.DbAction}
+		 *          type. May be {@literal null}.
+		 * @return this sample.
+		 */
+		public Sample action(@Nullable String action) {
+
+			if (isEnabled()) {
+				this.action = action;
+			}
+			return this;
+		}
+
+		/**
+		 * @param method the qualified name of the executed repository query method. May be {@literal null}.
+		 * @return this sample.
+		 */
+		public Sample method(@Nullable String method) {
+
+			if (isEnabled()) {
+				this.method = method;
+			}
+			return this;
+		}
+
+		/**
+		 * @param statements the number of statements executed additionally.
+		 */
+		public void addStatements(long statements) {
+
+			if (isEnabled()) {
+				this.statements += statements;
+			}
+		}
+
+		/**
+		 * @param rowsAffected the number of rows inserted, updated or deleted additionally.
+		 */
+		public void addRowsAffected(long rowsAffected) {
+
+			if (isEnabled()) {
+				this.rowsAffected += rowsAffected;
+			}
+		}
+
+		/**
+		 * @param rowsMapped the number of aggregates or objects returned additionally.
+		 */
+		public void addRowsMapped(long rowsMapped) {
+
+			if (isEnabled()) {
+				this.rowsMapped += rowsMapped;
+			}
+		}
+
+		/**
+		 * Stops the sample and records the {@link Measurement}.
+		 *
+		 * @param exception the exception the measured work failed with. May be {@literal null} if it succeeded.
+		 */
+		public void stop(@Nullable Throwable exception) {
+
+			if (recorder != null) {
+				recorder.record(new Measurement(this, Duration.ofNanos(System.nanoTime() - start), exception));
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.metrics;
+
+/**
+ * SPI receiving a {@link Measurement} for every aggregate operation of
+ * {@link org.springframework.data.jdbc.core.JdbcAggregateTemplate}, every
+ * {@link org.springframework.data.relational.core.conversion.DbAction} executed for it and every execution of a
+ * repository query method.
+ * <p>
+ * Measurements get recorded synchronously on the thread that performed the measured work, so implementations should
+ * be fast and must be thread safe.
+ *
+ * @since 2.1
+ * @see MicrometerMetricsRecorder
+ */
+@FunctionalInterface
+public interface MetricsRecorder {
+
+	/**
+	 * Records the given measurement.
+	 *
+	 * @param measurement must not be {@literal null}.
+	 */
+	void record(Measurement measurement);
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link MetricsRecorder} publishing {@link Measurement}s to a Micrometer {@link MeterRegistry}. Each type of
+ * measurement gets a {@link Timer} and counters for statements, affected and mapped rows:
+ * <ul>
+ * <li>{@code spring.data.jdbc.operations} for aggregate operations, tagged by {@code aggregate}, {@code operation} and
+ * {@code exception}.</li>
+ * <li>{@code spring.data.jdbc.actions} for the actions executed by aggregate operations, additionally tagged by
+ * {@code action}.</li>
+ * <li>{@code spring.data.jdbc.queries} for repository query methods, additionally tagged by {@code method}.</li>
+ * </ul>
+ * The counters are named after the timer with the suffixes {@code .statements}, {@code .rows.affected} and
+ * {@code .rows.mapped}. Percentiles and histograms of the timers can be enabled with a
+ * {@link io.micrometer.core.instrument.config.MeterFilter}.
+ *
+ * @since 2.1
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+	private static final String PREFIX = "spring.data.jdbc.";
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Creates a new {@link MicrometerMetricsRecorder}.
+	 *
+	 * @param registry the registry to publish to. Must not be {@literal null}.
+	 */
+	public MicrometerMetricsRecorder(MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null");
+
+		this.registry = registry;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.metrics.MetricsRecorder#record(org.springframework.data.jdbc.core.metrics.Measurement)
+	 */
+	@Override
+	public void record(Measurement measurement) {
+
+		String name = getName(measurement.getType());
+		Tags tags = getTags(measurement);
+
+		Timer.builder(name) //
+				.description("Duration of Spring Data JDBC " + name.substring(PREFIX.length())) //
+				.tags(tags) //
+				.register(registry) //
+				.record(measurement.getDuration());
+
+		count(name + ".statements", tags, measurement.getStatements());
+		count(name + ".rows.affected", tags, measurement.getRowsAffected());
+		count(name + ".rows.mapped", tags, measurement.getRowsMapped());
+	}
+
+	private void count(String name, Tags tags, long amount) {
+		Counter.builder(name).tags(tags).register(registry).increment(amount);
+	}
+
+	private static String getName(Measurement.Type type) {
+
+		switch (type) {
+			case ACTION:
+				return PREFIX + "actions";
+			case QUERY:
+				return PREFIX + "queries";
+			default:
+				return PREFIX + "operations";
+		}
+	}
+
+	private static Tags getTags(Measurement measurement) {
+
+		Tags tags = Tags.of( //
+				"aggregate", measurement.getDomainType().getSimpleName(), //
+				"operation", measurement.getOperation(), //
+				"exception", measurement.getException() == null ? NONE
+						: measurement.getException().getClass().getSimpleName());
+
+		switch (measurement.getType()) {
+			case ACTION:
+				return tags.and("action", measurement.getAction() == null ? NONE : measurement.getAction());
+			case QUERY:
+				return tags.and("method", measurement.getMethod() == null ? NONE : measurement.getMethod());
+			default:
+				return tags;
+		}
+	}
+}
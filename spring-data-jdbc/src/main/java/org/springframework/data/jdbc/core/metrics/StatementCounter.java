@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.metrics;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Counts the statements a {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} reports as executed by
+ * the current thread, and the rows they affected, while the counter is running. Counters can be nested: once stopped,
+ * a counter adds its counts to the counter that was running when it got started.
+ * <p>
+ * Only the update counts reported by the JDBC driver are summed up as rows affected. Statements the driver doesn't
+ * report an update count for, e.g. {@link java.sql.Statement#SUCCESS_NO_INFO} for statements of a batch, don't
+ * contribute to them.
+ *
+ * @since 2.1
+ */
+public final class StatementCounter {
+
+	private static final ThreadLocal<StatementCounter> CURRENT = new ThreadLocal<>();
+
+	private final @Nullable StatementCounter outer;
+
+	private long statements;
+	private long rowsAffected;
+	private boolean stopped;
+
+	private StatementCounter(@Nullable StatementCounter outer) {
+		this.outer = outer;
+	}
+
+	/**
+	 * Starts counting the statements executed by the current thread until {@link #stop() stopped}.
+	 *
+	 * @return the running counter. Guaranteed to be not {@literal null}.
+	 */
+	public static StatementCounter start() {
+
+		StatementCounter counter = new StatementCounter(CURRENT.get());
+		CURRENT.set(counter);
+
+		return counter;
+	}
+
+	/**
+	 * Reports a statement that was executed by the current thread and doesn't modify any rows, e.g. a {@code SELECT}.
+	 */
+	public static void queryExecuted() {
+
+		StatementCounter counter = CURRENT.get();
+		if (counter != null) {
+			counter.statements++;
+		}
+	}
+
+	/**
+	 * Reports a statement or a batch of statements that was executed by the current thread and might have modified rows.
+	 *
+	 * @param rowsAffected the update count reported by the JDBC driver, or a negative value if the driver didn't report
+	 *          one.
+	 */
+	public static void updateExecuted(long rowsAffected) {
+
+		StatementCounter counter = CURRENT.get();
+		if (counter != null) {
+
+			counter.statements++;
+			if (rowsAffected > 0) {
+				counter.rowsAffected += rowsAffected;
+			}
+		}
+	}
+
+	/**
+	 * Stops counting and adds the counts to the enclosing counter, if any. Stopping a counter more than once has no
+	 * effect.
+	 */
+	public void stop() {
+
+		if (stopped) {
+			return;
+		}
+
+		stopped = true;
+
+		if (outer == null) {
+			CURRENT.remove();
+			return;
+		}
+
+		outer.statements += statements;
+		outer.rowsAffected += rowsAffected;
+		CURRENT.set(outer);
+	}
+
+	/**
+	 * @return the number of statements reported so far.
+	 */
+	public long getStatements() {
+		return statements;
+	}
+
+	/**
+	 * @return the sum of the update counts reported so far.
+	 */
+	public long getRowsAffected() {
+		return rowsAffected;
+	}
+}
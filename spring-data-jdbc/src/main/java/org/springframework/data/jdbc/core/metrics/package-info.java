@@ -0,0 +1,7 @@
+/**
+ * Metrics of aggregate operations, the statements they execute and repository query methods.
+ */
+@NonNullApi
+package org.springframework.data.jdbc.core.metrics;
+
+import org.springframework.lang.NonNullApi;
@@ -41,6 +41,7 @@ import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -365,6 +366,19 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.relational.core.query.KeysetRequest)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, KeysetRequest request) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("keysetRequest", request);
+		return sqlSession().selectList(namespace(domainType) + ".findAllByKeyset",
+				new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -15,9 +15,24 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.metrics.Measurement;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
+import org.springframework.data.jdbc.support.JdbcUtil;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
@@ -42,6 +57,14 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
 
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable AggregateCache aggregateCache;
+	private @Nullable SnapshotRegistry snapshotRegistry;
+	private Set<SqlIdentifier> tablesRead = Collections.emptySet();
+	private @Nullable MetricsRecorder metricsRecorder;
+	private Class<?> aggregateType = Object.class;
+	private String qualifiedName = "";
+
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod}, {@link NamedParameterJdbcOperations}
 	 * and {@link RowMapper}.
@@ -73,9 +96,180 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		return queryMethod;
 	}
 
+	/**
+	 * Configures the {@link QueryResultCache} used if the query method is annotated with {@link CachedResult}. Modifying
+	 * queries invalidate all cached results instead, since the tables they write are unknown.
+	 *
+	 * @param queryResultCache the cache to use. May be {@literal null} to always execute the query, which is the default.
+	 * @throws IllegalStateException if the results of the query method can't be cached.
+	 * @since 2.1
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+
+		if (queryResultCache != null && queryMethod.isResultCached()) {
+
+			Assert.state(!queryMethod.isModifyingQuery(), "Results of modifying queries can't be cached");
+			Assert.state(!queryMethod.isStreamQuery(), "Results of stream queries can't be cached");
+
+			this.tablesRead = queryMethod.getTablesRead();
+		}
+
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures the {@link AggregateCache} to evict all aggregates of the aggregate type of the query method from when
+	 * a modifying query gets executed, since the rows it writes are unknown. Cached aggregates of other types are not
+	 * evicted.
+	 *
+	 * @param aggregateCache the cache to evict. May be {@literal null}, which is the default.
+	 * @since 2.1
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * Configures the {@link SnapshotRegistry} to clear when a modifying query gets executed, since the rows it writes
+	 * are unknown.
+	 *
+	 * @param snapshotRegistry the registry to clear. May be {@literal null}, which is the default.
+	 * @since 2.1
+	 */
+	public void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+		this.snapshotRegistry = snapshotRegistry;
+	}
+
+	/**
+	 * Configures the {@link MetricsRecorder} receiving a {@link Measurement} for every execution of the query, tagged
+	 * with the query method. Results served from a {@link QueryResultCache} are not measured, results of stream queries
+	 * once the {@link Stream} is closed.
+	 *
+	 * @param metricsRecorder the recorder to use. May be {@literal null} to not measure anything, which is the default.
+	 * @since 2.1
+	 */
+	public void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+
+		if (metricsRecorder != null) {
+
+			this.aggregateType = queryMethod.getAggregateType();
+			this.qualifiedName = queryMethod.getQualifiedName();
+		}
+
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	/**
+	 * Executes the query with the given arguments. If the query method is annotated with {@link CachedResult} and a
+	 * {@link QueryResultCache} is configured, a cached result gets returned instead if present.
+	 *
+	 * @param values the arguments of the query method.
+	 * @param query executes the query.
+	 * @return the result of the query. May be {@literal null}.
+	 */
+	@Nullable
+	Object execute(Object[] values, Supplier<Object> query) {
+
+		Supplier<Object> execution = metricsRecorder == null ? query : () -> measure(query);
+
+		if (queryMethod.isModifyingQuery()) {
+
+			try {
+				return execution.get();
+			} finally {
+				invalidateAll();
+			}
+		}
+
+		if (queryResultCache == null || !queryMethod.isResultCached()) {
+			return execution.get();
+		}
+
+		return queryResultCache.get(new ResultKey(this, values), tablesRead, execution);
+	}
+
+	private void invalidateAll() {
+
+		if (queryResultCache != null) {
+			queryResultCache.invalidateAll();
+		}
+
+		if (aggregateCache != null) {
+			aggregateCache.evictAll(queryMethod.getAggregateType());
+		}
+
+		if (snapshotRegistry != null) {
+			snapshotRegistry.clear();
+		}
+	}
+
+	@Nullable
+	private Object measure(Supplier<Object> execution) {
+
+		Measurement.Sample sample = Measurement.start(metricsRecorder, Measurement.Type.QUERY, aggregateType, "query")
+				.method(qualifiedName);
+		StatementCounter counter = StatementCounter.start();
+
+		Object result;
+		try {
+			result = execution.get();
+		} catch (RuntimeException | Error e) {
+
+			addStatements(sample, counter);
+			sample.stop(e);
+			throw e;
+		}
+
+		addStatements(sample, counter);
+
+		if (result instanceof Stream) {
+
+			return ((Stream<?>) result).peek(it -> sample.addRowsMapped(1)) //
+					.onClose(() -> sample.stop(null));
+		}
+
+		if (!queryMethod.isModifyingQuery()) {
+			sample.addRowsMapped(getRowsMapped(result));
+		}
+
+		sample.stop(null);
+		return result;
+	}
+
+	/**
+	 * Records the statements reported by the {@link JdbcQueryExecution}s, e.g. the query and the count query of a
+	 * {@link org.springframework.data.domain.Page}, and by the
+	 * {@link org.springframework.data.jdbc.core.convert.DataAccessStrategy} for loading referenced entities, along with
+	 * the rows they affected.
+	 */
+	private static void addStatements(Measurement.Sample sample, StatementCounter counter) {
+
+		counter.stop();
+		sample.addStatements(counter.getStatements());
+		sample.addRowsAffected(counter.getRowsAffected());
+	}
+
+	private static long getRowsMapped(@Nullable Object result) {
+
+		if (result == null) {
+			return 0;
+		}
+
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+
+		if (result instanceof Slice) {
+			return ((Slice<?>) result).getNumberOfElements();
+		}
+
+		return 1;
+	}
+
 	/**
 	 * Creates a {@link JdbcQueryExecution} given {@link JdbcQueryMethod}, {@link ResultSetExtractor} an
-	 * {@link RowMapper}. Prefers the given {@link ResultSetExtractor} over {@link RowMapper}.
+	 * {@link RowMapper}. Prefers the given {@link ResultSetExtractor} over {@link RowMapper}. Stream queries without a
+	 * {@link ResultSetExtractor} map rows lazily while the resulting {@link Stream} gets consumed.
 	 * 
 	 * @param queryMethod must not be {@literal null}.
 	 * @param extractor must not be {@literal null}.
@@ -89,7 +283,11 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 			return createModifyingQueryExecutor();
 		}
 
-		if (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery()) {
+		if (queryMethod.isStreamQuery()) {
+			return extractor != null ? getQueryExecution(extractor) : streamQuery(rowMapper, queryMethod.getFetchSize());
+		}
+
+		if (queryMethod.isCollectionQuery()) {
 			return extractor != null ? getQueryExecution(extractor) : collectionQuery(rowMapper);
 		}
 
@@ -101,6 +299,8 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		return (query, parameters) -> {
 
 			int updatedCount = operations.update(query, parameters);
+			StatementCounter.updateExecuted(updatedCount);
+
 			Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
 
 			return (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) ? updatedCount != 0
@@ -108,14 +308,19 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		};
 	}
 
-	private JdbcQueryExecution<Object> singleObjectQuery(RowMapper<?> rowMapper) {
+	JdbcQueryExecution<Object> singleObjectQuery(RowMapper<?> rowMapper) {
 
 		return (query, parameters) -> {
+
+			Object result;
 			try {
-				return operations.queryForObject(query, parameters, rowMapper);
+				result = operations.queryForObject(query, parameters, rowMapper);
 			} catch (EmptyResultDataAccessException e) {
-				return null;
+				result = null;
 			}
+
+			StatementCounter.queryExecuted();
+			return result;
 		};
 	}
 
@@ -123,8 +328,58 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		return getQueryExecution(new RowMapperResultSetExtractor<>(rowMapper));
 	}
 
+	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper, int fetchSize) {
+		return (query, parameters) -> {
+
+			Stream<T> stream = JdbcUtil.queryForStream(operations, query, parameters, rowMapper, fetchSize);
+			StatementCounter.queryExecuted();
+
+			return stream;
+		};
+	}
+
 	private <T> JdbcQueryExecution<T> getQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+		return (query, parameters) -> {
+
+			T result = operations.query(query, parameters, resultSetExtractor);
+			StatementCounter.queryExecuted();
+
+			return result;
+		};
 	}
 
+	/**
+	 * Identifies a cached result by the query and the arguments it got executed with.
+	 */
+	private static class ResultKey {
+
+		private final AbstractJdbcQuery query;
+		private final Object[] values;
+
+		ResultKey(AbstractJdbcQuery query, Object[] values) {
+
+			this.query = query;
+			this.values = values.clone();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof ResultKey)) {
+				return false;
+			}
+
+			ResultKey that = (ResultKey) o;
+			return query == that.query && Arrays.deepEquals(values, that.values);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(query) + Arrays.deepHashCode(values);
+		}
+	}
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Caches the results of a query method in the
+ * {@link org.springframework.data.jdbc.core.cache.QueryResultCache} configured for the repository, keyed by the
+ * method and its arguments. Cached results get invalidated whenever an aggregate change writes to one of the tables the
+ * query reads: the tables of the aggregate managed by the repository, of the aggregate returned by the method and the
+ * ones configured via {@link #tables()}.
+ * <p>
+ * Cached results are shared between all callers and must not be modified. Stream and modifying queries can't be
+ * cached.
+ *
+ * @since 2.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface CachedResult {
+
+	/**
+	 * Names of additional tables read by the query, e.g. tables joined by an annotated {@link Query} that don't belong
+	 * to the aggregates of the repository or the result.
+	 */
+	String[] tables() default {};
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link JdbcQueryCreator} that creates {@code COUNT(*)} queries without paging and sorting, counting the rows matched
+ * by the criteria of a {@link PartTree}. Used to determine the total of {@link org.springframework.data.domain.Page}
+ * results.
+ *
+ * @since 2.1
+ */
+class JdbcCountQueryCreator extends JdbcQueryCreator {
+
+	JdbcCountQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
+			@Nullable RenderedQueryCache renderedQueries) {
+		super(context, tree, converter, dialect, entityMetadata, accessor, false, renderedQueries);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.query.JdbcQueryCreator#applyOrderBy(org.springframework.data.domain.Sort, org.springframework.data.relational.core.mapping.RelationalPersistentEntity, org.springframework.data.relational.core.sql.Table, org.springframework.data.relational.core.sql.SelectBuilder.SelectOrdered)
+	 */
+	@Override
+	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
+			SelectBuilder.SelectOrdered selectOrdered) {
+		return selectOrdered;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.query.JdbcQueryCreator#applyLimitAndOffset(org.springframework.data.relational.core.sql.SelectBuilder.SelectLimitOffset)
+	 */
+	@Override
+	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
+		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.query.JdbcQueryCreator#bindLimitAndOffset(org.springframework.jdbc.core.namedparam.MapSqlParameterSource)
+	 */
+	@Override
+	void bindLimitAndOffset(MapSqlParameterSource parameterSource) {}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.query.JdbcQueryCreator#createSelectClause(org.springframework.data.relational.core.mapping.RelationalPersistentEntity, org.springframework.data.relational.core.sql.Table)
+	 */
+	@Override
+	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
+		return (SelectBuilder.SelectLimitOffset) Select.builder().select(Functions.count(Expressions.asterisk())).from(table);
+	}
+}
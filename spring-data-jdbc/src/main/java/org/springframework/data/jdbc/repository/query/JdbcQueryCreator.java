@@ -22,6 +22,8 @@ import java.util.Objects;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.jfr.JdbcFlightRecorder;
+import org.springframework.data.jdbc.core.jfr.Recording;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -31,9 +33,11 @@ import org.springframework.data.relational.core.mapping.RelationalMappingContext
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Expression;
 import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Functions;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
@@ -60,12 +64,18 @@ import org.springframework.util.Assert;
  */
 class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
+	static final String LIMIT_PARAMETER = "___limit";
+	static final String OFFSET_PARAMETER = "___offset";
+
 	private final RelationalMappingContext context;
 	private final PartTree tree;
 	private final RelationalParameterAccessor accessor;
 	private final QueryMapper queryMapper;
 	private final RelationalEntityMetadata<?> entityMetadata;
 	private final RenderContextFactory renderContextFactory;
+	private final boolean isSliceQuery;
+	private final boolean bindLimitOffset;
+	private final @Nullable RenderedQueryCache renderedQueries;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -77,9 +87,14 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	 * @param dialect must not be {@literal null}.
 	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
 	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery whether the query backs a {@link org.springframework.data.domain.Slice}, requiring one
+	 *          additional row to determine whether there is a next slice.
+	 * @param renderedQueries SQL rendered by previous invocations by {@link QueryShape}, reused for invocations of the
+	 *          same shape and populated with newly rendered SQL. May be {@literal null} to always render the SQL.
 	 */
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
-			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor) {
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			@Nullable RenderedQueryCache renderedQueries) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
@@ -93,6 +108,9 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		this.entityMetadata = entityMetadata;
 		this.queryMapper = new QueryMapper(dialect, converter);
 		this.renderContextFactory = new RenderContextFactory(dialect);
+		this.isSliceQuery = isSliceQuery;
+		this.bindLimitOffset = dialect.limit().getLimitOffset(":" + LIMIT_PARAMETER, ":" + OFFSET_PARAMETER) != null;
+		this.renderedQueries = renderedQueries;
 	}
 
 	/**
@@ -112,7 +130,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 				PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = context
 						.getPersistentPropertyPath(part.getProperty());
-				PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, propertyPath);
+				PersistentPropertyPathExtension path = PersistentPropertyPathExtension.of(context, propertyPath);
 
 				for (PersistentPropertyPathExtension pathToValidate = path; path.getLength() > 0; path = path.getParentPath()) {
 					validateProperty(pathToValidate);
@@ -157,6 +175,33 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		Table table = Table.create(entityMetadata.getTableName());
 		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+		QueryShape shape = renderedQueries != null ? QueryShape.of(accessor, sort, bindLimitOffset) : null;
+
+		bindLimitAndOffset(parameterSource);
+
+		KeysetRequest keysetRequest = accessor.getKeysetRequest();
+		if (keysetRequest != null) {
+
+			sort = KeysetRequest.withTiebreaker(sort.and(keysetRequest.getSort()),
+					entity.getRequiredIdProperty().getName());
+
+			if (!keysetRequest.isFirst()) {
+
+				Criteria keysetCriteria = createKeysetCriteria(keysetRequest, sort);
+				criteria = criteria != null ? criteria.and(keysetCriteria) : keysetCriteria;
+			}
+		}
+
+		String renderedSql = shape != null ? renderedQueries.get(shape) : null;
+		if (renderedSql != null) {
+
+			// mapping the criteria binds the same parameters as when the SQL got rendered
+			if (criteria != null) {
+				queryMapper.getMappedObject(parameterSource, criteria, table, entity);
+			}
+
+			return new ParametrizedQuery(renderedSql, parameterSource);
+		}
 
 		SelectBuilder.SelectLimitOffset limitOffsetBuilder = createSelectClause(entity, table);
 		SelectBuilder.SelectWhere whereBuilder = applyLimitAndOffset(limitOffsetBuilder);
@@ -166,12 +211,18 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 		Select select = selectOrderBuilder.build();
 
+		Recording recording = JdbcFlightRecorder.sqlGeneration(entity.getType(), "SELECT");
 		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+		recording.sql(sql).commit();
+
+		if (shape != null) {
+			renderedQueries.put(shape, sql);
+		}
 
 		return new ParametrizedQuery(sql, parameterSource);
 	}
 
-	private SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
+	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
 			SelectBuilder.SelectOrdered selectOrdered) {
 
 		return sort.isSorted() ? //
@@ -187,7 +238,41 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: whereBuilder;
 	}
 
-	private SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
+	/**
+	 * Creates the {@link Criteria} selecting the rows following the keys of the {@link KeysetRequest}. For a {@link Sort}
+	 * by {@code a, b, id} this is {@code a > :a OR (a = :a AND b > :b) OR (a = :a AND b = :b AND id > :id)}, with the
+	 * comparison reversed for descending orders.
+	 *
+	 * @param keysetRequest the keyset request providing the keys.
+	 * @param sort the {@link Sort} including the tiebreaker.
+	 * @return the keyset {@link Criteria}.
+	 */
+	private static Criteria createKeysetCriteria(KeysetRequest keysetRequest, Sort sort) {
+
+		List<Sort.Order> orders = sort.toList();
+		Criteria keysetCriteria = Criteria.empty();
+
+		for (int i = 0; i < orders.size(); i++) {
+
+			Criteria group = null;
+			for (Sort.Order equal : orders.subList(0, i)) {
+
+				Object key = keysetRequest.getRequiredKey(equal.getProperty());
+				group = group == null ? Criteria.where(equal.getProperty()).is(key) : group.and(equal.getProperty()).is(key);
+			}
+
+			Sort.Order order = orders.get(i);
+			Object key = keysetRequest.getRequiredKey(order.getProperty());
+			Criteria.CriteriaStep step = group == null ? Criteria.where(order.getProperty()) : group.and(order.getProperty());
+			group = order.isAscending() ? step.greaterThan(key) : step.lessThan(key);
+
+			keysetCriteria = keysetCriteria.or(group);
+		}
+
+		return keysetCriteria;
+	}
+
+	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
 
 		if (tree.isExistsProjection()) {
 			limitOffsetBuilder = limitOffsetBuilder.limit(1);
@@ -196,14 +281,41 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		}
 
 		Pageable pageable = accessor.getPageable();
-		if (pageable.isPaged()) {
-			limitOffsetBuilder = limitOffsetBuilder.limit(pageable.getPageSize()).offset(pageable.getOffset());
+		if (pageable.isPaged() && bindLimitOffset) {
+			limitOffsetBuilder = limitOffsetBuilder.limitOffset(SQL.bindMarker(":" + LIMIT_PARAMETER),
+					SQL.bindMarker(":" + OFFSET_PARAMETER));
+		} else if (pageable.isPaged()) {
+			limitOffsetBuilder = limitOffsetBuilder.limit(getLimit(pageable)).offset(pageable.getOffset());
+		}
+
+		KeysetRequest keysetRequest = accessor.getKeysetRequest();
+		if (keysetRequest != null && !tree.isExistsProjection() && !tree.isCountProjection()) {
+			limitOffsetBuilder = limitOffsetBuilder.limit(keysetRequest.getSize());
 		}
 
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
-	private SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
+	/**
+	 * Binds limit and offset of the requested page, if they are rendered as bind markers.
+	 *
+	 * @param parameterSource the parameters of the query.
+	 */
+	void bindLimitAndOffset(MapSqlParameterSource parameterSource) {
+
+		Pageable pageable = accessor.getPageable();
+		if (pageable.isPaged() && bindLimitOffset) {
+
+			parameterSource.addValue(LIMIT_PARAMETER, getLimit(pageable));
+			parameterSource.addValue(OFFSET_PARAMETER, pageable.getOffset());
+		}
+	}
+
+	private int getLimit(Pageable pageable) {
+		return isSliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
+	}
+
+	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
 
 		SelectBuilder.SelectJoin builder;
 		if (tree.isExistsProjection()) {
@@ -229,7 +341,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
-			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
+			PersistentPropertyPathExtension extPath = context.getPersistentPropertyPathExtension(path);
 
 			// add a join if necessary
 			Join join = getJoin(sqlContext, extPath);
@@ -17,15 +17,20 @@ package org.springframework.data.jdbc.repository.query;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.relational.repository.query.SimpleRelationalEntityMetadata;
@@ -193,6 +198,82 @@ public class JdbcQueryMethod extends QueryMethod {
 		return AnnotationUtils.findAnnotation(method, Modifying.class) != null;
 	}
 
+	/**
+	 * Returns the fetch size to use when streaming the results of the query method.
+	 *
+	 * @return the fetch size configured with {@link FetchSize} or {@literal 0} if none is configured.
+	 * @since 2.1
+	 */
+	int getFetchSize() {
+		return doFindAnnotation(FetchSize.class).map(FetchSize::value).orElse(0);
+	}
+
+	/**
+	 * Returns whether the results of the query method get cached.
+	 *
+	 * @return {@literal true} if the method is annotated with {@link CachedResult}.
+	 * @since 2.1
+	 */
+	boolean isResultCached() {
+		return doFindAnnotation(CachedResult.class).isPresent();
+	}
+
+	/**
+	 * Returns the tables read by the query method: the tables of the aggregate managed by the repository, of the
+	 * aggregate returned by the method and the ones configured with {@link CachedResult#tables()}.
+	 *
+	 * @return the tables. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	Set<SqlIdentifier> getTablesRead() {
+
+		Set<SqlIdentifier> tables = new LinkedHashSet<>();
+
+		addAggregateTables(tables, mappingContext.getRequiredPersistentEntity(getDomainClass()));
+
+		RelationalPersistentEntity<?> returnedEntity = mappingContext.getPersistentEntity(getReturnedObjectType());
+		if (returnedEntity != null) {
+			addAggregateTables(tables, returnedEntity);
+		}
+
+		for (String table : doFindAnnotation(CachedResult.class).map(CachedResult::tables).orElse(new String[0])) {
+			tables.add(SqlIdentifier.unquoted(table));
+		}
+
+		return tables;
+	}
+
+	/**
+	 * Returns the type of the aggregate root managed by the repository declaring the query method.
+	 *
+	 * @return the aggregate type. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	Class<?> getAggregateType() {
+		return getDomainClass();
+	}
+
+	/**
+	 * Returns the name of the query method qualified by the simple name of the repository interface declaring it, e.g.
+	 * {@code PersonRepository.findByName}.
+	 *
+	 * @return the qualified name. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getQualifiedName() {
+		return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+	}
+
+	private void addAggregateTables(Set<SqlIdentifier> tables, RelationalPersistentEntity<?> entity) {
+
+		tables.add(entity.getTableName());
+
+		for (PersistentPropertyPath<? extends RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), RelationalPersistentProperty::isEntity)) {
+			tables.add(new PersistentPropertyPathExtension(mappingContext, path).getTableName());
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	@Nullable
 	private <T> T getMergedAnnotationAttribute(String attribute) {
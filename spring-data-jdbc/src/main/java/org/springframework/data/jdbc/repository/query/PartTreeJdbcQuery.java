@@ -16,7 +16,16 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongSupplier;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -26,9 +35,13 @@ import org.springframework.data.relational.repository.query.RelationalParameterA
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -40,12 +53,16 @@ import org.springframework.util.Assert;
  */
 public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
+	private static final int RENDERED_QUERY_CACHE_SIZE = 64;
+
 	private final RelationalMappingContext context;
 	private final Parameters<?, ?> parameters;
 	private final Dialect dialect;
 	private final JdbcConverter converter;
 	private final PartTree tree;
 	private final JdbcQueryExecution<?> execution;
+	private final RenderedQueryCache renderedQueries = new RenderedQueryCache(RENDERED_QUERY_CACHE_SIZE);
+	private final RenderedQueryCache renderedCountQueries = new RenderedQueryCache(RENDERED_QUERY_CACHE_SIZE);
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -59,6 +76,26 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapper<Object> rowMapper) {
+		this(context, queryMethod, dialect, converter, operations, rowMapper, null);
+	}
+
+	/**
+	 * Creates a new {@link PartTreeJdbcQuery} that uses the given {@link ResultSetExtractor} for queries returning a
+	 * collection.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param collectionResultSetExtractor used instead of the {@literal rowMapper} for collection queries. May be
+	 *          {@literal null}.
+	 * @since 2.1
+	 */
+	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapper<Object> rowMapper,
+			@Nullable ResultSetExtractor<?> collectionResultSetExtractor) {
 
 		super(queryMethod, operations, rowMapper);
 
@@ -75,7 +112,15 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext());
 
-		ResultSetExtractor<Boolean> extractor = tree.isExistsProjection() ? (ResultSet::next) : null;
+		ResultSetExtractor<?> extractor = tree.isExistsProjection() //
+				? (ResultSetExtractor<Boolean>) ResultSet::next //
+				: queryMethod.isCollectionQuery() ? collectionResultSetExtractor : null;
+
+		// slices and pages get created from the list of all selected rows
+		if (queryMethod.isSliceQuery() || queryMethod.isPageQuery()) {
+			extractor = collectionResultSetExtractor != null ? collectionResultSetExtractor
+					: new RowMapperResultSetExtractor<>(rowMapper);
+		}
 
 		this.execution = getQueryExecution(queryMethod, extractor, rowMapper);
 	}
@@ -91,17 +136,123 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	@Override
 	public Object execute(Object[] values) {
 
-		RelationalParametersParameterAccessor accessor = new RelationalParametersParameterAccessor(getQueryMethod(),
-				values);
+		return execute(values, () -> {
+
+			RelationalParametersParameterAccessor accessor = new RelationalParametersParameterAccessor(getQueryMethod(),
+					values);
+
+			ParametrizedQuery query = createQuery(accessor);
+			return getQueryExecution(accessor).execute(query.getQuery(), query.getParameterSource());
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private JdbcQueryExecution<?> getQueryExecution(RelationalParametersParameterAccessor accessor) {
+
+		if (getQueryMethod().isSliceQuery()) {
+			return new SliceQueryExecution<>((JdbcQueryExecution<Collection<Object>>) execution, accessor.getPageable());
+		}
+
+		if (getQueryMethod().isPageQuery()) {
+			return new PageQueryExecution<>((JdbcQueryExecution<Collection<Object>>) execution, accessor.getPageable(),
+					() -> count(accessor));
+		}
+
+		return execution;
+	}
+
+	private long count(RelationalParametersParameterAccessor accessor) {
+
+		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
+		JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect, entityMetadata,
+				accessor, renderedCountQueries);
+		ParametrizedQuery countQuery = queryCreator.createQuery(Sort.unsorted());
+
+		Object count = singleObjectQuery((rs, i) -> rs.getLong(1)).execute(countQuery.getQuery(),
+				countQuery.getParameterSource());
 
-		ParametrizedQuery query = createQuery(accessor);
-		return this.execution.execute(query.getQuery(), query.getParameterSource());
+		Assert.state(count != null, "Count query must return a result");
+
+		return (Long) count;
 	}
 
 	protected ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
-		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor);
+		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
+				getQueryMethod().isSliceQuery(), renderedQueries);
 		return queryCreator.createQuery(getDynamicSort(accessor));
 	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Slice}. The query selects one row more than the size of the slice in
+	 * order to determine whether there is a next slice.
+	 *
+	 * @param <T>
+	 */
+	static class SliceQueryExecution<T> implements JdbcQueryExecution<Slice<T>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final Pageable pageable;
+
+		SliceQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, Pageable pageable) {
+
+			this.delegate = delegate;
+			this.pageable = pageable;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.repository.query.JdbcQueryExecution#execute(java.lang.String, org.springframework.jdbc.core.namedparam.SqlParameterSource)
+		 */
+		@Override
+		public Slice<T> execute(String query, SqlParameterSource parameter) {
+
+			List<T> content = asList(delegate.execute(query, parameter));
+
+			boolean hasNext = pageable.isPaged() && content.size() > pageable.getPageSize();
+
+			return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+		}
+	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Page}. The count query only runs if the total can't be derived from
+	 * the offset and the number of rows of the page, i.e. if the page is full or empty but not the first one.
+	 *
+	 * @param <T>
+	 */
+	static class PageQueryExecution<T> implements JdbcQueryExecution<Page<T>> {
+
+		private final JdbcQueryExecution<? extends Collection<T>> delegate;
+		private final Pageable pageable;
+		private final LongSupplier countSupplier;
+
+		PageQueryExecution(JdbcQueryExecution<? extends Collection<T>> delegate, Pageable pageable,
+				LongSupplier countSupplier) {
+
+			this.delegate = delegate;
+			this.pageable = pageable;
+			this.countSupplier = countSupplier;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.repository.query.JdbcQueryExecution#execute(java.lang.String, org.springframework.jdbc.core.namedparam.SqlParameterSource)
+		 */
+		@Override
+		public Page<T> execute(String query, SqlParameterSource parameter) {
+			return PageableExecutionUtils.getPage(asList(delegate.execute(query, parameter)), pageable, countSupplier);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> asList(@Nullable Collection<T> result) {
+
+		if (result == null) {
+			return Collections.emptyList();
+		}
+
+		return result instanceof List ? (List<T>) result : new ArrayList<>(result);
+	}
 }
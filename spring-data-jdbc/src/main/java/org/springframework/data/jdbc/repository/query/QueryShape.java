@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.KeysetRequest;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.lang.Nullable;
+
+/**
+ * The properties of an invocation of a derived query method that determine the rendered SQL of the query, i.e. all but
+ * the values of its bind parameters. Invocations of the same {@link org.springframework.data.repository.query.parser.PartTree}
+ * with equal shapes render the same SQL with the same parameter names.
+ * <p>
+ * The shape of an argument consists of its type, since {@literal null} values render as {@code IS NULL} and the type of
+ * a value might determine its conversion, and the size of collections and arrays, since they render a bind marker per
+ * element. Sorting and keyset requests render into the SQL as well. Limit and offset of a page are bound as parameters
+ * if the dialect supports it, so only whether the invocation is paged contributes to the shape. Otherwise they are
+ * rendered as literals and each page has a shape of its own.
+ *
+ * @since 2.1
+ */
+final class QueryShape {
+
+	private final List<Object> components;
+
+	private QueryShape(List<Object> components) {
+		this.components = components;
+	}
+
+	/**
+	 * Determines the shape of the invocation represented by the given {@link RelationalParameterAccessor}.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param sort the dynamic sort of the query. Must not be {@literal null}.
+	 * @param bindLimitOffset whether limit and offset of a page are bound as parameters.
+	 * @return the shape. Guaranteed to be not {@literal null}.
+	 */
+	static QueryShape of(RelationalParameterAccessor accessor, Sort sort, boolean bindLimitOffset) {
+
+		List<Object> components = new ArrayList<>();
+		Object[] values = accessor.getValues();
+
+		for (Parameter parameter : accessor.getBindableParameters()) {
+			components.add(getShape(values[parameter.getIndex()]));
+		}
+
+		components.add(sort);
+
+		Pageable pageable = accessor.getPageable();
+		if (bindLimitOffset) {
+			components.add(pageable.isPaged());
+		} else {
+			components.add(pageable.isPaged() ? Arrays.asList(pageable.getPageSize(), pageable.getOffset()) : null);
+		}
+
+		KeysetRequest keysetRequest = accessor.getKeysetRequest();
+		if (keysetRequest != null) {
+
+			components.add(Arrays.asList(keysetRequest.getSize(), keysetRequest.getSort(), keysetRequest.isFirst()));
+			keysetRequest.getKeys().forEach((property, key) -> components.add(Arrays.asList(property, key.getClass())));
+		}
+
+		return new QueryShape(components);
+	}
+
+	@Nullable
+	private static Object getShape(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value instanceof Collection) {
+			return Arrays.asList(value.getClass(), ((Collection<?>) value).size());
+		}
+
+		if (value.getClass().isArray()) {
+			return Arrays.asList(value.getClass(), Array.getLength(value));
+		}
+
+		return value.getClass();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof QueryShape)) {
+			return false;
+		}
+
+		return components.equals(((QueryShape) o).components);
+	}
+
+	@Override
+	public int hashCode() {
+		return components.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "QueryShape" + components;
+	}
+}
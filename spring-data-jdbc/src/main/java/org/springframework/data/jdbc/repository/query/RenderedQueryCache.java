@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * The SQL rendered for the invocations of a derived query by {@link QueryShape}, keeping the most recently used ones.
+ * Rendering requires the invocation and not just its shape, so the SQL is put into the cache by the renderer instead of
+ * getting created by the {@link ConcurrentLruCache} itself.
+ *
+ * @since 2.1
+ */
+final class RenderedQueryCache {
+
+	private final ConcurrentLruCache<QueryShape, AtomicReference<String>> cache;
+
+	/**
+	 * @param size the maximum number of cached statements.
+	 */
+	RenderedQueryCache(int size) {
+		this.cache = new ConcurrentLruCache<>(size, shape -> new AtomicReference<>());
+	}
+
+	/**
+	 * @param shape must not be {@literal null}.
+	 * @return the SQL rendered for the given shape or {@literal null} if it didn't get rendered yet.
+	 */
+	@Nullable
+	String get(QueryShape shape) {
+		return cache.get(shape).get();
+	}
+
+	/**
+	 * @param shape must not be {@literal null}.
+	 * @param sql the SQL rendered for the given shape. Must not be {@literal null}.
+	 */
+	void put(QueryShape shape, String sql) {
+		cache.get(shape).set(sql);
+	}
+}
@@ -17,6 +17,8 @@ package org.springframework.data.jdbc.repository.query;
 
 import java.lang.reflect.Constructor;
 import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.jdbc.core.convert.JdbcColumnTypes;
@@ -25,6 +27,7 @@ import org.springframework.data.jdbc.core.convert.JdbcValue;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.util.Lazy;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -51,6 +54,8 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	private final JdbcQueryMethod queryMethod;
 	private final JdbcQueryExecution<?> executor;
 	private final JdbcConverter converter;
+	private final Lazy<String> query;
+	private final Lazy<List<ParameterBinding>> parameterBindings;
 
 	/**
 	 * Creates a new {@link StringBasedJdbcQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext}
@@ -62,16 +67,42 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public StringBasedJdbcQuery(JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
 			@Nullable RowMapper<?> defaultRowMapper, JdbcConverter converter) {
+		this(queryMethod, operations, defaultRowMapper, null, converter);
+	}
+
+	/**
+	 * Creates a new {@link StringBasedJdbcQuery} for the given {@link JdbcQueryMethod}, {@link RelationalMappingContext},
+	 * {@link RowMapper} and {@link ResultSetExtractor} for queries returning a collection.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param defaultRowMapper can be {@literal null} (only in case of a modifying query).
+	 * @param defaultCollectionResultSetExtractor used instead of the {@literal defaultRowMapper} for collection queries,
+	 *          unless the query method configures its own {@link RowMapper} or {@link ResultSetExtractor}. May be
+	 *          {@literal null}.
+	 * @since 2.1
+	 */
+	public StringBasedJdbcQuery(JdbcQueryMethod queryMethod, NamedParameterJdbcOperations operations,
+			@Nullable RowMapper<?> defaultRowMapper, @Nullable ResultSetExtractor<?> defaultCollectionResultSetExtractor,
+			JdbcConverter converter) {
 
 		super(queryMethod, operations, defaultRowMapper);
 
 		this.queryMethod = queryMethod;
 		this.converter = converter;
+		this.query = Lazy.of(this::determineQuery);
+		this.parameterBindings = Lazy.of(this::createParameterBindings);
 
 		RowMapper<Object> rowMapper = determineRowMapper(defaultRowMapper);
+		ResultSetExtractor<?> extractor = determineResultSetExtractor(rowMapper != defaultRowMapper ? rowMapper : null);
+
+		if (extractor == null && rowMapper == defaultRowMapper && queryMethod.isCollectionQuery()) {
+			extractor = defaultCollectionResultSetExtractor;
+		}
+
 		executor = getQueryExecution( //
 				queryMethod, //
-				determineResultSetExtractor(rowMapper != defaultRowMapper ? rowMapper : null), //
+				extractor, //
 				rowMapper //
 		);
 	}
@@ -82,7 +113,7 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	 */
 	@Override
 	public Object execute(Object[] objects) {
-		return executor.execute(determineQuery(), this.bindParameters(objects));
+		return execute(objects, () -> executor.execute(query.get(), this.bindParameters(objects)));
 	}
 
 	/*
@@ -98,29 +129,29 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 
 		MapSqlParameterSource parameters = new MapSqlParameterSource();
 
-		queryMethod.getParameters().getBindableParameters()
-				.forEach(p -> convertAndAddParameter(parameters, p, objects[p.getIndex()]));
+		for (ParameterBinding binding : parameterBindings.get()) {
+			binding.bind(parameters, objects[binding.index]);
+		}
 
 		return parameters;
 	}
 
-	private void convertAndAddParameter(MapSqlParameterSource parameters, Parameter p, Object value) {
-
-		String parameterName = p.getName().orElseThrow(() -> new IllegalStateException(PARAMETER_NEEDS_TO_BE_NAMED));
+	/**
+	 * Resolves everything needed to bind the arguments of the query method but their values, once per query method.
+	 */
+	private List<ParameterBinding> createParameterBindings() {
 
-		Class<?> parameterType = queryMethod.getParameters().getParameter(p.getIndex()).getType();
-		Class<?> conversionTargetType = JdbcColumnTypes.INSTANCE.resolvePrimitiveType(parameterType);
+		List<ParameterBinding> bindings = new ArrayList<>();
 
-		JdbcValue jdbcValue = converter.writeJdbcValue(value, conversionTargetType,
-				JdbcUtil.sqlTypeFor(conversionTargetType));
+		for (Parameter parameter : queryMethod.getParameters().getBindableParameters()) {
 
-		JDBCType jdbcType = jdbcValue.getJdbcType();
-		if (jdbcType == null) {
+			Class<?> conversionTargetType = JdbcColumnTypes.INSTANCE.resolvePrimitiveType(parameter.getType());
 
-			parameters.addValue(parameterName, jdbcValue.getValue());
-		} else {
-			parameters.addValue(parameterName, jdbcValue.getValue(), jdbcType.getVendorTypeNumber());
+			bindings.add(new ParameterBinding(parameter.getIndex(), parameter.getName().orElse(null),
+					conversionTargetType, JdbcUtil.sqlTypeFor(conversionTargetType)));
 		}
+
+		return bindings;
 	}
 
 	private String determineQuery() {
@@ -169,4 +200,41 @@ public class StringBasedJdbcQuery extends AbstractJdbcQuery {
 	private static boolean isUnconfigured(@Nullable Class<?> configuredClass, Class<?> defaultClass) {
 		return configuredClass == null || configuredClass == defaultClass;
 	}
+
+	/**
+	 * Binds the argument of a query method parameter to its named parameter, with the conversion target and SQL type
+	 * resolved upfront.
+	 */
+	private class ParameterBinding {
+
+		private final int index;
+		private final @Nullable String name;
+		private final Class<?> conversionTargetType;
+		private final int sqlType;
+
+		ParameterBinding(int index, @Nullable String name, Class<?> conversionTargetType, int sqlType) {
+
+			this.index = index;
+			this.name = name;
+			this.conversionTargetType = conversionTargetType;
+			this.sqlType = sqlType;
+		}
+
+		void bind(MapSqlParameterSource parameters, @Nullable Object value) {
+
+			if (name == null) {
+				throw new IllegalStateException(PARAMETER_NEEDS_TO_BE_NAMED);
+			}
+
+			JdbcValue jdbcValue = converter.writeJdbcValue(value, conversionTargetType, sqlType);
+
+			JDBCType jdbcType = jdbcValue.getJdbcType();
+			if (jdbcType == null) {
+
+				parameters.addValue(name, jdbcValue.getValue());
+			} else {
+				parameters.addValue(name, jdbcValue.getValue(), jdbcType.getVendorTypeNumber());
+			}
+		}
+	}
 }
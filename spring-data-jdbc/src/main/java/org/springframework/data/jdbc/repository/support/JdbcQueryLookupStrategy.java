@@ -18,11 +18,20 @@ package org.springframework.data.jdbc.repository.support;
 import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
+import org.springframework.data.jdbc.core.convert.EntityResultSetExtractor;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.query.AbstractJdbcQuery;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
@@ -38,6 +47,7 @@ import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
@@ -63,10 +73,16 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	private final Dialect dialect;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
+	private final RelationResolver relationResolver;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable AggregateCache aggregateCache;
+	private @Nullable SnapshotRegistry snapshotRegistry;
+	private @Nullable MetricsRecorder metricsRecorder;
 
 	public JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 			RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
-			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations) {
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			RelationResolver relationResolver) {
 
 		Assert.notNull(publisher, "ApplicationEventPublisher must not be null");
 		Assert.notNull(context, "RelationalMappingContextPublisher must not be null");
@@ -74,6 +90,7 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(queryMappingConfiguration, "QueryMappingConfiguration must not be null");
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+		Assert.notNull(relationResolver, "RelationResolver must not be null");
 
 		this.publisher = publisher;
 		this.callbacks = callbacks;
@@ -82,6 +99,40 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		this.dialect = dialect;
 		this.queryMappingConfiguration = queryMappingConfiguration;
 		this.operations = operations;
+		this.relationResolver = relationResolver;
+	}
+
+	/**
+	 * @param queryResultCache used by query methods annotated with
+	 *          {@link org.springframework.data.jdbc.repository.query.CachedResult}. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @param aggregateCache evicted by modifying query methods. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param snapshotRegistry cleared by modifying query methods. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+		this.snapshotRegistry = snapshotRegistry;
+	}
+
+	/**
+	 * @param metricsRecorder records a measurement for every execution of a query method. May be {@literal null}.
+	 * @since 2.1
+	 */
+	void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	/*
@@ -96,13 +147,23 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 				context);
 
 		try {
+
+			AbstractJdbcQuery query;
 			if (namedQueries.hasQuery(queryMethod.getNamedQueryName()) || queryMethod.hasAnnotatedQuery()) {
 
 				RowMapper<?> mapper = queryMethod.isModifyingQuery() ? null : createMapper(queryMethod);
-				return new StringBasedJdbcQuery(queryMethod, operations, mapper, converter);
+				ResultSetExtractor<?> extractor = queryMethod.isModifyingQuery() ? null : createExtractor(queryMethod);
+				query = new StringBasedJdbcQuery(queryMethod, operations, mapper, extractor, converter);
 			} else {
-				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, createMapper(queryMethod));
+				query = new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, createMapper(queryMethod),
+						createExtractor(queryMethod));
 			}
+
+			query.setQueryResultCache(queryResultCache);
+			query.setAggregateCache(aggregateCache);
+			query.setSnapshotRegistry(snapshotRegistry);
+			query.setMetricsRecorder(metricsRecorder);
+			return query;
 		} catch (Exception e) {
 			throw QueryCreationException.create(queryMethod, e.getMessage());
 		}
@@ -138,6 +199,42 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		return new PostProcessingRowMapper<>(defaultEntityRowMapper);
 	}
 
+	/**
+	 * Creates a {@link ResultSetExtractor} for collection queries returning entities that are mapped by default, which
+	 * loads the collections and maps referenced by all entities of the result at once.
+	 *
+	 * @return {@literal null} if the query doesn't return entities or uses a configured {@link RowMapper}.
+	 */
+	@Nullable
+	private ResultSetExtractor<?> createExtractor(JdbcQueryMethod queryMethod) {
+
+		Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
+
+		RelationalPersistentEntity<?> persistentEntity = context.getPersistentEntity(returnedObjectType);
+
+		if (persistentEntity == null || queryMappingConfiguration.getRowMapper(returnedObjectType) != null) {
+			return null;
+		}
+
+		return new PostProcessingResultSetExtractor<>(
+				new EntityResultSetExtractor<>(persistentEntity, converter, relationResolver));
+	}
+
+	@Nullable
+	private <T> T postProcess(@Nullable T entity) {
+
+		if (entity != null) {
+
+			publisher.publishEvent(new AfterLoadEvent<>(entity));
+
+			if (callbacks != null) {
+				return callbacks.callback(AfterLoadCallback.class, entity);
+			}
+		}
+
+		return entity;
+	}
+
 	class PostProcessingRowMapper<T> implements RowMapper<T> {
 
 		private final RowMapper<T> delegate;
@@ -148,19 +245,31 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 
 		@Override
 		public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+			return postProcess(delegate.mapRow(rs, rowNum));
+		}
+	}
+
+	class PostProcessingResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
 
-			T entity = delegate.mapRow(rs, rowNum);
+		private final ResultSetExtractor<List<T>> delegate;
 
-			if (entity != null) {
+		PostProcessingResultSetExtractor(ResultSetExtractor<List<T>> delegate) {
+			this.delegate = delegate;
+		}
 
-				publisher.publishEvent(new AfterLoadEvent<>(entity));
+		@Override
+		public List<T> extractData(ResultSet rs) throws SQLException {
 
-				if (callbacks != null) {
-					return callbacks.callback(AfterLoadCallback.class, entity);
-				}
+			List<T> entities = delegate.extractData(rs);
+
+			if (entities == null) {
+				return null;
 			}
 
-			return entity;
+			List<T> result = new ArrayList<>(entities.size());
+			entities.forEach(entity -> result.add(postProcess(entity)));
+
+			return result;
 		}
 	}
 }
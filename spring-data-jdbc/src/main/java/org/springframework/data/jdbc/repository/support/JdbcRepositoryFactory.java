@@ -19,8 +19,12 @@ import java.util.Optional;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -56,6 +60,10 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 	private EntityCallbacks entityCallbacks;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable AggregateCache aggregateCache;
+	private @Nullable SnapshotRegistry snapshotRegistry;
+	private @Nullable MetricsRecorder metricsRecorder;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactory} for the given {@link DataAccessStrategy},
@@ -122,6 +130,11 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			template.setEntityCallbacks(entityCallbacks);
 		}
 
+		template.setQueryResultCache(queryResultCache);
+		template.setAggregateCache(aggregateCache);
+		template.setSnapshotRegistry(snapshotRegistry);
+		template.setMetricsRecorder(metricsRecorder);
+
 		return repository;
 	}
 
@@ -142,8 +155,14 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable QueryLookupStrategy.Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
-		return Optional.of(new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations));
+		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, entityCallbacks, context,
+				converter, dialect, queryMappingConfiguration, operations, accessStrategy);
+		queryLookupStrategy.setQueryResultCache(queryResultCache);
+		queryLookupStrategy.setAggregateCache(aggregateCache);
+		queryLookupStrategy.setSnapshotRegistry(snapshotRegistry);
+		queryLookupStrategy.setMetricsRecorder(metricsRecorder);
+
+		return Optional.of(queryLookupStrategy);
 	}
 
 	/**
@@ -153,4 +172,56 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	public void setEntityCallbacks(EntityCallbacks entityCallbacks) {
 		this.entityCallbacks = entityCallbacks;
 	}
+
+	/**
+	 * Configures the {@link QueryResultCache} holding the results of query methods annotated with
+	 * {@link org.springframework.data.jdbc.repository.query.CachedResult}. Results get invalidated by writes of the
+	 * repositories created by this factory. A {@link JdbcAggregateTemplate} used to write outside of repositories must
+	 * be configured with the same cache via {@link JdbcAggregateTemplate#setQueryResultCache(QueryResultCache)}.
+	 *
+	 * @param queryResultCache the cache to use. May be {@literal null} to always execute queries, which is the default.
+	 * @since 2.1
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * Configures the {@link AggregateCache} used by the repositories created by this factory to look up aggregates by id.
+	 * Aggregates get evicted by writes of the repositories, and all aggregates of the type of a repository whenever one
+	 * of its modifying query methods gets executed.
+	 *
+	 * @param aggregateCache the cache to use. May be {@literal null} to always load aggregates from the database, which
+	 *          is the default.
+	 * @since 2.1
+	 * @see JdbcAggregateTemplate#setAggregateCache(AggregateCache)
+	 */
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * Configures the {@link SnapshotRegistry} used by the repositories created by this factory to update only the
+	 * changed columns of aggregate roots. Snapshots get cleared whenever a modifying query method gets executed.
+	 *
+	 * @param snapshotRegistry the registry to use. May be {@literal null} to always update all columns, which is the
+	 *          default.
+	 * @since 2.1
+	 * @see JdbcAggregateTemplate#setSnapshotRegistry(SnapshotRegistry)
+	 */
+	public void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+		this.snapshotRegistry = snapshotRegistry;
+	}
+
+	/**
+	 * Configures the {@link MetricsRecorder} receiving measurements of the operations of the repositories created by this
+	 * factory, the actions they execute and their query methods.
+	 *
+	 * @param metricsRecorder the recorder to use. May be {@literal null} to not measure anything, which is the default.
+	 * @since 2.1
+	 * @see JdbcAggregateTemplate#setMetricsRecorder(MetricsRecorder)
+	 */
+	public void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
 }
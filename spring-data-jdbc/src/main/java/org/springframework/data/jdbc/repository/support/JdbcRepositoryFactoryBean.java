@@ -21,10 +21,14 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
+import org.springframework.data.jdbc.core.metrics.MetricsRecorder;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
@@ -33,6 +37,7 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -57,6 +62,10 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private @Nullable QueryResultCache queryResultCache;
+	private @Nullable AggregateCache aggregateCache;
+	private @Nullable SnapshotRegistry snapshotRegistry;
+	private @Nullable MetricsRecorder metricsRecorder;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -89,6 +98,10 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 				converter, dialect, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
+		jdbcRepositoryFactory.setQueryResultCache(queryResultCache);
+		jdbcRepositoryFactory.setAggregateCache(aggregateCache);
+		jdbcRepositoryFactory.setSnapshotRegistry(snapshotRegistry);
+		jdbcRepositoryFactory.setMetricsRecorder(metricsRecorder);
 
 		return jdbcRepositoryFactory;
 	}
@@ -121,6 +134,46 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * @param queryResultCache can be {@literal null}, which disables caching of query results.
+	 * @since 2.1
+	 * @see JdbcRepositoryFactory#setQueryResultCache(QueryResultCache)
+	 */
+	@Autowired(required = false)
+	public void setQueryResultCache(@Nullable QueryResultCache queryResultCache) {
+		this.queryResultCache = queryResultCache;
+	}
+
+	/**
+	 * @param aggregateCache can be {@literal null}, which disables caching of aggregates.
+	 * @since 2.1
+	 * @see JdbcRepositoryFactory#setAggregateCache(AggregateCache)
+	 */
+	@Autowired(required = false)
+	public void setAggregateCache(@Nullable AggregateCache aggregateCache) {
+		this.aggregateCache = aggregateCache;
+	}
+
+	/**
+	 * @param snapshotRegistry can be {@literal null}, which disables updating only the changed columns.
+	 * @since 2.1
+	 * @see JdbcRepositoryFactory#setSnapshotRegistry(SnapshotRegistry)
+	 */
+	@Autowired(required = false)
+	public void setSnapshotRegistry(@Nullable SnapshotRegistry snapshotRegistry) {
+		this.snapshotRegistry = snapshotRegistry;
+	}
+
+	/**
+	 * @param metricsRecorder can be {@literal null}, which disables metrics.
+	 * @since 2.1
+	 * @see JdbcRepositoryFactory#setMetricsRecorder(MetricsRecorder)
+	 */
+	@Autowired(required = false)
+	public void setMetricsRecorder(@Nullable MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+	}
+
 	public void setJdbcOperations(NamedParameterJdbcOperations operations) {
 		this.operations = operations;
 	}
@@ -21,12 +21,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.util.Streamable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.CrudRepository} interface.
@@ -67,10 +65,7 @@ public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T
 	@Transactional
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
-
-		return Streamable.of(entities).stream() //
-				.map(this::save) //
-				.collect(Collectors.toList());
+		return entityOperations.saveAll(entities);
 	}
 
 	/*
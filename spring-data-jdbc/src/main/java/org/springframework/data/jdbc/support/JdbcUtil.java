@@ -24,10 +24,20 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Contains methods dealing with the quirks of JDBC, independent of any Entity, Aggregate or Repository abstraction.
@@ -39,6 +49,12 @@ public final class JdbcUtil {
 
 	private static final Map<Class<?>, Integer> sqlTypeMappings = new HashMap<>();
 
+	/**
+	 * Parsed SQL by SQL string, bounded like the cache of {@link NamedParameterJdbcTemplate}.
+	 */
+	private static final ConcurrentLruCache<String, ParsedSql> parsedSqlCache = new ConcurrentLruCache<>(
+			NamedParameterJdbcTemplate.DEFAULT_CACHE_LIMIT, NamedParameterUtils::parseSqlStatement);
+
 	static {
 
 		sqlTypeMappings.put(String.class, Types.VARCHAR);
@@ -124,4 +140,44 @@ public final class JdbcUtil {
 	public static JDBCType jdbcTypeFor(Class<?> type) {
 		return jdbcTypeFor(sqlTypeFor(type));
 	}
+
+	/**
+	 * Executes the given query and returns its rows as a lazily populated {@link Stream}. The underlying
+	 * {@link java.sql.ResultSet} stays open until the {@link Stream} gets closed, so callers must close it, e.g. by using
+	 * try-with-resources. Parameters are bound the same way {@link NamedParameterJdbcOperations} does.
+	 *
+	 * @param operations the operations to execute the query with. Must not be {@literal null}.
+	 * @param sql the query using named parameters. Must not be {@literal null}.
+	 * @param parameterSource the values of the named parameters. Must not be {@literal null}.
+	 * @param rowMapper the {@link RowMapper} to map each row with. Must not be {@literal null}.
+	 * @param fetchSize the number of rows the driver should fetch at once. {@literal 0} leaves the driver's default in
+	 *          place.
+	 * @return the {@link Stream} of mapped rows. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	public static <T> Stream<T> queryForStream(NamedParameterJdbcOperations operations, String sql,
+			SqlParameterSource parameterSource, RowMapper<T> rowMapper, int fetchSize) {
+
+		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null.");
+		Assert.notNull(sql, "Sql must not be null.");
+		Assert.notNull(parameterSource, "SqlParameterSource must not be null.");
+		Assert.notNull(rowMapper, "RowMapper must not be null.");
+
+		if (fetchSize == 0) {
+			return operations.queryForStream(sql, parameterSource, rowMapper);
+		}
+
+		ParsedSql parsedSql = parsedSqlCache.get(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, parameterSource);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameterSource, null);
+		PreparedStatementSetter parameterSetter = new PreparedStatementCreatorFactory(sqlToUse,
+				NamedParameterUtils.buildSqlParameterList(parsedSql, parameterSource)).newPreparedStatementSetter(values);
+
+		return operations.getJdbcOperations().queryForStream(sqlToUse, statement -> {
+
+			statement.setFetchSize(fetchSize);
+			parameterSetter.setValues(statement);
+		}, rowMapper);
+	}
 }
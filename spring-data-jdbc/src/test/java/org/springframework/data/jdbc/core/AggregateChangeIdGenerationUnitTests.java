@@ -383,6 +383,15 @@ public class AggregateChangeIdGenerationUnitTests {
 		@Override
 		public Object answer(InvocationOnMock invocation) throws Throwable {
 
+			if (invocation.getMethod().getReturnType().equals(Object[].class)) {
+
+				Object[] ids = new Object[((List<?>) invocation.getArgument(0)).size()];
+				for (int i = 0; i < ids.length; i++) {
+					ids[i] = id++;
+				}
+				return ids;
+			}
+
 			if (!invocation.getMethod().getReturnType().equals(Object.class)) {
 				throw new UnsupportedOperationException("This mock does not support this invocation: " + invocation);
 			}
@@ -24,20 +24,27 @@ import java.util.List;
 
 import org.jetbrains.annotations.NotNull;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Version;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Unit tests for {@link JdbcAggregateChangeExecutionContext}.
@@ -135,6 +142,116 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content.id).isEqualTo(24L);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void consecutiveInsertsOfSamePathGetExecutedAsBatch() {
+
+		Content content1 = new Content();
+		Content content2 = new Content();
+		root.list.add(content1);
+		root.list.add(content2);
+
+		when(accessStrategy.insert(root, DummyEntity.class, Identifier.empty())).thenReturn(23L);
+		when(accessStrategy.insert(anyList(), eq(Content.class))).thenReturn(new Object[] { 24L, 25L });
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		MutableAggregateChange<DummyEntity> aggregateChange = MutableAggregateChange.forSave(root);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(createInsert(rootInsert, "list", content1, 0));
+		aggregateChange.addAction(createInsert(rootInsert, "list", content2, 1));
+
+		executor.execute(aggregateChange);
+
+		ArgumentCaptor<List<InsertSubject<Content>>> insertSubjects = ArgumentCaptor.forClass(List.class);
+		verify(accessStrategy).insert(insertSubjects.capture(), eq(Content.class));
+		verify(accessStrategy, never()).insert(any(Content.class), eq(Content.class), any(Identifier.class));
+
+		assertThat(insertSubjects.getValue()).extracting(InsertSubject::getInstance).containsExactly(content1, content2);
+		assertThat(root.id).isEqualTo(23L);
+		assertThat(root.list).extracting(c -> c.id).containsExactly(24L, 25L);
+	}
+
+	@Test
+	public void onlyChangedColumnsOfRootWithoutVersionGetUpdated() {
+
+		SnapshotRegistry snapshotRegistry = new SnapshotRegistry(converter);
+		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
+				accessStrategy, snapshotRegistry);
+
+		UnversionedEntity unchanged = new UnversionedEntity(23L, "unchanged");
+		UnversionedEntity changed = new UnversionedEntity(24L, "before");
+
+		when(accessStrategy.existsById(23L, UnversionedEntity.class)).thenReturn(true);
+		when(accessStrategy.update(eq(changed), eq(UnversionedEntity.class), anySet())).thenReturn(true);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			snapshotRegistry.register(unchanged);
+			snapshotRegistry.register(changed);
+			changed.name = "after";
+
+			executionContext.executeUpdateRoot(new DbAction.UpdateRoot<>(unchanged));
+			executionContext.executeUpdateRoot(new DbAction.UpdateRoot<>(changed));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		SqlIdentifier nameColumn = context.getRequiredPersistentEntity(UnversionedEntity.class)
+				.getRequiredPersistentProperty("name").getColumnName();
+
+		verify(accessStrategy, never()).update(unchanged, UnversionedEntity.class);
+		verify(accessStrategy, never()).update(eq(unchanged), eq(UnversionedEntity.class), anySet());
+		verify(accessStrategy).update(changed, UnversionedEntity.class, singleton(nameColumn));
+		verify(accessStrategy, never()).update(changed, UnversionedEntity.class);
+	}
+
+	@Test
+	public void unchangedRootWithoutVersionOnlyGetsCheckedForExistence() {
+
+		SnapshotRegistry snapshotRegistry = new SnapshotRegistry(converter);
+		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
+				accessStrategy, snapshotRegistry);
+
+		UnversionedEntity unchanged = new UnversionedEntity(23L, "unchanged");
+
+		when(accessStrategy.existsById(23L, UnversionedEntity.class)).thenReturn(true);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			snapshotRegistry.register(unchanged);
+
+			executionContext.executeUpdateRoot(new DbAction.UpdateRoot<>(unchanged));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		verify(accessStrategy).existsById(23L, UnversionedEntity.class);
+		verifyNoMoreInteractions(accessStrategy);
+	}
+
+	@Test
+	public void updateOfUnchangedRootFailsIfTheRowGotDeleted() {
+
+		SnapshotRegistry snapshotRegistry = new SnapshotRegistry(converter);
+		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
+				accessStrategy, snapshotRegistry);
+
+		UnversionedEntity deleted = new UnversionedEntity(23L, "unchanged");
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			snapshotRegistry.register(deleted);
+
+			assertThatExceptionOfType(IncorrectUpdateSemanticsDataAccessException.class)
+					.isThrownBy(() -> executionContext.executeUpdateRoot(new DbAction.UpdateRoot<>(deleted)));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key) {
 
@@ -187,4 +304,16 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		@Id Long id;
 	}
 
+	private static class UnversionedEntity {
+
+		@Id Long id;
+		String name;
+
+		UnversionedEntity(Long id, String name) {
+
+			this.id = id;
+			this.name = name;
+		}
+	}
+
 }
@@ -32,7 +32,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.SoftAssertions;
 import org.junit.Assume;
@@ -52,14 +54,18 @@ import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.testing.DatabaseProfileValueSource;
 import org.springframework.data.jdbc.testing.HsqlDbOnly;
 import org.springframework.data.jdbc.testing.TestConfiguration;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
+import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.test.annotation.IfProfileValue;
 import org.springframework.test.annotation.ProfileValueSourceConfiguration;
@@ -91,6 +97,11 @@ public class JdbcAggregateTemplateIntegrationTests {
 
 	@Autowired JdbcAggregateOperations template;
 	@Autowired NamedParameterJdbcOperations jdbcTemplate;
+	@Autowired RelationalMappingContext context;
+	@Autowired JdbcConverter converter;
+	@Autowired Dialect dialect;
+	@Autowired ApplicationEventPublisher publisher;
+	@Autowired DataAccessStrategy dataAccessStrategy;
 	LegoSet legoSet = createLegoSet("Star Destroyer");
 
 	/**
@@ -229,6 +240,19 @@ public class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly(tuple(legoSet.getId(), legoSet.getManual().getId(), legoSet.getManual().getContent()));
 	}
 
+	@Test
+	public void saveAndStreamManyEntitiesWithReferencedEntity() {
+
+		template.save(legoSet);
+
+		try (Stream<LegoSet> reloadedLegoSets = template.streamAll(LegoSet.class)) {
+
+			assertThat(reloadedLegoSets) //
+					.extracting("id", "manual.id", "manual.content") //
+					.containsExactly(tuple(legoSet.getId(), legoSet.getManual().getId(), legoSet.getManual().getContent()));
+		}
+	}
+
 	@Test // DATAJDBC-101
 	public void saveAndLoadManyEntitiesWithReferencedEntitySorted() {
 
@@ -271,6 +295,29 @@ public class JdbcAggregateTemplateIntegrationTests {
 				.containsExactly("Star");
 	}
 
+	@Test
+	public void saveAndLoadManyEntitiesWithReferencedEntityByKeyset() {
+
+		template.save(createLegoSet("Lava"));
+		template.save(createLegoSet("Star"));
+		template.save(createLegoSet("Frozen"));
+		template.save(createLegoSet("Lava"));
+
+		KeysetRequest first = KeysetRequest.of(2, Sort.by("name"));
+		List<LegoSet> firstWindow = new ArrayList<>();
+		template.findAll(LegoSet.class, first).forEach(firstWindow::add);
+
+		LegoSet last = firstWindow.get(firstWindow.size() - 1);
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("name", last.getName());
+		keys.put("id", last.getId());
+
+		assertThat(firstWindow).extracting("name").containsExactly("Frozen", "Lava");
+		assertThat(template.findAll(LegoSet.class, first.after(keys))) //
+				.extracting("name") //
+				.containsExactly("Lava", "Star");
+	}
+
 	@Test // DATAJDBC-112
 	public void saveAndLoadManyEntitiesByIdWithReferencedEntity() {
 
@@ -689,6 +736,182 @@ public class JdbcAggregateTemplateIntegrationTests {
 		assertThat(reloaded).isEqualTo(saved);
 	}
 
+	@Test
+	public void findAllWithRelationBatchLoading() {
+
+		NoIdListChain4 listChain1 = template.save(createNoIdTree());
+		NoIdListChain4 listChain2 = template.save(createNoIdTree());
+		NoIdListChain4 listChain3 = template.save(createNoIdTree());
+		NoIdMapChain4 mapChain1 = template.save(createNoIdMapTree());
+		NoIdMapChain4 mapChain2 = template.save(createNoIdMapTree());
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, dialect), context, converter, jdbcTemplate);
+		accessStrategy.setRelationBatchSize(2);
+
+		assertThat(accessStrategy.findAll(NoIdListChain4.class)).containsExactlyInAnyOrder(listChain1, listChain2,
+				listChain3);
+		assertThat(accessStrategy.findAllById(Arrays.asList(mapChain1.four, mapChain2.four), NoIdMapChain4.class))
+				.containsExactlyInAnyOrder(mapChain1, mapChain2);
+	}
+
+	@Test
+	public void findWithSingleQueryLoading() {
+
+		ListParent first = template.save(createListParent("first", "one", "two", "three"));
+		ListParent second = template.save(createListParent("second", "four"));
+		ListParent empty = template.save(createListParent("empty"));
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, dialect), context, converter, jdbcTemplate);
+		accessStrategy.setSingleQueryLoadingEnabled(true);
+
+		ListParent reloaded = accessStrategy.findById(first.id, ListParent.class);
+
+		assertThat(reloaded.content).extracting(e -> e.content).containsExactly("one", "two", "three");
+		assertThat(accessStrategy.findAll(ListParent.class)) //
+				.extracting(p -> p.name, p -> p.content.stream().map(e -> e.content).collect(Collectors.toList())) //
+				.containsExactlyInAnyOrder( //
+						tuple("first", Arrays.asList("one", "two", "three")), //
+						tuple("second", singletonList("four")), //
+						tuple("empty", emptyList()) //
+		);
+		assertThat(accessStrategy.findAllById(Arrays.asList(second.id, empty.id), ListParent.class)) //
+				.extracting(p -> p.name) //
+				.containsExactlyInAnyOrder("second", "empty");
+
+		template.save(legoSet);
+
+		assertThat(accessStrategy.findById(legoSet.getId(), LegoSet.class)).isEqualTo(legoSet);
+	}
+
+	@Test
+	public void saveLoadAndDeleteWithPositionalBindMarkers() {
+
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy(
+				new SqlGeneratorSource(context, converter, dialect), context, converter, jdbcTemplate);
+		accessStrategy.setPositionalBindMarkersEnabled(true);
+		JdbcAggregateTemplate positionalTemplate = new JdbcAggregateTemplate(publisher, context, converter,
+				accessStrategy);
+
+		LegoSet saved = positionalTemplate.save(legoSet);
+		saved.setName("Millennium Falcon");
+		positionalTemplate.save(saved);
+
+		LegoSet reloaded = positionalTemplate.findById(saved.getId(), LegoSet.class);
+		assertThat(reloaded.getName()).isEqualTo("Millennium Falcon");
+		assertThat(reloaded.getManual().getContent()).isEqualTo(legoSet.getManual().getContent());
+
+		ListParent listParent = positionalTemplate.save(createListParent("parent", "one", "two"));
+		assertThat(positionalTemplate.findById(listParent.id, ListParent.class).content) //
+				.extracting(e -> e.content) //
+				.containsExactly("one", "two");
+
+		AggregateWithLongVersion versioned = positionalTemplate.save(new AggregateWithLongVersion());
+		positionalTemplate.save(versioned);
+		assertThat(versioned.getVersion()).isEqualTo(1L);
+
+		positionalTemplate.delete(reloaded, LegoSet.class);
+		positionalTemplate.delete(versioned, AggregateWithLongVersion.class);
+
+		assertThat(positionalTemplate.existsById(saved.getId(), LegoSet.class)).isFalse();
+		assertThat(positionalTemplate.existsById(listParent.id, ListParent.class)).isTrue();
+	}
+
+	@Test
+	public void saveAllInsertsNewAndUpdatesExistingAggregates() {
+
+		ListParent existing = template.save(createListParent("existing", "old"));
+		existing.name = "updated";
+		existing.content.get(0).content = "new";
+
+		List<ListParent> saved = (List<ListParent>) template.saveAll(Arrays.asList( //
+				createListParent("first", "one", "two"), //
+				existing, //
+				createListParent("second", "three")));
+
+		assertThat(saved).extracting(p -> p.id).doesNotContainNull().doesNotHaveDuplicates();
+		assertThat(saved.get(1).id).isEqualTo(existing.id);
+		assertThat(template.findAll(ListParent.class)) //
+				.extracting(p -> p.name, p -> p.content.stream().map(e -> e.content).collect(Collectors.toList())) //
+				.containsExactlyInAnyOrder( //
+						tuple("first", Arrays.asList("one", "two")), //
+						tuple("updated", singletonList("new")), //
+						tuple("second", singletonList("three")) //
+		);
+	}
+
+	@Test
+	public void saveAllWithTheSameAggregateTwiceKeepsTheChildrenOfTheLastInstance() {
+
+		ListParent existing = template.save(createListParent("existing", "old"));
+
+		ListParent first = createListParent("first", "one", "two");
+		first.id = existing.id;
+		ListParent second = createListParent("second", "three");
+		second.id = existing.id;
+
+		template.saveAll(Arrays.asList(first, second));
+
+		assertThat(template.findAll(ListParent.class)) //
+				.extracting(p -> p.name, p -> p.content.stream().map(e -> e.content).collect(Collectors.toList())) //
+				.containsExactly(tuple("second", singletonList("three")));
+	}
+
+	@Test
+	public void insertAllSetsGeneratedIdsAndInitialVersions() {
+
+		List<AggregateWithImmutableVersion> inserted = (List<AggregateWithImmutableVersion>) template.insertAll(
+				Arrays.asList(new AggregateWithImmutableVersion(null, null), new AggregateWithImmutableVersion(null, null)));
+
+		assertThat(inserted).extracting(AggregateWithImmutableVersion::getVersion).containsExactly(0L, 0L);
+		assertThat(inserted).extracting(AggregateWithImmutableVersion::getId).doesNotContainNull()
+				.doesNotHaveDuplicates();
+		assertThat(template.findAllById(inserted.stream().map(AggregateWithImmutableVersion::getId)
+				.collect(Collectors.toList()), AggregateWithImmutableVersion.class)).hasSize(2);
+	}
+
+	@Test
+	public void updateWithCollectionDiffingKeepsUnchangedAndUpdatesChangedEntities() {
+
+		Manual alternative = new Manual();
+		alternative.setContent("alternative");
+		legoSet.setAlternativeInstructions(alternative);
+
+		JdbcAggregateTemplate diffingTemplate = new JdbcAggregateTemplate(publisher, context, converter,
+				dataAccessStrategy);
+		diffingTemplate.setCollectionDiffingEnabled(true);
+
+		LegoSet saved = diffingTemplate.save(legoSet);
+		Long manualId = saved.getManual().getId();
+
+		saved.getManual().setContent("changed");
+		saved.setAlternativeInstructions(null);
+		diffingTemplate.save(saved);
+
+		LegoSet reloaded = template.findById(saved.getId(), LegoSet.class);
+
+		assertThat(reloaded.getManual().getId()).isEqualTo(manualId);
+		assertThat(reloaded.getManual().getContent()).isEqualTo("changed");
+		assertThat(reloaded.getAlternativeInstructions()).isNull();
+		assertThat(template.count(Manual.class)).isEqualTo(1);
+	}
+
+	private static ListParent createListParent(String name, String... contents) {
+
+		ListParent entity = new ListParent();
+		entity.name = name;
+
+		for (String content : contents) {
+
+			ElementNoId element = new ElementNoId();
+			element.content = content;
+			entity.content.add(element);
+		}
+
+		return entity;
+	}
+
 	@Test // DATAJDBC-223
 	public void shouldDeleteChainOfListsWithoutIds() {
 
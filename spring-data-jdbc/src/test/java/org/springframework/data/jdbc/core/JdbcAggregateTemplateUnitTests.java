@@ -23,6 +23,10 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,12 +35,17 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.InMemoryAggregateCache;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.metrics.Measurement;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
 import org.springframework.data.relational.core.mapping.Column;
@@ -48,6 +57,7 @@ import org.springframework.data.relational.core.mapping.event.AfterSaveCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeDeleteCallback;
 import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 /**
  * Unit tests for {@link JdbcAggregateTemplate}.
@@ -60,6 +70,7 @@ import org.springframework.data.relational.core.mapping.event.BeforeSaveCallback
 public class JdbcAggregateTemplateUnitTests {
 
 	JdbcAggregateOperations template;
+	JdbcConverter converter;
 
 	@Mock DataAccessStrategy dataAccessStrategy;
 	@Mock ApplicationEventPublisher eventPublisher;
@@ -70,7 +81,7 @@ public class JdbcAggregateTemplateUnitTests {
 	public void setUp() {
 
 		RelationalMappingContext mappingContext = new RelationalMappingContext(NamingStrategy.INSTANCE);
-		JdbcConverter converter = new BasicJdbcConverter(mappingContext, relationResolver);
+		converter = new BasicJdbcConverter(mappingContext, relationResolver);
 
 		template = new JdbcAggregateTemplate(eventPublisher, mappingContext, converter, dataAccessStrategy);
 		((JdbcAggregateTemplate) template).setEntityCallbacks(callbacks);
@@ -191,6 +202,151 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	public void findAllPagedSkipsCountForLastPage() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		when(dataAccessStrategy.findAll(SampleEntity.class, PageRequest.of(1, 2))).thenReturn(singletonList(neumann));
+		when(callbacks.callback(any(Class.class), any(), any())).then(invocation -> invocation.getArgument(1));
+
+		Page<SampleEntity> page = template.findAll(SampleEntity.class, PageRequest.of(1, 2));
+
+		assertThat(page.getTotalElements()).isEqualTo(3);
+		verify(dataAccessStrategy, never()).count(SampleEntity.class);
+
+		when(dataAccessStrategy.findAll(SampleEntity.class, PageRequest.of(0, 2))).thenReturn(asList(alfred, neumann));
+		when(dataAccessStrategy.count(SampleEntity.class)).thenReturn(3L);
+
+		assertThat(template.findAll(SampleEntity.class, PageRequest.of(0, 2)).getTotalElements()).isEqualTo(3);
+		verify(dataAccessStrategy).count(SampleEntity.class);
+	}
+
+	@Test
+	public void findByIdUsesAggregateCache() {
+
+		InMemoryAggregateCache cache = new InMemoryAggregateCache(converter);
+		cache.register(SampleEntity.class, 10, Duration.ofMinutes(1));
+		((JdbcAggregateTemplate) template).setAggregateCache(cache);
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+
+		when(dataAccessStrategy.findById(23L, SampleEntity.class)).thenReturn(alfred);
+		when(callbacks.callback(any(Class.class), any(), any())).then(invocation -> invocation.getArgument(1));
+
+		assertThat(template.findById(23L, SampleEntity.class)).isSameAs(alfred);
+		assertThat(template.findById(23, SampleEntity.class)).isEqualTo(alfred).isNotSameAs(alfred);
+		assertThat(template.findAllById(asList(23L), SampleEntity.class)).containsExactly(alfred);
+		verify(dataAccessStrategy, times(1)).findById(23L, SampleEntity.class);
+		verify(callbacks, times(3)).callback(AfterLoadCallback.class, alfred);
+
+		template.findById(23L, SampleEntity.class).setName("Alfred E.");
+		alfred.setName("Alfred E. Neumann");
+
+		assertThat(template.findById(23L, SampleEntity.class).getName()).isEqualTo("Alfred");
+
+		template.deleteById(23L, SampleEntity.class);
+		template.findById(23L, SampleEntity.class);
+
+		verify(dataAccessStrategy, times(2)).findById(23L, SampleEntity.class);
+	}
+
+	@Test
+	public void deleteInvalidatesCachedQueryResultsOfWrittenTables() {
+
+		QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+		((JdbcAggregateTemplate) template).setQueryResultCache(cache);
+
+		cache.get("samples", singleton(SqlIdentifier.unquoted("sample_entity")), () -> "cached");
+		cache.get("others", singleton(SqlIdentifier.unquoted("other_entity")), () -> "cached");
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(cache.get("samples", singleton(SqlIdentifier.unquoted("sample_entity")), () -> "reloaded"))
+				.isEqualTo("reloaded");
+		assertThat(cache.get("others", singleton(SqlIdentifier.unquoted("other_entity")), () -> "reloaded"))
+				.isEqualTo("cached");
+	}
+
+	@Test
+	public void deleteByIdRecordsOperationAndActions() {
+
+		List<Measurement> measurements = new ArrayList<>();
+		((JdbcAggregateTemplate) template).setMetricsRecorder(measurements::add);
+
+		doAnswer(invocation -> {
+
+			StatementCounter.updateExecuted(1);
+			return null;
+		}).when(dataAccessStrategy).delete(23L, SampleEntity.class);
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(measurements).extracting(Measurement::getType, Measurement::getOperation, Measurement::getAction)
+				.containsExactly(tuple(Measurement.Type.ACTION, "deleteById", "DeleteRoot"),
+						tuple(Measurement.Type.OPERATION, "deleteById", null));
+		assertThat(measurements).allSatisfy(it -> {
+
+			assertThat(it.getDomainType()).isEqualTo(SampleEntity.class);
+			assertThat(it.getStatements()).isEqualTo(1);
+			assertThat(it.getRowsAffected()).isEqualTo(1);
+			assertThat(it.getException()).isNull();
+		});
+	}
+
+	@Test
+	public void findAllRecordsRowsMapped() {
+
+		List<Measurement> measurements = new ArrayList<>();
+		((JdbcAggregateTemplate) template).setMetricsRecorder(measurements::add);
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		when(dataAccessStrategy.findAll(SampleEntity.class)).then(invocation -> {
+
+			StatementCounter.queryExecuted();
+			return asList(alfred, neumann);
+		});
+		when(callbacks.callback(any(Class.class), any(), any())).then(invocation -> invocation.getArgument(1));
+
+		template.findAll(SampleEntity.class);
+
+		assertThat(measurements).hasSize(1);
+		assertThat(measurements.get(0).getOperation()).isEqualTo("findAll");
+		assertThat(measurements.get(0).getStatements()).isEqualTo(1);
+		assertThat(measurements.get(0).getRowsMapped()).isEqualTo(2);
+	}
+
+	@Test
+	public void doesNotRecordStatementsNotReportedByTheDataAccessStrategy() {
+
+		List<Measurement> measurements = new ArrayList<>();
+		((JdbcAggregateTemplate) template).setMetricsRecorder(measurements::add);
+
+		template.deleteById(23L, SampleEntity.class);
+
+		assertThat(measurements).hasSize(2).allSatisfy(it -> {
+
+			assertThat(it.getStatements()).isEqualTo(0);
+			assertThat(it.getRowsAffected()).isEqualTo(0);
+		});
+	}
+
+	@Test
+	public void failedOperationRecordsException() {
+
+		List<Measurement> measurements = new ArrayList<>();
+		((JdbcAggregateTemplate) template).setMetricsRecorder(measurements::add);
+
+		IllegalStateException exception = new IllegalStateException("boom");
+		when(dataAccessStrategy.count(SampleEntity.class)).thenThrow(exception);
+
+		assertThatThrownBy(() -> template.count(SampleEntity.class)).isSameAs(exception);
+		assertThat(measurements).extracting(Measurement::getException).containsExactly(exception);
+	}
+
 	@Data
 	@AllArgsConstructor
 	private static class SampleEntity {
@@ -200,6 +200,22 @@ public class PersistentPropertyPathExtensionUnitTests {
 		});
 	}
 
+	@Test
+	public void mappingContextReturnsCanonicalInstances() {
+
+		PersistentPropertyPathExtension root = context.getPersistentPropertyPathExtension(entity);
+		PersistentPropertyPathExtension withId = context.getPersistentPropertyPathExtension(createSimplePath("withId"));
+
+		assertSoftly(softly -> {
+
+			softly.assertThat(context.getPersistentPropertyPathExtension(entity)).isSameAs(root);
+			softly.assertThat(context.getPersistentPropertyPathExtension(createSimplePath("withId"))).isSameAs(withId);
+			softly.assertThat(root.extendBy(entity.getRequiredPersistentProperty("withId"))).isSameAs(withId);
+			softly.assertThat(withId.getParentPath()).isSameAs(root);
+			softly.assertThat(PersistentPropertyPathExtension.of(context, entity)).isSameAs(root);
+		});
+	}
+
 	private PersistentPropertyPathExtension extPath(RelationalPersistentEntity<?> entity) {
 		return new PersistentPropertyPathExtension(context, entity);
 	}
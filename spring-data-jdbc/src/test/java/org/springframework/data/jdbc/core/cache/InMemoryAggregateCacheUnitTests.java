@@ -0,0 +1,243 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link InMemoryAggregateCache}.
+ */
+public class InMemoryAggregateCacheUnitTests {
+
+	InMemoryAggregateCache cache = new InMemoryAggregateCache(
+			new BasicRelationalConverter(new RelationalMappingContext()));
+	AtomicInteger loads = new AtomicInteger();
+
+	@Before
+	public void before() {
+
+		cache.register(String.class, 2, Duration.ofMinutes(1));
+		cache.setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+	}
+
+	@After
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+	}
+
+	@Test
+	public void cachesLoadedAggregates() {
+
+		assertThat(load(1L)).isEqualTo("one");
+		assertThat(load(1L)).isEqualTo("one");
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void handsOutCopiesOfCachedAggregates() {
+
+		cache.register(Person.class, 2, Duration.ofMinutes(1));
+
+		Person loaded = new Person(1L, "Alfred");
+		loaded.nicknames.add("Al");
+
+		Person first = cache.get(1L, Person.class, () -> loaded);
+		first.name = "Changed by first caller";
+		first.nicknames.clear();
+		loaded.name = "Changed by loader";
+
+		Person second = cache.get(1L, Person.class, () -> null);
+
+		assertThat(first).isSameAs(loaded);
+		assertThat(second).isNotSameAs(loaded);
+		assertThat(second.name).isEqualTo("Alfred");
+		assertThat(second.nicknames).containsExactly("Al");
+		assertThat(cache.getAll(asList(1L), Person.class, ids -> Collections.emptyMap())).hasSize(1)
+				.allSatisfy(person -> assertThat(person).isNotSameAs(second));
+	}
+
+	@Test
+	public void doesNotCacheUnregisteredTypes() {
+
+		cache.get(1L, Integer.class, () -> loads.incrementAndGet());
+		cache.get(1L, Integer.class, () -> loads.incrementAndGet());
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void doesNotCacheAbsentAggregates() {
+
+		cache.get(1L, String.class, () -> {
+			loads.incrementAndGet();
+			return null;
+		});
+		load(1L);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedAggregates() {
+
+		load(1L);
+		load(2L);
+		load(1L);
+		load(3L);
+
+		load(1L);
+		assertThat(loads).hasValue(3);
+
+		load(2L);
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	public void expiresAggregatesAfterTimeToLive() {
+
+		load(1L);
+
+		cache.setClock(Clock.fixed(Instant.EPOCH.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+		load(1L);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	public void evictsAggregates() {
+
+		load(1L);
+		load(2L);
+
+		cache.evict(1L, String.class);
+		load(1L);
+		load(2L);
+		assertThat(loads).hasValue(3);
+
+		cache.evictAll(String.class);
+		load(1L);
+		load(2L);
+		assertThat(loads).hasValue(5);
+	}
+
+	@Test
+	public void loadsMissingAggregatesOnly() {
+
+		load(1L);
+
+		Collection<String> all = cache.getAll(asList(1L, 2L), String.class, ids -> {
+
+			assertThat(ids).containsExactly(2L);
+
+			Map<Object, String> loaded = new LinkedHashMap<>();
+			ids.forEach(id -> loaded.put(id, "two"));
+			return loaded;
+		});
+
+		assertThat(all).containsExactlyInAnyOrder("one", "two");
+		assertThat(load(2L)).isEqualTo("two");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	public void doesNotCacheAggregatesWrittenByRunningTransaction() {
+
+		load(1L);
+
+		TransactionSynchronizationManager.initSynchronization();
+		cache.evict(1L, String.class);
+
+		load(1L);
+		load(1L);
+		assertThat(loads).hasValue(3);
+
+		completeTransaction();
+
+		load(1L);
+		load(1L);
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	public void doesNotCacheAggregatesLoadedConcurrentlyToEviction() {
+
+		cache.get(1L, String.class, () -> {
+
+			cache.evict(1L, String.class);
+			return "stale";
+		});
+
+		assertThat(load(1L)).isEqualTo("one");
+	}
+
+	private String load(Long id) {
+
+		return cache.get(id, String.class, () -> {
+
+			loads.incrementAndGet();
+			return id == 1L ? "one" : "two";
+		});
+	}
+
+	private static void completeTransaction() {
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	static class Person {
+
+		@Id final Long id;
+		String name;
+		List<String> nicknames = new ArrayList<>();
+
+		Person(Long id, String name) {
+
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
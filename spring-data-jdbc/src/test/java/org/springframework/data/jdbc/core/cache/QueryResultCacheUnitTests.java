@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.cache;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ */
+public class QueryResultCacheUnitTests {
+
+	static final Collection<SqlIdentifier> USERS = singleton(SqlIdentifier.unquoted("users"));
+	static final Collection<SqlIdentifier> USERS_AND_HOBBIES = asList(SqlIdentifier.unquoted("users"),
+			SqlIdentifier.quoted("HOBBY"));
+
+	QueryResultCache cache = new QueryResultCache(2, Duration.ofMinutes(1));
+	AtomicInteger queries = new AtomicInteger();
+
+	@Before
+	public void before() {
+		cache.setClock(Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+	}
+
+	@After
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(cache);
+	}
+
+	@Test
+	public void cachesResultsByKey() {
+
+		assertThat(query("one", USERS)).isEqualTo("one");
+		assertThat(query("one", USERS)).isEqualTo("one");
+		assertThat(query("two", USERS)).isEqualTo("two");
+
+		assertThat(queries).hasValue(2);
+	}
+
+	@Test
+	public void cachesAbsentResults() {
+
+		cache.get("none", USERS, () -> {
+			queries.incrementAndGet();
+			return null;
+		});
+		assertThat(cache.get("none", USERS, queries::incrementAndGet)).isNull();
+
+		assertThat(queries).hasValue(1);
+	}
+
+	@Test
+	public void invalidatesResultsReadingWrittenTables() {
+
+		query("users", USERS);
+		query("both", USERS_AND_HOBBIES);
+
+		cache.invalidate(singleton(SqlIdentifier.unquoted("hobby")));
+
+		query("users", USERS);
+		query("both", USERS_AND_HOBBIES);
+		assertThat(queries).hasValue(3);
+
+		cache.invalidate(singleton(SqlIdentifier.unquoted("orders")));
+
+		query("users", USERS);
+		query("both", USERS_AND_HOBBIES);
+		assertThat(queries).hasValue(3);
+
+		cache.invalidateAll();
+
+		query("users", USERS);
+		query("both", USERS_AND_HOBBIES);
+		assertThat(queries).hasValue(5);
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedResults() {
+
+		query("one", USERS);
+		query("two", USERS);
+		query("one", USERS);
+		query("three", USERS);
+
+		query("one", USERS);
+		assertThat(queries).hasValue(3);
+
+		query("two", USERS);
+		assertThat(queries).hasValue(4);
+	}
+
+	@Test
+	public void expiresResultsAfterTimeToLive() {
+
+		query("one", USERS);
+
+		cache.setClock(Clock.fixed(Instant.EPOCH.plus(Duration.ofMinutes(1)), ZoneOffset.UTC));
+		query("one", USERS);
+
+		assertThat(queries).hasValue(2);
+	}
+
+	@Test
+	public void doesNotCacheResultsOfTablesWrittenByRunningTransaction() {
+
+		query("users", USERS);
+		query("hobbies", singleton(SqlIdentifier.unquoted("hobby")));
+
+		TransactionSynchronizationManager.initSynchronization();
+		cache.invalidate(USERS);
+
+		query("users", USERS);
+		query("users", USERS);
+		query("hobbies", singleton(SqlIdentifier.unquoted("hobby")));
+		assertThat(queries).hasValue(4);
+
+		completeTransaction();
+
+		query("users", USERS);
+		query("users", USERS);
+		assertThat(queries).hasValue(5);
+	}
+
+	@Test
+	public void doesNotCacheResultsOfQueriesRunningConcurrentlyToInvalidation() {
+
+		cache.get("users", USERS, () -> {
+
+			cache.invalidate(singleton(SqlIdentifier.unquoted("USERS")));
+			return "stale";
+		});
+
+		assertThat(query("users", USERS)).isEqualTo("users");
+	}
+
+	@Test
+	public void cachesResultsOfQueriesRunningConcurrentlyToInvalidationOfOtherTables() {
+
+		cache.get("users", USERS, () -> {
+
+			queries.incrementAndGet();
+			cache.invalidate(singleton(SqlIdentifier.unquoted("orders")));
+			return "users";
+		});
+
+		assertThat(query("users", USERS)).isEqualTo("users");
+		assertThat(queries).hasValue(1);
+	}
+
+	@Test
+	public void doesNotCacheResultsOfQueriesRunningConcurrentlyToInvalidationOfAllTables() {
+
+		cache.get("users", USERS, () -> {
+
+			cache.invalidateAll();
+			return "stale";
+		});
+
+		assertThat(query("users", USERS)).isEqualTo("users");
+	}
+
+	private String query(String key, Collection<SqlIdentifier> tables) {
+
+		return (String) cache.get(key, tables, () -> {
+
+			queries.incrementAndGet();
+			return key;
+		});
+	}
+
+	private static void completeTransaction() {
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+		}
+
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+}
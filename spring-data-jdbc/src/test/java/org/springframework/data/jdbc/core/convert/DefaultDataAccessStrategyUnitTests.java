@@ -24,8 +24,13 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import lombok.Value;
 import org.junit.Before;
@@ -37,10 +42,13 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.metrics.StatementCounter;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
@@ -181,6 +189,130 @@ public class DefaultDataAccessStrategyUnitTests {
 		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(rawId);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdBindsIdsInPaddedChunks() {
+
+		accessStrategy.setInListChunkSize(20);
+
+		List<Long> ids = LongStream.rangeClosed(1, 21).boxed().collect(Collectors.toList());
+
+		accessStrategy.findAllById(ids, DummyEntity.class);
+
+		verify(namedJdbcOperations, times(2)).query(anyString(), paramSourceCaptor.capture(),
+				any(EntityResultSetExtractor.class));
+
+		List<SqlParameterSource> parameterSources = paramSourceCaptor.getAllValues();
+		assertThat((List<Object>) parameterSources.get(0).getValue("ids")).hasSize(20).startsWith(1L).endsWith(20L);
+		assertThat((List<Object>) parameterSources.get(1).getValue("ids")).hasSize(16).containsOnly(21L);
+	}
+
+	@Test
+	public void findAllByIdBindsIdsAsArrayIfSupported() {
+
+		Dialect dialect = PostgresDialect.INSTANCE;
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, dialect), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		accessStrategy.findAllById(Arrays.asList(1L, 2L, 2L), DummyEntity.class);
+
+		verify(namedJdbcOperations).query(sqlCaptor.capture(), paramSourceCaptor.capture(),
+				any(EntityResultSetExtractor.class));
+		verify(jdbcOperations).execute(any(ConnectionCallback.class));
+
+		assertThat(sqlCaptor.getValue()).endsWith("= ANY(:ids)");
+		assertThat(paramSourceCaptor.getValue().getSqlType("ids")).isEqualTo(Types.ARRAY);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdUsesInListIfConverterCannotCreateArrays() {
+
+		Dialect dialect = PostgresDialect.INSTANCE;
+		JdbcConverter converter = new BasicJdbcConverter(context, new DelegatingDataAccessStrategy());
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, dialect), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+
+		accessStrategy.findAllById(Arrays.asList(1L, 2L), DummyEntity.class);
+		accessStrategy.findAllById(Arrays.asList(3L), DummyEntity.class);
+
+		verify(namedJdbcOperations, times(2)).query(sqlCaptor.capture(), paramSourceCaptor.capture(),
+				any(EntityResultSetExtractor.class));
+
+		assertThat(sqlCaptor.getAllValues()).allSatisfy(sql -> assertThat(sql).endsWith("IN (:ids)"));
+		assertThat((List<Object>) paramSourceCaptor.getAllValues().get(0).getValue("ids")).startsWith(1L, 2L);
+		assertThat((List<Object>) paramSourceCaptor.getAllValues().get(1).getValue("ids")).startsWith(3L);
+		assertThat(paramSourceCaptor.getAllValues()).allSatisfy(
+				parameterSource -> assertThat(parameterSource.getSqlType("ids")).isEqualTo(Types.BIGINT));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsAggregatesAsUsualIfConverterCannotMapAggregateRows() {
+
+		JdbcConverter converter = new BasicJdbcConverter(context, new DelegatingDataAccessStrategy()) {
+
+			@Override
+			public boolean isAggregateRowMappingSupported() {
+				return false;
+			}
+		};
+		DefaultDataAccessStrategy accessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+		accessStrategy.setSingleQueryLoadingEnabled(true);
+
+		accessStrategy.findAll(DummyEntity.class);
+
+		verify(namedJdbcOperations).query(anyString(), any(EntityResultSetExtractor.class));
+	}
+
+	@Test
+	public void reportsBatchAsSingleStatementWithReportedUpdateCounts() {
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO, 1 });
+
+		StatementCounter counter = StatementCounter.start();
+		try {
+			accessStrategy.insert(Arrays.asList(InsertSubject.describedBy(new DummyEntity(1L), Identifier.empty()),
+					InsertSubject.describedBy(new DummyEntity(2L), Identifier.empty()),
+					InsertSubject.describedBy(new DummyEntity(3L), Identifier.empty())), DummyEntity.class);
+		} finally {
+			counter.stop();
+		}
+
+		assertThat(counter.getStatements()).isEqualTo(1);
+		assertThat(counter.getRowsAffected()).isEqualTo(2);
+	}
+
+	@Test
+	public void reportsEveryStatementWithItsUpdateCount() {
+
+		when(namedJdbcOperations.update(anyString(), any(SqlParameterSource.class))).thenReturn(0);
+
+		StatementCounter counter = StatementCounter.start();
+		try {
+			accessStrategy.delete(23L, DummyEntity.class);
+			accessStrategy.findById(23L, DummyEntity.class);
+		} finally {
+			counter.stop();
+		}
+
+		assertThat(counter.getStatements()).isEqualTo(2);
+		assertThat(counter.getRowsAffected()).isEqualTo(0);
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.convert.EntityReadPlan.Kind;
+import org.springframework.data.jdbc.core.convert.EntityReadPlan.PropertyPlan;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link EntityReadPlan}.
+ */
+public class EntityReadPlanUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+
+	@Test
+	public void resolvesKindsAndColumnLabelsOfProperties() {
+
+		EntityReadPlan<Parent> plan = createPlan(Parent.class);
+
+		PropertyPlan id = plan.getRequiredProperty("id");
+		assertThat(plan.getIdProperty()).isSameAs(id);
+		assertThat(id.getKind()).isEqualTo(Kind.COLUMN);
+		assertThat(id.getColumnLabel()).isEqualTo("id");
+		assertThat(id.isConstructorParameter()).isTrue();
+
+		PropertyPlan name = plan.getRequiredProperty("name");
+		assertThat(name.getKind()).isEqualTo(Kind.COLUMN);
+		assertThat(name.isConstructorParameter()).isFalse();
+		assertThat(name.isSkipIfAbsent()).isTrue();
+
+		PropertyPlan child = plan.getRequiredProperty("child");
+		assertThat(child.getKind()).isEqualTo(Kind.ENTITY);
+		assertThat(child.getColumnLabel()).isNull();
+		assertThat(child.getReverseColumnLabel()).isEqualTo("child_parent");
+
+		PropertyPlan children = plan.getRequiredProperty("children");
+		assertThat(children.getKind()).isEqualTo(Kind.RELATION);
+		assertThat(children.getReverseColumnName().getReference(IdentifierProcessing.NONE)).isEqualTo("parent");
+		assertThat(children.getRelationPath().toDotPath()).isEqualTo("children");
+
+		assertThat(plan.getRequiredProperty("embedded").getKind()).isEqualTo(Kind.EMBEDDED);
+	}
+
+	@Test
+	public void nestedPlansResolveColumnsRelativeToTheirParent() {
+
+		EntityReadPlan<Parent> plan = createPlan(Parent.class);
+
+		EntityReadPlan<?> childPlan = plan.getNestedPlan(plan.getRequiredProperty("child"));
+		EntityReadPlan<?> embeddedPlan = plan.getNestedPlan(plan.getRequiredProperty("embedded"));
+
+		assertThat(childPlan.getRequiredProperty("content").getColumnLabel()).isEqualTo("child_content");
+		assertThat(embeddedPlan.getRequiredProperty("value").getColumnLabel()).isEqualTo("pre_value");
+	}
+
+	@Test
+	public void nestedPlansGetCreatedOnlyOnce() {
+
+		EntityReadPlan<Parent> plan = createPlan(Parent.class);
+		PropertyPlan child = plan.getRequiredProperty("child");
+
+		assertThat(plan.getNestedPlan(child)).isSameAs(plan.getNestedPlan(child));
+	}
+
+	@Test
+	public void unknownPropertiesAreRejected() {
+
+		EntityReadPlan<Parent> plan = createPlan(Parent.class);
+
+		assertThatIllegalStateException().isThrownBy(() -> plan.getRequiredProperty("unknown"));
+	}
+
+	private <T> EntityReadPlan<T> createPlan(Class<T> type) {
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context,
+				context.getRequiredPersistentEntity(type));
+
+		return new EntityReadPlan<>(IdentifierProcessing.NONE, path, path);
+	}
+
+	static class Parent {
+
+		@Id final Long id;
+		String name;
+		Child child;
+		List<Child> children;
+		@Embedded.Nullable(prefix = "pre_") EmbeddedValue embedded;
+
+		Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class Child {
+		String content;
+	}
+
+	static class EmbeddedValue {
+		String value;
+	}
+}
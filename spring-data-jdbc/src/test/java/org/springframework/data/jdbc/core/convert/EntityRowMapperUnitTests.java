@@ -62,6 +62,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
@@ -511,6 +512,37 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
 	}
 
+	@Test
+	public void columnsGetIndexedOncePerResultSet() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "beta");
+		RowMapper<Trivial> rowMapper = createRowMapper(Trivial.class).forSingleResultSet();
+
+		List<String> names = new ArrayList<>();
+		while (rs.next()) {
+			names.add(rowMapper.mapRow(rs, rs.getRow()).name);
+		}
+
+		assertThat(names).containsExactly("alpha", "beta");
+		verify(rs, times(1)).getMetaData();
+	}
+
+	@Test
+	public void sharedRowMapperDoesNotReuseColumnIndexOfOtherResultSets() throws SQLException {
+
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		ResultSet first = mockResultSet(asList("ID", "NAME"), ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		first.next();
+		ResultSet second = mockResultSet(asList("NAME", "ID"), "beta", ID_FOR_ENTITY_NOT_REFERENCING_MAP);
+		second.next();
+
+		assertThat(rowMapper.mapRow(first, 1).name).isEqualTo("alpha");
+		assertThat(rowMapper.mapRow(second, 1).name).isEqualTo("beta");
+	}
+
 	@Test // DATAJDBC-341
 	public void immutableEmbeddedWithAllColumnsMissingShouldBeNull() throws SQLException {
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Types;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link EntityWritePlan}.
+ */
+public class EntityWritePlanUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	@Test
+	public void addsColumnsIncludingEmbeddedOnes() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.id = 23L;
+		entity.name = "name";
+		entity.embedded = new EmbeddedValue();
+		entity.embedded.value = "value";
+
+		SqlIdentifierParameterSource parameterSource = addValues(entity, true);
+
+		assertThat(parameterSource.getParameterNames()).containsExactlyInAnyOrder("id", "name", "pre_value");
+		assertThat(parameterSource.getValue("id")).isEqualTo(23L);
+		assertThat(parameterSource.getValue("name")).isEqualTo("name");
+		assertThat(parameterSource.getValue("pre_value")).isEqualTo("value");
+		assertThat(parameterSource.getSqlType("name")).isEqualTo(Types.VARCHAR);
+	}
+
+	@Test
+	public void skipsIdColumnsIfRequested() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.id = 23L;
+
+		assertThat(addValues(entity, false).getParameterNames()).containsExactlyInAnyOrder("name", "pre_value");
+	}
+
+	@Test
+	public void addsNullValuesForAbsentEmbeddedEntity() {
+
+		SqlIdentifierParameterSource parameterSource = addValues(new DummyEntity(), true);
+
+		assertThat(parameterSource.hasValue("pre_value")).isTrue();
+		assertThat(parameterSource.getValue("pre_value")).isNull();
+	}
+
+	@SuppressWarnings("unchecked")
+	private SqlIdentifierParameterSource addValues(DummyEntity entity, boolean includeIdProperties) {
+
+		RelationalPersistentEntity<DummyEntity> persistentEntity = (RelationalPersistentEntity<DummyEntity>) context
+				.getRequiredPersistentEntity(DummyEntity.class);
+		EntityWritePlan<DummyEntity> plan = new EntityWritePlan<>(persistentEntity, context, converter,
+				IdentifierProcessing.NONE);
+
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(IdentifierProcessing.NONE);
+		plan.addValues(parameterSource, entity, includeIdProperties, converter);
+
+		return parameterSource;
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		@Embedded.Nullable(prefix = "pre_") EmbeddedValue embedded;
+		List<Element> elements;
+	}
+
+	static class EmbeddedValue {
+		String value;
+	}
+
+	static class Element {
+		String content;
+	}
+}
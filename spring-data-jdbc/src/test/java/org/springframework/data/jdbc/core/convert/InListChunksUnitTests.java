@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link InListChunks}.
+ */
+public class InListChunksUnitTests {
+
+	@Test
+	public void padsSmallListToSmallestChunkSize() {
+
+		List<List<Object>> chunks = InListChunks.split(Arrays.asList(1, 2, 3), 256);
+
+		assertThat(chunks).hasSize(1);
+		assertThat(chunks.get(0)).hasSize(16).startsWith(1, 2, 3).containsOnly(1, 2, 3);
+	}
+
+	@Test
+	public void splitsLargeListIntoMaximumSizedChunksFollowedByPaddedOne() {
+
+		List<Integer> values = IntStream.range(0, 600).boxed().collect(Collectors.toList());
+
+		List<List<Object>> chunks = InListChunks.split(values, 256);
+
+		assertThat(chunks).extracting(List::size).containsExactly(256, 256, 256);
+		assertThat(chunks.get(2)).startsWith(512).contains(599).doesNotContain(511);
+	}
+
+	@Test
+	public void usesOnlyFewDistinctChunkSizes() {
+
+		assertThat(IntStream.rangeClosed(1, 256).map(count -> InListChunks.chunkSize(count, 256)).distinct())
+				.containsExactly(16, 64, 256);
+		assertThat(IntStream.rangeClosed(1, 100).map(count -> InListChunks.chunkSize(count, 100)).distinct())
+				.containsExactly(16, 64, 100);
+	}
+
+	@Test
+	public void returnsNoChunksForEmptyList() {
+		assertThat(InListChunks.split(Collections.emptyList(), 16)).isEmpty();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for {@link SnapshotRegistry}.
+ */
+public class SnapshotRegistryUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+	JdbcConverter converter = new BasicJdbcConverter(context, (identifier, path) -> {
+		throw new UnsupportedOperationException();
+	});
+
+	SnapshotRegistry registry = new SnapshotRegistry(converter);
+
+	@Before
+	public void before() {
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@After
+	public void after() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(registry);
+	}
+
+	@Test
+	public void unregisteredEntityHasNoDirtyColumns() {
+		assertThat(registry.getDirtyColumns(new DummyEntity(23L, "name"))).isNull();
+	}
+
+	@Test
+	public void unchangedEntityHasNoDirtyColumns() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		registry.register(entity);
+
+		assertThat(registry.getDirtyColumns(entity)).isEmpty();
+	}
+
+	@Test
+	public void changedPropertiesAreDirty() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		entity.bytes = new byte[] { 1, 2 };
+		registry.register(entity);
+
+		entity.name = "other";
+		entity.bytes[1] = 3;
+		entity.embedded.value = "changed";
+
+		assertThat(registry.getDirtyColumns(entity)).containsExactlyInAnyOrder(quoted("NAME"), quoted("BYTES"),
+				quoted("PRE_VALUE"));
+	}
+
+	@Test
+	public void referencedEntitiesAreNotPartOfSnapshot() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		registry.register(entity);
+
+		entity.elements = Collections.singletonList(new Element());
+
+		assertThat(registry.getDirtyColumns(entity)).isEmpty();
+	}
+
+	@Test
+	public void removedSnapshotsAreForgotten() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		DummyEntity other = new DummyEntity(24L, "name");
+		registry.register(entity);
+		registry.register(other);
+
+		registry.remove(23L, DummyEntity.class);
+
+		assertThat(registry.getDirtyColumns(entity)).isNull();
+		assertThat(registry.getDirtyColumns(other)).isEmpty();
+
+		registry.removeAll(DummyEntity.class);
+
+		assertThat(registry.getDirtyColumns(other)).isNull();
+	}
+
+	@Test
+	public void clearedSnapshotsAreForgotten() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		registry.register(entity);
+
+		registry.clear();
+
+		assertThat(registry.getDirtyColumns(entity)).isNull();
+
+		registry.register(entity);
+
+		assertThat(registry.getDirtyColumns(entity)).isEmpty();
+	}
+
+	@Test
+	public void nothingGetsRecordedWithoutTransaction() {
+
+		TransactionSynchronizationManager.clearSynchronization();
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		registry.register(entity);
+
+		assertThat(registry.getDirtyColumns(entity)).isNull();
+	}
+
+	@Test
+	public void snapshotsGetDiscardedOnTransactionCompletion() {
+
+		DummyEntity entity = new DummyEntity(23L, "name");
+		registry.register(entity);
+
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		assertThat(TransactionSynchronizationManager.hasResource(registry)).isFalse();
+		assertThat(registry.getDirtyColumns(entity)).isNull();
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		byte[] bytes;
+
+		@Embedded.Nullable(prefix = "pre_") EmbeddedValue embedded = new EmbeddedValue();
+
+		List<Element> elements;
+
+		DummyEntity(Long id, String name) {
+
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	static class EmbeddedValue {
+		String value;
+	}
+
+	static class Element {
+		String content;
+	}
+}
@@ -15,10 +15,12 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -35,18 +37,24 @@ import org.springframework.data.jdbc.core.PropertyPathTestingUtils;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtils;
+import org.springframework.data.relational.core.dialect.AbstractDialect;
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.core.sql.Aliased;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.core.sql.render.ParameterizedSql;
 import org.springframework.data.relational.core.sql.Table;
 
 /**
@@ -143,6 +151,15 @@ public class SqlGeneratorUnitTests {
 		assertThat(sql).isEqualTo("DELETE FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId");
 	}
 
+	@Test
+	public void deleteByIdAndPathIsRestrictedToTheRoot() {
+
+		String sql = sqlGenerator.createDeleteByIdAndPath(getPath("ref", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM referenced_entity WHERE referenced_entity.x_l1id = :id AND referenced_entity.dummy_entity = :rootId");
+	}
+
 	@Test // DATAJDBC-112
 	public void cascadingDeleteByPathSecondLevel() {
 
@@ -265,8 +282,8 @@ public class SqlGeneratorUnitTests {
 				"FROM dummy_entity ", //
 				"LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1", //
 				"LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id", //
-				"OFFSET 40", //
-				"LIMIT 20");
+				"OFFSET :___offset", //
+				"LIMIT :___limit");
 	}
 
 	@Test // DATAJDBC-101
@@ -286,8 +303,74 @@ public class SqlGeneratorUnitTests {
 				"LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1", //
 				"LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id", //
 				"ORDER BY x_name ASC", //
-				"OFFSET 30", //
-				"LIMIT 10");
+				"OFFSET :___offset", //
+				"LIMIT :___limit");
+	}
+
+	@Test
+	public void findAllFirstKeysetWindow() {
+
+		String sql = sqlGenerator.getFindAll(KeysetRequest.of(20, Sort.by("name")));
+
+		assertThat(sql).contains("FROM dummy_entity ", //
+				"ORDER BY x_name ASC, id1 ASC", //
+				"LIMIT 20") //
+				.doesNotContain("WHERE");
+	}
+
+	@Test
+	public void findAllFollowingKeysetWindow() {
+
+		String sql = sqlGenerator
+				.getFindAll(KeysetRequest.of(20, Sort.by(Sort.Direction.DESC, "name")).after(singletonMap("x", 1)));
+
+		assertThat(sql).contains("FROM dummy_entity ", //
+				"WHERE dummy_entity.x_name < :x_name " //
+						+ "OR (dummy_entity.x_name = :x_name AND dummy_entity.id1 > :id1)", //
+				"ORDER BY x_name DESC, id1 ASC", //
+				"LIMIT 20");
+	}
+
+	@Test
+	public void findAllPagedSharesStatementAcrossPages() {
+
+		String sql = sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("name")));
+
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(7, 20, Sort.by("name")))).isSameAs(sql);
+		assertThat(sqlGenerator.getFindAll(PageRequest.of(3, 10, Sort.by("other")))).isNotEqualTo(sql);
+	}
+
+	@Test
+	public void findAllPagedUsesLiteralsIfDialectDoesNotSupportBindMarkers() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, new LiteralLimitDialect());
+
+		String sql = sqlGenerator.getFindAll(PageRequest.of(3, 10));
+
+		assertThat(sql).endsWith("FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "LIMIT 10 OFFSET 30");
+	}
+
+	@Test
+	public void findAllSortedAndInsertGetCached() {
+
+		assertThat(sqlGenerator.getFindAll(Sort.by("name"))).isSameAs(sqlGenerator.getFindAll(Sort.by("name")));
+		assertThat(sqlGenerator.getInsert(singleton(unquoted("backref"))))
+				.isSameAs(sqlGenerator.getInsert(new HashSet<>(singleton(unquoted("backref")))));
+		assertThat(sqlGenerator.getInsert(emptySet())).isNotEqualTo(sqlGenerator.getInsert(singleton(unquoted("backref"))));
+	}
+
+	@Test
+	public void findAllByPropertyGetsCachedPerShape() {
+
+		String sql = sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), true);
+
+		assertThat(sqlGenerator.getFindAllByProperty(Identifier.of(unquoted("backref"), "other-value", String.class),
+				unquoted("key-column"), true)).isSameAs(sql);
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, unquoted("key-column"), false)).isNotEqualTo(sql);
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, null, false)).doesNotContain("key-column");
 	}
 
 	@Test // DATAJDBC-131, DATAJDBC-111
@@ -350,6 +433,61 @@ public class SqlGeneratorUnitTests {
 				+ "WHERE dummy_entity.backref = :backref");
 	}
 
+	@Test
+	public void findAllByPropertyIn() {
+
+		String sql = sqlGenerator.getFindAllByPropertyIn(unquoted("backref"), unquoted("key-column"), true);
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
+				+ "dummy_entity.x_other AS x_other, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, "
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
+				+ "dummy_entity.backref AS backref, dummy_entity.key-column AS key-column " //
+				+ "FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.backref IN (:backref) " //
+				+ "ORDER BY key-column");
+	}
+
+	@Test
+	public void findAllInArrayComparesAgainstAnyElement() {
+
+		SoftAssertions.assertSoftly(softly -> {
+
+			softly.assertThat(sqlGenerator.getFindAllInArray()).endsWith("WHERE dummy_entity.id1 = ANY(:ids)");
+			softly.assertThat(sqlGenerator.getFindAllByPropertyInArray(unquoted("backref"), null, false))
+					.endsWith("WHERE dummy_entity.backref = ANY(:backref)");
+		});
+	}
+
+	@Test
+	public void findOneAggregate() {
+
+		assertThat(sqlGenerator.isAggregateSelectSupported()).isTrue();
+
+		String sql = sqlGenerator.getFindOneAggregate();
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
+				+ "dummy_entity.x_other AS x_other, " //
+				+ "mappedElements.dummy_entity_key AS mappedElements_dummy_entity_key, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, " //
+				+ "elements.x_id AS elements_x_id, elements.x_content AS elements_x_content, " //
+				+ "mappedElements.x_id AS mappedElements_x_id, mappedElements.x_content AS mappedElements_x_content, " //
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something " //
+				+ "FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN element AS elements ON elements.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN element AS mappedElements ON mappedElements.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.id1 = :id");
+	}
+
+	@Test
+	public void aggregateSelectNotSupportedForSetOfEntitiesWithoutId() {
+		assertThat(createSqlGenerator(ParentOfNoIdChildSet.class).isAggregateSelectSupported()).isFalse();
+	}
+
 	@Test(expected = IllegalArgumentException.class) // DATAJDBC-130
 	public void findAllByPropertyOrderedWithoutKey() {
 		sqlGenerator.getFindAllByProperty(BACKREF, null, true);
@@ -432,6 +570,103 @@ public class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	public void partialUpdateSetsOnlyGivenColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpdate(singleton(columnName(DummyEntity.class, "name")))).isEqualTo( //
+				"UPDATE \"DUMMY_ENTITY\" " //
+						+ "SET \"X_NAME\" = :x_name " //
+						+ "WHERE \"DUMMY_ENTITY\".\"id1\" = :id1");
+	}
+
+	@Test
+	public void partialUpdateIgnoresIdAndUnknownColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		Set<SqlIdentifier> columns = new HashSet<>(asList(columnName(DummyEntity.class, "id"),
+				columnName(DummyEntity.class, "name"), unquoted("unknown")));
+
+		assertThat(sqlGenerator.getUpdate(columns))
+				.isEqualTo(sqlGenerator.getUpdate(singleton(columnName(DummyEntity.class, "name"))));
+	}
+
+	@Test
+	public void partialUpdateGetsCachedPerColumnSet() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		String update = sqlGenerator.getUpdate(singleton(columnName(DummyEntity.class, "name")));
+
+		assertThat(sqlGenerator.getUpdate(new HashSet<>(singleton(columnName(DummyEntity.class, "name")))))
+				.isSameAs(update);
+		assertThat(sqlGenerator.getUpdate(singleton(columnName(DummyEntity.class, "other")))).isNotEqualTo(update);
+	}
+
+	@Test
+	public void partialUpdateOfAllColumnsIsFullUpdate() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		Set<SqlIdentifier> columns = new HashSet<>(
+				asList(columnName(DummyEntity.class, "name"), columnName(DummyEntity.class, "other")));
+
+		assertThat(sqlGenerator.getUpdate(columns)).isSameAs(sqlGenerator.getUpdate());
+	}
+
+	@Test
+	public void partialUpdateWithVersion() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+
+		Set<SqlIdentifier> columns = new HashSet<>(
+				asList(columnName(VersionedEntity.class, "name"), columnName(VersionedEntity.class, "version")));
+
+		assertThat(sqlGenerator.getUpdateWithVersion(columns)).isEqualTo( //
+				"UPDATE \"VERSIONED_ENTITY\" " //
+						+ "SET \"X_VERSION\" = :x_version, \"X_NAME\" = :x_name " //
+						+ "WHERE \"VERSIONED_ENTITY\".\"id1\" = :id1 " //
+						+ "AND \"VERSIONED_ENTITY\".\"X_VERSION\" = :___oldOptimisticLockingVersion");
+	}
+
+	@Test
+	public void partialUpdateWithVersionRenderedPositional() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+
+		Set<SqlIdentifier> columns = new HashSet<>(
+				asList(columnName(VersionedEntity.class, "name"), columnName(VersionedEntity.class, "version")));
+
+		ParameterizedSql sql = sqlGenerator.getUpdateWithVersionPositional(columns);
+
+		assertThat(sql.getSql()).isEqualTo( //
+				"UPDATE \"VERSIONED_ENTITY\" " //
+						+ "SET \"X_VERSION\" = ?, \"X_NAME\" = ? " //
+						+ "WHERE \"VERSIONED_ENTITY\".\"id1\" = ? " //
+						+ "AND \"VERSIONED_ENTITY\".\"X_VERSION\" = ?");
+		assertThat(sql.getParameterNames()).containsExactly("x_version", "x_name", "id1",
+				"___oldOptimisticLockingVersion");
+		assertThat(sqlGenerator.getUpdateWithVersionPositional(columns)).isSameAs(sql);
+	}
+
+	@Test
+	public void findOneRenderedPositional() {
+
+		ParameterizedSql sql = sqlGenerator.getFindOnePositional();
+
+		assertThat(sql.getSql()).isEqualTo(sqlGenerator.getFindOne().replace(":id", "?"));
+		assertThat(sql.getParameterNames()).containsExactly("id");
+	}
+
+	@Test
+	public void partialUpdateRequiresUpdateableColumn() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> sqlGenerator.getUpdate(singleton(columnName(DummyEntity.class, "id"))));
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
@@ -699,6 +934,53 @@ public class SqlGeneratorUnitTests {
 	}
 
 	@SuppressWarnings("unused")
+	/**
+	 * Dialect with a {@link LimitClause} that only supports literal values.
+	 */
+	private static class LiteralLimitDialect extends AbstractDialect {
+
+		@Override
+		public LimitClause limit() {
+
+			return new LimitClause() {
+
+				@Override
+				public String getLimit(long limit) {
+					return "LIMIT " + limit;
+				}
+
+				@Override
+				public String getOffset(long offset) {
+					return "OFFSET " + offset;
+				}
+
+				@Override
+				public String getLimitOffset(long limit, long offset) {
+					return getLimit(limit) + " " + getOffset(offset);
+				}
+
+				@Override
+				public Position getClausePosition() {
+					return Position.AFTER_ORDER_BY;
+				}
+			};
+		}
+
+		@Override
+		public LockClause lock() {
+			return NonQuotingDialect.INSTANCE.lock();
+		}
+
+		@Override
+		public IdentifierProcessing getIdentifierProcessing() {
+			return NonQuotingDialect.INSTANCE.getIdentifierProcessing();
+		}
+	}
+
+	private SqlIdentifier columnName(Class<?> type, String propertyName) {
+		return context.getRequiredPersistentEntity(type).getRequiredPersistentProperty(propertyName).getColumnName();
+	}
+
 	static class DummyEntity {
 
 		@Column("id1") @Id Long id;
@@ -742,6 +1024,13 @@ public class SqlGeneratorUnitTests {
 
 	static class NoIdChild {}
 
+	@SuppressWarnings("unused")
+	static class ParentOfNoIdChildSet {
+
+		@Id Long id;
+		Set<NoIdChild> children;
+	}
+
 	static class OtherAggregate {
 		@Id Long id;
 		String name;
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link JdbcFlightRecorder}.
+ */
+public class JdbcFlightRecorderUnitTests {
+
+	@Test
+	public void recordingIsDisabledWithoutFlightRecording() {
+
+		Recording recording = JdbcFlightRecorder.statementExecution(DummyEntity.class, "findById");
+
+		assertThat(recording.isEnabled()).isFalse();
+		assertThat(recording.sql("SELECT 1").count(1)).isSameAs(recording);
+	}
+
+	@Test
+	public void doesNotCreateEventsWithoutFlightRecording() {
+
+		assertThat(JdbcFlightRecorder.rowMapping(DummyEntity.class)).isSameAs(DisabledRecording.INSTANCE);
+		assertThat(JdbcFlightRecorder.relationResolution(DummyEntity.class)).isSameAs(DisabledRecording.INSTANCE);
+	}
+
+	@Test
+	public void recordsOnlyEnabledEvents() throws IOException {
+
+		Path file = Files.createTempFile("jdbc", ".jfr");
+
+		try (jdk.jfr.Recording flightRecording = new jdk.jfr.Recording()) {
+
+			flightRecording.enable("org.springframework.data.jdbc.StatementExecution");
+			flightRecording.disable("org.springframework.data.jdbc.SqlGeneration");
+			flightRecording.start();
+
+			Recording recording = JdbcFlightRecorder.statementExecution(DummyEntity.class, "findAll");
+			assertThat(recording.isEnabled()).isTrue();
+
+			recording.sql("SELECT * FROM dummy_entity").count(Arrays.asList("one", "two")).commit();
+			assertThat(JdbcFlightRecorder.sqlGeneration(DummyEntity.class, "SELECT").isEnabled()).isFalse();
+
+			flightRecording.stop();
+			flightRecording.dump(file);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream() //
+					.filter(it -> it.getEventType().getName().startsWith("org.springframework.data.jdbc.")) //
+					.collect(Collectors.toList());
+
+			assertThat(events).hasSize(1);
+
+			RecordedEvent event = events.get(0);
+			assertThat(event.getEventType().getName()).isEqualTo("org.springframework.data.jdbc.StatementExecution");
+			assertThat(event.getClass("entityType").getName()).isEqualTo(DummyEntity.class.getName());
+			assertThat(event.getString("operation")).isEqualTo("findAll");
+			assertThat(event.getString("sql")).isEqualTo("SELECT * FROM dummy_entity");
+			assertThat(event.getLong("count")).isEqualTo(2);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static class DummyEntity {}
+}
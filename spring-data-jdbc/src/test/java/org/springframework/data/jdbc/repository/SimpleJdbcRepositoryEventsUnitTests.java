@@ -133,8 +133,8 @@ public class SimpleJdbcRepositoryEventsUnitTests {
 				.extracting(e -> (Class) e.getClass()) //
 				.containsExactly( //
 						BeforeSaveEvent.class, //
-						AfterSaveEvent.class, //
 						BeforeSaveEvent.class, //
+						AfterSaveEvent.class, //
 						AfterSaveEvent.class //
 				);
 	}
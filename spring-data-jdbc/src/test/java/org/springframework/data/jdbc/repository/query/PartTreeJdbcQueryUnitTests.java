@@ -21,33 +21,49 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.cache.QueryResultCache;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.core.metrics.Measurement;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.relational.core.dialect.H2Dialect;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.query.KeysetRequest;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link PartTreeJdbcQuery}.
@@ -560,6 +576,195 @@ public class PartTreeJdbcQueryUnitTests {
 			"SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQueryForFirstKeysetWindow() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, KeysetRequest.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", KeysetRequest.of(10, Sort.by("age")) }));
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE
+				+ ".\"FIRST_NAME\" = :first_name ORDER BY \"AGE\" ASC, \"ID\" ASC LIMIT 10");
+	}
+
+	@Test
+	public void createsQueryForFollowingKeysetWindow() throws Exception {
+
+		Map<String, Object> keys = new HashMap<>();
+		keys.put("age", 30);
+		keys.put("id", 23L);
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, KeysetRequest.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod,
+				new Object[] { "John", KeysetRequest.of(10, Sort.by(Sort.Direction.DESC, "age")).after(keys) }));
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name AND (("
+				+ TABLE + ".\"AGE\" < :age) OR (" + TABLE + ".\"AGE\" = :age1 AND " + TABLE + ".\"ID\" > :id))"
+				+ " ORDER BY \"AGE\" DESC, \"ID\" ASC LIMIT 10");
+		assertThat(query.getParameterSource().getValue("age")).isEqualTo(30);
+		assertThat(query.getParameterSource().getValue("id")).isEqualTo(23L);
+	}
+
+	@Test
+	public void createsQueryForSliceWithOneAdditionalRow() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(2, 10) }));
+
+		assertThat(query.getQuery()).isEqualTo(
+				BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT :___limit OFFSET :___offset");
+		assertThat(query.getParameterSource().getValue("___limit")).isEqualTo(11);
+		assertThat(query.getParameterSource().getValue("___offset")).isEqualTo(20L);
+	}
+
+	@Test
+	public void reusesRenderedQueryForAllPages() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(0, 10) }));
+		ParametrizedQuery third = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(2, 5) }));
+
+		assertThat(third.getQuery()).isSameAs(first.getQuery());
+		assertThat(third.getParameterSource().getValue("___limit")).isEqualTo(6);
+		assertThat(third.getParameterSource().getValue("___offset")).isEqualTo(10L);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesSliceQueryWithoutCount() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(Arrays.asList(new User(), new User(), new User()));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, mock(RowMapper.class));
+
+		Slice<User> slice = (Slice<User>) jdbcQuery.execute(new Object[] { "John", PageRequest.of(0, 2) });
+
+		assertThat(slice.getContent()).hasSize(2);
+		assertThat(slice.hasNext()).isTrue();
+		verify(operations, never()).queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesCountQueryForFullPageOnly() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(Arrays.asList(new User(), new User()));
+		when(operations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(5L);
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, mock(RowMapper.class));
+
+		Page<User> fullPage = (Page<User>) jdbcQuery.execute(new Object[] { "Doe", PageRequest.of(0, 2) });
+		Page<User> lastPage = (Page<User>) jdbcQuery.execute(new Object[] { "Doe", PageRequest.of(1, 3) });
+
+		assertThat(fullPage.getTotalElements()).isEqualTo(5);
+		assertThat(lastPage.getTotalElements()).isEqualTo(5);
+		verify(operations).queryForObject(
+				eq("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"LAST_NAME\" = :last_name"),
+				any(SqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void countsCountQueryOfPageAsStatement() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(Arrays.asList(new User(), new User()));
+		when(operations.queryForObject(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(5L);
+
+		List<Measurement> measurements = new ArrayList<>();
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByLastName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, mock(RowMapper.class));
+		jdbcQuery.setMetricsRecorder(measurements::add);
+
+		jdbcQuery.execute(new Object[] { "Doe", PageRequest.of(0, 2) });
+		jdbcQuery.execute(new Object[] { "Doe", PageRequest.of(1, 3) });
+
+		assertThat(measurements).extracting(Measurement::getStatements).containsExactly(2L, 1L);
+		assertThat(measurements).extracting(Measurement::getRowsMapped).containsExactly(2L, 2L);
+	}
+
+	@Test
+	public void reusesRenderedQueryForInvocationsOfSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery john = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }));
+		ParametrizedQuery jane = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }));
+		ParametrizedQuery nobody = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }));
+
+		assertThat(jane.getQuery()).isSameAs(john.getQuery());
+		assertThat(jane.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+		assertThat(nobody.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+	}
+
+	@Test
+	public void rendersQueryPerCollectionSize() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery two = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(1, 2) }));
+		ParametrizedQuery otherTwo = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(3, 4) }));
+		ParametrizedQuery three = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(1, 2, 3) }));
+
+		assertThat(otherTwo.getQuery()).isSameAs(two.getQuery());
+		assertThat(otherTwo.getParameterSource().getParameterNames())
+				.containsExactly(two.getParameterSource().getParameterNames());
+		assertThat(otherTwo.getParameterSource().getValue(two.getParameterSource().getParameterNames()[1])).isEqualTo(4);
+		assertThat(three.getQuery()).isNotEqualTo(two.getQuery());
+		assertThat(three.getParameterSource().getParameterNames()).hasSize(3);
+	}
+
+	@Test
+	public void cachesResultsOfAnnotatedQueryMethodUntilReadTableGetsWritten() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(Arrays.asList(new User()));
+
+		QueryResultCache cache = new QueryResultCache(10, Duration.ofMinutes(1));
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByActive", Boolean.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, mock(RowMapper.class));
+		jdbcQuery.setQueryResultCache(cache);
+
+		jdbcQuery.execute(new Object[] { true });
+		jdbcQuery.execute(new Object[] { true });
+		jdbcQuery.execute(new Object[] { false });
+		verify(operations, times(2)).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+
+		cache.invalidate(Collections.singleton(SqlIdentifier.unquoted("orders")));
+		jdbcQuery.execute(new Object[] { true });
+		verify(operations, times(2)).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+
+		cache.invalidate(Collections.singleton(SqlIdentifier.unquoted("hobby")));
+		jdbcQuery.execute(new Object[] { true });
+		verify(operations, times(3)).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -580,8 +785,17 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findAllByFirstName(String firstName);
 
+		List<User> findAllByFirstName(String firstName, KeysetRequest keysetRequest);
+
+		Slice<User> findAllByFirstName(String firstName, Pageable pageable);
+
+		Page<User> findAllByLastName(String lastName, Pageable pageable);
+
 		List<User> findAllByHated(Hobby hobby);
 
+		@CachedResult
+		List<User> findAllByActive(Boolean active);
+
 		List<User> findAllByHobbies(Object hobbies);
 
 		List<User> findAllByHobbyReference(Hobby hobby);
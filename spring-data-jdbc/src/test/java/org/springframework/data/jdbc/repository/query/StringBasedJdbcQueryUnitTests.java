@@ -18,23 +18,38 @@ package org.springframework.data.jdbc.repository.query;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.jdbc.core.cache.AggregateCache;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.core.convert.SnapshotRegistry;
+import org.springframework.data.jdbc.core.metrics.Measurement;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.repository.query.DefaultParameters;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementSetter;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link StringBasedJdbcQuery}.
@@ -145,12 +160,145 @@ public class StringBasedJdbcQueryUnitTests {
 						"RowMapper is not expected to be custom");
 	}
 
+	@Test
+	public void streamQueryMapsRowsLazily() {
+
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isStreamQuery();
+		Stream<Object> stream = Stream.empty();
+		doReturn(stream).when(operations).queryForStream(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper,
+				mock(ResultSetExtractor.class), converter);
+
+		assertThat(query.execute(new Object[] {})).isSameAs(stream);
+		verify(operations).queryForStream(eq("some sql statement"), any(SqlParameterSource.class), eq(defaultRowMapper));
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+	}
+
+	@Test
+	public void streamQueryAppliesFetchSize() {
+
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isStreamQuery();
+		doReturn(50).when(queryMethod).getFetchSize();
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		doReturn(jdbcOperations).when(operations).getJdbcOperations();
+
+		new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter).execute(new Object[] {});
+
+		ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(jdbcOperations).queryForStream(eq("some sql statement"), setter.capture(), eq(defaultRowMapper));
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		try {
+			setter.getValue().setValues(statement);
+			verify(statement).setFetchSize(50);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Test
+	public void bindsConvertedArgumentsToNamedParameters() throws NoSuchMethodException {
+
+		doReturn("select * from users where name = :name and age = :age").when(queryMethod).getDeclaredQuery();
+		doReturn(new RelationalParameters(StringBasedJdbcQueryUnitTests.class.getDeclaredMethod("dummyMethodWithParameters",
+				String.class, int.class))).when(queryMethod).getParameters();
+
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+
+		MapSqlParameterSource john = query.bindParameters(new Object[] { "John", 42 });
+		MapSqlParameterSource jane = query.bindParameters(new Object[] { "Jane", 23 });
+
+		assertThat(john.getValues()).containsEntry("name", "John").containsEntry("age", 42);
+		assertThat(john.getSqlType("name")).isEqualTo(Types.VARCHAR);
+		assertThat(john.getSqlType("age")).isEqualTo(Types.INTEGER);
+		assertThat(jane.getValues()).containsEntry("name", "Jane").containsEntry("age", 23);
+	}
+
+	@Test
+	public void resolvesDeclaredQueryOnce() {
+
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+		query.execute(new Object[] {});
+		query.execute(new Object[] {});
+
+		verify(queryMethod, times(1)).getDeclaredQuery();
+		verify(operations, times(2)).queryForObject(eq("some sql statement"), any(SqlParameterSource.class),
+				eq(defaultRowMapper));
+	}
+
+	@Test
+	public void recordsExecutionOfModifyingQuery() {
+
+		doReturn("delete from dummy_entity").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(int.class).when(queryMethod).getReturnedObjectType();
+		doReturn(DummyEntity.class).when(queryMethod).getAggregateType();
+		doReturn("DummyEntityRepository.deleteAll").when(queryMethod).getQualifiedName();
+		when(operations.update(eq("delete from dummy_entity"), any(SqlParameterSource.class))).thenReturn(3);
+
+		List<Measurement> measurements = new ArrayList<>();
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+		query.setMetricsRecorder(measurements::add);
+
+		assertThat(query.execute(new Object[] {})).isEqualTo(3);
+		assertThat(measurements).hasSize(1);
+
+		Measurement measurement = measurements.get(0);
+		assertThat(measurement.getType()).isEqualTo(Measurement.Type.QUERY);
+		assertThat(measurement.getDomainType()).isEqualTo(DummyEntity.class);
+		assertThat(measurement.getMethod()).isEqualTo("DummyEntityRepository.deleteAll");
+		assertThat(measurement.getStatements()).isEqualTo(1);
+		assertThat(measurement.getRowsAffected()).isEqualTo(3);
+	}
+
+	@Test
+	public void modifyingQueryClearsSnapshots() {
+
+		doReturn("update dummy_entity set name = 'x'").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(int.class).when(queryMethod).getReturnedObjectType();
+
+		SnapshotRegistry snapshotRegistry = mock(SnapshotRegistry.class);
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+		query.setSnapshotRegistry(snapshotRegistry);
+
+		query.execute(new Object[] {});
+
+		verify(snapshotRegistry).clear();
+	}
+
+	@Test
+	public void modifyingQueryEvictsCachedAggregatesOfAggregateType() {
+
+		doReturn("update dummy_entity set name = 'x'").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isModifyingQuery();
+		doReturn(int.class).when(queryMethod).getReturnedObjectType();
+		doReturn(DummyEntity.class).when(queryMethod).getAggregateType();
+
+		AggregateCache aggregateCache = mock(AggregateCache.class);
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+		query.setAggregateCache(aggregateCache);
+
+		query.execute(new Object[] {});
+
+		verify(aggregateCache).evictAll(DummyEntity.class);
+		verifyNoMoreInteractions(aggregateCache);
+	}
+
 	/**
 	 * The whole purpose of this method is to easily generate a {@link DefaultParameters} instance during test setup.
 	 */
 	@SuppressWarnings("unused")
 	private void dummyMethod() {}
 
+	@SuppressWarnings("unused")
+	private void dummyMethodWithParameters(@Param("name") String name, @Param("age") int age) {}
+
 	private static class CustomRowMapper implements RowMapper<Object> {
 
 		@Override
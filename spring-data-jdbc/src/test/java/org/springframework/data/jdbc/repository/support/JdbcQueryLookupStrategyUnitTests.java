@@ -26,6 +26,7 @@ import org.junit.Test;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.jdbc.repository.config.DefaultQueryMappingConfiguration;
 import org.springframework.data.jdbc.repository.query.Query;
@@ -61,6 +62,7 @@ public class JdbcQueryLookupStrategyUnitTests {
 	RepositoryMetadata metadata;
 	NamedQueries namedQueries = mock(NamedQueries.class);
 	NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+	RelationResolver relationResolver = mock(RelationResolver.class);
 
 	@Before
 	public void setup() {
@@ -88,7 +90,7 @@ public class JdbcQueryLookupStrategyUnitTests {
 	private RepositoryQuery getRepositoryQuery(String name, QueryMappingConfiguration mappingConfiguration) {
 
 		JdbcQueryLookupStrategy queryLookupStrategy = new JdbcQueryLookupStrategy(publisher, callbacks, mappingContext,
-				converter, H2Dialect.INSTANCE, mappingConfiguration, operations);
+				converter, H2Dialect.INSTANCE, mappingConfiguration, operations, relationResolver);
 
 		Method method = ReflectionUtils.findMethod(MyRepository.class, name);
 		return queryLookupStrategy.resolveQuery(method, metadata, projectionFactory, namedQueries);
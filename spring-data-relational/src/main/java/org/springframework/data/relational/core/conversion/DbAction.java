@@ -231,6 +231,47 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a delete statement for a single entity that is not the root of an aggregate, identified by its id. Used
+	 * when an entity got removed from a collection while other elements of the collection are kept. The delete is
+	 * restricted to the entities reachable via the property path from the aggregate root identified by the root id, so
+	 * it doesn't rely on the id being unique across aggregates.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.1
+	 */
+	final class DeleteById<T> implements WithPropertyPath<T> {
+
+		private final Object rootId;
+
+		private final Object id;
+
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		public DeleteById(Object rootId, Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+			this.rootId = rootId;
+			this.id = id;
+			this.propertyPath = propertyPath;
+		}
+
+		public Object getRootId() {
+			return this.rootId;
+		}
+
+		public Object getId() {
+			return this.id;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public String toString() {
+			return "DbAction.DeleteById(rootId=" + this.getRootId() + ", id=" + this.getId() + ", propertyPath="
+					+ this.getPropertyPath() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into an {@link MutableAggregateChange}. Does not perform any isNew
@@ -46,4 +47,23 @@ public class RelationalEntityUpdateWriter implements EntityWriter<Object, Mutabl
 		List<DbAction<?>> actions = new WritingContext(context, root, aggregateChange).update();
 		actions.forEach(aggregateChange::addAction);
 	}
+
+	/**
+	 * Converts the aggregate into {@link DbAction}s, taking its previous state into account. Collections and references
+	 * of entities with an id that are directly referenced by the aggregate root and don't reference further entities get
+	 * updated by comparing each entity with its previous state: entities no longer present get deleted by id, new ones
+	 * inserted and changed ones updated. All other entities get deleted and reinserted as with
+	 * {@link #write(Object, MutableAggregateChange)}.
+	 *
+	 * @param root the aggregate root to write. Must not be {@literal null}.
+	 * @param previousState the aggregate as currently stored in the database. May be {@literal null}, in which case all
+	 *          referenced entities get deleted and reinserted.
+	 * @param aggregateChange the change to add the actions to. Must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public void write(Object root, @Nullable Object previousState, MutableAggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = new WritingContext(context, root, previousState, aggregateChange).update();
+		actions.forEach(aggregateChange::addAction);
+	}
 }
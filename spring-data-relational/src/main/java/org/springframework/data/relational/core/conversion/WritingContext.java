@@ -22,6 +22,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -30,6 +31,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.data.util.Pair;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Holds context information for the current save operation.
@@ -49,10 +51,23 @@ class WritingContext {
 	private final Map<PathNode, DbAction<?>> previousActions = new HashMap<>();
 	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache = new HashMap<>();
 
+	@Nullable private final Object previousState;
+
 	WritingContext(RelationalMappingContext context, Object root, MutableAggregateChange<?> aggregateChange) {
+		this(context, root, null, aggregateChange);
+	}
+
+	/**
+	 * @param previousState the state of the aggregate as currently stored in the database. If present, {@link #update()}
+	 *          updates {@link #isDiffable(PersistentPropertyPath) diffable} collections by comparing them with their
+	 *          previous state instead of deleting and reinserting them.
+	 */
+	WritingContext(RelationalMappingContext context, Object root, @Nullable Object previousState,
+			MutableAggregateChange<?> aggregateChange) {
 
 		this.context = context;
 		this.root = root;
+		this.previousState = previousState;
 		this.entity = aggregateChange.getEntity();
 		this.entityType = aggregateChange.getEntityType();
 		this.paths = context.findPersistentPropertyPaths(entityType, (p) -> p.isEntity() && !p.isEmbedded());
@@ -83,8 +98,29 @@ class WritingContext {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 		actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
-		actions.addAll(deleteReferenced());
-		actions.addAll(insertReferenced());
+
+		if (previousState == null) {
+
+			actions.addAll(deleteReferenced());
+			actions.addAll(insertReferenced());
+			return actions;
+		}
+
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> writes = new ArrayList<>();
+		paths.forEach(path -> {
+
+			if (isDiffable(path)) {
+				diff(path, deletes, writes);
+			} else {
+
+				deletes.add(0, deleteReferenced(path));
+				writes.addAll(insertAll(path));
+			}
+		});
+
+		actions.addAll(deletes);
+		actions.addAll(writes);
 		return actions;
 	}
 
@@ -120,36 +156,39 @@ class WritingContext {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		from(path).forEach(node -> {
+		from(path).forEach(node -> actions.add(insert(path, node)));
+
+		return actions;
+	}
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			DbAction.Insert<Object> insert;
-			if (node.getPath().getRequiredLeafProperty().isQualified()) {
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(PersistentPropertyPath<RelationalPersistentProperty> path, PathNode node) {
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
-				qualifiers.put(node.getPath(), value.getFirst());
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		DbAction.Insert<Object> insert;
+		if (node.getPath().getRequiredLeafProperty().isQualified()) {
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+			Pair<Object, Object> value = (Pair) node.getValue();
+			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
+			qualifiers.put(node.getPath(), value.getFirst());
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
-				insert = new DbAction.Insert<>(value.getSecond(), path, parentAction, qualifiers);
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
 
-			} else {
-				insert = new DbAction.Insert<>(node.getValue(), path, parentAction, new HashMap<>());
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
 			}
-			previousActions.put(node, insert);
-			actions.add(insert);
-		});
+			insert = new DbAction.Insert<>(value.getSecond(), path, parentAction, qualifiers);
 
-		return actions;
+		} else {
+			insert = new DbAction.Insert<>(node.getValue(), path, parentAction, new HashMap<>());
+		}
+		previousActions.put(node, insert);
+
+		return insert;
 	}
 
 	private List<DbAction<?>> deleteReferenced() {
@@ -169,6 +208,107 @@ class WritingContext {
 		return new DbAction.Delete<>(id, path);
 	}
 
+	/**
+	 * Compares the entities reachable via {@literal path} with their previous state. Entities that are no longer present
+	 * get deleted, new ones inserted and changed ones updated. Entities with an unchanged id, index or key and unchanged
+	 * values aren't touched at all.
+	 */
+	@SuppressWarnings("unchecked")
+	private void diff(PersistentPropertyPath<RelationalPersistentProperty> path, List<DbAction<?>> deletes,
+			List<DbAction<?>> writes) {
+
+		RelationalPersistentEntity<Object> elementEntity = (RelationalPersistentEntity<Object>) context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
+
+		Map<Object, PathNode> previousNodes = new HashMap<>();
+		createNodes(path, null, getFromRootValue(previousState, path))
+				.forEach(node -> previousNodes.put(getId(elementEntity, node), node));
+
+		Map<Object, PathNode> currentNodes = new HashMap<>();
+		List<PathNode> insertedNodes = new ArrayList<>();
+		for (PathNode node : from(path)) {
+
+			Object id = getId(elementEntity, node);
+			PathNode previousNode = id == null ? null : previousNodes.get(id);
+
+			if (id != null) {
+				currentNodes.put(id, node);
+			}
+
+			if (previousNode == null || !hasSameQualifier(node, previousNode)) {
+				insertedNodes.add(node);
+			} else if (!hasSameValues(elementEntity, node.getActualValue(), previousNode.getActualValue())) {
+				writes.add(new DbAction.Update<>(node.getActualValue(), path));
+			}
+		}
+
+		Object rootId = context.getRequiredPersistentEntity(entityType).getIdentifierAccessor(entity).getIdentifier();
+
+		previousNodes.forEach((id, previousNode) -> {
+
+			PathNode node = currentNodes.get(id);
+			if (node == null || !hasSameQualifier(node, previousNode)) {
+				deletes.add(new DbAction.DeleteById<>(rootId, id, path));
+			}
+		});
+
+		insertedNodes.forEach(node -> writes.add(insert(path, node)));
+	}
+
+	/**
+	 * A path can be updated by comparing the entities with their previous state if it is directly referenced by the
+	 * aggregate root, its entities have an id and it doesn't lead to further entities. Updating it only requires
+	 * statements for the entities of the path itself.
+	 */
+	private boolean isDiffable(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		if (!isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
+			return false;
+		}
+
+		RelationalPersistentEntity<?> elementEntity = context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
+		if (!elementEntity.hasIdProperty()) {
+			return false;
+		}
+
+		return paths.stream().noneMatch(p -> !p.equals(path) && path.isBasePathOf(p));
+	}
+
+	@Nullable
+	private Object getId(RelationalPersistentEntity<Object> elementEntity, PathNode node) {
+
+		Object value = node.getActualValue();
+
+		return elementEntity.isNew(value) ? null : elementEntity.getIdentifierAccessor(value).getIdentifier();
+	}
+
+	private static boolean hasSameQualifier(PathNode node, PathNode previousNode) {
+
+		if (!node.getPath().getRequiredLeafProperty().isQualified()) {
+			return true;
+		}
+
+		return ObjectUtils.nullSafeEquals(((Pair<?, ?>) node.getValue()).getFirst(),
+				((Pair<?, ?>) previousNode.getValue()).getFirst());
+	}
+
+	private static boolean hasSameValues(RelationalPersistentEntity<Object> elementEntity, Object value,
+			Object previousValue) {
+
+		PersistentPropertyAccessor<Object> accessor = elementEntity.getPropertyAccessor(value);
+		PersistentPropertyAccessor<Object> previousAccessor = elementEntity.getPropertyAccessor(previousValue);
+
+		for (RelationalPersistentProperty property : elementEntity) {
+
+			if (!ObjectUtils.nullSafeEquals(accessor.getProperty(property), previousAccessor.getProperty(property))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	//// methods not directly related to the creation of DbActions
 
 	private DbAction<?> setRootAction(DbAction<?> dbAction) {
@@ -244,12 +384,17 @@ class WritingContext {
 
 	@Nullable
 	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return getFromRootValue(entity, path);
+	}
+
+	@Nullable
+	private Object getFromRootValue(Object rootValue, PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		if (path.getLength() == 0) {
-			return entity;
+			return rootValue;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getFromRootValue(rootValue, path.getParentPath());
 		if (parent == null) {
 			return null;
 		}
@@ -18,8 +18,11 @@ package org.springframework.data.relational.core.dialect;
 import java.util.OptionalLong;
 import java.util.function.Function;
 
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.Named;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 
@@ -150,6 +153,21 @@ public abstract class AbstractDialect implements Dialect {
 		@Override
 		public CharSequence apply(Select select) {
 
+			BindMarker limitBindMarker = select.getLimitBindMarker();
+			BindMarker offsetBindMarker = select.getOffsetBindMarker();
+
+			if (limitBindMarker != null && offsetBindMarker != null) {
+
+				String limitOffset = clause.getLimitOffset(render(limitBindMarker), render(offsetBindMarker));
+
+				if (limitOffset == null) {
+					throw new UnsupportedOperationException(
+							String.format("Dialect doesn't support bind markers for limit and offset (%s)", clause));
+				}
+
+				return limitOffset;
+			}
+
 			OptionalLong limit = select.getLimit();
 			OptionalLong offset = select.getOffset();
 
@@ -169,6 +187,13 @@ public abstract class AbstractDialect implements Dialect {
 		}
 	}
 
+	private static String render(BindMarker bindMarker) {
+
+		return bindMarker instanceof Named //
+				? ((Named) bindMarker).getName().getReference(IdentifierProcessing.NONE) //
+				: bindMarker.toString();
+	}
+
 	/**
 	 * {@code LOCK} function rendering the {@link LockClause}.
 	 */
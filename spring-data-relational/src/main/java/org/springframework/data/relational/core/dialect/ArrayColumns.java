@@ -41,6 +41,18 @@ public interface ArrayColumns {
 	 */
 	Class<?> getArrayType(Class<?> userType);
 
+	/**
+	 * Returns {@literal true} if a column can be compared against the elements of an array bound as a single parameter,
+	 * using {@code column = ANY(:array)}. This allows binding the values of an {@code IN} list of any length to a single
+	 * bind marker.
+	 *
+	 * @return {@literal true} if {@code = ANY(…)} comparisons against bound arrays are supported.
+	 * @since 2.1
+	 */
+	default boolean isAnyComparisonSupported() {
+		return false;
+	}
+
 	/**
 	 * Default {@link ArrayColumns} implementation for dialects that do not support array-typed columns.
 	 */
@@ -62,6 +62,15 @@ public class Db2Dialect extends AbstractDialect {
 			return String.format("OFFSET %d ROWS FETCH FIRST %d ROWS ONLY", offset, limit);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LimitClause#getLimitOffset(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "OFFSET " + offset + " ROWS FETCH FIRST " + limit + " ROWS ONLY";
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.dialect.LimitClause#getClausePosition()
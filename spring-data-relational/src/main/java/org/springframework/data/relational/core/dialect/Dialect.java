@@ -81,4 +81,15 @@ public interface Dialect {
 	default Escaper getLikeEscaper() {
 		return Escaper.DEFAULT;
 	}
+
+	/**
+	 * Returns whether the JDBC driver of the database returns the generated keys of all rows inserted by a batch
+	 * statement. If not, inserts relying on generated keys get executed one row at a time.
+	 *
+	 * @return {@literal true} if generated keys can be obtained for batch inserts. {@literal false} by default.
+	 * @since 2.1
+	 */
+	default boolean supportsBatchGeneratedKeys() {
+		return false;
+	}
 }
@@ -66,6 +66,15 @@ public class H2Dialect extends AbstractDialect {
 			return String.format("LIMIT %d OFFSET %d", limit, offset);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LimitClause#getLimitOffset(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "LIMIT " + limit + " OFFSET " + offset;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.dialect.LimitClause#getClausePosition()
@@ -96,6 +105,15 @@ public class H2Dialect extends AbstractDialect {
 		return AnsiDialect.LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchGeneratedKeys() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getArraySupport()
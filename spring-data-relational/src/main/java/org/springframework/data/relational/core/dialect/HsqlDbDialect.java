@@ -37,6 +37,11 @@ public class HsqlDbDialect extends AbstractDialect {
 		return AnsiDialect.LOCK_CLAUSE;
 	}
 
+	@Override
+	public boolean supportsBatchGeneratedKeys() {
+		return true;
+	}
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		@Override
@@ -54,6 +59,11 @@ public class HsqlDbDialect extends AbstractDialect {
 			return getOffset(offset) + " " + getLimit(limit);
 		}
 
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "OFFSET " + offset + " LIMIT " + limit;
+		}
+
 		@Override
 		public Position getClausePosition() {
 			return Position.AFTER_ORDER_BY;
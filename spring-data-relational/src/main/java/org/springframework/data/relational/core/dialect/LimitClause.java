@@ -15,6 +15,8 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import org.springframework.lang.Nullable;
+
 /**
  * A clause representing Dialect-specific {@code LIMIT}.
  *
@@ -54,6 +56,21 @@ public interface LimitClause {
 	 */
 	String getLimitOffset(long limit, long offset);
 
+	/**
+	 * Returns a combined {@code LIMIT/OFFSET} clause using the given bind markers instead of literal values. This allows
+	 * rendering a paged statement once and reusing it for all pages.
+	 *
+	 * @param limit the bind marker for the maximum number of lines returned, e.g. {@code :limit}.
+	 * @param offset the bind marker for the numbers of rows that get skipped.
+	 * @return rendered limit clause or {@literal null} if the database doesn't support bind markers for limit and offset.
+	 * @since 2.1
+	 * @see #getLimitOffset(long, long)
+	 */
+	@Nullable
+	default String getLimitOffset(String limit, String offset) {
+		return null;
+	}
+
 	/**
 	 * Returns the {@link Position} where to apply the {@link #getOffset(long) clause}.
 	 */
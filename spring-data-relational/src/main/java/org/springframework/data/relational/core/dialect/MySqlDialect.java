@@ -94,6 +94,15 @@ public class MySqlDialect extends AbstractDialect {
 			return String.format("LIMIT %s, %s", offset, limit);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LimitClause#getLimitOffset(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "LIMIT " + offset + ", " + limit;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.dialect.LimitClause#getClausePosition()
@@ -153,6 +162,15 @@ public class MySqlDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchGeneratedKeys() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdentifierProcessing()
@@ -72,6 +72,15 @@ public class PostgresDialect extends AbstractDialect {
 			return String.format("LIMIT %d OFFSET %d", limit, offset);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LimitClause#getLimitOffset(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "LIMIT " + limit + " OFFSET " + offset;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.dialect.LimitClause#getClausePosition()
@@ -104,6 +113,15 @@ public class PostgresDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchGeneratedKeys() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getArraySupport()
@@ -189,6 +207,15 @@ public class PostgresDialect extends AbstractDialect {
 
 			return ClassUtils.resolvePrimitiveIfNecessary(userType);
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ArrayColumns#isAnyComparisonSupported()
+		 */
+		@Override
+		public boolean isAnyComparisonSupported() {
+			return true;
+		}
 	}
 
 	@Override
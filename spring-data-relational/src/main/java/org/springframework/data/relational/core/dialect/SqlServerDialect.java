@@ -64,6 +64,15 @@ public class SqlServerDialect extends AbstractDialect {
 			return String.format("OFFSET %d ROWS FETCH NEXT %d ROWS ONLY", offset, limit);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.LimitClause#getLimitOffset(java.lang.String, java.lang.String)
+		 */
+		@Override
+		public String getLimitOffset(String limit, String offset) {
+			return "OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.dialect.LimitClause#getClausePosition()
@@ -94,6 +94,6 @@ public class SqlServerSelectRenderContext implements SelectRenderContext {
 	}
 
 	private static boolean usesPagination(Select select) {
-		return select.getOffset().isPresent() || select.getLimit().isPresent();
+		return select.getOffset().isPresent() || select.getLimit().isPresent() || select.getLimitBindMarker() != null;
 	}
 }
@@ -24,11 +24,15 @@ import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A wrapper around a {@link org.springframework.data.mapping.PersistentPropertyPath} for making common operations
- * available used in SQL generation and conversion
+ * available used in SQL generation and conversion. Derived identifiers, parent paths and extended paths get computed on
+ * first access and are kept by the instance, so instances should be obtained through
+ * {@link RelationalMappingContext#getPersistentPropertyPathExtension(PersistentPropertyPath)} which caches them.
  *
  * @author Jens Schauder
  * @since 1.1
@@ -39,7 +43,19 @@ public class PersistentPropertyPathExtension {
 	private final @Nullable PersistentPropertyPath<? extends RelationalPersistentProperty> path;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context;
 
+	private final Lazy<PersistentPropertyPathExtension> parentPath = Lazy.of(this::createParentPath);
+	private final Lazy<PersistentPropertyPathExtension> tableOwningAncestor = Lazy
+			.of(() -> isEntity() && !isEmbedded() ? this : getParentPath().getTableOwningAncestor());
+	private final Lazy<PersistentPropertyPathExtension> idDefiningParentPath = Lazy
+			.of(this::createIdDefiningParentPath);
+	private final Lazy<RelationalPersistentEntity<?>> leafEntity = Lazy.of(this::createLeafEntity);
+	private final Lazy<SqlIdentifier> tableAlias = Lazy.of(this::createTableAlias);
+	private final Lazy<SqlIdentifier> columnName = Lazy.of(this::createColumnName);
+	private final Lazy<SqlIdentifier> reverseColumnName = Lazy.of(this::createReverseColumnName);
 	private final Lazy<SqlIdentifier> columnAlias = Lazy.of(() -> prefixWithTableAlias(getColumnName()));
+	private final Lazy<SqlIdentifier> reverseColumnNameAlias = Lazy
+			.of(() -> prefixWithTableAlias(getReverseColumnName()));
+	private final Map<RelationalPersistentProperty, PersistentPropertyPathExtension> extensions = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates the empty path referencing the root itself.
@@ -78,6 +94,44 @@ public class PersistentPropertyPathExtension {
 		this.path = path;
 	}
 
+	/**
+	 * Returns the empty path referencing the root itself. If the context is a {@link RelationalMappingContext} this is
+	 * the instance cached by the context.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param entity Root entity of the path. Must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 * @see RelationalMappingContext#getPersistentPropertyPathExtension(RelationalPersistentEntity)
+	 */
+	public static PersistentPropertyPathExtension of(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			RelationalPersistentEntity<?> entity) {
+
+		return context instanceof RelationalMappingContext
+				? ((RelationalMappingContext) context).getPersistentPropertyPathExtension(entity)
+				: new PersistentPropertyPathExtension(context, entity);
+	}
+
+	/**
+	 * Returns the path extension for a non-empty path. If the context is a {@link RelationalMappingContext} this is the
+	 * instance cached by the context.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param path must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 * @see RelationalMappingContext#getPersistentPropertyPathExtension(PersistentPropertyPath)
+	 */
+	public static PersistentPropertyPathExtension of(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		return context instanceof RelationalMappingContext
+				? ((RelationalMappingContext) context).getPersistentPropertyPathExtension(path)
+				: new PersistentPropertyPathExtension(context, path);
+	}
+
 	/**
 	 * Returns {@literal true} exactly when the path is non empty and the leaf property an embedded one.
 	 *
@@ -99,11 +153,16 @@ public class PersistentPropertyPathExtension {
 			throw new IllegalStateException("The parent path of a root path is not defined.");
 		}
 
-		if (path.getLength() == 1) {
-			return new PersistentPropertyPathExtension(context, entity);
-		}
+		return parentPath.get();
+	}
 
-		return new PersistentPropertyPathExtension(context, path.getParentPath());
+	private PersistentPropertyPathExtension createParentPath() {
+
+		Assert.state(path != null, "Path is null");
+
+		return path.getLength() == 1 //
+				? of(context, entity) //
+				: of(context, path.getParentPath());
 	}
 
 	/**
@@ -128,6 +187,11 @@ public class PersistentPropertyPathExtension {
 	 */
 	@Nullable
 	public RelationalPersistentEntity<?> getLeafEntity() {
+		return leafEntity.getNullable();
+	}
+
+	@Nullable
+	private RelationalPersistentEntity<?> createLeafEntity() {
 		return path == null ? entity : context.getPersistentEntity(path.getRequiredLeafProperty().getActualType());
 	}
 
@@ -158,6 +222,10 @@ public class PersistentPropertyPathExtension {
 	 * @throws IllegalStateException when called on an empty path.
 	 */
 	public SqlIdentifier getReverseColumnName() {
+		return reverseColumnName.get();
+	}
+
+	private SqlIdentifier createReverseColumnName() {
 
 		Assert.state(path != null, "Empty paths don't have a reverse column name");
 		return path.getRequiredLeafProperty().getReverseColumnName(this);
@@ -169,8 +237,7 @@ public class PersistentPropertyPathExtension {
 	 * @throws IllegalStateException when called on an empty path.
 	 */
 	public SqlIdentifier getReverseColumnNameAlias() {
-
-		return prefixWithTableAlias(getReverseColumnName());
+		return reverseColumnNameAlias.get();
 	}
 
 	/**
@@ -179,9 +246,12 @@ public class PersistentPropertyPathExtension {
 	 * @throws IllegalStateException when called on an empty path.
 	 */
 	public SqlIdentifier getColumnName() {
+		return columnName.get();
+	}
 
-		Assert.state(path != null, "Path is null");
+	private SqlIdentifier createColumnName() {
 
+		Assert.state(path != null, "Path is null");
 		return assembleColumnName(path.getRequiredLeafProperty().getColumnName());
 	}
 
@@ -209,6 +279,10 @@ public class PersistentPropertyPathExtension {
 	 * @return A path that starts just as this path but is shorter. Guaranteed to be not {@literal null}.
 	 */
 	public PersistentPropertyPathExtension getIdDefiningParentPath() {
+		return idDefiningParentPath.get();
+	}
+
+	private PersistentPropertyPathExtension createIdDefiningParentPath() {
 
 		PersistentPropertyPathExtension parent = getParentPath();
 
@@ -239,11 +313,14 @@ public class PersistentPropertyPathExtension {
 	 */
 	@Nullable
 	public SqlIdentifier getTableAlias() {
+		return tableAlias.getNullable();
+	}
 
-		PersistentPropertyPathExtension tableOwner = getTableOwningAncestor();
+	@Nullable
+	private SqlIdentifier createTableAlias() {
 
+		PersistentPropertyPathExtension tableOwner = getTableOwningAncestor();
 		return tableOwner.path == null ? null : tableOwner.assembleTableAlias();
-
 	}
 
 	/**
@@ -300,6 +377,19 @@ public class PersistentPropertyPathExtension {
 		return path == null ? SqlIdentifier.EMPTY : path.getRequiredLeafProperty().getKeyColumn();
 	}
 
+	/**
+	 * The alias used in select for the column holding the list index or map key of the leaf property of this path.
+	 *
+	 * @return May be {@literal null}.
+	 * @since 2.1
+	 */
+	@Nullable
+	public SqlIdentifier getQualifierColumnAlias() {
+
+		SqlIdentifier qualifierColumn = getQualifierColumn();
+		return qualifierColumn == null ? null : prefixWithTableAlias(qualifierColumn);
+	}
+
 	/**
 	 * The type of the qualifier column of the leaf property of this path or {@literal null} if this is not applicable.
 	 *
@@ -318,11 +408,22 @@ public class PersistentPropertyPathExtension {
 	 */
 	public PersistentPropertyPathExtension extendBy(RelationalPersistentProperty property) {
 
+		PersistentPropertyPathExtension extension = extensions.get(property);
+
+		if (extension == null) {
+			extension = extensions.computeIfAbsent(property, this::createExtension);
+		}
+
+		return extension;
+	}
+
+	private PersistentPropertyPathExtension createExtension(RelationalPersistentProperty property) {
+
 		PersistentPropertyPath<? extends RelationalPersistentProperty> newPath = path == null //
 				? context.getPersistentPropertyPath(property.getName(), entity.getType()) //
 				: context.getPersistentPropertyPath(path.toDotPath() + "." + property.getName(), entity.getType());
 
-		return new PersistentPropertyPathExtension(context, newPath);
+		return of(context, newPath);
 	}
 
 	@Override
@@ -380,8 +481,7 @@ public class PersistentPropertyPathExtension {
 	 * @return a path. Guaranteed to be not {@literal null}.
 	 */
 	private PersistentPropertyPathExtension getTableOwningAncestor() {
-
-		return isEntity() && !isEmbedded() ? this : getParentPath().getTableOwningAncestor();
+		return tableOwningAncestor.get();
 	}
 
 	private SqlIdentifier assembleTableAlias() {
@@ -442,11 +542,11 @@ public class PersistentPropertyPathExtension {
 		if (o == null || getClass() != o.getClass()) return false;
 		PersistentPropertyPathExtension that = (PersistentPropertyPathExtension) o;
 		return entity.equals(that.entity) &&
-				path.equals(that.path);
+				Objects.equals(path, that.path);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(entity, path);
+		return 31 * entity.hashCode() + Objects.hashCode(path);
 	}
 }
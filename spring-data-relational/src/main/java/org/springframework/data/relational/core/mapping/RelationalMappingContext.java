@@ -15,6 +15,10 @@
  */
 package org.springframework.data.relational.core.mapping;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.Property;
@@ -35,6 +39,8 @@ public class RelationalMappingContext
 		extends AbstractMappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> {
 
 	private final NamingStrategy namingStrategy;
+	private final Map<RelationalPersistentEntity<?>, PersistentPropertyPathExtension> rootPathExtensions = new ConcurrentHashMap<>();
+	private final Map<PersistentPropertyPath<? extends RelationalPersistentProperty>, PersistentPropertyPathExtension> pathExtensions = new ConcurrentHashMap<>();
 	private boolean forceQuote = true;
 
 	/**
@@ -109,4 +115,47 @@ public class RelationalMappingContext
 	public NamingStrategy getNamingStrategy() {
 		return this.namingStrategy;
 	}
+
+	/**
+	 * Returns the canonical {@link PersistentPropertyPathExtension} for the empty path of the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	public PersistentPropertyPathExtension getPersistentPropertyPathExtension(RelationalPersistentEntity<?> entity) {
+
+		Assert.notNull(entity, "Entity must not be null.");
+
+		PersistentPropertyPathExtension extension = rootPathExtensions.get(entity);
+
+		if (extension == null) {
+			extension = rootPathExtensions.computeIfAbsent(entity, it -> new PersistentPropertyPathExtension(this, it));
+		}
+
+		return extension;
+	}
+
+	/**
+	 * Returns the canonical {@link PersistentPropertyPathExtension} for the given non-empty path. Instances get created
+	 * once per path and compute derived identifiers like table and column aliases only once, so they are shared by all
+	 * components working with the same path.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	public PersistentPropertyPathExtension getPersistentPropertyPathExtension(
+			PersistentPropertyPath<? extends RelationalPersistentProperty> path) {
+
+		Assert.notNull(path, "Path must not be null.");
+
+		PersistentPropertyPathExtension extension = pathExtensions.get(path);
+
+		if (extension == null) {
+			extension = pathExtensions.computeIfAbsent(path, it -> new PersistentPropertyPathExtension(this, it));
+		}
+
+		return extension;
+	}
 }
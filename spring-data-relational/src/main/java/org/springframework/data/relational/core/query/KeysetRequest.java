@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Request for a window of rows using keyset pagination, also known as seek method. Instead of skipping an offset of
+ * rows, a keyset request selects the rows following the last row of the previous window, identified by its values of
+ * the sort properties, i.e. its keys. The id serves as tiebreaker, so it is always part of the keys. This way every
+ * window is a constant index seek, regardless of how many rows precede it.
+ * <p>
+ * The first window is requested with {@link #of(int, Sort)}, every following one with {@link #after(Map)}, passing the
+ * property values of the last row of the previous window:
+ *
+ * <pre class="code">
+ * KeysetRequest first = KeysetRequest.of(50, Sort.by("lastName"));
+ * KeysetRequest next = first.after(Map.of("lastName", last.getLastName(), "id", last.getId()));
+ * </pre>
+ *
+ * Keyset pagination requires the sort properties to be mapped to columns that are not nullable. The window is selected
+ * by comparing the sort columns with the keys, e.g. {@code last_name > :last_name}, and such comparisons never match
+ * {@literal NULL}, so rows with a {@literal NULL} sort value would silently be skipped. For the same reason the keys
+ * must not be {@literal null}.
+ *
+ * @since 2.1
+ */
+public final class KeysetRequest {
+
+	private final int size;
+	private final Sort sort;
+	private final Map<String, Object> keys;
+
+	private KeysetRequest(int size, Sort sort, Map<String, Object> keys) {
+
+		this.size = size;
+		this.sort = sort;
+		this.keys = keys;
+	}
+
+	/**
+	 * Creates a request for the first window of unsorted rows, i.e. ordered by id only.
+	 *
+	 * @param size the maximum number of rows. Must be greater than {@literal 0}.
+	 * @return a new {@link KeysetRequest}.
+	 */
+	public static KeysetRequest of(int size) {
+		return of(size, Sort.unsorted());
+	}
+
+	/**
+	 * Creates a request for the first window of sorted rows.
+	 *
+	 * @param size the maximum number of rows. Must be greater than {@literal 0}.
+	 * @param sort must not be {@literal null}.
+	 * @return a new {@link KeysetRequest}.
+	 */
+	public static KeysetRequest of(int size, Sort sort) {
+
+		Assert.isTrue(size > 0, "Size must be greater than 0");
+		Assert.notNull(sort, "Sort must not be null");
+
+		return new KeysetRequest(size, sort, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a request for the window following the row with the given keys, using the same size and {@link Sort}.
+	 *
+	 * @param keys the values of the sort properties and the id property of the last row of the current window, by
+	 *          property name. Must not be {@literal null} or empty and must not contain {@literal null} values, as
+	 *          nullable sort properties are not supported.
+	 * @return a new {@link KeysetRequest}.
+	 */
+	public KeysetRequest after(Map<String, ?> keys) {
+
+		Assert.notEmpty(keys, "Keys must not be empty");
+		Assert.noNullElements(keys.values(),
+				"Keys must not contain null values; keyset pagination doesn't support nullable sort properties");
+
+		return new KeysetRequest(size, sort, Collections.unmodifiableMap(new LinkedHashMap<>(keys)));
+	}
+
+	/**
+	 * Returns the {@link Sort} to use for keyset pagination, i.e. the given {@link Sort} followed by an ascending order
+	 * by the tiebreaker property, unless the {@link Sort} orders by it already.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param tiebreaker name of a property with unique values, usually the id property. Must not be {@literal null}.
+	 * @return the {@link Sort} including the tiebreaker.
+	 */
+	public static Sort withTiebreaker(Sort sort, String tiebreaker) {
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.hasText(tiebreaker, "Tiebreaker must not be empty");
+
+		return sort.getOrderFor(tiebreaker) != null ? sort : sort.and(Sort.by(tiebreaker));
+	}
+
+	/**
+	 * @return the maximum number of rows to select.
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the {@link Sort} of the rows, not including the id as tiebreaker. Guaranteed to be not {@literal null}.
+	 */
+	public Sort getSort() {
+		return sort;
+	}
+
+	/**
+	 * @return the keys of the row preceding the requested window by property name. Empty for the first window.
+	 *         Guaranteed to be not {@literal null}.
+	 */
+	public Map<String, Object> getKeys() {
+		return keys;
+	}
+
+	/**
+	 * Returns the key for the given property.
+	 *
+	 * @param property name of the property.
+	 * @return the key value.
+	 * @throws IllegalArgumentException if there is no key for the property.
+	 */
+	public Object getRequiredKey(String property) {
+
+		Object key = keys.get(property);
+
+		Assert.isTrue(key != null, () -> String.format("No key for property '%s' in %s", property, this));
+
+		return key;
+	}
+
+	/**
+	 * @return {@literal true} if this requests the first window, i.e. there are no keys.
+	 */
+	public boolean isFirst() {
+		return keys.isEmpty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof KeysetRequest)) {
+			return false;
+		}
+
+		KeysetRequest that = (KeysetRequest) o;
+		return size == that.size && sort.equals(that.sort) && keys.equals(that.keys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = size;
+		result = 31 * result + sort.hashCode();
+		result = 31 * result + keys.hashCode();
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("KeysetRequest [size: %d, sort: %s, keys: %s]", size, sort, keys);
+	}
+}
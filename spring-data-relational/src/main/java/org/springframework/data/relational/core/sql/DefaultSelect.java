@@ -37,19 +37,24 @@ class DefaultSelect implements Select {
 	private final From from;
 	private final long limit;
 	private final long offset;
+	private final @Nullable BindMarker limitBindMarker;
+	private final @Nullable BindMarker offsetBindMarker;
 	private final List<Join> joins;
 	private final @Nullable Where where;
 	private final List<OrderByField> orderBy;
 	private final @Nullable LockMode lockMode;
 
 	DefaultSelect(boolean distinct, List<Expression> selectList, List<Table> from, long limit, long offset,
-			List<Join> joins, @Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
+			@Nullable BindMarker limitBindMarker, @Nullable BindMarker offsetBindMarker, List<Join> joins,
+			@Nullable Condition where, List<OrderByField> orderBy, @Nullable LockMode lockMode) {
 
 		this.distinct = distinct;
 		this.selectList = new SelectList(new ArrayList<>(selectList));
 		this.from = new From(new ArrayList<>(from));
 		this.limit = limit;
 		this.offset = offset;
+		this.limitBindMarker = limitBindMarker;
+		this.offsetBindMarker = offsetBindMarker;
 		this.joins = new ArrayList<>(joins);
 		this.orderBy = Collections.unmodifiableList(new ArrayList<>(orderBy));
 		this.where = where != null ? new Where(where) : null;
@@ -92,6 +97,26 @@ class DefaultSelect implements Select {
 		return offset == -1 ? OptionalLong.empty() : OptionalLong.of(offset);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Select#getLimitBindMarker()
+	 */
+	@Nullable
+	@Override
+	public BindMarker getLimitBindMarker() {
+		return limitBindMarker;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.Select#getOffsetBindMarker()
+	 */
+	@Nullable
+	@Override
+	public BindMarker getOffsetBindMarker() {
+		return offsetBindMarker;
+	}
+
 	@Override
 	public boolean isDistinct() {
 		return distinct;
@@ -25,6 +25,7 @@ import org.springframework.data.relational.core.sql.SelectBuilder.SelectAndFrom;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin;
 import org.springframework.data.relational.core.sql.SelectBuilder.SelectWhereAndOr;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Default {@link SelectBuilder} implementation.
@@ -41,6 +42,8 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	private List<Table> from = new ArrayList<>();
 	private long limit = -1;
 	private long offset = -1;
+	private @Nullable BindMarker limitBindMarker;
+	private @Nullable BindMarker offsetBindMarker;
 	private List<Join> joins = new ArrayList<>();
 	private @Nullable Condition where;
 	private List<OrderByField> orderBy = new ArrayList<>();
@@ -140,6 +143,25 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	public SelectFromAndJoin limitOffset(long limit, long offset) {
 		this.limit = limit;
 		this.offset = offset;
+		this.limitBindMarker = null;
+		this.offsetBindMarker = null;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoin#limitOffset(org.springframework.data.relational.core.sql.BindMarker, org.springframework.data.relational.core.sql.BindMarker)
+	 */
+	@Override
+	public SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset) {
+
+		Assert.notNull(limit, "Limit bind marker must not be null!");
+		Assert.notNull(offset, "Offset bind marker must not be null!");
+
+		this.limit = -1;
+		this.offset = -1;
+		this.limitBindMarker = limit;
+		this.offsetBindMarker = offset;
 		return this;
 	}
 
@@ -285,7 +307,8 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 	@Override
 	public Select build() {
 
-		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, joins, where, orderBy, lockMode);
+		DefaultSelect select = new DefaultSelect(distinct, selectList, from, limit, offset, limitBindMarker,
+				offsetBindMarker, joins, where, orderBy, lockMode);
 		SelectValidator.validate(select);
 		return select;
 	}
@@ -442,6 +465,16 @@ class DefaultSelectBuilder implements SelectBuilder, SelectAndFrom, SelectFromAn
 			return selectBuilder.limitOffset(limit, offset);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoinCondition#limitOffset(org.springframework.data.relational.core.sql.BindMarker, org.springframework.data.relational.core.sql.BindMarker)
+		 */
+		@Override
+		public SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset) {
+			selectBuilder.join(finishJoin());
+			return selectBuilder.limitOffset(limit, offset);
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.data.relational.core.sql.SelectBuilder.SelectFromAndJoinCondition#limit(long)
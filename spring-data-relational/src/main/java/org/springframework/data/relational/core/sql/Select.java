@@ -70,6 +70,30 @@ public interface Select extends Segment, Visitable {
 	 */
 	OptionalLong getOffset();
 
+	/**
+	 * Optional bind marker to render instead of a literal limit. Used for limit/offset paging with a statement that is
+	 * rendered once and reused for all pages.
+	 *
+	 * @return the bind marker for the limit or {@literal null} if there is none.
+	 * @since 2.1
+	 */
+	@Nullable
+	default BindMarker getLimitBindMarker() {
+		return null;
+	}
+
+	/**
+	 * Optional bind marker to render instead of a literal offset. Used for limit/offset paging with a statement that is
+	 * rendered once and reused for all pages.
+	 *
+	 * @return the bind marker for the offset or {@literal null} if there is none.
+	 * @since 2.1
+	 */
+	@Nullable
+	default BindMarker getOffsetBindMarker() {
+		return null;
+	}
+
 	/**
 	 * Flag if this select is to return distinct rows.
 	 *
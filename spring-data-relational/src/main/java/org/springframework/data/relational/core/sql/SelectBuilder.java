@@ -219,6 +219,9 @@ public interface SelectBuilder {
 		@Override
 		SelectFromAndOrderBy limitOffset(long limit, long offset);
 
+		@Override
+		SelectFromAndOrderBy limitOffset(BindMarker limit, BindMarker offset);
+
 		@Override
 		SelectFromAndOrderBy limit(long limit);
 
@@ -299,6 +302,18 @@ public interface SelectBuilder {
 		 */
 		SelectFromAndJoin limitOffset(long limit, long offset);
 
+		/**
+		 * Apply bind markers for {@code limit} and {@code offset} to the select statement, so the statement can be rendered
+		 * once and executed for every page by binding different values.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 2.1
+		 */
+		@Override
+		SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset);
+
 		/**
 		 * Apply a limit of rows to read.
 		 *
@@ -332,6 +347,18 @@ public interface SelectBuilder {
 		 */
 		SelectFromAndJoin limitOffset(long limit, long offset);
 
+		/**
+		 * Apply bind markers for {@code limit} and {@code offset} to the select statement, so the statement can be rendered
+		 * once and executed for every page by binding different values.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 2.1
+		 */
+		@Override
+		SelectFromAndJoin limitOffset(BindMarker limit, BindMarker offset);
+
 		/**
 		 * Apply a limit of rows to read.
 		 *
@@ -364,6 +391,17 @@ public interface SelectBuilder {
 		 */
 		SelectLimitOffset limitOffset(long limit, long offset);
 
+		/**
+		 * Apply bind markers for {@code limit} and {@code offset} to the select statement, so the statement can be rendered
+		 * once and executed for every page by binding different values.
+		 *
+		 * @param limit bind marker for the rows to read.
+		 * @param offset bind marker for the row offset, zero-based.
+		 * @return {@code this} builder.
+		 * @since 2.1
+		 */
+		SelectLimitOffset limitOffset(BindMarker limit, BindMarker offset);
+
 		/**
 		 * Apply a limit of rows to read.
 		 *
@@ -74,7 +74,9 @@ class ExpressionVisitor extends TypedSubtreeVisitor<Expression> implements PartR
 			value = NameRenderer.fullyQualifiedReference(context, column);
 		} else if (segment instanceof BindMarker) {
 
-			if (segment instanceof Named) {
+			if (context instanceof PositionalRenderContext) {
+				value = ((PositionalRenderContext) context).bind((BindMarker) segment);
+			} else if (segment instanceof Named) {
 				value = NameRenderer.render(context, (Named) segment);
 			} else {
 				value = segment.toString();
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A SQL statement rendered with positional {@code ?} bind markers, along with the names of the named bind markers they
+ * replace. Parameter indexes are {@literal 1}-based, as used by {@link java.sql.PreparedStatement}. A name may occur at
+ * several indexes if the statement contains the same named bind marker more than once.
+ *
+ * @since 2.1
+ * @see SqlRenderer#renderPositional(org.springframework.data.relational.core.sql.Select)
+ */
+public final class ParameterizedSql {
+
+	private static final int[] NO_INDEXES = new int[0];
+
+	private final String sql;
+	private final List<String> parameterNames;
+	private final Map<String, int[]> parameterIndexes;
+
+	ParameterizedSql(String sql, List<String> parameterNames) {
+
+		Assert.notNull(sql, "SQL must not be null!");
+		Assert.notNull(parameterNames, "Parameter names must not be null!");
+
+		this.sql = sql;
+		this.parameterNames = Collections.unmodifiableList(parameterNames);
+
+		Map<String, int[]> parameterIndexes = new LinkedHashMap<>();
+		for (int i = 0; i < parameterNames.size(); i++) {
+
+			int[] indexes = parameterIndexes.getOrDefault(parameterNames.get(i), NO_INDEXES);
+			int[] extended = new int[indexes.length + 1];
+			System.arraycopy(indexes, 0, extended, 0, indexes.length);
+			extended[indexes.length] = i + 1;
+
+			parameterIndexes.put(parameterNames.get(i), extended);
+		}
+
+		this.parameterIndexes = parameterIndexes;
+	}
+
+	/**
+	 * @return the SQL statement using {@code ?} as bind markers. Guaranteed to be not {@literal null}.
+	 */
+	public String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return the parameter names in the order of their bind markers, i.e. the name at position {@code i} is the one to
+	 *         be bound at index {@code i + 1}. Guaranteed to be not {@literal null}.
+	 */
+	public List<String> getParameterNames() {
+		return parameterNames;
+	}
+
+	/**
+	 * @return the number of bind markers in the statement.
+	 */
+	public int getParameterCount() {
+		return parameterNames.size();
+	}
+
+	/**
+	 * @param name the name of a parameter.
+	 * @return the indexes the parameter has to be bound at. Empty if the statement doesn't use the parameter.
+	 */
+	public int[] getParameterIndexes(String name) {
+		return parameterIndexes.getOrDefault(name, NO_INDEXES).clone();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return sql + " " + parameterNames;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.Named;
+
+/**
+ * {@link RenderContext} rendering all bind markers as {@code ?} while recording the names of named bind markers in the
+ * order they get rendered. Holds state, so a new instance is required for every statement.
+ *
+ * @since 2.1
+ * @see SqlRenderer#renderPositional(org.springframework.data.relational.core.sql.Select)
+ */
+class PositionalRenderContext implements RenderContext {
+
+	private final RenderContext delegate;
+	private final List<String> parameterNames = new ArrayList<>();
+
+	PositionalRenderContext(RenderContext delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Records the name of the {@link BindMarker} and returns the positional marker to render instead.
+	 *
+	 * @param bindMarker must be a {@link Named} bind marker.
+	 * @return the positional bind marker.
+	 */
+	CharSequence bind(BindMarker bindMarker) {
+
+		if (!(bindMarker instanceof Named)) {
+			throw new IllegalArgumentException(
+					String.format("Anonymous bind marker %s can't be rendered as positional parameter", bindMarker));
+		}
+
+		String name = NameRenderer.render(delegate, (Named) bindMarker).toString();
+		parameterNames.add(name.startsWith(":") ? name.substring(1) : name);
+
+		return "?";
+	}
+
+	ParameterizedSql toParameterizedSql(CharSequence sql) {
+		return new ParameterizedSql(sql.toString(), new ArrayList<>(parameterNames));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.RenderContext#getNamingStrategy()
+	 */
+	@Override
+	public RenderNamingStrategy getNamingStrategy() {
+		return delegate.getNamingStrategy();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.RenderContext#getIdentifierProcessing()
+	 */
+	@Override
+	public IdentifierProcessing getIdentifierProcessing() {
+		return delegate.getIdentifierProcessing();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.RenderContext#getSelect()
+	 */
+	@Override
+	public SelectRenderContext getSelect() {
+		return delegate.getSelect();
+	}
+}
@@ -154,4 +154,75 @@ public class SqlRenderer implements Renderer {
 
 		return visitor.getRenderedPart().toString();
 	}
+
+	/**
+	 * Render the {@link Select} AST into a SQL statement using positional {@code ?} bind markers. All bind markers of
+	 * the statement must be named.
+	 *
+	 * @param select must not be {@literal null}.
+	 * @return the rendered statement along with the names of its parameters.
+	 * @since 2.1
+	 */
+	public ParameterizedSql renderPositional(Select select) {
+
+		Assert.isTrue(select.getLimitBindMarker() == null && select.getOffsetBindMarker() == null,
+				"Bind markers for limit and offset can't be rendered as positional parameters");
+
+		PositionalRenderContext positionalContext = new PositionalRenderContext(context);
+		SelectStatementVisitor visitor = new SelectStatementVisitor(positionalContext);
+		select.visit(visitor);
+
+		return positionalContext.toParameterizedSql(visitor.getRenderedPart());
+	}
+
+	/**
+	 * Render the {@link Insert} AST into a SQL statement using positional {@code ?} bind markers. All bind markers of
+	 * the statement must be named.
+	 *
+	 * @param insert must not be {@literal null}.
+	 * @return the rendered statement along with the names of its parameters.
+	 * @since 2.1
+	 */
+	public ParameterizedSql renderPositional(Insert insert) {
+
+		PositionalRenderContext positionalContext = new PositionalRenderContext(context);
+		InsertStatementVisitor visitor = new InsertStatementVisitor(positionalContext);
+		insert.visit(visitor);
+
+		return positionalContext.toParameterizedSql(visitor.getRenderedPart());
+	}
+
+	/**
+	 * Render the {@link Update} AST into a SQL statement using positional {@code ?} bind markers. All bind markers of
+	 * the statement must be named.
+	 *
+	 * @param update must not be {@literal null}.
+	 * @return the rendered statement along with the names of its parameters.
+	 * @since 2.1
+	 */
+	public ParameterizedSql renderPositional(Update update) {
+
+		PositionalRenderContext positionalContext = new PositionalRenderContext(context);
+		UpdateStatementVisitor visitor = new UpdateStatementVisitor(positionalContext);
+		update.visit(visitor);
+
+		return positionalContext.toParameterizedSql(visitor.getRenderedPart());
+	}
+
+	/**
+	 * Render the {@link Delete} AST into a SQL statement using positional {@code ?} bind markers. All bind markers of
+	 * the statement must be named.
+	 *
+	 * @param delete must not be {@literal null}.
+	 * @return the rendered statement along with the names of its parameters.
+	 * @since 2.1
+	 */
+	public ParameterizedSql renderPositional(Delete delete) {
+
+		PositionalRenderContext positionalContext = new PositionalRenderContext(context);
+		DeleteStatementVisitor visitor = new DeleteStatementVisitor(positionalContext);
+		delete.visit(visitor);
+
+		return positionalContext.toParameterizedSql(visitor.getRenderedPart());
+	}
 }
@@ -15,8 +15,10 @@
  */
 package org.springframework.data.relational.repository.query;
 
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParameterAccessor}.
@@ -34,4 +36,16 @@ public interface RelationalParameterAccessor extends ParameterAccessor {
 	 * @return the bindable parameters.
 	 */
 	Parameters<?, ?> getBindableParameters();
+
+	/**
+	 * Returns the {@link KeysetRequest} of the query method invocation.
+	 *
+	 * @return the {@link KeysetRequest} or {@literal null} if the query method doesn't declare a {@link KeysetRequest}
+	 *         parameter or it was invoked with {@literal null}.
+	 * @since 2.1
+	 */
+	@Nullable
+	default KeysetRequest getKeysetRequest() {
+		return null;
+	}
 }
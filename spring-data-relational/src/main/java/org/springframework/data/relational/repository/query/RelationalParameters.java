@@ -19,6 +19,7 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.relational.repository.query.RelationalParameters.RelationalParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -30,17 +31,56 @@ import org.springframework.data.repository.query.Parameters;
  */
 public class RelationalParameters extends Parameters<RelationalParameters, RelationalParameter> {
 
+	private final int keysetRequestIndex;
+
 	/**
 	 * Creates a new {@link RelationalParameters} instance from the given {@link Method}.
 	 *
 	 * @param method must not be {@literal null}.
 	 */
 	public RelationalParameters(Method method) {
+
 		super(method);
+		this.keysetRequestIndex = findKeysetRequestIndex();
 	}
 
 	private RelationalParameters(List<RelationalParameter> parameters) {
+
 		super(parameters);
+		this.keysetRequestIndex = findKeysetRequestIndex();
+	}
+
+	private int findKeysetRequestIndex() {
+
+		for (RelationalParameter parameter : this) {
+			if (parameter.isKeysetRequest()) {
+				return parameter.getIndex();
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns whether the method the {@link RelationalParameters} was created for contains a {@link KeysetRequest}
+	 * argument.
+	 *
+	 * @return {@literal true} if the method declares a {@link KeysetRequest} parameter.
+	 * @since 2.1
+	 */
+	public boolean hasKeysetRequestParameter() {
+		return keysetRequestIndex != -1;
+	}
+
+	/**
+	 * Returns the index of the {@link KeysetRequest} method parameter if available. Will return {@literal -1} if there is
+	 * no {@link KeysetRequest} argument in the method.
+	 *
+	 * @return the index of the {@link KeysetRequest} method parameter or {@literal -1}.
+	 * @since 2.1
+	 */
+	public int getKeysetRequestIndex() {
+		return keysetRequestIndex;
 	}
 
 	/*
@@ -76,5 +116,22 @@ public class RelationalParameters extends Parameters<RelationalParameters, Relat
 		RelationalParameter(MethodParameter parameter) {
 			super(parameter);
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.repository.query.Parameter#isSpecialParameter()
+		 */
+		@Override
+		public boolean isSpecialParameter() {
+			return super.isSpecialParameter() || isKeysetRequest();
+		}
+
+		/**
+		 * @return {@literal true} if the parameter is a {@link KeysetRequest}.
+		 * @since 2.1
+		 */
+		boolean isKeysetRequest() {
+			return KeysetRequest.class.isAssignableFrom(getType());
+		}
 	}
 }
@@ -18,9 +18,11 @@ package org.springframework.data.relational.repository.query;
 import java.util.Arrays;
 import java.util.List;
 
+import org.springframework.data.relational.core.query.KeysetRequest;
 import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.lang.Nullable;
 
 /**
  * Relational-specific {@link ParametersParameterAccessor}.
@@ -59,4 +61,21 @@ public class RelationalParametersParameterAccessor extends ParametersParameterAc
 	public Parameters<?, ?> getBindableParameters() {
 		return getParameters().getBindableParameters();
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.relational.repository.query.RelationalParameterAccessor#getKeysetRequest()
+	 */
+	@Nullable
+	@Override
+	public KeysetRequest getKeysetRequest() {
+
+		Parameters<?, ?> parameters = getParameters();
+
+		if (!(parameters instanceof RelationalParameters)
+				|| !((RelationalParameters) parameters).hasKeysetRequestParameter()) {
+			return null;
+		}
+
+		return (KeysetRequest) values.get(((RelationalParameters) parameters).getKeysetRequestIndex());
+	}
 }
@@ -58,6 +58,70 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void existingEntityWithPreviousStateGetsConvertedToMinimalActions() {
+
+		ListContainer previousState = new ListContainer(SOME_ENTITY_ID);
+		previousState.elements.add(new NamedElement(1L, "unchanged"));
+		previousState.elements.add(new NamedElement(2L, "old"));
+		previousState.elements.add(new NamedElement(3L, "removed"));
+
+		NamedElement changed = new NamedElement(2L, "changed");
+		NamedElement added = new NamedElement(null, "added");
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new NamedElement(1L, "unchanged"));
+		entity.elements.add(changed);
+		entity.elements.add(added);
+
+		MutableAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		converter.write(entity, previousState, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						RelationalEntityUpdateWriterUnitTests::extractEntityOrId) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, "", entity), //
+						tuple(DbAction.DeleteById.class, NamedElement.class, "elements", 3L), //
+						tuple(DbAction.Update.class, NamedElement.class, "", changed), //
+						tuple(DbAction.Insert.class, NamedElement.class, "elements", added) //
+				);
+	}
+
+	@Test
+	public void movedEntityWithPreviousStateGetsDeletedAndReinserted() {
+
+		NamedElement element = new NamedElement(1L, "moved");
+
+		ListContainer previousState = new ListContainer(SOME_ENTITY_ID);
+		previousState.elements.add(new NamedElement(2L, "removed"));
+		previousState.elements.add(new NamedElement(1L, "moved"));
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.elements.add(element);
+
+		MutableAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		converter.write(entity, previousState, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, RelationalEntityUpdateWriterUnitTests::extractEntityOrId) //
+				.containsExactlyInAnyOrder( //
+						tuple(DbAction.UpdateRoot.class, entity), //
+						tuple(DbAction.DeleteById.class, 1L), //
+						tuple(DbAction.DeleteById.class, 2L), //
+						tuple(DbAction.Insert.class, element) //
+				);
+	}
+
+	private static Object extractEntityOrId(DbAction<?> action) {
+
+		return action instanceof DbAction.DeleteById //
+				? ((DbAction.DeleteById<?>) action).getId() //
+				: ((DbAction.WithEntity<?>) action).getEntity();
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -74,6 +138,20 @@ public class RelationalEntityUpdateWriterUnitTests {
 		String name;
 	}
 
+	@RequiredArgsConstructor
+	static class ListContainer {
+
+		@Id final Long id;
+		List<NamedElement> elements = new ArrayList<>();
+	}
+
+	@RequiredArgsConstructor
+	private static class NamedElement {
+
+		@Id final Long id;
+		final String name;
+	}
+
 	@RequiredArgsConstructor
 	private static class Element {
 		@Id final Long id;
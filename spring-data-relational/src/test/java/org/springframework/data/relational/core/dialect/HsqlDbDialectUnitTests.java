@@ -64,6 +64,14 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLimitOffset(20, 10)).isEqualTo("OFFSET 10 LIMIT 20");
 	}
 
+	@Test
+	public void shouldRenderLimitOffsetWithBindMarkers() {
+
+		LimitClause limit = HsqlDbDialect.INSTANCE.limit();
+
+		assertThat(limit.getLimitOffset(":limit", ":offset")).isEqualTo("OFFSET :offset LIMIT :limit");
+	}
+
 	@Test // DATAJDBC-386
 	public void shouldQuoteIdentifiersUsingBackticks() {
 
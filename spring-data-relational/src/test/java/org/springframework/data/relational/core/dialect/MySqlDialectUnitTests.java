@@ -65,6 +65,14 @@ public class MySqlDialectUnitTests {
 		assertThat(limit.getLimitOffset(20, 10)).isEqualTo("LIMIT 10, 20");
 	}
 
+	@Test
+	public void shouldRenderLimitOffsetWithBindMarkers() {
+
+		LimitClause limit = MySqlDialect.INSTANCE.limit();
+
+		assertThat(limit.getLimitOffset(":limit", ":offset")).isEqualTo("LIMIT :offset, :limit");
+	}
+
 	@Test // DATAJDBC-386
 	public void shouldQuoteIdentifiersUsingBackticks() {
 
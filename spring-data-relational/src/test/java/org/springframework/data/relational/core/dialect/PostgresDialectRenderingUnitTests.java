@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -100,6 +101,18 @@ public class PostgresDialectRenderingUnitTests {
 		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT 10 OFFSET 20");
 	}
 
+	@Test
+	public void shouldRenderSelectWithLimitOffsetBindMarkers() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.limitOffset(SQL.bindMarker(":limit"), SQL.bindMarker(":offset")).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo("SELECT foo.* FROM foo LIMIT :limit OFFSET :offset");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderSelectWithLockWrite() {
 
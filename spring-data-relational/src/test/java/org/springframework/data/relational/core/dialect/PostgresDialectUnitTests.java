@@ -43,6 +43,13 @@ public class PostgresDialectUnitTests {
 		assertThat(arrayColumns.isSupported()).isTrue();
 	}
 
+	@Test
+	public void shouldSupportAnyComparisonAgainstArrays() {
+
+		assertThat(PostgresDialect.INSTANCE.getArraySupport().isAnyComparisonSupported()).isTrue();
+		assertThat(HsqlDbDialect.INSTANCE.getArraySupport().isAnyComparisonSupported()).isFalse();
+	}
+
 	@Test // DATAJDBC-278
 	public void shouldUseBoxedArrayTypesForPrimitiveTypes() {
 
@@ -80,6 +87,14 @@ public class PostgresDialectUnitTests {
 		assertThat(limit.getLimitOffset(20, 10)).isEqualTo("LIMIT 20 OFFSET 10");
 	}
 
+	@Test
+	public void shouldRenderLimitOffsetWithBindMarkers() {
+
+		LimitClause limit = PostgresDialect.INSTANCE.limit();
+
+		assertThat(limit.getLimitOffset(":limit", ":offset")).isEqualTo("LIMIT :limit OFFSET :offset");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderLock() {
 
@@ -21,6 +21,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
@@ -103,6 +104,19 @@ public class SqlServerDialectRenderingUnitTests {
 				"SELECT foo.*, ROW_NUMBER() over (ORDER BY (SELECT 1)) AS __relational_row_number__ FROM foo ORDER BY __relational_row_number__ OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY");
 	}
 
+	@Test
+	public void shouldRenderSelectWithLimitOffsetBindMarkers() {
+
+		Table table = Table.create("foo");
+		Select select = StatementBuilder.select(table.asterisk()).from(table)
+				.limitOffset(SQL.bindMarker(":limit"), SQL.bindMarker(":offset")).build();
+
+		String sql = SqlRenderer.create(factory.createRenderContext()).render(select);
+
+		assertThat(sql).isEqualTo(
+				"SELECT foo.*, ROW_NUMBER() over (ORDER BY (SELECT 1)) AS __relational_row_number__ FROM foo ORDER BY __relational_row_number__ OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
+	}
+
 	@Test // DATAJDBC-278
 	public void shouldRenderSelectWithLimitOffsetAndOrderBy() {
 
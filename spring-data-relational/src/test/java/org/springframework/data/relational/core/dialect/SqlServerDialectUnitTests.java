@@ -66,6 +66,14 @@ public class SqlServerDialectUnitTests {
 		assertThat(limit.getLimitOffset(20, 10)).isEqualTo("OFFSET 10 ROWS FETCH NEXT 20 ROWS ONLY");
 	}
 
+	@Test
+	public void shouldRenderLimitOffsetWithBindMarkers() {
+
+		LimitClause limit = SqlServerDialect.INSTANCE.limit();
+
+		assertThat(limit.getLimitOffset(":limit", ":offset")).isEqualTo("OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY");
+	}
+
 	@Test // DATAJDBC-498
 	public void shouldRenderLock() {
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Unit tests for {@link KeysetRequest}.
+ */
+public class KeysetRequestUnitTests {
+
+	@Test
+	public void firstRequestHasNoKeys() {
+
+		KeysetRequest request = KeysetRequest.of(10, Sort.by("name"));
+
+		assertThat(request.isFirst()).isTrue();
+		assertThat(request.getKeys()).isEmpty();
+		assertThat(request.getSize()).isEqualTo(10);
+		assertThat(request.getSort()).isEqualTo(Sort.by("name"));
+	}
+
+	@Test
+	public void followingRequestKeepsSizeAndSort() {
+
+		KeysetRequest request = KeysetRequest.of(10, Sort.by("name")).after(Collections.singletonMap("name", "Alice"));
+
+		assertThat(request.isFirst()).isFalse();
+		assertThat(request.getRequiredKey("name")).isEqualTo("Alice");
+		assertThat(request).isEqualTo(KeysetRequest.of(10, Sort.by("name")).after(Collections.singletonMap("name", "Alice")));
+		assertThatIllegalArgumentException().isThrownBy(() -> request.getRequiredKey("id"));
+	}
+
+	@Test
+	public void rejectsMissingKeys() {
+
+		KeysetRequest request = KeysetRequest.of(10);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> request.after(Collections.emptyMap()));
+		assertThatIllegalArgumentException().isThrownBy(() -> request.after(Collections.singletonMap("id", null)));
+	}
+
+	@Test
+	public void appendsTiebreakerUnlessSorted() {
+
+		assertThat(KeysetRequest.withTiebreaker(Sort.by("name"), "id")).isEqualTo(Sort.by("name", "id"));
+		assertThat(KeysetRequest.withTiebreaker(Sort.by(Sort.Direction.DESC, "id"), "id"))
+				.isEqualTo(Sort.by(Sort.Direction.DESC, "id"));
+	}
+}
@@ -61,6 +61,20 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, 'foo')");
 	}
 
+	@Test
+	public void shouldRenderInsertWithPositionalBindMarkers() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")).value(SQL.bindMarker(":foo"))
+				.value(SQL.bindMarker(":baz")).build();
+
+		ParameterizedSql sql = SqlRenderer.create().renderPositional(insert);
+
+		assertThat(sql.getSql()).isEqualTo("INSERT INTO bar (foo, baz) VALUES (?, ?)");
+		assertThat(sql.getParameterNames()).containsExactly("foo", "baz");
+	}
+
 	@Test // DATAJDBC-340
 	public void shouldRenderInsertWithZeroColumns() {
 
@@ -255,6 +255,36 @@ public class SelectRendererUnitTests {
 		assertThat(SqlRenderer.toString(select)).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar IN (:name, :name2)");
 	}
 
+	@Test
+	public void shouldRenderPositionalBindMarkers() {
+
+		Table table = SQL.table("foo");
+		Column bar = table.column("bar");
+		Column baz = table.column("baz");
+
+		Select select = Select.builder().select(bar).from(table).where(Conditions.isEqual(bar, SQL.bindMarker(":name"))
+				.and(Conditions.in(baz, SQL.bindMarker(":other"), SQL.bindMarker(":name")))).build();
+
+		ParameterizedSql sql = SqlRenderer.create().renderPositional(select);
+
+		assertThat(sql.getSql()).isEqualTo("SELECT foo.bar FROM foo WHERE foo.bar = ? AND foo.baz IN (?, ?)");
+		assertThat(sql.getParameterNames()).containsExactly("name", "other", "name");
+		assertThat(sql.getParameterIndexes("name")).containsExactly(1, 3);
+		assertThat(sql.getParameterIndexes("other")).containsExactly(2);
+		assertThat(sql.getParameterIndexes("unknown")).isEmpty();
+	}
+
+	@Test
+	public void positionalRenderingRejectsAnonymousBindMarkers() {
+
+		Table table = SQL.table("foo");
+		Column bar = table.column("bar");
+
+		Select select = Select.builder().select(bar).from(table).where(Conditions.isEqual(bar, SQL.bindMarker())).build();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> SqlRenderer.create().renderPositional(select));
+	}
+
 	@Test // DATAJDBC-309
 	public void shouldRenderInSubselect() {
 